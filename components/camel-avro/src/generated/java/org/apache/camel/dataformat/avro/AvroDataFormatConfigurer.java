@@ -20,6 +20,8 @@ public class AvroDataFormatConfigurer extends PropertyConfigurerSupport implemen
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "instanceclassname":
         case "instanceClassName": dataformat.setInstanceClassName(property(camelContext, java.lang.String.class, value)); return true;
+        case "uselist":
+        case "useList": dataformat.setUseList(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -19,19 +19,26 @@ package org.apache.camel.dataformat.avro;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
-import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
-import org.apache.avro.io.Decoder;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.Encoder;
 import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificData;
 import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.util.ByteBufferInputStream;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelException;
@@ -45,7 +52,7 @@ import org.apache.camel.util.ObjectHelper;
 
 @Dataformat("avro")
 @Metadata(excludeProperties = "library,objectMapper,useDefaultObjectMapper,jsonViewTypeName,jsonView,include,allowJmsType," +
-                              "collectionTypeName,collectionType,useList,moduleClassNames,moduleRefs,enableFeatures," +
+                              "collectionTypeName,collectionType,moduleClassNames,moduleRefs,enableFeatures," +
                               "disableFeatures,allowUnmarshallType,timezone,autoDiscoverObjectMapper," +
                               "contentTypeHeader,schemaResolver,autoDiscoverSchemaResolver,unmarshalType,unmarshalTypeName")
 public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
@@ -55,6 +62,12 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
     private Object schema;
     private transient Schema actualSchema;
     private String instanceClassName;
+    private boolean useList;
+    // the schemas of the classes to marshal when no schema is configured
+    private final Map<Class<?>, Schema> schemas = new ConcurrentHashMap<>();
+    // the datum readers and writers are thread safe, so they are created once per schema
+    private final Map<Schema, DatumWriter<Object>> writers = new ConcurrentHashMap<>();
+    private volatile DatumReader<Object> reader;
 
     public AvroDataFormat() {
     }
@@ -95,7 +108,10 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        // the classes may be reloaded when started again
+        reader = null;
+        schemas.clear();
+        writers.clear();
     }
 
     // the getter/setter for Schema is Object type in the API
@@ -116,6 +132,18 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
         instanceClassName = className;
     }
 
+    public boolean isUseList() {
+        return useList;
+    }
+
+    /**
+     * To unmarshal to a List of records, which are read until the end of the input. When marshalling, the records of a
+     * List are written one after another.
+     */
+    public void setUseList(boolean useList) {
+        this.useList = useList;
+    }
+
     protected Schema loadSchema(String className) throws CamelException, ClassNotFoundException {
         // must use same class loading procedure to ensure working in OSGi
         Class<?> instanceClass = camelContext.getClassResolver().resolveMandatoryClass(className);
@@ -135,31 +163,89 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream outputStream) throws Exception {
-        // the schema should be from the graph class name
-        Schema useSchema = actualSchema != null ? actualSchema : loadSchema(graph.getClass().getName());
-
-        DatumWriter<Object> datum = new SpecificDatumWriter<>(useSchema);
         Encoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
-        datum.write(graph, encoder);
+        if (useList && graph instanceof Collection
+                && (actualSchema == null || actualSchema.getType() != Schema.Type.ARRAY)) {
+            // the records are written one after another, so they can be unmarshalled back to a List
+            for (Object element : (Collection<?>) graph) {
+                getWriter(element).write(element, encoder);
+            }
+        } else {
+            getWriter(graph).write(graph, encoder);
+        }
         encoder.flush();
     }
 
+    private DatumWriter<Object> getWriter(Object graph) throws Exception {
+        // the schema should be from the graph class name
+        Schema useSchema = actualSchema;
+        if (useSchema == null) {
+            useSchema = schemas.get(graph.getClass());
+            if (useSchema == null) {
+                useSchema = loadSchema(graph.getClass().getName());
+                schemas.put(graph.getClass(), useSchema);
+            }
+        }
+        return writers.computeIfAbsent(useSchema, SpecificDatumWriter::new);
+    }
+
+    /**
+     * Unmarshals the body as is when it is a byte array or a {@link ByteBuffer}, to avoid copying the body into a
+     * stream first.
+     */
+    @Override
+    public Object unmarshal(Exchange exchange, Object body) throws Exception {
+        if (body instanceof byte[]) {
+            byte[] data = (byte[]) body;
+            return unmarshal(DecoderFactory.get().binaryDecoder(data, 0, data.length, null));
+        } else if (body instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) body;
+            if (buffer.hasArray()) {
+                return unmarshal(DecoderFactory.get().binaryDecoder(buffer.array(),
+                        buffer.arrayOffset() + buffer.position(), buffer.remaining(), null));
+            }
+            // use a view of the buffer, so the position of the buffer is not changed
+            InputStream is = new ByteBufferInputStream(Collections.singletonList(buffer.duplicate()));
+            return unmarshal(DecoderFactory.get().binaryDecoder(is, null));
+        }
+        return DataFormat.super.unmarshal(exchange, body);
+    }
+
     @Override
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
-        ObjectHelper.notNull(actualSchema, "schema", this);
+        return unmarshal(DecoderFactory.get().binaryDecoder(inputStream, null));
+    }
 
-        ClassLoader classLoader = null;
-        Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+    private Object unmarshal(BinaryDecoder decoder) throws Exception {
+        DatumReader<Object> datumReader = getReader();
+        if (!useList) {
+            return datumReader.read(null, decoder);
+        }
 
-        if (clazz != null) {
-            classLoader = clazz.getClassLoader();
+        List<Object> answer = new ArrayList<>();
+        while (!decoder.isEnd()) {
+            answer.add(datumReader.read(null, decoder));
+        }
+        return answer;
+    }
+
+    private DatumReader<Object> getReader() {
+        DatumReader<Object> answer = reader;
+        if (answer == null) {
+            ObjectHelper.notNull(actualSchema, "schema", this);
+
+            ClassLoader classLoader = null;
+            Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+
+            if (clazz != null) {
+                classLoader = clazz.getClassLoader();
+            }
+            SpecificData specificData = new SpecificDataNoCache(classLoader);
+            answer = new SpecificDatumReader<>(null, null, specificData);
+            answer.setSchema(actualSchema);
+            reader = answer;
         }
-        SpecificData specificData = new SpecificDataNoCache(classLoader);
-        DatumReader<GenericRecord> reader = new SpecificDatumReader<>(null, null, specificData);
-        reader.setSchema(actualSchema);
-        Decoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        Object result = reader.read(null, decoder);
-        return result;
+        return answer;
     }
 
 }
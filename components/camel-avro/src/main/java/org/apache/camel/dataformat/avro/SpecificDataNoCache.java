@@ -19,8 +19,14 @@ package org.apache.camel.dataformat.avro;
 import org.apache.avro.Schema;
 import org.apache.avro.specific.SpecificData;
 
+/**
+ * A {@link SpecificData} which is not shared through {@link SpecificData#get()}, so the classes it looks up are only
+ * cached for as long as the data format uses it.
+ */
 public class SpecificDataNoCache extends SpecificData {
 
+    private volatile SpecificData classLookup;
+
     public SpecificDataNoCache() {
     }
 
@@ -30,8 +36,17 @@ public class SpecificDataNoCache extends SpecificData {
 
     @Override
     public Object newRecord(Object old, Schema schema) {
-        Class c = new SpecificDataNoCache().getClass(schema);
+        Class c = getClassLookup().getClass(schema);
         return c == null ? super.newRecord(old, schema) : (c.isInstance(old) ? old : newInstance(c, schema));
     }
 
+    private SpecificData getClassLookup() {
+        SpecificData answer = classLookup;
+        if (answer == null) {
+            // the classes of the records are looked up with the default class loader
+            answer = new SpecificDataNoCache();
+            classLookup = answer;
+        }
+        return answer;
+    }
 }
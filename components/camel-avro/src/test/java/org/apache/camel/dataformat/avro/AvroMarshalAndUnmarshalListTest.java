@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.avro;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dataformat.avro.example.Value;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AvroMarshalAndUnmarshalListTest extends CamelTestSupport {
+
+    @Test
+    public void testMarshalAndUnmarshalList() {
+        List<Value> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add(Value.newBuilder().setValue("test body " + i).build());
+        }
+
+        byte[] marshalled = template.requestBody("direct:marshalList", input, byte[].class);
+        List<?> output = template.requestBody("direct:unmarshalList", marshalled, List.class);
+
+        assertEquals(input, output);
+    }
+
+    @Test
+    public void testMarshalListWithoutUseList() {
+        List<Value> input = new ArrayList<>();
+        input.add(Value.newBuilder().setValue("test body").build());
+
+        // a list is only marshalled record by record when useList is enabled
+        assertThrows(CamelExecutionException.class, () -> template.requestBody("direct:marshal", input, byte[].class));
+    }
+
+    @Test
+    public void testUnmarshalByteBuffer() {
+        Value input = Value.newBuilder().setValue("test body").build();
+        byte[] data = template.requestBody("direct:marshal", input, byte[].class);
+
+        ByteBuffer heap = ByteBuffer.allocate(data.length + 2);
+        heap.put((byte) 0).put(data).flip().position(1);
+        assertEquals(input, template.requestBody("direct:unmarshal", heap, Value.class));
+        // the buffer is left as is
+        assertEquals(1, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        assertEquals(input, template.requestBody("direct:unmarshal", direct, Value.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                AvroDataFormat listFormat = new AvroDataFormat(Value.SCHEMA$);
+                listFormat.setUseList(true);
+
+                from("direct:marshal").marshal().avro();
+                from("direct:marshalList").marshal(listFormat);
+                from("direct:unmarshal").unmarshal().avro(Value.SCHEMA$);
+                from("direct:unmarshalList").unmarshal(listFormat);
+            }
+        };
+    }
+
+}
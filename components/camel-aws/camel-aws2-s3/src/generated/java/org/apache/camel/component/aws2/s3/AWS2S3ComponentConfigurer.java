@@ -94,6 +94,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "pojorequest":
         case "pojoRequest": getOrCreateConfiguration(target).setPojoRequest(property(camelContext, boolean.class, value)); return true;
         case "policy": getOrCreateConfiguration(target).setPolicy(property(camelContext, java.lang.String.class, value)); return true;
+        case "prefetchobjects":
+        case "prefetchObjects": getOrCreateConfiguration(target).setPrefetchObjects(property(camelContext, int.class, value)); return true;
         case "prefix": getOrCreateConfiguration(target).setPrefix(property(camelContext, java.lang.String.class, value)); return true;
         case "proxyhost":
         case "proxyHost": getOrCreateConfiguration(target).setProxyHost(property(camelContext, java.lang.String.class, value)); return true;
@@ -101,6 +103,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": getOrCreateConfiguration(target).setProxyPort(property(camelContext, java.lang.Integer.class, value)); return true;
         case "proxyprotocol":
         case "proxyProtocol": getOrCreateConfiguration(target).setProxyProtocol(property(camelContext, software.amazon.awssdk.core.Protocol.class, value)); return true;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": getOrCreateConfiguration(target).setRangedDownloadConcurrency(property(camelContext, int.class, value)); return true;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": getOrCreateConfiguration(target).setRangedDownloadPartSize(property(camelContext, long.class, value)); return true;
         case "region": getOrCreateConfiguration(target).setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "restartingpolicy":
         case "restartingPolicy": getOrCreateConfiguration(target).setRestartingPolicy(property(camelContext, org.apache.camel.component.aws2.s3.stream.AWSS3RestartingPolicyEnum.class, value)); return true;
@@ -202,6 +208,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "pojorequest":
         case "pojoRequest": return boolean.class;
         case "policy": return java.lang.String.class;
+        case "prefetchobjects":
+        case "prefetchObjects": return int.class;
         case "prefix": return java.lang.String.class;
         case "proxyhost":
         case "proxyHost": return java.lang.String.class;
@@ -209,6 +217,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": return java.lang.Integer.class;
         case "proxyprotocol":
         case "proxyProtocol": return software.amazon.awssdk.core.Protocol.class;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return int.class;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return long.class;
         case "region": return java.lang.String.class;
         case "restartingpolicy":
         case "restartingPolicy": return org.apache.camel.component.aws2.s3.stream.AWSS3RestartingPolicyEnum.class;
@@ -306,6 +318,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "pojorequest":
         case "pojoRequest": return getOrCreateConfiguration(target).isPojoRequest();
         case "policy": return getOrCreateConfiguration(target).getPolicy();
+        case "prefetchobjects":
+        case "prefetchObjects": return getOrCreateConfiguration(target).getPrefetchObjects();
         case "prefix": return getOrCreateConfiguration(target).getPrefix();
         case "proxyhost":
         case "proxyHost": return getOrCreateConfiguration(target).getProxyHost();
@@ -313,6 +327,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": return getOrCreateConfiguration(target).getProxyPort();
         case "proxyprotocol":
         case "proxyProtocol": return getOrCreateConfiguration(target).getProxyProtocol();
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return getOrCreateConfiguration(target).getRangedDownloadConcurrency();
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return getOrCreateConfiguration(target).getRangedDownloadPartSize();
         case "region": return getOrCreateConfiguration(target).getRegion();
         case "restartingpolicy":
         case "restartingPolicy": return getOrCreateConfiguration(target).getRestartingPolicy();
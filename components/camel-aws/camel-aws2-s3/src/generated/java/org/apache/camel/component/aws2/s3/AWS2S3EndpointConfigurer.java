@@ -104,6 +104,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "policy": target.getConfiguration().setPolicy(property(camelContext, java.lang.String.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
+        case "prefetchobjects":
+        case "prefetchObjects": target.getConfiguration().setPrefetchObjects(property(camelContext, int.class, value)); return true;
         case "prefix": target.getConfiguration().setPrefix(property(camelContext, java.lang.String.class, value)); return true;
         case "proxyhost":
         case "proxyHost": target.getConfiguration().setProxyHost(property(camelContext, java.lang.String.class, value)); return true;
@@ -111,6 +113,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": target.getConfiguration().setProxyPort(property(camelContext, java.lang.Integer.class, value)); return true;
         case "proxyprotocol":
         case "proxyProtocol": target.getConfiguration().setProxyProtocol(property(camelContext, software.amazon.awssdk.core.Protocol.class, value)); return true;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": target.getConfiguration().setRangedDownloadConcurrency(property(camelContext, int.class, value)); return true;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": target.getConfiguration().setRangedDownloadPartSize(property(camelContext, long.class, value)); return true;
         case "region": target.getConfiguration().setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "repeatcount":
         case "repeatCount": target.setRepeatCount(property(camelContext, long.class, value)); return true;
@@ -246,6 +252,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "policy": return java.lang.String.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
+        case "prefetchobjects":
+        case "prefetchObjects": return int.class;
         case "prefix": return java.lang.String.class;
         case "proxyhost":
         case "proxyHost": return java.lang.String.class;
@@ -253,6 +261,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": return java.lang.Integer.class;
         case "proxyprotocol":
         case "proxyProtocol": return software.amazon.awssdk.core.Protocol.class;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return int.class;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return long.class;
         case "region": return java.lang.String.class;
         case "repeatcount":
         case "repeatCount": return long.class;
@@ -384,6 +396,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "policy": return target.getConfiguration().getPolicy();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
+        case "prefetchobjects":
+        case "prefetchObjects": return target.getConfiguration().getPrefetchObjects();
         case "prefix": return target.getConfiguration().getPrefix();
         case "proxyhost":
         case "proxyHost": return target.getConfiguration().getProxyHost();
@@ -391,6 +405,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": return target.getConfiguration().getProxyPort();
         case "proxyprotocol":
         case "proxyProtocol": return target.getConfiguration().getProxyProtocol();
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return target.getConfiguration().getRangedDownloadConcurrency();
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return target.getConfiguration().getRangedDownloadPartSize();
         case "region": return target.getConfiguration().getRegion();
         case "repeatcount":
         case "repeatCount": return target.getRepeatCount();
@@ -88,6 +88,12 @@ public class AWS2S3Configuration implements Cloneable {
     private AWS2S3Operations operation;
     @UriParam(label = "consumer,advanced", defaultValue = "true")
     private boolean autocloseBody = true;
+    @UriParam(label = "consumer,advanced")
+    private int prefetchObjects;
+    @UriParam(label = "consumer,advanced")
+    private long rangedDownloadPartSize;
+    @UriParam(label = "consumer,advanced", defaultValue = "4")
+    private int rangedDownloadConcurrency = 4;
     @UriParam(label = "common", defaultValue = "false")
     private boolean autoCreateBucket;
     @UriParam(label = "producer,advanced", defaultValue = "false")
@@ -448,6 +454,44 @@ public class AWS2S3Configuration implements Cloneable {
         this.autocloseBody = autocloseBody;
     }
 
+    public int getPrefetchObjects() {
+        return prefetchObjects;
+    }
+
+    /**
+     * The number of objects to download concurrently, ahead of the object being processed. When set (or when
+     * rangedDownloadPartSize is set) the consumer downloads the content of each object fully, into the body as a byte
+     * array if includeBody is true, or otherwise into a stream cache instead of the raw S3Object stream. The stream
+     * cache is held in memory, unless spooling is enabled on the stream caching strategy of the CamelContext.
+     */
+    public void setPrefetchObjects(int prefetchObjects) {
+        this.prefetchObjects = prefetchObjects;
+    }
+
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * The size (in bytes) of the parts to download larger objects with parallel ranged GET requests. Objects larger
+     * than the part size are downloaded in parts, which are reassembled in order. 0 disables ranged downloads.
+     */
+    public void setRangedDownloadPartSize(long rangedDownloadPartSize) {
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
+    public int getRangedDownloadConcurrency() {
+        return rangedDownloadConcurrency;
+    }
+
+    /**
+     * The maximum number of ranged GET requests the consumer sends concurrently, which also bounds the number of
+     * downloaded parts held in memory while they wait to be reassembled.
+     */
+    public void setRangedDownloadConcurrency(int rangedDownloadConcurrency) {
+        this.rangedDownloadConcurrency = rangedDownloadConcurrency;
+    }
+
     public boolean isUseAwsKMS() {
         return useAwsKMS;
     }
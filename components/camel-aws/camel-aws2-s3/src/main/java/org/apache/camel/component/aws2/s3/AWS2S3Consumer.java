@@ -23,6 +23,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -32,11 +35,14 @@ import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.health.HealthCheckHelper;
 import org.apache.camel.health.WritableHealthCheckRepository;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -65,6 +71,7 @@ import software.amazon.awssdk.utils.IoUtils;
  * A Consumer of messages from the Amazon Web Service Simple Storage Service <a href="http://aws.amazon.com/s3/">AWS
  * S3</a>
  */
+@ManagedResource(description = "Managed AWS2S3Consumer")
 public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AWS2S3Consumer.class);
@@ -73,6 +80,9 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
     private transient String s3ConsumerToString;
     private WritableHealthCheckRepository healthCheckRepository;
     private AWS2S3ConsumerHealthCheck consumerHealthCheck;
+    private ExecutorService prefetchExecutor;
+    private ExecutorService rangedDownloadExecutor;
+    private AWS2S3ObjectDownloader downloader;
 
     public AWS2S3Consumer(AWS2S3Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -92,6 +102,19 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
             healthCheckRepository.addHealthCheck(consumerHealthCheck);
         }
 
+        if (getConfiguration().getPrefetchObjects() > 0) {
+            prefetchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "AWS2S3Prefetch", getConfiguration().getPrefetchObjects());
+        }
+        if (getConfiguration().getRangedDownloadPartSize() > 0) {
+            rangedDownloadExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "AWS2S3RangedDownload",
+                            Math.max(1, getConfiguration().getRangedDownloadConcurrency()));
+        }
+        if (prefetchExecutor != null || rangedDownloadExecutor != null) {
+            downloader = new AWS2S3ObjectDownloader(this, rangedDownloadExecutor);
+        }
+
         if (getConfiguration().isMoveAfterRead()) {
             try {
                 getAmazonS3Client()
@@ -173,6 +196,9 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
                 LOG.trace("Found {} objects in bucket [{}]...", listObjects.contents().size(), bucketName);
             }
 
+            if (downloader != null) {
+                return processDownloads(listObjects.contents());
+            }
             exchanges = createExchanges(listObjects.contents());
         }
         return processBatch(CastUtils.cast(exchanges));
@@ -214,19 +240,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         Queue<Exchange> answer = new LinkedList<>();
         try {
             for (S3Object s3ObjectSummary : s3ObjectSummaries) {
-                Builder getRequest
-                        = GetObjectRequest.builder().bucket(getConfiguration().getBucketName()).key(s3ObjectSummary.key());
-                if (getConfiguration().isUseCustomerKey()) {
-                    if (ObjectHelper.isNotEmpty(getConfiguration().getCustomerKeyId())) {
-                        getRequest.sseCustomerKey(getConfiguration().getCustomerKeyId());
-                    }
-                    if (ObjectHelper.isNotEmpty(getConfiguration().getCustomerKeyMD5())) {
-                        getRequest.sseCustomerKeyMD5(getConfiguration().getCustomerKeyMD5());
-                    }
-                    if (ObjectHelper.isNotEmpty(getConfiguration().getCustomerAlgorithm())) {
-                        getRequest.sseCustomerAlgorithm(getConfiguration().getCustomerAlgorithm());
-                    }
-                }
+                Builder getRequest = createGetObjectRequest(s3ObjectSummary.key());
                 ResponseInputStream<GetObjectResponse> s3Object
                         = getAmazonS3Client().getObject(getRequest.build(), ResponseTransformer.toInputStream());
 
@@ -251,6 +265,22 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         return answer;
     }
 
+    protected Builder createGetObjectRequest(String key) {
+        Builder getRequest = GetObjectRequest.builder().bucket(getConfiguration().getBucketName()).key(key);
+        if (getConfiguration().isUseCustomerKey()) {
+            if (ObjectHelper.isNotEmpty(getConfiguration().getCustomerKeyId())) {
+                getRequest.sseCustomerKey(getConfiguration().getCustomerKeyId());
+            }
+            if (ObjectHelper.isNotEmpty(getConfiguration().getCustomerKeyMD5())) {
+                getRequest.sseCustomerKeyMD5(getConfiguration().getCustomerKeyMD5());
+            }
+            if (ObjectHelper.isNotEmpty(getConfiguration().getCustomerAlgorithm())) {
+                getRequest.sseCustomerAlgorithm(getConfiguration().getCustomerAlgorithm());
+            }
+        }
+        return getRequest;
+    }
+
     /**
      * Decide whether to include the S3Objects in the results
      *
@@ -274,38 +304,109 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             final Exchange exchange = ObjectHelper.cast(Exchange.class, exchanges.poll());
-            // add current index and total as properties
-            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
-            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
-            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
-
-            // update pending number of exchanges
-            pendingExchanges = total - index - 1;
-
-            // add on completion to handle after work when the exchange is done
-            exchange.adapt(ExtendedExchange.class).addOnCompletion(new Synchronization() {
-                public void onComplete(Exchange exchange) {
-                    processCommit(exchange);
-                }
+            processExchange(exchange, index, total);
+        }
 
-                public void onFailure(Exchange exchange) {
-                    processRollback(exchange);
-                }
+        return total;
+    }
 
-                @Override
-                public String toString() {
-                    return "S3ConsumerOnCompletion";
-                }
-            });
+    /**
+     * Downloads the objects and processes them in order, with up to prefetchObjects objects being downloaded
+     * concurrently, ahead of the object being processed.
+     */
+    protected int processDownloads(List<S3Object> s3ObjectSummaries) throws Exception {
+        int total = s3ObjectSummaries.size();
+        int prefetch = prefetchExecutor != null ? getConfiguration().getPrefetchObjects() : 0;
+        List<FutureTask<Exchange>> downloads = new ArrayList<>(total);
+        for (S3Object s3ObjectSummary : s3ObjectSummaries) {
+            downloads.add(new FutureTask<>(() -> downloader.download(s3ObjectSummary)));
+        }
 
-            // use default consumer callback
-            AsyncCallback cb = defaultConsumerCallback(exchange, true);
-            getAsyncProcessor().process(exchange, cb);
+        int submitted = 0;
+        int taken = 0;
+        try {
+            for (int index = 0; index < total && isBatchAllowed(); index++) {
+                while (prefetchExecutor != null && submitted < Math.min(total, index + 1 + prefetch)) {
+                    prefetchExecutor.execute(downloads.get(submitted++));
+                }
+                FutureTask<Exchange> download = downloads.get(index);
+                if (index >= submitted) {
+                    download.run();
+                }
+                Exchange exchange;
+                taken++;
+                try {
+                    exchange = download.get();
+                } catch (ExecutionException e) {
+                    LOG.warn("Error getting S3Object due: {}", e.getCause().getMessage(), e.getCause());
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+                // folders are not included
+                if (exchange != null) {
+                    processExchange(exchange, index, total);
+                }
+            }
+        } finally {
+            // discard the objects downloaded ahead which are not processed
+            for (int i = taken; i < submitted; i++) {
+                FutureTask<Exchange> download = downloads.get(i);
+                if (!download.cancel(true)) {
+                    try {
+                        discardExchange(download.get());
+                    } catch (ExecutionException e) {
+                        // ignore as the object is not processed
+                    }
+                }
+            }
         }
 
         return total;
     }
 
+    /**
+     * Processes the exchange of the object downloaded in the current batch
+     */
+    protected void processExchange(Exchange exchange, int index, int total) {
+        // add current index and total as properties
+        exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+        exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+        exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+        // update pending number of exchanges
+        pendingExchanges = total - index - 1;
+
+        // add on completion to handle after work when the exchange is done
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(new Synchronization() {
+            public void onComplete(Exchange exchange) {
+                processCommit(exchange);
+            }
+
+            public void onFailure(Exchange exchange) {
+                processRollback(exchange);
+            }
+
+            @Override
+            public String toString() {
+                return "S3ConsumerOnCompletion";
+            }
+        });
+
+        // use default consumer callback
+        AsyncCallback cb = defaultConsumerCallback(exchange, true);
+        getAsyncProcessor().process(exchange, cb);
+    }
+
+    /**
+     * Discards an exchange which is not processed, which releases the resources (such as the temporary file of a stream
+     * cache) that are released when the exchange is done.
+     */
+    void discardExchange(Exchange exchange) {
+        if (exchange != null) {
+            List<Synchronization> synchronizations = exchange.adapt(ExtendedExchange.class).handoverCompletions();
+            UnitOfWorkHelper.doneSynchronizations(exchange, synchronizations, LOG);
+        }
+    }
+
     /**
      * Strategy to delete the message after being processed.
      *
@@ -407,25 +508,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
             }
         }
 
-        message.setHeader(AWS2S3Constants.KEY, key);
-        message.setHeader(AWS2S3Constants.BUCKET_NAME, getConfiguration().getBucketName());
-        message.setHeader(AWS2S3Constants.E_TAG, s3Object.response().eTag());
-        message.setHeader(AWS2S3Constants.VERSION_ID, s3Object.response().versionId());
-        message.setHeader(AWS2S3Constants.CONTENT_TYPE, s3Object.response().contentType());
-        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, s3Object.response().contentLength());
-        message.setHeader(AWS2S3Constants.CONTENT_ENCODING, s3Object.response().contentEncoding());
-        message.setHeader(AWS2S3Constants.CONTENT_DISPOSITION, s3Object.response().contentDisposition());
-        message.setHeader(AWS2S3Constants.CACHE_CONTROL, s3Object.response().cacheControl());
-        message.setHeader(AWS2S3Constants.SERVER_SIDE_ENCRYPTION, s3Object.response().serverSideEncryption());
-        message.setHeader(AWS2S3Constants.EXPIRATION_TIME, s3Object.response().expiration());
-        message.setHeader(AWS2S3Constants.REPLICATION_STATUS, s3Object.response().replicationStatus());
-        message.setHeader(AWS2S3Constants.STORAGE_CLASS, s3Object.response().storageClass());
-        message.setHeader(AWS2S3Constants.METADATA, s3Object.response().metadata());
-        if (s3Object.response().lastModified() != null) {
-            message.setHeader(AWS2S3Constants.LAST_MODIFIED, s3Object.response().lastModified());
-            long ts = s3Object.response().lastModified().getEpochSecond() * 1000;
-            message.setHeader(AWS2S3Constants.MESSAGE_TIMESTAMP, ts);
-        }
+        populateHeaders(message, s3Object.response(), key);
 
         /*
          * If includeBody == true, it is safe to close the object here because the S3Object
@@ -449,6 +532,75 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         return exchange;
     }
 
+    /**
+     * Creates the exchange of a downloaded object, whose body is set by the caller
+     */
+    Exchange createExchange(GetObjectResponse response, String key) {
+        LOG.trace("Got object with key [{}] from bucket [{}]", key, getConfiguration().getBucketName());
+
+        Exchange exchange = createExchange(true);
+        exchange.setPattern(getEndpoint().getExchangePattern());
+        populateHeaders(exchange.getIn(), response, key);
+        return exchange;
+    }
+
+    private void populateHeaders(Message message, GetObjectResponse response, String key) {
+        message.setHeader(AWS2S3Constants.KEY, key);
+        message.setHeader(AWS2S3Constants.BUCKET_NAME, getConfiguration().getBucketName());
+        message.setHeader(AWS2S3Constants.E_TAG, response.eTag());
+        message.setHeader(AWS2S3Constants.VERSION_ID, response.versionId());
+        message.setHeader(AWS2S3Constants.CONTENT_TYPE, response.contentType());
+        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, response.contentLength());
+        message.setHeader(AWS2S3Constants.CONTENT_ENCODING, response.contentEncoding());
+        message.setHeader(AWS2S3Constants.CONTENT_DISPOSITION, response.contentDisposition());
+        message.setHeader(AWS2S3Constants.CACHE_CONTROL, response.cacheControl());
+        message.setHeader(AWS2S3Constants.SERVER_SIDE_ENCRYPTION, response.serverSideEncryption());
+        message.setHeader(AWS2S3Constants.EXPIRATION_TIME, response.expiration());
+        message.setHeader(AWS2S3Constants.REPLICATION_STATUS, response.replicationStatus());
+        message.setHeader(AWS2S3Constants.STORAGE_CLASS, response.storageClass());
+        message.setHeader(AWS2S3Constants.METADATA, response.metadata());
+        if (response.lastModified() != null) {
+            message.setHeader(AWS2S3Constants.LAST_MODIFIED, response.lastModified());
+            long ts = response.lastModified().getEpochSecond() * 1000;
+            message.setHeader(AWS2S3Constants.MESSAGE_TIMESTAMP, ts);
+        }
+    }
+
+    @ManagedAttribute(description = "Number of objects downloaded by the prefetching or ranged downloads")
+    public long getDownloadedObjects() {
+        return downloader != null ? downloader.getDownloadedObjects() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of bytes downloaded by the prefetching or ranged downloads")
+    public long getDownloadedBytes() {
+        return downloader != null ? downloader.getDownloadedBytes() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of parts downloaded with ranged GET requests, after the first part")
+    public long getRangedDownloadParts() {
+        return downloader != null ? downloader.getDownloadedParts() : 0;
+    }
+
+    @ManagedAttribute(description = "Total time (in millis) spent downloading objects")
+    public long getDownloadTime() {
+        return downloader != null ? downloader.getDownloadTime() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of objects downloaded concurrently ahead of processing")
+    public int getPrefetchObjects() {
+        return getConfiguration().getPrefetchObjects();
+    }
+
+    @ManagedAttribute(description = "Size (in bytes) of the parts of ranged downloads")
+    public long getRangedDownloadPartSize() {
+        return getConfiguration().getRangedDownloadPartSize();
+    }
+
+    @ManagedAttribute(description = "Maximum number of concurrent ranged GET requests")
+    public int getRangedDownloadConcurrency() {
+        return getConfiguration().getRangedDownloadConcurrency();
+    }
+
     @Override
     public String toString() {
         if (s3ConsumerToString == null) {
@@ -463,6 +615,15 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
             healthCheckRepository.removeHealthCheck(consumerHealthCheck);
             consumerHealthCheck = null;
         }
+        if (prefetchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(prefetchExecutor);
+            prefetchExecutor = null;
+        }
+        if (rangedDownloadExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(rangedDownloadExecutor);
+            rangedDownloadExecutor = null;
+        }
+        downloader = null;
         super.doStop();
     }
 }
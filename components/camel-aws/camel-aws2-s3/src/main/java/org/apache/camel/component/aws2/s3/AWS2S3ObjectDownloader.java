@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Downloads the content of S3 objects fully for the {@link AWS2S3Consumer}, using parallel ranged GET requests for
+ * objects larger than the configured part size.
+ */
+class AWS2S3ObjectDownloader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AWS2S3ObjectDownloader.class);
+
+    // the largest byte array the JVM can allocate
+    static final long MAX_BYTE_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final AWS2S3Consumer consumer;
+    private final ExecutorService partExecutor;
+    private final LongAdder downloadedObjects = new LongAdder();
+    private final LongAdder downloadedBytes = new LongAdder();
+    private final LongAdder downloadedParts = new LongAdder();
+    private final LongAdder downloadTime = new LongAdder();
+
+    AWS2S3ObjectDownloader(AWS2S3Consumer consumer, ExecutorService partExecutor) {
+        this.consumer = consumer;
+        this.partExecutor = partExecutor;
+    }
+
+    /**
+     * Downloads the object and creates the exchange for it.
+     *
+     * @return the exchange, or <tt>null</tt> if the object is not included
+     */
+    Exchange download(S3Object s3ObjectSummary) throws Exception {
+        AWS2S3Configuration configuration = consumer.getConfiguration();
+        long start = System.nanoTime();
+        long partSize = configuration.getRangedDownloadPartSize();
+        boolean ranged = partExecutor != null && partSize > 0 && s3ObjectSummary.size() != null
+                && s3ObjectSummary.size() > partSize;
+
+        GetObjectRequest request = consumer.createGetObjectRequest(s3ObjectSummary.key()).build();
+        GetObjectRequest firstRequest
+                = ranged ? request.toBuilder().range(range(0, partSize, Long.MAX_VALUE)).build() : request;
+        ResponseInputStream<GetObjectResponse> s3Object
+                = consumer.getAmazonS3Client().getObject(firstRequest, ResponseTransformer.toInputStream());
+        try {
+            if (!consumer.includeS3Object(s3Object)) {
+                return null;
+            }
+
+            GetObjectResponse response = s3Object.response();
+            long size = ranged ? objectSize(response, s3ObjectSummary) : response.contentLength();
+            if (configuration.isIncludeBody() && !configuration.isIgnoreBody() && size > MAX_BYTE_ARRAY_SIZE) {
+                s3Object.abort();
+                throw new RuntimeCamelException(
+                        "The object with key " + s3ObjectSummary.key() + " has " + size
+                                                + " bytes, which is too large to be included in the body as a byte array."
+                                                + " Use includeBody=false to receive it as a stream cache instead.");
+            }
+            Exchange exchange = consumer.createExchange(response, s3ObjectSummary.key());
+            exchange.getIn().setHeader(AWS2S3Constants.CONTENT_LENGTH, size);
+            if (configuration.isIgnoreBody()) {
+                s3Object.abort();
+                return exchange;
+            }
+
+            // the size is known to fit in a byte array, which is therefore allocated once
+            OutputStream out = configuration.isIncludeBody()
+                    ? new ByteArrayOutputStream((int) size)
+                    : new CachedOutputStream(exchange);
+            try {
+                IOHelper.copy(s3Object, out);
+                if (ranged && size > partSize) {
+                    downloadParts(request, response.eTag(), partSize, size, out);
+                }
+                if (out instanceof ByteArrayOutputStream) {
+                    exchange.getIn().setBody(((ByteArrayOutputStream) out).toByteArray());
+                } else {
+                    exchange.getIn().setBody(((CachedOutputStream) out).newStreamCache());
+                }
+            } catch (Exception e) {
+                // removes the temporary file the content may have been spooled to
+                consumer.discardExchange(exchange);
+                throw e;
+            } finally {
+                IOHelper.close(out);
+            }
+
+            downloadedObjects.increment();
+            downloadedBytes.add(size);
+            downloadTime.add(System.nanoTime() - start);
+            LOG.trace("Downloaded object with key [{}] ({} bytes)", s3ObjectSummary.key(), size);
+            return exchange;
+        } finally {
+            IOHelper.close(s3Object);
+        }
+    }
+
+    /**
+     * Downloads the remaining parts of the object, with at most rangedDownloadConcurrency requests (and parts held in
+     * memory) at a time, and writes them in order after the first part.
+     */
+    private void downloadParts(GetObjectRequest request, String eTag, long partSize, long size, OutputStream out)
+            throws Exception {
+        int concurrency = Math.max(1, consumer.getConfiguration().getRangedDownloadConcurrency());
+        Deque<Future<byte[]>> window = new ArrayDeque<>(concurrency);
+        long next = partSize;
+        try {
+            while (!window.isEmpty() || next < size) {
+                while (next < size && window.size() < concurrency) {
+                    window.add(submitPart(request, eTag, next, partSize, size));
+                    next += partSize;
+                }
+                out.write(window.poll().get());
+                downloadedParts.increment();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeCamelException(cause);
+        } finally {
+            window.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private Future<byte[]> submitPart(GetObjectRequest request, String eTag, long start, long partSize, long size) {
+        GetObjectRequest.Builder partRequest = request.toBuilder().range(range(start, partSize, size));
+        if (eTag != null) {
+            // fail rather than mix the parts of different versions of the object
+            partRequest.ifMatch(eTag);
+        }
+        GetObjectRequest part = partRequest.build();
+        return partExecutor.submit(() -> consumer.getAmazonS3Client().getObjectAsBytes(part).asByteArrayUnsafe());
+    }
+
+    private static String range(long start, long partSize, long size) {
+        return "bytes=" + start + "-" + (Math.min(size, start + partSize) - 1);
+    }
+
+    private static long objectSize(GetObjectResponse response, S3Object s3ObjectSummary) {
+        // the content range of a ranged response is like bytes 0-99/1234
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            int pos = contentRange.lastIndexOf('/');
+            if (pos > 0 && !contentRange.endsWith("*")) {
+                return Long.parseLong(contentRange.substring(pos + 1).trim());
+            }
+        }
+        return s3ObjectSummary.size();
+    }
+
+    long getDownloadedObjects() {
+        return downloadedObjects.sum();
+    }
+
+    long getDownloadedBytes() {
+        return downloadedBytes.sum();
+    }
+
+    long getDownloadedParts() {
+        return downloadedParts.sum();
+    }
+
+    long getDownloadTime() {
+        return TimeUnit.NANOSECONDS.toMillis(downloadTime.sum());
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AWS2S3ConsumerPrefetchTest extends CamelTestSupport {
+
+    private final InMemoryS3Client client = new InMemoryS3Client();
+
+    @Test
+    public void testPrefetchAndRangedDownload() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(client.objects.size());
+
+        context.getRouteController().startRoute("s3");
+
+        result.assertIsSatisfied();
+        for (Exchange exchange : result.getExchanges()) {
+            String key = exchange.getMessage().getHeader(AWS2S3Constants.KEY, String.class);
+            String expected = client.objects.get(key);
+            assertTrue(exchange.getMessage().getBody() instanceof StreamCache);
+            assertEquals(expected, exchange.getMessage().getBody(String.class));
+            assertEquals((long) expected.length(),
+                    exchange.getMessage().getHeader(AWS2S3Constants.CONTENT_LENGTH, Long.class));
+        }
+
+        AWS2S3Consumer consumer = (AWS2S3Consumer) context.getRoute("s3").getConsumer();
+        assertEquals(3, consumer.getDownloadedObjects());
+        assertEquals(client.objects.values().stream().mapToLong(String::length).sum(), consumer.getDownloadedBytes());
+        // large.txt has 7 parts of 100 bytes and exact.txt has 2
+        assertEquals(6 + 1, consumer.getRangedDownloadParts());
+        assertEquals(9 + 1, client.getRequests.get());
+    }
+
+    @Test
+    public void testRangedDownloadWithoutPrefetch() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:ranged");
+        result.expectedMessageCount(client.objects.size());
+
+        context.getRouteController().startRoute("s3Ranged");
+
+        result.assertIsSatisfied();
+        for (Exchange exchange : result.getExchanges()) {
+            String key = exchange.getMessage().getHeader(AWS2S3Constants.KEY, String.class);
+            assertTrue(exchange.getMessage().getBody() instanceof byte[]);
+            assertEquals(client.objects.get(key), exchange.getMessage().getBody(String.class));
+        }
+
+        AWS2S3Consumer consumer = (AWS2S3Consumer) context.getRoute("s3Ranged").getConsumer();
+        assertEquals(3, consumer.getDownloadedObjects());
+        assertEquals(6 + 1, consumer.getRangedDownloadParts());
+    }
+
+    @Test
+    public void testObjectTooLargeForByteArray() throws Exception {
+        client.objects.put("huge.txt", client.objects.get("exact.txt"));
+        client.declaredSizes.put("huge.txt", AWS2S3ObjectDownloader.MAX_BYTE_ARRAY_SIZE + 1);
+        MockEndpoint result = getMockEndpoint("mock:ranged");
+        result.expectedMessageCount(1);
+
+        context.getRouteController().startRoute("s3Ranged");
+
+        // the download of huge.txt fails after its first part, so the objects after it are not consumed
+        result.assertIsSatisfied();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertEquals(2 + 1, client.getRequests.get()));
+        assertEquals("exact.txt", result.getExchanges().get(0).getMessage().getHeader(AWS2S3Constants.KEY));
+        AWS2S3Consumer consumer = (AWS2S3Consumer) context.getRoute("s3Ranged").getConsumer();
+        assertEquals(1, consumer.getDownloadedObjects());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("s3Client", client);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; large.length() < 650; i++) {
+            large.append("Line ").append(i).append('\n');
+        }
+        client.objects.put("small.txt", "Test");
+        client.objects.put("large.txt", large.substring(0, 650));
+        client.objects.put("exact.txt", large.substring(0, 200));
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("aws2-s3://mycamel?amazonS3Client=#s3Client&includeBody=false&prefetchObjects=2"
+                     + "&rangedDownloadPartSize=100&rangedDownloadConcurrency=3")
+                        .routeId("s3").autoStartup(false)
+                        .to("mock:result");
+
+                from("aws2-s3://mycamel?amazonS3Client=#s3Client&includeBody=true"
+                     + "&rangedDownloadPartSize=100&rangedDownloadConcurrency=3")
+                        .routeId("s3Ranged").autoStartup(false)
+                        .to("mock:ranged");
+            }
+        };
+    }
+
+    /**
+     * A bucket with a fixed set of objects, which answers ranged GET requests.
+     */
+    private static class InMemoryS3Client implements S3Client {
+
+        final Map<String, String> objects = new TreeMap<>();
+        final Map<String, Boolean> listed = new ConcurrentHashMap<>();
+        // the size of the objects which are reported larger than their content
+        final Map<String, Long> declaredSizes = new ConcurrentHashMap<>();
+        final AtomicInteger getRequests = new AtomicInteger();
+
+        @Override
+        public HeadBucketResponse headBucket(HeadBucketRequest headBucketRequest) {
+            return HeadBucketResponse.builder().build();
+        }
+
+        @Override
+        public ListObjectsResponse listObjects(ListObjectsRequest listObjectsRequest) {
+            // the objects are listed once
+            List<S3Object> contents = objects.entrySet().stream()
+                    .filter(e -> listed.putIfAbsent(e.getKey(), Boolean.TRUE) == null)
+                    .map(e -> S3Object.builder().key(e.getKey()).size(sizeOf(e.getKey())).build())
+                    .collect(Collectors.toList());
+            return ListObjectsResponse.builder().contents(contents).isTruncated(false).build();
+        }
+
+        @Override
+        public <T> T getObject(GetObjectRequest getObjectRequest, ResponseTransformer<GetObjectResponse, T> transformer)
+                throws AwsServiceException {
+            getRequests.incrementAndGet();
+            String content = objects.get(getObjectRequest.key());
+            String eTag = "\"" + content.hashCode() + "\"";
+            if (getObjectRequest.ifMatch() != null && !getObjectRequest.ifMatch().equals(eTag)) {
+                throw AwsServiceException.builder().message("Precondition Failed").statusCode(412).build();
+            }
+            byte[] data = content.getBytes(StandardCharsets.UTF_8);
+            GetObjectResponse.Builder response = GetObjectResponse.builder().eTag(eTag).contentType("text/plain");
+            String range = getObjectRequest.range();
+            if (range != null) {
+                String[] bounds = range.substring("bytes=".length()).split("-");
+                int start = Integer.parseInt(bounds[0]);
+                int end = Math.min(data.length - 1, Integer.parseInt(bounds[1]));
+                response.contentRange("bytes " + start + "-" + end + "/" + sizeOf(getObjectRequest.key()));
+                byte[] part = new byte[end - start + 1];
+                System.arraycopy(data, start, part, 0, part.length);
+                data = part;
+            }
+            response.contentLength((long) data.length);
+            try {
+                return transformer.transform(response.build(),
+                        AbortableInputStream.create(new ByteArrayInputStream(data)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private long sizeOf(String key) {
+            return declaredSizes.getOrDefault(key, (long) objects.get(key).length());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3.integration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.aws2.s3.AWS2S3Constants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class S3ConsumerPrefetchIT extends Aws2S3Base {
+
+    @EndpointInject
+    private ProducerTemplate template;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @Test
+    public void sendIn() throws Exception {
+        Map<String, String> objects = new HashMap<>();
+        objects.put("small.txt", "Test");
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            large.append("Part ").append(i).append(' ');
+        }
+        objects.put("large.txt", large.toString());
+        objects.put("exact.txt", large.substring(0, 64));
+
+        result.expectedMessageCount(objects.size());
+        objects.forEach((key, body) -> template.sendBodyAndHeader("direct:putObject", body, AWS2S3Constants.KEY, key));
+
+        MockEndpoint.assertIsSatisfied(context);
+        for (Exchange exchange : result.getExchanges()) {
+            String key = exchange.getMessage().getHeader(AWS2S3Constants.KEY, String.class);
+            String body = objects.get(key);
+            assertEquals(body, exchange.getMessage().getBody(String.class));
+            assertEquals(body.length(), exchange.getMessage().getHeader(AWS2S3Constants.CONTENT_LENGTH, Long.class));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                String awsEndpoint = "aws2-s3://mycamel?autoCreateBucket=true";
+
+                from("direct:putObject").startupOrder(1).to(awsEndpoint);
+
+                from("aws2-s3://mycamel?includeBody=false&prefetchObjects=2&rangedDownloadPartSize=16&rangedDownloadConcurrency=3")
+                        .startupOrder(2).to("mock:result");
+            }
+        };
+    }
+}
@@ -30,6 +30,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "accesskey":
         case "accessKey": getOrCreateConfiguration(target).setAccessKey(property(camelContext, java.lang.String.class, value)); return true;
+        case "acknowledgementbatchtimeout":
+        case "acknowledgementBatchTimeout": getOrCreateConfiguration(target).setAcknowledgementBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "amazonawshost":
         case "amazonAWSHost": getOrCreateConfiguration(target).setAmazonAWSHost(property(camelContext, java.lang.String.class, value)); return true;
         case "amazonsqsclient":
@@ -40,6 +42,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "autoCreateQueue": getOrCreateConfiguration(target).setAutoCreateQueue(property(camelContext, boolean.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batchacknowledgements":
+        case "batchAcknowledgements": getOrCreateConfiguration(target).setBatchAcknowledgements(property(camelContext, boolean.class, value)); return true;
         case "batchseparator":
         case "batchSeparator": getOrCreateConfiguration(target).setBatchSeparator(property(camelContext, java.lang.String.class, value)); return true;
         case "bridgeerrorhandler":
@@ -80,6 +84,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "operation": getOrCreateConfiguration(target).setOperation(property(camelContext, org.apache.camel.component.aws2.sqs.Sqs2Operations.class, value)); return true;
         case "overrideendpoint":
         case "overrideEndpoint": getOrCreateConfiguration(target).setOverrideEndpoint(property(camelContext, boolean.class, value)); return true;
+        case "pipelinedreceive":
+        case "pipelinedReceive": getOrCreateConfiguration(target).setPipelinedReceive(property(camelContext, boolean.class, value)); return true;
         case "policy": getOrCreateConfiguration(target).setPolicy(property(camelContext, java.lang.String.class, value)); return true;
         case "protocol": getOrCreateConfiguration(target).setProtocol(property(camelContext, java.lang.String.class, value)); return true;
         case "proxyhost":
@@ -125,6 +131,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "accesskey":
         case "accessKey": return java.lang.String.class;
+        case "acknowledgementbatchtimeout":
+        case "acknowledgementBatchTimeout": return long.class;
         case "amazonawshost":
         case "amazonAWSHost": return java.lang.String.class;
         case "amazonsqsclient":
@@ -135,6 +143,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "autoCreateQueue": return boolean.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batchacknowledgements":
+        case "batchAcknowledgements": return boolean.class;
         case "batchseparator":
         case "batchSeparator": return java.lang.String.class;
         case "bridgeerrorhandler":
@@ -175,6 +185,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "operation": return org.apache.camel.component.aws2.sqs.Sqs2Operations.class;
         case "overrideendpoint":
         case "overrideEndpoint": return boolean.class;
+        case "pipelinedreceive":
+        case "pipelinedReceive": return boolean.class;
         case "policy": return java.lang.String.class;
         case "protocol": return java.lang.String.class;
         case "proxyhost":
@@ -216,6 +228,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "accesskey":
         case "accessKey": return getOrCreateConfiguration(target).getAccessKey();
+        case "acknowledgementbatchtimeout":
+        case "acknowledgementBatchTimeout": return getOrCreateConfiguration(target).getAcknowledgementBatchTimeout();
         case "amazonawshost":
         case "amazonAWSHost": return getOrCreateConfiguration(target).getAmazonAWSHost();
         case "amazonsqsclient":
@@ -226,6 +240,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "autoCreateQueue": return getOrCreateConfiguration(target).isAutoCreateQueue();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batchacknowledgements":
+        case "batchAcknowledgements": return getOrCreateConfiguration(target).isBatchAcknowledgements();
         case "batchseparator":
         case "batchSeparator": return getOrCreateConfiguration(target).getBatchSeparator();
         case "bridgeerrorhandler":
@@ -266,6 +282,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "operation": return getOrCreateConfiguration(target).getOperation();
         case "overrideendpoint":
         case "overrideEndpoint": return getOrCreateConfiguration(target).isOverrideEndpoint();
+        case "pipelinedreceive":
+        case "pipelinedReceive": return getOrCreateConfiguration(target).isPipelinedReceive();
         case "policy": return getOrCreateConfiguration(target).getPolicy();
         case "protocol": return getOrCreateConfiguration(target).getProtocol();
         case "proxyhost":
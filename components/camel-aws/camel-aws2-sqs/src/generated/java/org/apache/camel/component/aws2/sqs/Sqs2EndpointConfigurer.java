@@ -23,6 +23,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "accesskey":
         case "accessKey": target.getConfiguration().setAccessKey(property(camelContext, java.lang.String.class, value)); return true;
+        case "acknowledgementbatchtimeout":
+        case "acknowledgementBatchTimeout": target.getConfiguration().setAcknowledgementBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "amazonawshost":
         case "amazonAWSHost": target.getConfiguration().setAmazonAWSHost(property(camelContext, java.lang.String.class, value)); return true;
         case "amazonsqsclient":
@@ -37,6 +39,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": target.setBackoffIdleThreshold(property(camelContext, int.class, value)); return true;
         case "backoffmultiplier":
         case "backoffMultiplier": target.setBackoffMultiplier(property(camelContext, int.class, value)); return true;
+        case "batchacknowledgements":
+        case "batchAcknowledgements": target.getConfiguration().setBatchAcknowledgements(property(camelContext, boolean.class, value)); return true;
         case "batchseparator":
         case "batchSeparator": target.getConfiguration().setBatchSeparator(property(camelContext, java.lang.String.class, value)); return true;
         case "bridgeerrorhandler":
@@ -88,6 +92,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "operation": target.getConfiguration().setOperation(property(camelContext, org.apache.camel.component.aws2.sqs.Sqs2Operations.class, value)); return true;
         case "overrideendpoint":
         case "overrideEndpoint": target.getConfiguration().setOverrideEndpoint(property(camelContext, boolean.class, value)); return true;
+        case "pipelinedreceive":
+        case "pipelinedReceive": target.getConfiguration().setPipelinedReceive(property(camelContext, boolean.class, value)); return true;
         case "policy": target.getConfiguration().setPolicy(property(camelContext, java.lang.String.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
@@ -152,6 +158,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "accesskey":
         case "accessKey": return java.lang.String.class;
+        case "acknowledgementbatchtimeout":
+        case "acknowledgementBatchTimeout": return long.class;
         case "amazonawshost":
         case "amazonAWSHost": return java.lang.String.class;
         case "amazonsqsclient":
@@ -166,6 +174,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return int.class;
         case "backoffmultiplier":
         case "backoffMultiplier": return int.class;
+        case "batchacknowledgements":
+        case "batchAcknowledgements": return boolean.class;
         case "batchseparator":
         case "batchSeparator": return java.lang.String.class;
         case "bridgeerrorhandler":
@@ -217,6 +227,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "operation": return org.apache.camel.component.aws2.sqs.Sqs2Operations.class;
         case "overrideendpoint":
         case "overrideEndpoint": return boolean.class;
+        case "pipelinedreceive":
+        case "pipelinedReceive": return boolean.class;
         case "policy": return java.lang.String.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
@@ -277,6 +289,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "accesskey":
         case "accessKey": return target.getConfiguration().getAccessKey();
+        case "acknowledgementbatchtimeout":
+        case "acknowledgementBatchTimeout": return target.getConfiguration().getAcknowledgementBatchTimeout();
         case "amazonawshost":
         case "amazonAWSHost": return target.getConfiguration().getAmazonAWSHost();
         case "amazonsqsclient":
@@ -291,6 +305,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return target.getBackoffIdleThreshold();
         case "backoffmultiplier":
         case "backoffMultiplier": return target.getBackoffMultiplier();
+        case "batchacknowledgements":
+        case "batchAcknowledgements": return target.getConfiguration().isBatchAcknowledgements();
         case "batchseparator":
         case "batchSeparator": return target.getConfiguration().getBatchSeparator();
         case "bridgeerrorhandler":
@@ -342,6 +358,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "operation": return target.getConfiguration().getOperation();
         case "overrideendpoint":
         case "overrideEndpoint": return target.getConfiguration().isOverrideEndpoint();
+        case "pipelinedreceive":
+        case "pipelinedReceive": return target.getConfiguration().isPipelinedReceive();
         case "policy": return target.getConfiguration().getPolicy();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
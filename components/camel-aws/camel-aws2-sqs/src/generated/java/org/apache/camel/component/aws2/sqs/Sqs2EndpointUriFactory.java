@@ -21,8 +21,9 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(63);
+        Set<String> props = new HashSet<>(66);
         props.add("accessKey");
+        props.add("acknowledgementBatchTimeout");
         props.add("amazonAWSHost");
         props.add("amazonSQSClient");
         props.add("attributeNames");
@@ -30,6 +31,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
         props.add("backoffErrorThreshold");
         props.add("backoffIdleThreshold");
         props.add("backoffMultiplier");
+        props.add("batchAcknowledgements");
         props.add("batchSeparator");
         props.add("bridgeErrorHandler");
         props.add("concurrentConsumers");
@@ -57,6 +59,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
         props.add("messageRetentionPeriod");
         props.add("operation");
         props.add("overrideEndpoint");
+        props.add("pipelinedReceive");
         props.add("policy");
         props.add("pollStrategy");
         props.add("protocol");
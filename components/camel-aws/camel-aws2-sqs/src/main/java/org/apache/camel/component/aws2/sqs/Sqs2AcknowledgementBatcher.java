@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.sqs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.support.Batcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+/**
+ * Groups the deletes and visibility changes of the consumer into DeleteMessageBatch and ChangeMessageVisibilityBatch
+ * requests, which are sent when they hold the maximum of 10 messages, or when the batch timeout has elapsed.
+ */
+class Sqs2AcknowledgementBatcher extends ServiceSupport {
+
+    static final int MAX_BATCH_SIZE = 10;
+
+    private static final Logger LOG = LoggerFactory.getLogger(Sqs2AcknowledgementBatcher.class);
+
+    private final Sqs2Consumer consumer;
+    private final Batcher<Action, Entry> batcher;
+
+    Sqs2AcknowledgementBatcher(Sqs2Consumer consumer, long batchTimeout) {
+        this.consumer = consumer;
+        this.batcher = new Batcher<>(
+                consumer.getEndpoint().getCamelContext(), "SqsAcknowledgementBatch", MAX_BATCH_SIZE, batchTimeout,
+                this::send);
+    }
+
+    /**
+     * Adds the message to the next batch of deletes
+     */
+    void delete(String receiptHandle) {
+        batcher.add(Action.DELETE, new Entry(receiptHandle, 0));
+    }
+
+    /**
+     * Adds the message to the next batch of visibility changes
+     */
+    void changeVisibility(String receiptHandle, int visibilityTimeout) {
+        batcher.add(Action.CHANGE_VISIBILITY, new Entry(receiptHandle, visibilityTimeout));
+    }
+
+    private void send(Action action, List<Entry> batch) {
+        if (action == Action.DELETE) {
+            sendDeletes(batch);
+        } else {
+            sendVisibilityChanges(batch);
+        }
+    }
+
+    private void sendDeletes(List<Entry> batch) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(DeleteMessageBatchRequestEntry.builder().id(Integer.toString(i))
+                    .receiptHandle(batch.get(i).receiptHandle).build());
+        }
+
+        LOG.trace("Deleting batch of {} messages...", entries.size());
+        try {
+            DeleteMessageBatchResponse response = consumer.getClient().deleteMessageBatch(
+                    DeleteMessageBatchRequest.builder().queueUrl(consumer.getQueueUrl()).entries(entries).build());
+            for (BatchResultErrorEntry error : response.failed()) {
+                consumer.getExceptionHandler().handleException(
+                        "Error occurred during deleting message. This exception is ignored.",
+                        SqsException.builder().message("Deleting message with receipt handle "
+                                                       + batch.get(Integer.parseInt(error.id())).receiptHandle
+                                                       + " failed: " + error.code() + " " + error.message())
+                                .build());
+            }
+        } catch (Exception e) {
+            consumer.getExceptionHandler().handleException(
+                    "Error occurred during deleting messages. This exception is ignored.", e);
+        }
+    }
+
+    private void sendVisibilityChanges(List<Entry> batch) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder().id(Integer.toString(i))
+                    .receiptHandle(batch.get(i).receiptHandle)
+                    .visibilityTimeout(batch.get(i).visibilityTimeout).build());
+        }
+
+        LOG.trace("Changing visibility of batch of {} messages...", entries.size());
+        try {
+            ChangeMessageVisibilityBatchResponse response = consumer.getClient().changeMessageVisibilityBatch(
+                    ChangeMessageVisibilityBatchRequest.builder().queueUrl(consumer.getQueueUrl()).entries(entries)
+                            .build());
+            // the messages may have been deleted in the meantime
+            for (BatchResultErrorEntry error : response.failed()) {
+                LOG.debug("Changing visibility of message with receipt handle {} failed: {} {}",
+                        batch.get(Integer.parseInt(error.id())).receiptHandle, error.code(), error.message());
+            }
+        } catch (Exception e) {
+            LOG.warn("Extending visibility window failed for a batch of {} messages. This exception will be ignored.",
+                    entries.size(), e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+    }
+
+    private enum Action {
+        DELETE,
+        CHANGE_VISIBILITY
+    }
+
+    private static final class Entry {
+        private final String receiptHandle;
+        private final int visibilityTimeout;
+
+        Entry(String receiptHandle, int visibilityTimeout) {
+            this.receiptHandle = receiptHandle;
+            this.visibilityTimeout = visibilityTimeout;
+        }
+    }
+}
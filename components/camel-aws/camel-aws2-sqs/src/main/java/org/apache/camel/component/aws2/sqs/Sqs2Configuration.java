@@ -85,6 +85,12 @@ public class Sqs2Configuration implements Cloneable {
     private boolean serverSideEncryptionEnabled;
     @UriParam(label = "consumer", defaultValue = "1")
     private int concurrentConsumers = 1;
+    @UriParam(label = "consumer,advanced")
+    private boolean pipelinedReceive;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchAcknowledgements;
+    @UriParam(label = "consumer,advanced", defaultValue = "100", javaType = "java.time.Duration")
+    private long acknowledgementBatchTimeout = 100;
 
     // producer properties
     @UriParam(label = "producer", javaType = "java.lang.String", enums = "useConstant,useExchangeId,usePropertyValue")
@@ -324,6 +330,43 @@ public class Sqs2Configuration implements Cloneable {
         this.extendMessageVisibility = extendMessageVisibility;
     }
 
+    public boolean isPipelinedReceive() {
+        return pipelinedReceive;
+    }
+
+    /**
+     * If enabled then the consumer sends the next receive request while the messages of the current poll are
+     * processed, so the next messages are available as soon as the current ones are done. The messages received ahead
+     * are invisible while they wait, so the visibility timeout should cover the processing of a whole poll.
+     */
+    public void setPipelinedReceive(boolean pipelinedReceive) {
+        this.pipelinedReceive = pipelinedReceive;
+    }
+
+    public boolean isBatchAcknowledgements() {
+        return batchAcknowledgements;
+    }
+
+    /**
+     * If enabled then the consumer deletes the processed messages, and extends the message visibility, with batch
+     * requests of up to 10 messages, which are sent when full or after the acknowledgementBatchTimeout.
+     */
+    public void setBatchAcknowledgements(boolean batchAcknowledgements) {
+        this.batchAcknowledgements = batchAcknowledgements;
+    }
+
+    public long getAcknowledgementBatchTimeout() {
+        return acknowledgementBatchTimeout;
+    }
+
+    /**
+     * The maximum time (in millis) a delete or visibility change waits to be sent in a batch when batchAcknowledgements
+     * is enabled.
+     */
+    public void setAcknowledgementBatchTimeout(long acknowledgementBatchTimeout) {
+        this.acknowledgementBatchTimeout = acknowledgementBatchTimeout;
+    }
+
     public Integer getReceiveMessageWaitTimeSeconds() {
         return receiveMessageWaitTimeSeconds;
     }
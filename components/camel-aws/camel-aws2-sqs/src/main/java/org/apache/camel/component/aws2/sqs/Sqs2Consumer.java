@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.aws2.sqs;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,9 +24,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -41,6 +48,7 @@ import org.apache.camel.spi.ScheduledPollConsumerScheduler;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.DefaultScheduledPollConsumerScheduler;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.URISupport;
@@ -48,6 +56,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
@@ -66,6 +76,8 @@ import software.amazon.awssdk.services.sqs.model.SqsException;
 public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(Sqs2Consumer.class);
+    // the time allowed for a receive request in flight to complete, on top of its wait time
+    private static final long RECEIVE_TIMEOUT_MARGIN = 5000;
 
     private ScheduledExecutorService scheduledExecutor;
     private transient String sqsConsumerToString;
@@ -73,6 +85,9 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
     private Collection<String> messageAttributeNames;
     private WritableHealthCheckRepository healthCheckRepository;
     private Sqs2ConsumerHealthCheck consumerHealthCheck;
+    private ExecutorService receiveExecutor;
+    private final AtomicReference<Future<ReceiveMessageResponse>> nextReceive = new AtomicReference<>();
+    private volatile Sqs2AcknowledgementBatcher acknowledgementBatcher;
 
     public Sqs2Consumer(Sqs2Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -93,6 +108,31 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
         shutdownRunningTask = null;
         pendingExchanges = 0;
 
+        ReceiveMessageResponse messageResult;
+        if (receiveExecutor != null) {
+            Future<ReceiveMessageResponse> inflight = nextReceive.getAndSet(null);
+            messageResult = inflight != null ? getReceived(inflight) : receiveMessages();
+            // keep the next receive request in flight while the messages are processed, unless another concurrent
+            // consumer has a receive request in flight already
+            if (!messageResult.messages().isEmpty() && isRunAllowed()) {
+                FutureTask<ReceiveMessageResponse> next = new FutureTask<>(this::receiveMessages);
+                if (nextReceive.compareAndSet(null, next)) {
+                    receiveExecutor.execute(next);
+                }
+            }
+        } else {
+            messageResult = receiveMessages();
+        }
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Received {} messages", messageResult.messages().size());
+        }
+
+        Queue<Exchange> exchanges = createExchanges(messageResult.messages());
+        return processBatch(CastUtils.cast(exchanges));
+    }
+
+    protected ReceiveMessageResponse receiveMessages() {
         ReceiveMessageRequest.Builder request = ReceiveMessageRequest.builder().queueUrl(getQueueUrl());
         request.maxNumberOfMessages(getMaxMessagesPerPoll() > 0 ? getMaxMessagesPerPoll() : null);
         request.visibilityTimeout(getConfiguration().getVisibilityTimeout());
@@ -116,13 +156,60 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
             reConnectToQueue();
             messageResult = getClient().receiveMessage(requestBuild);
         }
+        return messageResult;
+    }
 
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Received {} messages", messageResult.messages().size());
+    private ReceiveMessageResponse getReceived(Future<ReceiveMessageResponse> inflight) throws Exception {
+        try {
+            return inflight.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
         }
+    }
 
-        Queue<Exchange> exchanges = createExchanges(messageResult.messages());
-        return processBatch(CastUtils.cast(exchanges));
+    /**
+     * Makes the messages of a receive request which is still in flight visible again, as they will not be processed.
+     * The request is not interrupted, as SQS may have received it already, but waited for (at most for the wait time
+     * of the request) so the messages it returns can be released.
+     */
+    private void releaseNextReceive() {
+        Future<ReceiveMessageResponse> inflight = nextReceive.getAndSet(null);
+        if (inflight == null) {
+            return;
+        }
+        Integer waitTimeSeconds = getConfiguration().getWaitTimeSeconds();
+        long timeout = TimeUnit.SECONDS.toMillis(waitTimeSeconds != null ? waitTimeSeconds : 0) + RECEIVE_TIMEOUT_MARGIN;
+        List<software.amazon.awssdk.services.sqs.model.Message> messages;
+        try {
+            messages = inflight.get(timeout, TimeUnit.MILLISECONDS).messages();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inflight.cancel(true);
+            return;
+        } catch (TimeoutException e) {
+            LOG.warn("Receive request still in flight after {} millis. The messages it receives will be visible after the "
+                     + "visibility timeout.",
+                    timeout);
+            inflight.cancel(true);
+            return;
+        } catch (Exception e) {
+            LOG.debug("Receive request in flight failed", e);
+            return;
+        }
+        for (int i = 0; i < messages.size(); i += Sqs2AcknowledgementBatcher.MAX_BATCH_SIZE) {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>();
+            for (int j = i; j < Math.min(messages.size(), i + Sqs2AcknowledgementBatcher.MAX_BATCH_SIZE); j++) {
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder().id(Integer.toString(j))
+                        .receiptHandle(messages.get(j).receiptHandle()).visibilityTimeout(0).build());
+            }
+            try {
+                getClient().changeMessageVisibilityBatch(
+                        ChangeMessageVisibilityBatchRequest.builder().queueUrl(getQueueUrl()).entries(entries).build());
+            } catch (Exception e) {
+                LOG.debug("Cannot release {} messages received ahead. They will be visible after the visibility timeout.",
+                        entries.size(), e);
+            }
+        }
     }
 
     public void reConnectToQueue() {
@@ -241,6 +328,11 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
             if (shouldDelete(exchange)) {
                 String receiptHandle = exchange.getIn().getHeader(Sqs2Constants.RECEIPT_HANDLE, String.class);
+                Sqs2AcknowledgementBatcher batcher = acknowledgementBatcher;
+                if (batcher != null) {
+                    batcher.delete(receiptHandle);
+                    return;
+                }
                 DeleteMessageRequest.Builder deleteRequest
                         = DeleteMessageRequest.builder().queueUrl(getQueueUrl()).receiptHandle(receiptHandle);
 
@@ -354,6 +446,16 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
                     .newSingleThreadScheduledExecutor(this, "SqsTimeoutExtender");
         }
 
+        if (getConfiguration().isPipelinedReceive() && receiveExecutor == null) {
+            this.receiveExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadExecutor(this, "SqsPipelinedReceive");
+        }
+        if (getConfiguration().isBatchAcknowledgements()) {
+            acknowledgementBatcher
+                    = new Sqs2AcknowledgementBatcher(this, getConfiguration().getAcknowledgementBatchTimeout());
+            ServiceHelper.startService(acknowledgementBatcher);
+        }
+
         super.doStart();
 
         // health-check is optional so discover and resolve
@@ -369,12 +471,26 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        releaseNextReceive();
+        // sends the pending deletes
+        ServiceHelper.stopService(acknowledgementBatcher);
+        acknowledgementBatcher = null;
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         if (scheduledExecutor != null) {
             getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scheduledExecutor);
             scheduledExecutor = null;
         }
+        if (receiveExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(receiveExecutor);
+            receiveExecutor = null;
+        }
 
         super.doShutdown();
     }
@@ -391,6 +507,14 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
         @Override
         public void run() {
+            Sqs2AcknowledgementBatcher batcher = acknowledgementBatcher;
+            if (batcher != null) {
+                LOG.trace("Extending visibility window by {} seconds for exchange {}", this.repeatSeconds, this.exchange);
+                batcher.changeVisibility(
+                        exchange.getIn().getHeader(Sqs2Constants.RECEIPT_HANDLE, String.class), repeatSeconds);
+                return;
+            }
+
             ChangeMessageVisibilityRequest.Builder request
                     = ChangeMessageVisibilityRequest.builder().queueUrl(getQueueUrl()).visibilityTimeout(repeatSeconds)
                             .receiptHandle(exchange.getIn().getHeader(Sqs2Constants.RECEIPT_HANDLE, String.class));
@@ -32,10 +32,15 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
 import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
 import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
@@ -64,6 +69,11 @@ public class AmazonSQSClientMock implements SqsClient {
     List<Message> messages = new ArrayList<>();
     Map<String, Map<String, String>> queueAttributes = new HashMap<>();
     List<ChangeMessageVisibilityRequest> changeMessageVisibilityRequests = new CopyOnWriteArrayList<>();
+    List<ChangeMessageVisibilityBatchRequest> changeMessageVisibilityBatchRequests = new CopyOnWriteArrayList<>();
+    List<DeleteMessageRequest> deleteMessageRequests = new CopyOnWriteArrayList<>();
+    List<DeleteMessageBatchRequest> deleteMessageBatchRequests = new CopyOnWriteArrayList<>();
+    List<ReceiveMessageRequest> receiveMessageRequests = new CopyOnWriteArrayList<>();
+    volatile long receiveDelay;
     private Map<String, CreateQueueRequest> queues = new LinkedHashMap<>();
     private Map<String, ScheduledFuture<?>> inFlight = new LinkedHashMap<>();
     private ScheduledExecutorService scheduler;
@@ -124,6 +134,15 @@ public class AmazonSQSClientMock implements SqsClient {
 
     @Override
     public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest receiveMessageRequest) {
+        receiveMessageRequests.add(receiveMessageRequest);
+        if (receiveDelay > 0) {
+            try {
+                Thread.sleep(receiveDelay);
+            } catch (InterruptedException e) {
+                // the request has been sent already, so the messages are received anyway
+                Thread.currentThread().interrupt();
+            }
+        }
         Integer maxNumberOfMessages = receiveMessageRequest.maxNumberOfMessages() != null
                 ? receiveMessageRequest.maxNumberOfMessages() : Integer.MAX_VALUE;
         ReceiveMessageResponse.Builder result = ReceiveMessageResponse.builder();
@@ -186,6 +205,7 @@ public class AmazonSQSClientMock implements SqsClient {
 
     @Override
     public DeleteMessageResponse deleteMessage(DeleteMessageRequest deleteMessageRequest) {
+        deleteMessageRequests.add(deleteMessageRequest);
         String receiptHandle = deleteMessageRequest.receiptHandle();
         if (inFlight.containsKey(receiptHandle)) {
             ScheduledFuture<?> inFlightTask = inFlight.get(receiptHandle);
@@ -194,6 +214,18 @@ public class AmazonSQSClientMock implements SqsClient {
         return DeleteMessageResponse.builder().build();
     }
 
+    @Override
+    public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest deleteMessageBatchRequest) {
+        deleteMessageBatchRequests.add(deleteMessageBatchRequest);
+        for (DeleteMessageBatchRequestEntry entry : deleteMessageBatchRequest.entries()) {
+            ScheduledFuture<?> inFlightTask = inFlight.get(entry.receiptHandle());
+            if (inFlightTask != null) {
+                inFlightTask.cancel(true);
+            }
+        }
+        return DeleteMessageBatchResponse.builder().build();
+    }
+
     @Override
     public PurgeQueueResponse purgeQueue(PurgeQueueRequest purgeQueueRequest) {
         if (purgeQueueRequest.queueUrl() == null) {
@@ -231,6 +263,13 @@ public class AmazonSQSClientMock implements SqsClient {
         return ChangeMessageVisibilityResponse.builder().build();
     }
 
+    @Override
+    public ChangeMessageVisibilityBatchResponse changeMessageVisibilityBatch(
+            ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest) {
+        this.changeMessageVisibilityBatchRequests.add(changeMessageVisibilityBatchRequest);
+        return ChangeMessageVisibilityBatchResponse.builder().build();
+    }
+
     @Override
     public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
         SendMessageBatchResponse.Builder result = SendMessageBatchResponse.builder();
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.sqs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqsPipelinedConsumerTest extends CamelTestSupport {
+
+    @BindToRegistry("amazonSQSClient")
+    private AmazonSQSClientMock client = new AmazonSQSClientMock();
+
+    @Test
+    public void testPipelinedReceiveAndBatchDelete() throws Exception {
+        addMessages(25);
+        AtomicInteger receivesWhileProcessing = new AtomicInteger();
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(25);
+        mock.whenExchangeReceived(1, exchange -> {
+            // the next receive request is sent while the first message is processed
+            long deadline = System.currentTimeMillis() + 5000;
+            while (client.receiveMessageRequests.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            receivesWhileProcessing.set(client.receiveMessageRequests.size());
+        });
+
+        context.getRouteController().startRoute("pipelined");
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals(2, receivesWhileProcessing.get());
+
+        context.getRouteController().stopRoute("pipelined");
+        assertTrue(client.deleteMessageRequests.isEmpty());
+        assertEquals(25, client.deleteMessageBatchRequests.stream().mapToInt(r -> r.entries().size()).sum());
+        for (DeleteMessageBatchRequest request : client.deleteMessageBatchRequests) {
+            assertTrue(request.entries().size() <= 10);
+        }
+    }
+
+    @Test
+    public void testReleaseReceiveInFlightOnStop() throws Exception {
+        addMessages(15);
+        client.receiveDelay = 500;
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        context.getRouteController().startRoute("slow");
+
+        MockEndpoint.assertIsSatisfied(context);
+        // the next receive request is still in flight, and its messages are released when the consumer stops
+        context.getRouteController().stopRoute("slow");
+        assertEquals(10, mock.getReceivedCounter());
+        assertEquals(1, client.changeMessageVisibilityBatchRequests.size());
+        List<ChangeMessageVisibilityBatchRequestEntry> entries
+                = client.changeMessageVisibilityBatchRequests.get(0).entries();
+        assertEquals(5, entries.size());
+        for (ChangeMessageVisibilityBatchRequestEntry entry : entries) {
+            assertEquals(0, entry.visibilityTimeout());
+        }
+    }
+
+    @Test
+    public void testBatchVisibilityExtension() throws Exception {
+        addMessages(2);
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.whenAnyExchangeReceived(exchange -> Thread.sleep(1500));
+
+        context.getRouteController().startRoute("extended");
+
+        MockEndpoint.assertIsSatisfied(context, 10, TimeUnit.SECONDS);
+        context.getRouteController().stopRoute("extended");
+        assertTrue(client.changeMessageVisibilityRequests.isEmpty());
+        assertFalse(client.changeMessageVisibilityBatchRequests.isEmpty());
+        assertEquals(3, client.changeMessageVisibilityBatchRequests.get(0).entries().get(0).visibilityTimeout());
+    }
+
+    private void addMessages(int count) {
+        for (int counter = 0; counter < count; counter++) {
+            Message.Builder message = Message.builder();
+            message.body("Message " + counter);
+            message.md5OfBody("6a1559560f67c5e7a7d5d838bf0272ee");
+            message.messageId("f6fb6f99-5eb2-4be4-9b15-144774141458");
+            message.receiptHandle("0NNAq8PwvXsyZkR6yu4nQ07FGxNmOBWi5-" + counter);
+            client.messages.add(message.build());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("aws2-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&maxMessagesPerPoll=10&delay=100"
+                     + "&pipelinedReceive=true&batchAcknowledgements=true")
+                        .routeId("pipelined").autoStartup(false)
+                        .to("mock:result");
+
+                from("aws2-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&maxMessagesPerPoll=10&delay=10000"
+                     + "&pipelinedReceive=true")
+                        .routeId("slow").autoStartup(false)
+                        .to("mock:result");
+
+                from("aws2-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&visibilityTimeout=2&extendMessageVisibility=true"
+                     + "&batchAcknowledgements=true")
+                        .routeId("extended").autoStartup(false)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -25,12 +26,15 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
-import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,9 +50,14 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     protected Set<String> modelClassNames;
     protected String crlf;
     protected String eol;
+    protected int bindingCount;
+
+    // the formats are not thread safe, so arrays of formats are reused by one record at a time
+    private final Queue<Format<?>[]> formatsPool = new ConcurrentLinkedQueue<>();
 
     private String locale;
     private Class<?> type;
+    private volatile Constructor<?>[] constructors;
 
     public BindyAbstractFactory(Class<?> type) throws Exception {
         this.type = type;
@@ -70,6 +79,7 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     public void initModel() throws Exception {
         models = new HashSet<>();
         modelClassNames = new HashSet<>();
+        constructors = null;
 
         loadModels(type);
     }
@@ -159,10 +169,15 @@ public abstract class BindyAbstractFactory implements BindyFactory {
      * @throws Exception can be thrown
      */
     public Map<String, Object> factory() throws Exception {
-        Map<String, Object> mapModel = new HashMap<>();
+        Map<String, Object> mapModel = new HashMap<>(models.size() * 2);
 
-        for (Class<?> cl : models) {
-            Object obj = ObjectHelper.newInstance(cl);
+        for (Constructor<?> constructor : getConstructors()) {
+            Object obj;
+            try {
+                obj = constructor.newInstance();
+            } catch (Exception e) {
+                throw new RuntimeCamelException(e);
+            }
 
             // Add instance of the class to the Map Model
             mapModel.put(obj.getClass().getName(), obj);
@@ -171,6 +186,49 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         return mapModel;
     }
 
+    private Constructor<?>[] getConstructors() {
+        Constructor<?>[] answer = constructors;
+        if (answer == null) {
+            // lookup the constructors of the classes of the model only once
+            answer = new Constructor<?>[models.size()];
+            int i = 0;
+            for (Class<?> cl : models) {
+                try {
+                    answer[i++] = cl.getDeclaredConstructor();
+                } catch (NoSuchMethodException e) {
+                    throw new RuntimeCamelException(e);
+                }
+            }
+            constructors = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Creates the binding of a field annotated with {@link DataField}. Each binding gets its own index in the arrays of
+     * formats.
+     */
+    BindyFieldBinding createFieldBinding(Field field, DataField dataField) {
+        return new BindyFieldBinding(bindingCount++, field, dataField);
+    }
+
+    /**
+     * Acquires an array of formats, indexed by the field bindings, to use for a record.
+     */
+    protected Format<?>[] acquireFormats() {
+        Format<?>[] formats = formatsPool.poll();
+        return formats != null && formats.length == bindingCount ? formats : new Format<?>[bindingCount];
+    }
+
+    /**
+     * Releases the array of formats, so it can be used for another record
+     */
+    protected void releaseFormats(Format<?>[] formats) {
+        if (formats.length == bindingCount) {
+            formatsPool.offer(formats);
+        }
+    }
+
     /**
      * Indicates whether this factory can support a row comprised of the identified classes
      * 
@@ -277,9 +335,12 @@ public abstract class BindyAbstractFactory implements BindyFactory {
 
     public void setLocale(String locale) {
         this.locale = locale;
+        // the formats depend on the locale
+        formatsPool.clear();
     }
 
     public void setFormatFactory(FormatFactory formatFactory) {
         this.formatFactory = formatFactory;
+        formatsPool.clear();
     }
 }
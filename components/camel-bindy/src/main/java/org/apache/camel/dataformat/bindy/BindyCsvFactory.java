@@ -17,7 +17,6 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -37,8 +36,6 @@ import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.dataformat.bindy.annotation.Section;
 import org.apache.camel.dataformat.bindy.format.FormatException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
-import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +54,8 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
     private Map<Integer, DataField> dataFields = new LinkedHashMap<>();
     private Map<Integer, Field> annotatedFields = new LinkedHashMap<>();
     private Map<String, Integer> sections = new HashMap<>();
+    // the field bindings indexed by position
+    private BindyFieldBinding[] bindings;
 
     private int numberOptionalFields;
     private int numberMandatoryFields;
@@ -162,6 +161,18 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         if (annotatedFields.size() < maxpos) {
             LOG.debug("Potentially incomplete model: some csv fields may not be mapped to @DataField members");
         }
+
+        bindings = new BindyFieldBinding[maxpos + 1];
+        for (Entry<Integer, Field> entry : annotatedFields.entrySet()) {
+            int pos = entry.getKey();
+            if (pos >= 0) {
+                bindings[pos] = createFieldBinding(entry.getValue(), dataFields.get(pos));
+            }
+        }
+    }
+
+    private BindyFieldBinding getBinding(int pos) {
+        return pos >= 0 && pos < bindings.length ? bindings[pos] : null;
     }
 
     @Override
@@ -169,45 +180,46 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         int pos = 1;
         int counterMandatoryFields = 0;
+        Format<?>[] formats = acquireFormats();
 
-        for (String data : tokens) {
+        try {
+            for (String data : tokens) {
 
-            // Get DataField from model
-            DataField dataField = dataFields.get(pos);
+                // Get the binding of the DataField from model
+                BindyFieldBinding binding = getBinding(pos);
 
-            // If a DataField can be skipped, it needs to check whether it is in dataFields keyset
-            if (isSkipField()) {
-                if (dataFields.keySet().contains(pos)) {
-                    counterMandatoryFields
-                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                // If a DataField can be skipped, it needs to check whether it is defined
+                if (!isSkipField() || binding != null) {
+                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data,
+                            binding, formats);
                 }
-            } else {
-                counterMandatoryFields
-                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
-            }
 
-            ++pos;
+                ++pos;
 
-        }
+            }
 
-        LOG.debug("Counter mandatory fields: {}", counterMandatoryFields);
+            LOG.debug("Counter mandatory fields: {}", counterMandatoryFields);
 
-        if (counterMandatoryFields < numberMandatoryFields) {
-            throw new IllegalArgumentException("Some mandatory fields are missing, line: " + line);
-        }
+            if (counterMandatoryFields < numberMandatoryFields) {
+                throw new IllegalArgumentException("Some mandatory fields are missing, line: " + line);
+            }
 
-        if (pos < totalFields) {
-            setDefaultValuesForFields(model);
+            if (pos < totalFields) {
+                setDefaultValuesForFields(model, formats);
+            }
+        } finally {
+            releaseFormats(formats);
         }
 
     }
 
     private int setDataFieldValue(
             CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data,
-            DataField dataField)
+            BindyFieldBinding binding, Format<?>[] formats)
             throws Exception {
-        org.apache.camel.util.ObjectHelper.notNull(dataField,
+        org.apache.camel.util.ObjectHelper.notNull(binding,
                 "No position " + pos + " defined for the field: " + data + ", line: " + line);
+        DataField dataField = binding.getDataField();
 
         if (dataField.trim()) {
             data = data.trim();
@@ -226,22 +238,17 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         // Get Field to be setted
-        Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
+        Field field = binding.getField();
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
         }
 
-        // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        // Get the format object to format the field
+        Format<?> format = binding.getFormat(formats, formatFactory, getLocale());
 
         // field object to be set
-        Object modelField = model.get(field.getDeclaringClass().getName());
+        Object modelField = binding.getModelObject(model);
 
         // format the data received
         Object value = null;
@@ -272,33 +279,9 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             }
         }
 
-        if (value != null && !dataField.method().isEmpty()) {
-            Class<?> clazz;
-            if (dataField.method().contains(".")) {
-                clazz = camelContext.getClassResolver()
-                        .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-            } else {
-                clazz = field.getType();
-            }
-
-            String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                    dataField.method().length());
+        value = binding.invokeMethod(camelContext, value);
 
-            Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-            if (m != null) {
-                // this method must be static and return type
-                // must be the same as the datafield and 
-                // must receive only the datafield value 
-                // as the method argument
-                value = ObjectHelper.invokeMethod(m, null, value);
-            } else {
-                // fallback to method without parameter, that is on the value itself
-                m = ReflectionHelper.findMethod(clazz, methodName);
-                value = ObjectHelper.invokeMethod(m, value);
-            }
-        }
-
-        field.set(modelField, value);
+        binding.set(modelField, value);
         return counterMandatoryFields;
     }
 
@@ -318,20 +301,25 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             LOG.debug("Separator converted: '0x{}', from: {}", Integer.toHexString(separator), this.getSeparator());
         }
 
-        for (Class<?> clazz : models) {
-            if (model.containsKey(clazz.getName())) {
+        Format<?>[] formats = acquireFormats();
+        try {
+            for (Class<?> clazz : models) {
+                if (model.containsKey(clazz.getName())) {
 
-                Object obj = model.get(clazz.getName());
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Model object: {}, class: {}", obj, obj.getClass().getName());
-                }
-                if (obj != null) {
+                    Object obj = model.get(clazz.getName());
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Model object: {}, class: {}", obj, obj.getClass().getName());
+                    }
+                    if (obj != null) {
 
-                    // Generate Csv table
-                    generateCsvPositionMap(clazz, obj, results);
+                        // Generate Csv table
+                        generateCsvPositionMap(clazz, obj, results, formats);
 
+                    }
                 }
             }
+        } finally {
+            releaseFormats(formats);
         }
 
         // Transpose result
@@ -454,7 +442,9 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
      * a key is created combining the annotation @Section and Position of the field If a relation @OneToMany is defined,
      * than we iterate recursively through this function The result is placed in the Map<Integer, List> results
      */
-    private void generateCsvPositionMap(Class<?> clazz, Object obj, Map<Integer, List<String>> results) throws Exception {
+    private void generateCsvPositionMap(
+            Class<?> clazz, Object obj, Map<Integer, List<String>> results, Format<?>[] formats)
+            throws Exception {
 
         String result = "";
 
@@ -468,12 +458,18 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
                 if (obj != null) {
 
-                    // Create format
-                    FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
-                            field.getType(),
-                            field.getAnnotation(BindyConverter.class),
-                            getLocale());
-                    Format<?> format = formatFactory.getFormat(formattingOptions);
+                    // Get the format, which is only reused for the fields bound by position
+                    Format<?> format;
+                    BindyFieldBinding binding = getBinding(datafield.pos());
+                    if (binding != null && binding.getField().equals(field)) {
+                        format = binding.getFormat(formats, formatFactory, getLocale());
+                    } else {
+                        FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
+                                field.getType(),
+                                field.getAnnotation(BindyConverter.class),
+                                getLocale());
+                        format = formatFactory.getFormat(formattingOptions);
+                    }
 
                     // Get field value
                     Object value = field.get(obj);
@@ -547,14 +543,14 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                     Iterator<?> it = list.iterator();
                     while (it.hasNext()) {
                         Object target = it.next();
-                        generateCsvPositionMap(target.getClass(), target, results);
+                        generateCsvPositionMap(target.getClass(), target, results, formats);
                     }
 
                 } else {
 
                     // Call this function to add empty value
                     // in the table
-                    generateCsvPositionMap(field.getClass(), null, results);
+                    generateCsvPositionMap(field.getClass(), null, results, formats);
                 }
 
             }
@@ -696,25 +692,24 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
      * Set the default values for the non defined fields.
      * 
      * @param  model                  the model which has its default fields set.
+     * @param  formats                the formats to use
      * @throws IllegalAccessException if the underlying fields are inaccessible
      * @throws Exception              In case the field cannot be parsed
      */
-    private void setDefaultValuesForFields(final Map<String, Object> model)
+    private void setDefaultValuesForFields(final Map<String, Object> model, Format<?>[] formats)
             throws Exception {
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
-            Field field = annotatedFields.get(i);
-            field.setAccessible(true);
-            DataField dataField = dataFields.get(i);
-            Object modelField = model.get(field.getDeclaringClass().getName());
-            if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
-                FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                        field.getType(),
-                        field.getAnnotation(BindyConverter.class),
-                        getLocale());
-                Format<?> format = formatFactory.getFormat(formattingOptions);
+            BindyFieldBinding binding = getBinding(i);
+            if (binding == null) {
+                continue;
+            }
+            DataField dataField = binding.getDataField();
+            Object modelField = binding.getModelObject(model);
+            if (binding.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
+                Format<?> format = binding.getFormat(formats, formatFactory, getLocale());
                 Object value = format.parse(dataField.defaultValue());
-                field.set(modelField, value);
+                binding.set(modelField, value);
             }
         }
     }
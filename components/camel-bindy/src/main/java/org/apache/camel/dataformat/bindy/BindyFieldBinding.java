@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.util.ReflectionHelper;
+
+/**
+ * The binding of a field annotated with {@link DataField}, which is computed once per model class and holds everything
+ * that does not change between records: the accessors of the field, its formatting options and the method to invoke
+ * on the parsed value.
+ * <p/>
+ * The {@link Format} instances are not thread safe, so they are not kept in the binding but in arrays of formats
+ * indexed by {@link #getIndex()}, which are reused by the factories.
+ */
+final class BindyFieldBinding {
+
+    private final int index;
+    private final Field field;
+    private final DataField dataField;
+    private final BindyConverter bindyConverter;
+    private final String modelClassName;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private volatile Method method;
+    private volatile boolean staticMethod;
+
+    BindyFieldBinding(int index, Field field, DataField dataField) {
+        this.index = index;
+        this.field = field;
+        this.dataField = dataField;
+        this.bindyConverter = field.getAnnotation(BindyConverter.class);
+        this.modelClassName = field.getDeclaringClass().getName();
+
+        field.setAccessible(true);
+        MethodHandle get;
+        MethodHandle set;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            get = lookup.unreflectGetter(field);
+            set = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            // fallback to reflection
+            get = null;
+            set = null;
+        }
+        this.getter = get;
+        this.setter = set;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    DataField getDataField() {
+        return dataField;
+    }
+
+    /**
+     * Gets the object of the model that holds the field
+     */
+    Object getModelObject(Map<String, Object> model) {
+        return model.get(modelClassName);
+    }
+
+    /**
+     * Gets the format of the field, which is created when the array of formats does not hold it yet
+     */
+    Format<?> getFormat(Format<?>[] formats, FormatFactory formatFactory, String locale) throws Exception {
+        Format<?> format = formats[index];
+        if (format == null) {
+            FormattingOptions formattingOptions = ConverterUtils.convert(dataField, field.getType(), bindyConverter, locale);
+            format = formatFactory.getFormat(formattingOptions);
+            formats[index] = format;
+        }
+        return format;
+    }
+
+    Object get(Object target) {
+        if (getter == null) {
+            return ReflectionHelper.getField(field, target);
+        }
+        try {
+            return getter.invoke(target);
+        } catch (Throwable e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    void set(Object target, Object value) {
+        if (setter == null) {
+            ReflectionHelper.setField(field, target, value);
+            return;
+        }
+        try {
+            setter.invoke(target, value);
+        } catch (Throwable e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Invokes the method defined by {@link DataField#method()} on the value, if any.
+     */
+    Object invokeMethod(CamelContext camelContext, Object value) throws Exception {
+        if (value == null || dataField.method().isEmpty()) {
+            return value;
+        }
+        Method m = method;
+        if (m == null) {
+            m = resolveMethod(camelContext);
+        }
+        if (staticMethod) {
+            // this method must be static and return type
+            // must be the same as the datafield and
+            // must receive only the datafield value
+            // as the method argument
+            return ObjectHelper.invokeMethod(m, null, value);
+        } else {
+            // fallback to method without parameter, that is on the value itself
+            return ObjectHelper.invokeMethod(m, value);
+        }
+    }
+
+    private synchronized Method resolveMethod(CamelContext camelContext) throws Exception {
+        if (method == null) {
+            String name = dataField.method();
+            Class<?> clazz;
+            if (name.contains(".")) {
+                clazz = camelContext.getClassResolver().resolveMandatoryClass(name.substring(0, name.lastIndexOf('.')));
+            } else {
+                clazz = field.getType();
+            }
+            String methodName = name.substring(name.lastIndexOf('.') + 1);
+
+            Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
+            staticMethod = m != null;
+            if (m == null) {
+                m = ReflectionHelper.findMethod(clazz, methodName);
+            }
+            method = m;
+        }
+        return method;
+    }
+}
@@ -17,11 +17,8 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -35,8 +32,6 @@ import org.apache.camel.dataformat.bindy.annotation.FixedLengthRecord;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.format.FormatException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
-import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +48,9 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
     private Map<Integer, DataField> dataFields = new TreeMap<>();
     private Map<Integer, Field> annotatedFields = new TreeMap<>();
+    // the field bindings ordered by position
+    private BindyFieldBinding[] bindings;
+    private Map<Integer, BindyFieldBinding> bindingsByPos;
 
     private int numberOptionalFields;
     private int numberMandatoryFields;
@@ -151,6 +149,12 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
         }
+
+        bindingsByPos = new HashMap<>();
+        for (Entry<Integer, Field> entry : annotatedFields.entrySet()) {
+            bindingsByPos.put(entry.getKey(), createFieldBinding(entry.getValue(), dataFields.get(entry.getKey())));
+        }
+        bindings = new TreeMap<>(bindingsByPos).values().toArray(new BindyFieldBinding[0]);
     }
 
     // Will not be used in the case of a Fixed Length record
@@ -163,6 +167,17 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
     public void bind(CamelContext camelContext, String recordStr, Map<String, Object> model, int line) throws Exception {
 
+        Format<?>[] formats = acquireFormats();
+        try {
+            bind(camelContext, recordStr, model, line, formats);
+        } finally {
+            releaseFormats(formats);
+        }
+    }
+
+    private void bind(CamelContext camelContext, String recordStr, Map<String, Object> model, int line, Format<?>[] formats)
+            throws Exception {
+
         int pos = 1;
         int counterMandatoryFields = 0;
         DataField dataField;
@@ -175,23 +190,18 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
         final UnicodeHelper record = new UnicodeHelper(
                 recordStr, (this.countGrapheme) ? UnicodeHelper.Method.GRAPHEME : UnicodeHelper.Method.CODEPOINTS);
 
-        // Iterate through the list of positions
+        // Iterate through the bindings of the positions
         // defined in the @DataField
         // and grab the data from the line
-        Collection<DataField> c = dataFields.values();
-        Iterator<DataField> itr = c.iterator();
-
-        // this iterator is for a link list that was built using items in order
-        while (itr.hasNext()) {
-            dataField = itr.next();
+        for (BindyFieldBinding binding : bindings) {
+            dataField = binding.getDataField();
             length = dataField.length();
             delimiter = dataField.delimiter();
 
             if (length == 0 && dataField.lengthPos() != 0) {
-                Field lengthField = annotatedFields.get(dataField.lengthPos());
-                lengthField.setAccessible(true);
-                Object modelObj = model.get(lengthField.getDeclaringClass().getName());
-                Object lengthObj = lengthField.get(modelObj);
+                BindyFieldBinding lengthBinding = bindingsByPos.get(dataField.lengthPos());
+                Object modelObj = lengthBinding.getModelObject(model);
+                Object lengthObj = lengthBinding.get(modelObj);
                 length = ((Integer) lengthObj).intValue();
             }
             if (length < 1 && delimiter == null && dataField.lengthPos() == 0) {
@@ -254,22 +264,17 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             // Get Field to be set
-            field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
+            field = binding.getField();
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
             }
 
-            // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            // Get the format object to format the field
+            Format<?> format = binding.getFormat(formats, formatFactory, getLocale());
 
             // field object to be set
-            Object modelField = model.get(field.getDeclaringClass().getName());
+            Object modelField = binding.getModelObject(model);
 
             // format the data received
             Object value = null;
@@ -291,33 +296,9 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                 value = getDefaultValueForPrimitive(field.getType());
             }
 
-            if (value != null && !dataField.method().isEmpty()) {
-                Class<?> clazz;
-                if (dataField.method().contains(".")) {
-                    clazz = camelContext.getClassResolver()
-                            .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-                } else {
-                    clazz = field.getType();
-                }
+            value = binding.invokeMethod(camelContext, value);
 
-                String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                        dataField.method().length());
-
-                Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-                if (m != null) {
-                    // this method must be static and return type
-                    // must be the same as the datafield and 
-                    // must receive only the datafield value 
-                    // as the method argument
-                    value = ObjectHelper.invokeMethod(m, null, value);
-                } else {
-                    // fallback to method without parameter, that is on the value itself
-                    m = ReflectionHelper.findMethod(clazz, methodName);
-                    value = ObjectHelper.invokeMethod(m, value);
-                }
-            }
-
-            field.set(modelField, value);
+            binding.set(modelField, value);
 
             ++pos;
 
@@ -358,23 +339,23 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
     }
 
     private String rightTrim(String token, char myPaddingChar) {
-        StringBuilder sb = new StringBuilder(token);
+        int end = token.length();
 
-        while (sb.length() > 0 && myPaddingChar == sb.charAt(sb.length() - 1)) {
-            sb.deleteCharAt(sb.length() - 1);
+        while (end > 0 && myPaddingChar == token.charAt(end - 1)) {
+            end--;
         }
 
-        return sb.toString();
+        return token.substring(0, end);
     }
 
     private String leftTrim(String token, char myPaddingChar) {
-        StringBuilder sb = new StringBuilder(token);
+        int start = 0;
 
-        while (sb.length() > 0 && myPaddingChar == (sb.charAt(0))) {
-            sb.deleteCharAt(0);
+        while (start < token.length() && myPaddingChar == token.charAt(start)) {
+            start++;
         }
 
-        return sb.toString();
+        return token.substring(start);
     }
 
     @Override
@@ -383,24 +364,29 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
         StringBuilder buffer = new StringBuilder();
         Map<Integer, List<String>> results = new HashMap<>();
 
-        for (Class<?> clazz : models) {
+        Format<?>[] formats = acquireFormats();
+        try {
+            for (Class<?> clazz : models) {
 
-            if (model.containsKey(clazz.getName())) {
+                if (model.containsKey(clazz.getName())) {
 
-                Object obj = model.get(clazz.getName());
+                    Object obj = model.get(clazz.getName());
 
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Model object: {}, class: {}", obj, obj.getClass().getName());
-                }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Model object: {}, class: {}", obj, obj.getClass().getName());
+                    }
 
-                if (obj != null) {
+                    if (obj != null) {
 
-                    // Generate Fixed Length table
-                    // containing the positions of the fields
-                    generateFixedLengthPositionMap(clazz, obj, results);
+                        // Generate Fixed Length table
+                        // containing the positions of the fields
+                        generateFixedLengthPositionMap(clazz, obj, results, formats);
 
+                    }
                 }
             }
+        } finally {
+            releaseFormats(formats);
         }
 
         // Convert Map<Integer, List> into List<List>
@@ -422,7 +408,8 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
      * Generate a table containing the data formatted and sorted with their position/offset The result is placed in the
      * Map<Integer, List> results
      */
-    private void generateFixedLengthPositionMap(Class<?> clazz, Object obj, Map<Integer, List<String>> results)
+    private void generateFixedLengthPositionMap(
+            Class<?> clazz, Object obj, Map<Integer, List<String>> results, Format<?>[] formats)
             throws Exception {
 
         String result = "";
@@ -437,12 +424,18 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
                 if (obj != null) {
 
-                    // Create format
-                    FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
-                            field.getType(),
-                            field.getAnnotation(BindyConverter.class),
-                            getLocale());
-                    Format<?> format = formatFactory.getFormat(formattingOptions);
+                    // Get the format, which is only reused for the fields bound by position
+                    Format<?> format;
+                    BindyFieldBinding binding = bindingsByPos.get(datafield.pos());
+                    if (binding != null && binding.getField().equals(field)) {
+                        format = binding.getFormat(formats, formatFactory, getLocale());
+                    } else {
+                        FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
+                                field.getType(),
+                                field.getAnnotation(BindyConverter.class),
+                                getLocale());
+                        format = formatFactory.getFormat(formattingOptions);
+                    }
 
                     // Get field value
                     Object value = field.get(obj);
@@ -54,6 +54,7 @@ import org.slf4j.LoggerFactory;
 @Dataformat("bindyCsv")
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final Pattern TRAILING_WHITESPACES = Pattern.compile("[ \\n\\x0B\\f\\r]+$");
 
     public BindyCsvDataFormat() {
     }
@@ -204,6 +205,8 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private Consumer<String> consumeFile(
             BindyCsvFactory factory, List<Map<String, Object>> models,
             String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+        // compile the separator only once
+        Pattern pattern = Pattern.compile(separator);
         return line -> {
             try {
                 // Trim the line coming in to remove any trailing whitespace
@@ -212,7 +215,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
                 if (separator.equals("\t")) {
                     // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                    trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
+                    trimmedLine = TRAILING_WHITESPACES.matcher(line).replaceAll("");
                 } else {
                     trimmedLine = line.trim();
                 }
@@ -226,7 +229,6 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
                 // Split the CSV record according to the separator defined in
                 // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
                 Matcher matcher = pattern.matcher(trimmedLine);
                 List<String> separators = new ArrayList<>();
 
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unmarshals with the same data format from several threads, as the formats of the fields are reused between records.
+ */
+public class BindyCsvConcurrentUnmarshallTest extends CamelTestSupport {
+
+    private static final int THREADS = 8;
+    private static final int RECORDS = 500;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConcurrentUnmarshal() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<Order>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(
+                        () -> (List<Order>) template.requestBody("direct:start", createCsv(thread), List.class)));
+            }
+
+            for (int t = 0; t < THREADS; t++) {
+                List<Order> orders = futures.get(t).get();
+                assertEquals(RECORDS, orders.size());
+                for (int i = 0; i < RECORDS; i++) {
+                    Order order = orders.get(i);
+                    assertEquals(i, order.getOrderNr());
+                    assertEquals(new BigDecimal(t + "." + i % 10 + "0"), order.getAmount());
+                    assertEquals("Joe", order.getFirstName());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String createCsv(int thread) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            sb.append(i).append(",A").append(i).append(",,Cartier,ISIN,BE12345678,SELL,,")
+                    .append(thread).append('.').append(i % 10).append(",EUR,08-01-2009\r\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").unmarshal(new BindyCsvDataFormat(Order.class));
+            }
+        };
+    }
+}
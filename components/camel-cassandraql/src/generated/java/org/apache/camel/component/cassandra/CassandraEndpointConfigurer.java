@@ -27,6 +27,10 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "backoffIdleThreshold": target.setBackoffIdleThreshold(property(camelContext, int.class, value)); return true;
         case "backoffmultiplier":
         case "backoffMultiplier": target.setBackoffMultiplier(property(camelContext, int.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
+        case "batchtimeout":
+        case "batchTimeout": target.setBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "clustername":
@@ -52,6 +56,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
         case "preparestatements":
         case "prepareStatements": target.setPrepareStatements(property(camelContext, boolean.class, value)); return true;
+        case "preparedstatementcachesize":
+        case "preparedStatementCacheSize": target.setPreparedStatementCacheSize(property(camelContext, int.class, value)); return true;
         case "repeatcount":
         case "repeatCount": target.setRepeatCount(property(camelContext, long.class, value)); return true;
         case "resultsetconversionstrategy":
@@ -86,6 +92,10 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "backoffIdleThreshold": return int.class;
         case "backoffmultiplier":
         case "backoffMultiplier": return int.class;
+        case "batchsize":
+        case "batchSize": return int.class;
+        case "batchtimeout":
+        case "batchTimeout": return long.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "clustername":
@@ -111,6 +121,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
         case "preparestatements":
         case "prepareStatements": return boolean.class;
+        case "preparedstatementcachesize":
+        case "preparedStatementCacheSize": return int.class;
         case "repeatcount":
         case "repeatCount": return long.class;
         case "resultsetconversionstrategy":
@@ -146,6 +158,10 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "backoffIdleThreshold": return target.getBackoffIdleThreshold();
         case "backoffmultiplier":
         case "backoffMultiplier": return target.getBackoffMultiplier();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
+        case "batchtimeout":
+        case "batchTimeout": return target.getBatchTimeout();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "clustername":
@@ -171,6 +187,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "pollStrategy": return target.getPollStrategy();
         case "preparestatements":
         case "prepareStatements": return target.isPrepareStatements();
+        case "preparedstatementcachesize":
+        case "preparedStatementCacheSize": return target.getPreparedStatementCacheSize();
         case "repeatcount":
         case "repeatCount": return target.getRepeatCount();
         case "resultsetconversionstrategy":
@@ -21,10 +21,12 @@ public class CassandraEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(34);
+        Set<String> props = new HashSet<>(37);
         props.add("backoffErrorThreshold");
         props.add("backoffIdleThreshold");
         props.add("backoffMultiplier");
+        props.add("batchSize");
+        props.add("batchTimeout");
         props.add("beanRef");
         props.add("bridgeErrorHandler");
         props.add("clusterName");
@@ -44,6 +46,7 @@ public class CassandraEndpointUriFactory extends org.apache.camel.support.compon
         props.add("pollStrategy");
         props.add("port");
         props.add("prepareStatements");
+        props.add("preparedStatementCacheSize");
         props.add("repeatCount");
         props.add("resultSetConversionStrategy");
         props.add("runLoggingLevel");
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Helpers to read the pages of an {@link AsyncResultSet} without blocking.
+ */
+final class AsyncResultSets {
+
+    private AsyncResultSets() {
+    }
+
+    /**
+     * Collects at most maxRows rows, fetching the next pages as needed.
+     */
+    static CompletionStage<List<Row>> fetchRows(AsyncResultSet resultSet, int maxRows) {
+        return fetchRows(resultSet, new ArrayList<>(Math.min(maxRows, resultSet.remaining())), maxRows);
+    }
+
+    private static CompletionStage<List<Row>> fetchRows(AsyncResultSet page, List<Row> rows, int maxRows) {
+        for (Row row : page.currentPage()) {
+            if (rows.size() >= maxRows) {
+                return CompletableFuture.completedFuture(rows);
+            }
+            rows.add(row);
+        }
+        if (rows.size() >= maxRows || !page.hasMorePages()) {
+            return CompletableFuture.completedFuture(rows);
+        }
+        return page.fetchNextPage().thenCompose(next -> fetchRows(next, rows, maxRows));
+    }
+
+    /**
+     * Fetches all the pages, and returns them as a {@link ResultSet} which does not need to fetch anything more.
+     */
+    static CompletionStage<ResultSet> fetchAll(AsyncResultSet resultSet) {
+        return fetchPages(resultSet, new ArrayList<>()).thenApply(FetchedResultSet::new);
+    }
+
+    private static CompletionStage<List<AsyncResultSet>> fetchPages(AsyncResultSet page, List<AsyncResultSet> pages) {
+        pages.add(page);
+        if (!page.hasMorePages()) {
+            return CompletableFuture.completedFuture(pages);
+        }
+        return page.fetchNextPage().thenCompose(next -> fetchPages(next, pages));
+    }
+
+    private static final class FetchedResultSet implements ResultSet {
+        private final List<AsyncResultSet> pages;
+        private final Iterator<Row> rows;
+        private int remaining;
+
+        FetchedResultSet(List<AsyncResultSet> pages) {
+            this.pages = pages;
+            List<Row> all = new ArrayList<>();
+            for (AsyncResultSet page : pages) {
+                page.currentPage().forEach(all::add);
+            }
+            this.rows = all.iterator();
+            this.remaining = all.size();
+        }
+
+        @Override
+        public ColumnDefinitions getColumnDefinitions() {
+            return pages.get(0).getColumnDefinitions();
+        }
+
+        @Override
+        public List<ExecutionInfo> getExecutionInfos() {
+            List<ExecutionInfo> infos = new ArrayList<>(pages.size());
+            for (AsyncResultSet page : pages) {
+                infos.add(page.getExecutionInfo());
+            }
+            return Collections.unmodifiableList(infos);
+        }
+
+        @Override
+        public boolean isFullyFetched() {
+            return true;
+        }
+
+        @Override
+        public int getAvailableWithoutFetching() {
+            return remaining;
+        }
+
+        @Override
+        public boolean wasApplied() {
+            return pages.get(0).wasApplied();
+        }
+
+        @Override
+        public Iterator<Row> iterator() {
+            return new Iterator<Row>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public Row next() {
+                    Row row = rows.next();
+                    remaining--;
+                    return row;
+                }
+            };
+        }
+    }
+}
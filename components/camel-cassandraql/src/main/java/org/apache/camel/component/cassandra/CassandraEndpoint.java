@@ -17,6 +17,7 @@
 package org.apache.camel.component.cassandra;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.CompletionStage;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -24,6 +25,7 @@ import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -78,6 +80,12 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     private String loadBalancingPolicyClass;
     @UriParam
     private ResultSetConversionStrategy resultSetConversionStrategy = ResultSetConversionStrategies.all();
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private int preparedStatementCacheSize = 100;
+    @UriParam(label = "producer,advanced")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100", javaType = "java.time.Duration")
+    private long batchTimeout = 100;
 
     public CassandraEndpoint(String endpointUri, Component component) {
         super(endpointUri, component);
@@ -171,6 +179,15 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
         return getSessionHolder().getSession().prepare(statement);
     }
 
+    /**
+     * Create and configure a Prepared CQL statement, without blocking
+     */
+    protected CompletionStage<PreparedStatement> prepareStatementAsync(String cql) {
+        SimpleStatement statement = SimpleStatement.builder(cql)
+                .setConsistencyLevel(consistencyLevel).build();
+        return getSessionHolder().getSession().prepareAsync(statement);
+    }
+
     /**
      * Create and configure a Prepared CQL statement
      */
@@ -185,6 +202,13 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
         message.setBody(resultSetConversionStrategy.getBody(resultSet));
     }
 
+    /**
+     * Copy the result of an asynchronous execution into Message.
+     */
+    protected CompletionStage<Void> fillMessage(AsyncResultSet resultSet, Message message) {
+        return resultSetConversionStrategy.getBodyAsync(resultSet).thenAccept(message::setBody);
+    }
+
     public String getBean() {
         return beanRef;
     }
@@ -344,6 +368,42 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
         this.prepareStatements = prepareStatements;
     }
 
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    /**
+     * The maximum number of prepared statements to cache, for the CQL queries given by the message header with key
+     * CamelCqlQuery. Set to 0 to prepare the query for every message.
+     */
+    public void setPreparedStatementCacheSize(int preparedStatementCacheSize) {
+        this.preparedStatementCacheSize = preparedStatementCacheSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of statements to group into an unlogged batch. When set, the prepared statements of InOnly
+     * exchanges are grouped by their table and partition key, and each group is executed as an unlogged batch once it
+     * is full, or once batchTimeout has elapsed. The exchanges are completed when their batch has been executed.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time (in millis) a statement waits for its batch to fill up, before the batch is executed.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     /**
      * To use a specific LoadBalancingPolicyClass
      */
@@ -17,14 +17,24 @@
 package org.apache.camel.component.cassandra;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceHelper;
 
 import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
 
@@ -38,10 +48,13 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
  * <dd>List of all Rows
  * <dd>
  * <dl>
+ * The statements are executed asynchronously, and the exchange is continued when the driver completes the execution.
  */
-public class CassandraProducer extends DefaultProducer {
+public class CassandraProducer extends DefaultAsyncProducer {
 
     private PreparedStatement preparedStatement;
+    private Map<String, PreparedStatement> preparedStatements;
+    private CassandraStatementBatcher batcher;
 
     public CassandraProducer(CassandraEndpoint endpoint) {
         super(endpoint);
@@ -53,11 +66,22 @@ public class CassandraProducer extends DefaultProducer {
         if (isPrepareStatements() && getEndpoint().getCql() != null) {
             this.preparedStatement = getEndpoint().prepareStatement();
         }
+        if (isPrepareStatements() && getEndpoint().getPreparedStatementCacheSize() > 0) {
+            this.preparedStatements
+                    = Collections.synchronizedMap(LRUCacheFactory.newLRUCache(getEndpoint().getPreparedStatementCacheSize()));
+        }
+        if (isPrepareStatements() && getEndpoint().getBatchSize() > 0) {
+            this.batcher = new CassandraStatementBatcher(this, getEndpoint().getBatchSize(), getEndpoint().getBatchTimeout());
+            ServiceHelper.startService(batcher);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+        this.batcher = null;
         this.preparedStatement = null;
+        this.preparedStatements = null;
         super.doStop();
     }
 
@@ -88,9 +112,9 @@ public class CassandraProducer extends DefaultProducer {
     }
 
     /**
-     * Execute CQL query using incoming message body has statement parameters.
+     * Create the statement to execute using incoming message body has statement parameters.
      */
-    private ResultSet execute(Message message) {
+    private CompletionStage<Statement<?>> createStatement(Message message) {
         Object messageCql = message.getHeader(CassandraConstants.CQL_QUERY);
         // Convert Empty string to null
         if (messageCql instanceof String && ((String) messageCql).isEmpty()) {
@@ -98,47 +122,55 @@ public class CassandraProducer extends DefaultProducer {
         }
         Object[] cqlParams = getCqlParams(message);
 
-        ResultSet resultSet;
-        CqlSession session = getEndpoint().getSessionHolder().getSession();
         if (isPrepareStatements()) {
-            resultSet = executePreparedStatement(session, messageCql, cqlParams);
+            return createPreparedStatement(messageCql, cqlParams);
         } else {
-            resultSet = executeStatement(session, messageCql, cqlParams);
+            return CompletableFuture.completedFuture(createStatement(messageCql, cqlParams));
         }
-        return resultSet;
     }
 
     /**
-     * Execute CQL as PreparedStatement
+     * Create the statement as PreparedStatement
      */
-    private ResultSet executePreparedStatement(CqlSession session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
-        PreparedStatement lPreparedStatement;
+    private CompletionStage<Statement<?>> createPreparedStatement(Object messageCql, Object[] cqlParams) {
+        CompletionStage<PreparedStatement> lPreparedStatement;
         if (messageCql == null) {
             // URI CQL
-            lPreparedStatement = this.preparedStatement;
+            lPreparedStatement = CompletableFuture.completedFuture(this.preparedStatement);
         } else if (messageCql instanceof String) {
             // Message CQL
-            lPreparedStatement = getEndpoint().prepareStatement((String) messageCql);
+            lPreparedStatement = prepareStatement((String) messageCql);
         } else if (messageCql instanceof SimpleStatement) {
             // Message Statement
-            lPreparedStatement = getEndpoint().getSession().prepare((SimpleStatement) messageCql);
+            lPreparedStatement = getEndpoint().getSession().prepareAsync((SimpleStatement) messageCql);
         } else {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
-        if (isEmpty(cqlParams)) {
-            resultSet = session.execute(lPreparedStatement.bind());
-        } else {
-            resultSet = session.execute(lPreparedStatement.bind(cqlParams));
+        return lPreparedStatement.thenApply(prepared -> isEmpty(cqlParams) ? prepared.bind() : prepared.bind(cqlParams));
+    }
+
+    /**
+     * Prepares the CQL of the message header, or gets it from the cache of prepared statements
+     */
+    private CompletionStage<PreparedStatement> prepareStatement(String cql) {
+        Map<String, PreparedStatement> cache = this.preparedStatements;
+        if (cache == null) {
+            return getEndpoint().prepareStatementAsync(cql);
         }
-        return resultSet;
+        PreparedStatement cached = cache.get(cql);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return getEndpoint().prepareStatementAsync(cql).thenApply(prepared -> {
+            cache.put(cql, prepared);
+            return prepared;
+        });
     }
 
     /**
-     * Execute CQL as is
+     * Create the statement with CQL as is
      */
-    private ResultSet executeStatement(CqlSession session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet = null;
+    private Statement<?> createStatement(Object messageCql, Object[] cqlParams) {
         String cql = null;
         SimpleStatement statement = null;
         if (messageCql == null) {
@@ -154,23 +186,70 @@ public class CassandraProducer extends DefaultProducer {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
         if (statement != null) {
-            resultSet = session.execute(statement);
+            return statement;
         } else if (isEmpty(cqlParams)) {
-            resultSet = session.execute(cql);
+            return SimpleStatement.newInstance(cql);
         } else {
-            resultSet = session.execute(
-                    SimpleStatement.builder(cql).addPositionalValues(cqlParams).build());
+            return SimpleStatement.builder(cql).addPositionalValues(cqlParams).build();
         }
-        return resultSet;
     }
 
     @Override
-    public void process(Exchange exchange) throws Exception {
-        // copy the header of in message to the out message
-        exchange.getMessage().copyFrom(exchange.getIn());
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            // copy the header of in message to the out message
+            exchange.getMessage().copyFrom(exchange.getIn());
+
+            createStatement(exchange.getIn()).whenComplete((statement, error) -> {
+                if (error != null) {
+                    exchange.setException(unwrap(error));
+                    callback.done(false);
+                } else {
+                    try {
+                        if (batcher == null || exchange.getPattern().isOutCapable()
+                                || !(statement instanceof BoundStatement)
+                                || !batcher.add((BoundStatement) statement, exchange, callback)) {
+                            execute(statement, exchange, callback);
+                        }
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                        callback.done(false);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    private void execute(Statement<?> statement, Exchange exchange, AsyncCallback callback) {
+        CompletionStage<AsyncResultSet> future;
+        try {
+            CqlSession session = getEndpoint().getSessionHolder().getSession();
+            future = session.executeAsync(statement);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(false);
+            return;
+        }
+        future
+                .thenCompose(resultSet -> getEndpoint().fillMessage(resultSet, exchange.getMessage()))
+                .whenComplete((result, error) -> {
+                    try {
+                        if (error != null) {
+                            exchange.setException(unwrap(error));
+                        }
+                    } finally {
+                        callback.done(false);
+                    }
+                });
+    }
 
-        ResultSet resultSet = execute(exchange.getIn());
-        getEndpoint().fillMessage(resultSet, exchange.getMessage());
+    static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
 }
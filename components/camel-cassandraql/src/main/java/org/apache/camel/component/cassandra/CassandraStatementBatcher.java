@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Pattern;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.Batcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups bound statements by their table and partition key into unlogged batches, which are executed when they are
+ * full, or when the batch timeout has elapsed. The exchanges are completed once their batch has been executed.
+ * <p/>
+ * Only INSERT, UPDATE and DELETE statements are batched. Other statements, and conditional statements (with IF), which
+ * would make the whole batch conditional, are executed on their own.
+ */
+class CassandraStatementBatcher extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CassandraStatementBatcher.class);
+    private static final Pattern CONDITIONAL = Pattern.compile("\\sIF\\s");
+
+    private final CassandraProducer producer;
+    private final Batcher<List<Object>, Entry> batcher;
+
+    CassandraStatementBatcher(CassandraProducer producer, int batchSize, long batchTimeout) {
+        this.producer = producer;
+        this.batcher = new Batcher<>(
+                producer.getEndpoint().getCamelContext(), "CassandraBatch", batchSize, batchTimeout,
+                (key, entries) -> execute(entries));
+    }
+
+    /**
+     * Adds the statement to the batch of its table and partition
+     *
+     * @return false if the statement cannot be batched or has no partition key, and was not added
+     */
+    boolean add(BoundStatement statement, Exchange exchange, AsyncCallback callback) {
+        if (!isBatchable(statement)) {
+            return false;
+        }
+        ByteBuffer routingKey = statement.getRoutingKey();
+        ColumnDefinitions variables = statement.getPreparedStatement().getVariableDefinitions();
+        if (routingKey == null || variables.size() == 0) {
+            return false;
+        }
+
+        // the same partition key may be used by several tables, which are different partitions
+        ColumnDefinition variable = variables.get(0);
+        batcher.add(List.of(variable.getKeyspace(), variable.getTable(), routingKey), new Entry(statement, exchange, callback));
+        return true;
+    }
+
+    /**
+     * Whether the statement is an INSERT, UPDATE or DELETE statement which is not conditional
+     */
+    static boolean isBatchable(BoundStatement statement) {
+        String query = statement.getPreparedStatement().getQuery().trim().toUpperCase(Locale.ENGLISH);
+        if (!query.startsWith("INSERT") && !query.startsWith("UPDATE") && !query.startsWith("DELETE")) {
+            return false;
+        }
+        // a conditional statement makes the whole batch conditional
+        return !CONDITIONAL.matcher(query).find();
+    }
+
+    private void execute(List<Entry> entries) {
+        LOG.trace("Executing batch of {} statements", entries.size());
+        List<BatchableStatement<?>> statements = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            statements.add(entry.statement);
+        }
+        CompletionStage<Object> future;
+        try {
+            BatchStatement statement = BatchStatement.newInstance(BatchType.UNLOGGED, statements)
+                    .setConsistencyLevel(producer.getEndpoint().getConsistencyLevel());
+            future = producer.getEndpoint().getSessionHolder().getSession().executeAsync(statement)
+                    .thenCompose(resultSet -> producer.getEndpoint().getResultSetConversionStrategy().getBodyAsync(resultSet));
+        } catch (Exception e) {
+            complete(entries, null, e);
+            return;
+        }
+        future.whenComplete((body, error) -> complete(entries, body, error));
+    }
+
+    private static void complete(List<Entry> entries, Object body, Throwable error) {
+        for (Entry entry : entries) {
+            try {
+                if (error != null) {
+                    entry.exchange.setException(CassandraProducer.unwrap(error));
+                } else {
+                    entry.exchange.getMessage().setBody(body);
+                }
+            } finally {
+                entry.callback.done(false);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+    }
+
+    private static final class Entry {
+        private final BoundStatement statement;
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        Entry(BoundStatement statement, Exchange exchange, AsyncCallback callback) {
+            this.statement = statement;
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
@@ -19,9 +19,11 @@ package org.apache.camel.component.cassandra;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 
@@ -37,6 +39,11 @@ public final class ResultSetConversionStrategies {
         public Object getBody(ResultSet resultSet) {
             return resultSet.all();
         }
+
+        @Override
+        public CompletionStage<Object> getBodyAsync(AsyncResultSet resultSet) {
+            return AsyncResultSets.fetchRows(resultSet, Integer.MAX_VALUE).thenApply(rows -> rows);
+        }
     };
 
     private static final ResultSetConversionStrategy ONE = new ResultSetConversionStrategy() {
@@ -44,6 +51,11 @@ public final class ResultSetConversionStrategies {
         public Object getBody(ResultSet resultSet) {
             return resultSet.one();
         }
+
+        @Override
+        public CompletionStage<Object> getBodyAsync(AsyncResultSet resultSet) {
+            return AsyncResultSets.fetchRows(resultSet, 1).thenApply(rows -> rows.isEmpty() ? null : rows.get(0));
+        }
     };
 
     private ResultSetConversionStrategies() {
@@ -81,6 +93,11 @@ public final class ResultSetConversionStrategies {
             }
             return rows;
         }
+
+        @Override
+        public CompletionStage<Object> getBodyAsync(AsyncResultSet resultSet) {
+            return AsyncResultSets.fetchRows(resultSet, rowMax).thenApply(rows -> rows);
+        }
     }
 
     /**
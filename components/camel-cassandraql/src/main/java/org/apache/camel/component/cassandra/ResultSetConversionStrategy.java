@@ -16,6 +16,9 @@
  */
 package org.apache.camel.component.cassandra;
 
+import java.util.concurrent.CompletionStage;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 
 /**
@@ -23,4 +26,13 @@ import com.datastax.oss.driver.api.core.cql.ResultSet;
  */
 public interface ResultSetConversionStrategy {
     Object getBody(ResultSet resultSet);
+
+    /**
+     * Converts the result of an asynchronous execution into message body. The default implementation fetches all the
+     * pages of the result before calling {@link #getBody(ResultSet)}, as the driver does not allow fetching pages
+     * synchronously from its own threads.
+     */
+    default CompletionStage<Object> getBodyAsync(AsyncResultSet resultSet) {
+        return AsyncResultSets.fetchAll(resultSet).thenApply(this::getBody);
+    }
 }
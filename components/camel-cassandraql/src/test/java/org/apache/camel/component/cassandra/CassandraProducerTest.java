@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for the asynchronous execution, the prepared statement cache and the batching of {@link CassandraProducer}
+ * against a mocked session
+ */
+public class CassandraProducerTest extends CamelTestSupport {
+
+    static final String CQL = "insert into camel_user(login, first_name, last_name) values (?, ?, ?)";
+
+    // the table of an insert, update or delete statement
+    private static final Pattern TABLE = Pattern.compile("(?i)(?:into|update|from)\\s+(\\w+)");
+
+    @BindToRegistry("session")
+    private final CqlSession session = mock(CqlSession.class);
+
+    private final List<Statement<?>> executed = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean failBatch;
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        when(resultSet.currentPage()).thenReturn(Collections.emptyList());
+
+        when(session.getKeyspace()).thenReturn(Optional.empty());
+        when(session.prepare(any(SimpleStatement.class)))
+                .thenAnswer(invocation -> prepare(invocation.getArgument(0)));
+        when(session.prepareAsync(any(SimpleStatement.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(prepare(invocation.getArgument(0))));
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            Statement<?> statement = invocation.getArgument(0);
+            if (failBatch && statement instanceof BatchStatement) {
+                throw new IllegalStateException("Session is closed");
+            }
+            executed.add(statement);
+            return CompletableFuture.completedFuture(resultSet);
+        });
+    }
+
+    private static PreparedStatement prepare(SimpleStatement statement) {
+        Matcher matcher = TABLE.matcher(statement.getQuery());
+        ColumnDefinition variable = mock(ColumnDefinition.class);
+        when(variable.getKeyspace()).thenReturn(CqlIdentifier.fromCql("camel_ks"));
+        when(variable.getTable()).thenReturn(CqlIdentifier.fromCql(matcher.find() ? matcher.group(1) : "unknown"));
+        ColumnDefinitions variables = mock(ColumnDefinitions.class);
+        when(variables.size()).thenReturn(1);
+        when(variables.get(0)).thenReturn(variable);
+
+        return mock(PreparedStatement.class, invocation -> {
+            String name = invocation.getMethod().getName();
+            if ("getQuery".equals(name)) {
+                return statement.getQuery();
+            } else if ("getVariableDefinitions".equals(name)) {
+                return variables;
+            } else if ("bind".equals(name)) {
+                Object[] values = invocation.getArguments();
+                BoundStatement bound = mock(BoundStatement.class);
+                when(bound.getPreparedStatement()).thenReturn((PreparedStatement) invocation.getMock());
+                // the first value is the partition key
+                when(bound.getRoutingKey()).thenReturn(
+                        ByteBuffer.wrap(String.valueOf(values[0]).getBytes(StandardCharsets.UTF_8)));
+                return bound;
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testPreparedStatementCache() {
+        for (int i = 0; i < 3; i++) {
+            Object body = template.requestBodyAndHeader("direct:noCql", new Object[] { "login" + i, "first", "last" },
+                    CassandraConstants.CQL_QUERY, CQL);
+            assertEquals(Collections.emptyList(), body);
+        }
+
+        verify(session, times(1)).prepareAsync(any(SimpleStatement.class));
+        assertEquals(3, executed.size());
+    }
+
+    @Test
+    public void testBatchByPartitionKey() throws Exception {
+        List<Future<Object>> futures = new ArrayList<>();
+        for (String login : new String[] { "a", "b", "a", "b" }) {
+            futures.add(template.asyncSendBody("direct:batch", new Object[] { login, "first", "last" }));
+        }
+        for (Future<Object> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, executed.size());
+        for (Statement<?> statement : executed) {
+            BatchStatement batch = assertInstanceOf(BatchStatement.class, statement);
+            assertEquals(BatchType.UNLOGGED, batch.getBatchType());
+            assertEquals(2, batch.size());
+            List<ByteBuffer> keys = new ArrayList<>();
+            batch.forEach(s -> keys.add(s.getRoutingKey()));
+            assertEquals(keys.get(0), keys.get(1));
+        }
+    }
+
+    @Test
+    public void testBatchByTable() throws Exception {
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (String table : new String[] { "camel_user", "camel_login", "camel_user", "camel_login" }) {
+            futures.add(template.asyncSend("direct:batch", exchange -> {
+                exchange.getIn().setBody(new Object[] { "a", "first", "last" });
+                exchange.getIn().setHeader(CassandraConstants.CQL_QUERY, CQL.replace("camel_user", table));
+            }));
+        }
+        for (Future<Exchange> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // the same partition key of different tables is not batched together
+        assertEquals(2, executed.size());
+        for (Statement<?> statement : executed) {
+            BatchStatement batch = assertInstanceOf(BatchStatement.class, statement);
+            assertEquals(2, batch.size());
+            List<String> queries = new ArrayList<>();
+            batch.forEach(s -> queries.add(((BoundStatement) s).getPreparedStatement().getQuery()));
+            assertEquals(queries.get(0), queries.get(1));
+        }
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        template.asyncSendBody("direct:batch", new Object[] { "a", "first", "last" }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, executed.size());
+        assertEquals(1, ((BatchStatement) executed.get(0)).size());
+    }
+
+    @Test
+    public void testInOutIsNotBatched() {
+        template.requestBody("direct:batch", new Object[] { "a", "first", "last" });
+
+        assertEquals(1, executed.size());
+        assertTrue(executed.get(0) instanceof BoundStatement);
+        assertFalse(executed.get(0) instanceof BatchStatement);
+    }
+
+    @Test
+    public void testOnlyWritesAreBatched() throws Exception {
+        String[] queries = {
+                "select * from camel_user where login = ?",
+                "insert into camel_user(login) values (?) if not exists",
+                "update camel_user set first_name = 'first' where login = ? IF EXISTS" };
+        for (String query : queries) {
+            template.asyncSend("direct:batch", exchange -> {
+                exchange.getIn().setBody(new Object[] { "a" });
+                exchange.getIn().setHeader(CassandraConstants.CQL_QUERY, query);
+            }).get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(3, executed.size());
+        for (Statement<?> statement : executed) {
+            assertFalse(statement instanceof BatchStatement);
+        }
+    }
+
+    @Test
+    public void testBatchExecuteFailure() throws Exception {
+        failBatch = true;
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            futures.add(template.asyncSend("direct:batch",
+                    exchange -> exchange.getIn().setBody(new Object[] { "a", "first", "last" })));
+        }
+        for (Future<Exchange> future : futures) {
+            Exchange exchange = future.get(5, TimeUnit.SECONDS);
+            assertInstanceOf(IllegalStateException.class, exchange.getException());
+        }
+        assertEquals(0, executed.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:noCql").to("cql:bean:session");
+                from("direct:batch").to("cql:bean:session?cql=" + CQL + "&batchSize=2&batchTimeout=200");
+            }
+        };
+    }
+}
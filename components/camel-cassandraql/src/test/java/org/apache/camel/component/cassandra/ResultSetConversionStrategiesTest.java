@@ -18,7 +18,9 @@ package org.apache.camel.component.cassandra;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -72,4 +76,53 @@ public class ResultSetConversionStrategiesTest {
         assertTrue(body instanceof List);
         assertEquals(10, ((List<?>) body).size());
     }
+
+    @Test
+    public void testAllAsync() throws Exception {
+        AsyncResultSet resultSet = createPages(mock(AsyncResultSet.class), 3);
+
+        Object body = ResultSetConversionStrategies.all().getBodyAsync(resultSet).toCompletableFuture().get();
+        assertEquals(30, ((List<?>) body).size());
+    }
+
+    @Test
+    public void testOneAsync() throws Exception {
+        AsyncResultSet resultSet = createPages(mock(AsyncResultSet.class), 3);
+
+        Object body = ResultSetConversionStrategies.one().getBodyAsync(resultSet).toCompletableFuture().get();
+        assertTrue(body instanceof Row);
+        verify(resultSet, never()).fetchNextPage();
+    }
+
+    @Test
+    public void testLimitAsync() throws Exception {
+        AsyncResultSet resultSet = createPages(mock(AsyncResultSet.class), 3);
+
+        Object body = ResultSetConversionStrategies.limit(15).getBodyAsync(resultSet).toCompletableFuture().get();
+        assertEquals(15, ((List<?>) body).size());
+    }
+
+    @Test
+    public void testCustomAsync() throws Exception {
+        AsyncResultSet resultSet = createPages(mock(AsyncResultSet.class), 3);
+        ResultSetConversionStrategy strategy = rs -> rs.getAvailableWithoutFetching();
+
+        Object body = strategy.getBodyAsync(resultSet).toCompletableFuture().get();
+        assertEquals(30, body);
+    }
+
+    /**
+     * Mock a result set of the given number of pages of 10 rows
+     */
+    private static AsyncResultSet createPages(AsyncResultSet page, int count) {
+        List<Row> rows = Collections.nCopies(10, mock(Row.class));
+        when(page.currentPage()).thenReturn(rows);
+        when(page.remaining()).thenReturn(rows.size());
+        when(page.hasMorePages()).thenReturn(count > 1);
+        if (count > 1) {
+            AsyncResultSet next = createPages(mock(AsyncResultSet.class), count - 1);
+            when(page.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(next));
+        }
+        return page;
+    }
 }
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.cassandra.integration;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
@@ -59,6 +62,9 @@ public class CassandraComponentProducerIT extends BaseCassandra {
     @Produce("direct:inputNoEndpointCql")
     ProducerTemplate producerTemplateNoEndpointCql;
 
+    @Produce("direct:inputBatch")
+    ProducerTemplate batchProducerTemplate;
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -73,6 +79,8 @@ public class CassandraComponentProducerIT extends BaseCassandra {
                 from("direct:inputNotConsistent")
                         .toF("cql://%s/%s?cql=%s&consistencyLevel=ANY", getUrl(), KEYSPACE_NAME, CQL);
                 from("direct:inputNoEndpointCql").toF("cql://%s/%s", getUrl(), KEYSPACE_NAME);
+                from("direct:inputBatch")
+                        .toF("cql://%s/%s?cql=%s&batchSize=2&batchTimeout=100", getUrl(), KEYSPACE_NAME, CQL);
             }
         };
     }
@@ -197,4 +205,23 @@ public class CassandraComponentProducerIT extends BaseCassandra {
 
         notConsistentProducerTemplate.requestBody(Arrays.asList("j_anstey", "Jonathan", "Anstey"));
     }
+
+    @Test
+    public void testBatchInOnly() throws Exception {
+        List<Future<Object>> futures = new ArrayList<>();
+        for (String login : new String[] { "b_one", "b_two", "b_three" }) {
+            futures.add(batchProducerTemplate.asyncSendBody(batchProducerTemplate.getDefaultEndpoint(),
+                    Arrays.asList(login, "First", "Last")));
+        }
+        for (Future<Object> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        for (String login : new String[] { "b_one", "b_two", "b_three" }) {
+            Row row = getSession()
+                    .execute("select login, first_name, last_name from camel_user where login = ?", login).one();
+            assertNotNull(row);
+            assertEquals("First", row.getString("first_name"));
+        }
+    }
 }
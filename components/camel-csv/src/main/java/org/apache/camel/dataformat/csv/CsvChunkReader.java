@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.commons.csv.CSVFormat;
+
+/**
+ * Reads CSV content in chunks of whole records, so each chunk can be parsed on its own.
+ * <p/>
+ * The records are split on line breaks (CR, LF or CRLF), except line breaks within quoted values and comment lines, which are tracked
+ * the same way as the CSV parser does.
+ */
+final class CsvChunkReader implements Closeable {
+
+    private static final int NONE = -1;
+
+    private final Reader reader;
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final int commentMarker;
+    private final boolean ignoreSurroundingSpaces;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+
+    private boolean lineStart = true;
+    private boolean tokenStart = true;
+    private boolean inQuotes;
+    private boolean quotePending;
+    private boolean escaped;
+    private boolean inComment;
+    private boolean carriageReturn;
+
+    CsvChunkReader(Reader reader, CSVFormat format) {
+        this.reader = reader;
+        this.delimiter = format.getDelimiter();
+        this.quote = format.getQuoteCharacter() != null ? format.getQuoteCharacter() : NONE;
+        this.escape = format.getEscapeCharacter() != null ? format.getEscapeCharacter() : NONE;
+        this.commentMarker = format.getCommentMarker() != null ? format.getCommentMarker() : NONE;
+        this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+    }
+
+    /**
+     * Reads the next chunk
+     *
+     * @param  records the maximum number of records in the chunk
+     * @return         the chunk, or <tt>null</tt> if there is no more content
+     */
+    String nextChunk(int records) throws IOException {
+        StringBuilder sb = null;
+        int count = 0;
+        while (count < records) {
+            if (pos >= limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                pos = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    break;
+                }
+            }
+            int start = pos;
+            while (pos < limit && count < records) {
+                char ch = buffer[pos];
+                if (carriageReturn) {
+                    carriageReturn = false;
+                    if (ch != '\n') {
+                        // a single carriage return ended the previous record
+                        if (++count >= records) {
+                            break;
+                        }
+                    }
+                }
+                pos++;
+                if (accept(ch)) {
+                    count++;
+                }
+            }
+            if (sb == null) {
+                sb = new StringBuilder(buffer.length);
+            }
+            sb.append(buffer, start, pos - start);
+        }
+        return sb != null && sb.length() > 0 ? sb.toString() : null;
+    }
+
+    /**
+     * Accepts the next character
+     *
+     * @return <tt>true</tt> if the character ends a record
+     */
+    private boolean accept(char ch) {
+        if (escaped) {
+            escaped = false;
+            return false;
+        }
+        if (inComment) {
+            if (ch == '\n' || ch == '\r') {
+                inComment = false;
+                return endOfLine(ch);
+            }
+            return false;
+        }
+        if (quotePending) {
+            quotePending = false;
+            if (ch == quote) {
+                // an escaped quote within the quoted value
+                return false;
+            }
+            inQuotes = false;
+        }
+        if (inQuotes) {
+            if (ch == quote) {
+                quotePending = true;
+            } else if (ch == escape) {
+                escaped = true;
+            }
+            return false;
+        }
+
+        boolean start = lineStart;
+        lineStart = false;
+        if (ch == '\n' || ch == '\r') {
+            return endOfLine(ch);
+        } else if (start && ch == commentMarker) {
+            inComment = true;
+        } else if (ch == delimiter) {
+            tokenStart = true;
+        } else if (tokenStart && ch == quote) {
+            inQuotes = true;
+            tokenStart = false;
+        } else if (ch == escape) {
+            escaped = true;
+            tokenStart = false;
+        } else if (!(tokenStart && ignoreSurroundingSpaces && Character.isWhitespace(ch))) {
+            tokenStart = false;
+        }
+        return false;
+    }
+
+    private boolean endOfLine(char ch) {
+        lineStart = true;
+        tokenStart = true;
+        if (ch == '\r') {
+            // wait for the next character as the record ends after the line feed of CRLF
+            carriageReturn = true;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
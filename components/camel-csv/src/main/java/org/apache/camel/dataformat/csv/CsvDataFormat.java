@@ -19,7 +19,9 @@ package org.apache.camel.dataformat.csv;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -67,11 +69,17 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
     private boolean useMaps;
     private boolean useOrderedMaps;
     private CsvRecordConverter<?> recordConverter;
+    private String columns;
+    private boolean parallelProcessing;
+    private ExecutorService executorService;
+    private int chunkSize = 1000;
 
     private CsvMarshallerFactory marshallerFactory = CsvMarshallerFactory.DEFAULT;
 
     private volatile CsvMarshaller marshaller;
     private volatile CsvUnmarshaller unmarshaller;
+    private volatile ExecutorService createdExecutorService;
+    private CamelContext camelContext;
 
     public CsvDataFormat() {
     }
@@ -104,7 +112,26 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (createdExecutorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(createdExecutorService);
+            createdExecutorService = null;
+        }
+    }
+
+    ExecutorService getOrCreateExecutorService(CamelContext context) {
+        if (executorService != null) {
+            return executorService;
+        }
+        if (createdExecutorService == null) {
+            synchronized (this) {
+                if (createdExecutorService == null) {
+                    camelContext = context;
+                    createdExecutorService = context.getExecutorServiceManager().newFixedThreadPool(this, "CsvUnmarshal",
+                            Runtime.getRuntime().availableProcessors());
+                }
+            }
+        }
+        return createdExecutorService;
     }
 
     CSVFormat getActiveFormat() {
@@ -760,6 +787,94 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Gets the columns to keep when unmarshalling.
+     *
+     * @return Comma separated column indexes or header names
+     */
+    public String getColumns() {
+        return columns;
+    }
+
+    /**
+     * Sets the columns to keep when unmarshalling, as comma separated column indexes (starting from 0) or header names.
+     * Each record only contains the values of these columns, in the given order. It is ignored if a record converter
+     * is set.
+     *
+     * @param  columns Comma separated column indexes or header names
+     * @return         Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setColumns(String columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    /**
+     * Indicates whether or not the unmarshalling should parse chunks of records in parallel.
+     *
+     * @return {@code true} for parallel unmarshalling, {@code false} otherwise
+     */
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Sets whether or not the unmarshalling should parse chunks of records in parallel. The order of the records is
+     * kept, and it can be combined with lazy loading.
+     *
+     * @param  parallelProcessing {@code true} for parallel unmarshalling, {@code false} otherwise
+     * @return                    Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+        return this;
+    }
+
+    /**
+     * Gets the thread pool to use for parallel unmarshalling.
+     *
+     * @return Thread pool to use, or {@code null} if a thread pool is created when needed
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the thread pool to use for parallel unmarshalling. If {@code null} then a thread pool with a thread per
+     * processor is created when needed.
+     *
+     * @param  executorService Thread pool to use
+     * @return                 Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Gets the number of records in each chunk when unmarshalling in parallel.
+     *
+     * @return Number of records in each chunk
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the number of records in each chunk when unmarshalling in parallel. The default is 1000.
+     *
+     * @param  chunkSize                Number of records in each chunk, must be positive
+     * @return                          Current {@code CsvDataFormat}, fluent API
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public CsvDataFormat setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, was: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
     //endregion
     /**
      * Sets whether or not to trim leading and trailing blanks.
@@ -17,6 +17,8 @@
 package org.apache.camel.dataformat.csv;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -90,4 +92,78 @@ final class CsvRecordConverters {
             return record.toMap();
         }
     }
+
+    /**
+     * Returns a converter that transforms only the given columns of the CSV record into a list or map.
+     *
+     * @param  columns    the columns to select, either as index (zero based) or header name
+     * @param  map        whether to transform into a map instead of a list
+     * @param  orderedMap whether to transform into an ordered map
+     * @return            converter that transforms the selected columns of the CSV record
+     */
+    public static CsvRecordConverter<?> columnsConverter(String[] columns, boolean map, boolean orderedMap) {
+        return new ColumnsCsvRecordConverter(columns, map, orderedMap);
+    }
+
+    private static final class ColumnsCsvRecordConverter implements CsvRecordConverter<Object> {
+        private final String[] columns;
+        private final boolean map;
+        private final boolean orderedMap;
+        // the indexes and names of the columns, which are resolved from the header of the first record
+        private volatile int[] indexes;
+        private volatile String[] names;
+
+        private ColumnsCsvRecordConverter(String[] columns, boolean map, boolean orderedMap) {
+            this.columns = columns;
+            this.map = map;
+            this.orderedMap = orderedMap;
+        }
+
+        @Override
+        public Object convertRecord(CSVRecord record) {
+            int[] idx = indexes;
+            if (idx == null) {
+                idx = resolveColumns(record);
+            }
+            if (map || orderedMap) {
+                Map<String, String> answer = orderedMap ? new LinkedHashMap<>() : new HashMap<>();
+                for (int i = 0; i < idx.length; i++) {
+                    answer.put(names[i], value(record, idx[i]));
+                }
+                return answer;
+            }
+            List<String> answer = new ArrayList<>(idx.length);
+            for (int index : idx) {
+                answer.add(value(record, index));
+            }
+            return answer;
+        }
+
+        private static String value(CSVRecord record, int index) {
+            return index >= 0 && index < record.size() ? record.get(index) : null;
+        }
+
+        private int[] resolveColumns(CSVRecord record) {
+            Map<String, Integer> headerMap = record.getParser().getHeaderMap();
+            List<String> headerNames = record.getParser().getHeaderNames();
+            int[] idx = new int[columns.length];
+            String[] resolved = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                String column = columns[i].trim();
+                Integer index = headerMap != null ? headerMap.get(column) : null;
+                if (index == null) {
+                    try {
+                        index = Integer.valueOf(column);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Column: " + column + " is not an index or a header name");
+                    }
+                }
+                idx[i] = index;
+                resolved[i] = headerNames != null && index < headerNames.size() ? headerNames.get(index) : column;
+            }
+            names = resolved;
+            indexes = idx;
+            return idx;
+        }
+    }
 }
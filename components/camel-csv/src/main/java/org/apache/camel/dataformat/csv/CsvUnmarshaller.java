@@ -21,12 +21,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.commons.csv.CSVFormat;
@@ -61,6 +69,9 @@ abstract class CsvUnmarshaller {
             format = format.withHeader();
         }
 
+        if (dataFormat.isParallelProcessing()) {
+            return new ParallelCsvUnmarshaller(format, dataFormat);
+        }
         if (dataFormat.isLazyLoad()) {
             return new StreamCsvUnmarshaller(format, dataFormat);
         }
@@ -80,6 +91,9 @@ abstract class CsvUnmarshaller {
     private static CsvRecordConverter<?> extractConverter(CsvDataFormat dataFormat) {
         if (dataFormat.getRecordConverter() != null) {
             return dataFormat.getRecordConverter();
+        } else if (dataFormat.getColumns() != null) {
+            return CsvRecordConverters.columnsConverter(dataFormat.getColumns().split(","), dataFormat.isUseMaps(),
+                    dataFormat.isUseOrderedMaps());
         } else if (dataFormat.isUseOrderedMaps()) {
             return CsvRecordConverters.orderedMapConverter();
         } else if (dataFormat.isUseMaps()) {
@@ -149,6 +163,175 @@ abstract class CsvUnmarshaller {
         }
     }
 
+    /**
+     * This class splits the CSV into chunks of records which are parsed in parallel, while keeping the order of the
+     * records. The records are returned as one big list, or streamed when lazy loading is enabled.
+     */
+    @SuppressWarnings("unchecked")
+    private static final class ParallelCsvUnmarshaller extends CsvUnmarshaller {
+
+        private ParallelCsvUnmarshaller(CSVFormat format, CsvDataFormat dataFormat) {
+            super(format, dataFormat);
+        }
+
+        @Override
+        public Object unmarshal(Exchange exchange, InputStream inputStream) throws IOException {
+            Reader reader = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
+            ParallelCsvIterator answer;
+            try {
+                answer = new ParallelCsvIterator(
+                        reader, format, converter, dataFormat.getOrCreateExecutorService(exchange.getContext()),
+                        dataFormat.getChunkSize());
+            } catch (Exception e) {
+                IOHelper.close(reader);
+                throw e;
+            }
+            if (dataFormat.isCaptureHeaderRecord()) {
+                exchange.getMessage().setHeader(CsvConstants.HEADER_RECORD, answer.getHeaderNames());
+            }
+
+            if (dataFormat.isLazyLoad()) {
+                // add to UoW so we can close the iterator so it can release any resources
+                exchange.adapt(ExtendedExchange.class).addOnCompletion(new CsvUnmarshalOnCompletion(answer));
+                return answer;
+            }
+            try {
+                List<Object> list = new ArrayList<>();
+                while (answer.hasNext()) {
+                    list.add(answer.next());
+                }
+                return list;
+            } finally {
+                IOHelper.close(answer);
+            }
+        }
+    }
+
+    /**
+     * This class parses the chunks of the CSV in parallel and returns the converted records in order. The first chunk
+     * is parsed by the calling thread to read the header record, and the number of chunks in progress is bounded.
+     *
+     * @param <T> Converted type
+     */
+    private static final class ParallelCsvIterator<T> implements Iterator<T>, Closeable {
+        private final CsvChunkReader chunkReader;
+        private final CsvRecordConverter<T> converter;
+        private final ExecutorService executorService;
+        private final int chunkSize;
+        private final int maxChunks;
+        private final Deque<Future<List<T>>> chunks = new ArrayDeque<>();
+        private final CSVFormat chunkFormat;
+        private final List<String> headerNames;
+        private Iterator<T> current;
+        private boolean done;
+
+        private ParallelCsvIterator(Reader reader, CSVFormat format, CsvRecordConverter<T> converter,
+                                    ExecutorService executorService, int chunkSize) throws IOException {
+            this.chunkReader = new CsvChunkReader(reader, format);
+            this.converter = converter;
+            this.executorService = executorService;
+            this.chunkSize = chunkSize;
+            this.maxChunks = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+            // parse the first chunk with the format as-is so the header record is handled
+            String first = chunkReader.nextChunk(chunkSize);
+            if (first != null) {
+                try (CSVParser parser = CSVParser.parse(first, format)) {
+                    this.headerNames = parser.getHeaderNames();
+                    this.current = parse(parser);
+                }
+            } else {
+                this.headerNames = Collections.emptyList();
+            }
+            // the remaining chunks have no header record
+            if (format.getHeader() != null) {
+                this.chunkFormat = format.withHeader(headerNames.toArray(new String[0])).withSkipHeaderRecord(false);
+            } else {
+                this.chunkFormat = format;
+            }
+        }
+
+        List<String> getHeaderNames() {
+            return headerNames;
+        }
+
+        private Iterator<T> parse(CSVParser parser) {
+            List<T> answer = new ArrayList<>(chunkSize);
+            for (CSVRecord record : parser) {
+                answer.add(converter.convertRecord(record));
+            }
+            return answer.iterator();
+        }
+
+        private List<T> parseChunk(String chunk) throws IOException {
+            List<T> answer = new ArrayList<>(chunkSize);
+            try (CSVParser parser = CSVParser.parse(chunk, chunkFormat)) {
+                for (CSVRecord record : parser) {
+                    answer.add(converter.convertRecord(record));
+                }
+            }
+            return answer;
+        }
+
+        private void submitChunks() throws IOException {
+            while (!done && chunks.size() < maxChunks) {
+                String chunk = chunkReader.nextChunk(chunkSize);
+                if (chunk == null) {
+                    done = true;
+                } else {
+                    chunks.add(executorService.submit(() -> parseChunk(chunk)));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (current == null || !current.hasNext()) {
+                    submitChunks();
+                    Future<List<T>> chunk = chunks.poll();
+                    if (chunk == null) {
+                        close();
+                        return false;
+                    }
+                    current = chunk.get().iterator();
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new RuntimeCamelException(e);
+            } catch (ExecutionException e) {
+                close();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeCamelException(e.getCause());
+            } catch (IOException e) {
+                close();
+                throw new RuntimeCamelException(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            Future<List<T>> chunk;
+            while ((chunk = chunks.poll()) != null) {
+                chunk.cancel(true);
+            }
+            IOHelper.close(chunkReader);
+        }
+    }
+
     /**
      * This class converts the CSV iterator into the proper result type.
      *
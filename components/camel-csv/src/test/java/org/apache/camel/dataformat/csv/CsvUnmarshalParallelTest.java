@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.dataformat.csv.TestUtils.asMap;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This class tests the parallel unmarshalling and the column projection
+ */
+public class CsvUnmarshalParallelTest extends CamelTestSupport {
+    private static final int SIZE = 1000;
+
+    @EndpointInject("mock:output")
+    MockEndpoint output;
+
+    @EndpointInject("mock:line")
+    MockEndpoint line;
+
+    @Test
+    void shouldUnmarshalInParallel() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:parallel", createCsv(SIZE, "\r\n"));
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(SIZE + 1, body.size());
+        assertEquals(Arrays.asList("id", "name", "comment"), body.get(0));
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expected(i, "\r\n"), body.get(i + 1));
+        }
+    }
+
+    @Test
+    void shouldUnmarshalInParallelWithCarriageReturns() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:parallel", createCsv(SIZE, "\r"));
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(SIZE + 1, body.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expected(i, "\r"), body.get(i + 1));
+        }
+    }
+
+    @Test
+    void shouldUnmarshalLazyInParallel() throws Exception {
+        line.expectedMessageCount(SIZE);
+
+        template.sendBody("direct:lazy", createCsv(SIZE, "\n"));
+        line.assertIsSatisfied();
+
+        for (int i = 0; i < SIZE; i++) {
+            Map<?, ?> map = line.getExchanges().get(i).getIn().getBody(Map.class);
+            assertEquals(asMap("id", String.valueOf(i), "name", "name " + i, "comment", expected(i, "\n").get(2)), map);
+        }
+    }
+
+    @Test
+    void shouldKeepColumnsByIndex() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:columnIndexes", "1,2,3\r\n4,5\r\n");
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(Arrays.asList("3", "1"), body.get(0));
+        assertEquals(Arrays.asList(null, "4"), body.get(1));
+    }
+
+    @Test
+    void shouldKeepColumnsByName() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:columnNames", createCsv(SIZE, "\r\n"));
+        output.assertIsSatisfied();
+
+        Message message = output.getExchanges().get(0).getIn();
+        assertEquals(Arrays.asList("id", "name", "comment"), message.getHeader(CsvConstants.HEADER_RECORD));
+        List<?> body = assertIsInstanceOf(List.class, message.getBody());
+        assertEquals(SIZE, body.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(asMap("name", "name " + i, "id", String.valueOf(i)), body.get(i));
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        CsvDataFormat dataFormat = new CsvDataFormat();
+        assertThrows(IllegalArgumentException.class, () -> dataFormat.setChunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> dataFormat.setChunkSize(-1));
+    }
+
+    private static String createCsv(int size, String separator) {
+        StringBuilder sb = new StringBuilder("id,name,comment").append(separator);
+        for (int i = 0; i < size; i++) {
+            sb.append(i).append(",name ").append(i).append(',');
+            if (i % 3 == 0) {
+                // quoted values with line breaks and quotes
+                sb.append("\"line 1").append(separator).append("line \"\"2\"\"\"");
+            } else {
+                sb.append("plain");
+            }
+            sb.append(separator);
+        }
+        return sb.toString();
+    }
+
+    private static List<String> expected(int i, String separator) {
+        List<String> answer = new ArrayList<>();
+        answer.add(String.valueOf(i));
+        answer.add("name " + i);
+        answer.add(i % 3 == 0 ? "line 1" + separator + "line \"2\"" : "plain");
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:parallel")
+                        .unmarshal(new CsvDataFormat().setParallelProcessing(true).setChunkSize(7))
+                        .to("mock:output");
+
+                from("direct:lazy")
+                        .unmarshal(new CsvDataFormat().setParallelProcessing(true).setChunkSize(7).setLazyLoad(true)
+                                .setUseMaps(true))
+                        .split(body()).streaming()
+                        .to("mock:line");
+
+                from("direct:columnIndexes")
+                        .unmarshal(new CsvDataFormat().setColumns("2,0"))
+                        .to("mock:output");
+
+                from("direct:columnNames")
+                        .unmarshal(new CsvDataFormat().setParallelProcessing(true).setChunkSize(7)
+                                .setCaptureHeaderRecord(true).setUseOrderedMaps(true).setColumns("name,id"))
+                        .to("mock:output");
+            }
+        };
+    }
+}
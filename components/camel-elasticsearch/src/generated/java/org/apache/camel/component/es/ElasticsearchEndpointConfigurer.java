@@ -21,6 +21,20 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         ElasticsearchEndpoint target = (ElasticsearchEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "autobulk":
+        case "autoBulk": target.getConfiguration().setAutoBulk(property(camelContext, boolean.class, value)); return true;
+        case "bulklingertime":
+        case "bulkLingerTime": target.getConfiguration().setBulkLingerTime(property(camelContext, int.class, value)); return true;
+        case "bulkmaxbytes":
+        case "bulkMaxBytes": target.getConfiguration().setBulkMaxBytes(property(camelContext, int.class, value)); return true;
+        case "bulkmaxconcurrentrequests":
+        case "bulkMaxConcurrentRequests": target.getConfiguration().setBulkMaxConcurrentRequests(property(camelContext, int.class, value)); return true;
+        case "bulkmaxretries":
+        case "bulkMaxRetries": target.getConfiguration().setBulkMaxRetries(property(camelContext, int.class, value)); return true;
+        case "bulkretrydelay":
+        case "bulkRetryDelay": target.getConfiguration().setBulkRetryDelay(property(camelContext, int.class, value)); return true;
+        case "bulksize":
+        case "bulkSize": target.getConfiguration().setBulkSize(property(camelContext, int.class, value)); return true;
         case "certificatepath":
         case "certificatePath": target.getConfiguration().setCertificatePath(property(camelContext, java.lang.String.class, value)); return true;
         case "connectiontimeout":
@@ -62,6 +76,20 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "autobulk":
+        case "autoBulk": return boolean.class;
+        case "bulklingertime":
+        case "bulkLingerTime": return int.class;
+        case "bulkmaxbytes":
+        case "bulkMaxBytes": return int.class;
+        case "bulkmaxconcurrentrequests":
+        case "bulkMaxConcurrentRequests": return int.class;
+        case "bulkmaxretries":
+        case "bulkMaxRetries": return int.class;
+        case "bulkretrydelay":
+        case "bulkRetryDelay": return int.class;
+        case "bulksize":
+        case "bulkSize": return int.class;
         case "certificatepath":
         case "certificatePath": return java.lang.String.class;
         case "connectiontimeout":
@@ -104,6 +132,20 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         ElasticsearchEndpoint target = (ElasticsearchEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "autobulk":
+        case "autoBulk": return target.getConfiguration().isAutoBulk();
+        case "bulklingertime":
+        case "bulkLingerTime": return target.getConfiguration().getBulkLingerTime();
+        case "bulkmaxbytes":
+        case "bulkMaxBytes": return target.getConfiguration().getBulkMaxBytes();
+        case "bulkmaxconcurrentrequests":
+        case "bulkMaxConcurrentRequests": return target.getConfiguration().getBulkMaxConcurrentRequests();
+        case "bulkmaxretries":
+        case "bulkMaxRetries": return target.getConfiguration().getBulkMaxRetries();
+        case "bulkretrydelay":
+        case "bulkRetryDelay": return target.getConfiguration().getBulkRetryDelay();
+        case "bulksize":
+        case "bulkSize": return target.getConfiguration().getBulkSize();
         case "certificatepath":
         case "certificatePath": return target.getConfiguration().getCertificatePath();
         case "connectiontimeout":
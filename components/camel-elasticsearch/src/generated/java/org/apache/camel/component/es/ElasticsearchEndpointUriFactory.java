@@ -21,7 +21,14 @@ public class ElasticsearchEndpointUriFactory extends org.apache.camel.support.co
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(20);
+        Set<String> props = new HashSet<>(27);
+        props.add("autoBulk");
+        props.add("bulkLingerTime");
+        props.add("bulkMaxBytes");
+        props.add("bulkMaxConcurrentRequests");
+        props.add("bulkMaxRetries");
+        props.add("bulkRetryDelay");
+        props.add("bulkSize");
         props.add("certificatePath");
         props.add("clusterName");
         props.add("connectionTimeout");
@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.es;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.OpType;
+import co.elastic.clients.elasticsearch._types.Result;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteRequest;
+import co.elastic.clients.elasticsearch.core.IndexRequest;
+import co.elastic.clients.elasticsearch.core.UpdateRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.CreateOperation;
+import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
+import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateOperation;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.component.es.ElasticsearchProducer.ActionContext;
+import org.apache.camel.support.Batcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the Index, Update and Delete operations of the exchanges into bulk requests, which are sent when they are
+ * full, or when the linger time has elapsed. The operations rejected because the cluster is overloaded are retried, and
+ * each exchange is completed with the result of its own operation.
+ * <p/>
+ * The retries are scheduled on their own thread, as the thread sending the expired bulk requests blocks while the
+ * maximum number of bulk requests are in flight, and a retry holds its permit until it has completed.
+ */
+class ElasticsearchBulkBatcher extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkBatcher.class);
+    // all the operations go into the same bulk request
+    private static final String KEY = "bulk";
+
+    private final ElasticsearchProducer producer;
+    private final ElasticsearchConfiguration configuration;
+    private final Semaphore inFlight;
+    private final Batcher<String, Item> batcher;
+    private ElasticsearchTransport transport;
+    private volatile ScheduledExecutorService retryScheduler;
+
+    ElasticsearchBulkBatcher(ElasticsearchProducer producer, ElasticsearchConfiguration configuration) {
+        this.producer = producer;
+        this.configuration = configuration;
+        this.inFlight = new Semaphore(Math.max(1, configuration.getBulkMaxConcurrentRequests()));
+        this.batcher = new Batcher<>(
+                producer.getEndpoint().getCamelContext(), "ElasticsearchBulk", configuration.getBulkSize(),
+                configuration.getBulkMaxBytes(), configuration.getBulkLingerTime(), (key, items) -> execute(items));
+    }
+
+    static boolean isBulkOperation(ElasticsearchOperation operation) {
+        return operation == ElasticsearchOperation.Index || operation == ElasticsearchOperation.Update
+                || operation == ElasticsearchOperation.Delete;
+    }
+
+    /**
+     * Adds the operation of the exchange to the current bulk request, and sends the bulk request if it is full. Blocks
+     * while the maximum number of bulk requests are in flight.
+     */
+    void add(ElasticsearchOperation operation, ActionContext ctx) throws Exception {
+        BulkOperation bulkOperation = toBulkOperation(operation, ctx.getMessage());
+        batcher.add(KEY, new Item(operation, bulkOperation, ctx), estimateSize(ctx.getMessage()));
+    }
+
+    private void execute(List<Item> items) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            items.forEach(item -> fail(item, e));
+            return;
+        }
+        send(items, 0);
+    }
+
+    private void send(List<Item> items, int attempt) {
+        LOG.trace("Sending bulk request of {} operations (attempt {})", items.size(), attempt + 1);
+        try {
+            BulkRequest request = new BulkRequest.Builder()
+                    .operations(items.stream().map(item -> item.operation).collect(Collectors.toList()))
+                    .build();
+            new ElasticsearchAsyncClient(transport).bulk(request)
+                    .whenComplete((response, error) -> onResponse(items, attempt, response, error));
+        } catch (Exception e) {
+            onResponse(items, attempt, null, e);
+        }
+    }
+
+    private void onResponse(List<Item> items, int attempt, BulkResponse response, Throwable error) {
+        List<Item> rejected = new ArrayList<>();
+        try {
+            if (error != null) {
+                items.forEach(item -> fail(item, error));
+                return;
+            }
+            List<BulkResponseItem> results = response.items();
+            for (int i = 0; i < items.size(); i++) {
+                Item item = items.get(i);
+                BulkResponseItem result = i < results.size() ? results.get(i) : null;
+                if (result == null) {
+                    fail(item, new IllegalStateException("The bulk response has no result for the operation"));
+                } else if (result.error() == null) {
+                    complete(item, result);
+                } else if (isRetryable(result.status()) && attempt < configuration.getBulkMaxRetries()) {
+                    rejected.add(item);
+                } else {
+                    fail(item, result);
+                }
+            }
+        } finally {
+            if (rejected.isEmpty()) {
+                inFlight.release();
+            } else {
+                retry(rejected, attempt + 1);
+            }
+        }
+    }
+
+    private void retry(List<Item> items, int attempt) {
+        long delay = (long) configuration.getBulkRetryDelay() << Math.min(attempt - 1, 20);
+        LOG.debug("Retrying {} rejected bulk operations in {} ms", items.size(), delay);
+        ScheduledExecutorService retryScheduler = this.retryScheduler;
+        try {
+            if (retryScheduler == null) {
+                throw new RejectedExecutionException("The producer is stopped");
+            }
+            retryScheduler.schedule(() -> send(items, attempt), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            items.forEach(item -> fail(item, e));
+            inFlight.release();
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        // too many requests, bad gateway, service unavailable and gateway timeout
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
+    private void complete(Item item, BulkResponseItem result) {
+        Message message = item.ctx.getMessage();
+        if (item.type == ElasticsearchOperation.Delete) {
+            message.setBody(toResult(result.result()));
+        } else {
+            message.setBody(result.id());
+        }
+        producer.onBulkOperationComplete(item.ctx);
+    }
+
+    private void fail(Item item, BulkResponseItem result) {
+        Exchange exchange = item.ctx.getExchange();
+        ErrorCause cause = result.error();
+        exchange.setException(new CamelExchangeException(
+                "The bulk operation failed with status " + result.status() + ": " + cause.type() + " - " + cause.reason(),
+                exchange));
+        producer.onBulkOperationComplete(item.ctx);
+    }
+
+    private void fail(Item item, Throwable error) {
+        Exchange exchange = item.ctx.getExchange();
+        exchange.setException(new CamelExchangeException("An error occurred while executing the action", exchange, error));
+        producer.onBulkOperationComplete(item.ctx);
+    }
+
+    private static Result toResult(String value) {
+        for (Result result : Result.values()) {
+            if (result.jsonValue().equals(value)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts the body of the message into the bulk operation, the same way it is converted into a single document
+     * request.
+     */
+    static BulkOperation toBulkOperation(ElasticsearchOperation operation, Message message) {
+        switch (operation) {
+            case Index: {
+                IndexRequest.Builder<?> builder = message.getBody(IndexRequest.Builder.class);
+                if (builder == null) {
+                    throw new IllegalArgumentException(
+                            "Wrong body type. Only Map, String, byte[], Reader, InputStream or IndexRequest.Builder"
+                                                                   + " is allowed as a type");
+                }
+                return toIndexOperation(builder.build());
+            }
+            case Update: {
+                UpdateRequest.Builder<?, ?> builder = message.getBody(UpdateRequest.Builder.class);
+                if (builder == null) {
+                    throw new IllegalArgumentException(
+                            "Wrong body type. Only Map, String, byte[], Reader, InputStream or UpdateRequest.Builder"
+                                                                   + " is allowed as a type");
+                }
+                return toUpdateOperation(builder.build());
+            }
+            case Delete: {
+                DeleteRequest.Builder builder = message.getBody(DeleteRequest.Builder.class);
+                if (builder == null) {
+                    throw new IllegalArgumentException(
+                            "Wrong body type. Only String or DeleteRequest.Builder is allowed as a type");
+                }
+                DeleteRequest request = builder.build();
+                return new BulkOperation.Builder().delete(new DeleteOperation.Builder()
+                        .index(request.index())
+                        .id(request.id())
+                        .routing(request.routing())
+                        .ifSeqNo(request.ifSeqNo())
+                        .ifPrimaryTerm(request.ifPrimaryTerm())
+                        .version(request.version())
+                        .versionType(request.versionType())
+                        .build())
+                        .build();
+            }
+            default:
+                throw new IllegalArgumentException(
+                        ElasticsearchConstants.PARAM_OPERATION + " value '" + operation + "' cannot be sent in bulk");
+        }
+    }
+
+    private static <T> BulkOperation toIndexOperation(IndexRequest<T> request) {
+        if (request.opType() == OpType.Create) {
+            return new BulkOperation.Builder().create(new CreateOperation.Builder<T>()
+                    .index(request.index())
+                    .id(request.id())
+                    .routing(request.routing())
+                    .pipeline(request.pipeline())
+                    .requireAlias(request.requireAlias())
+                    .document(request.document())
+                    .build())
+                    .build();
+        }
+        return new BulkOperation.Builder().index(new IndexOperation.Builder<T>()
+                .index(request.index())
+                .id(request.id())
+                .routing(request.routing())
+                .pipeline(request.pipeline())
+                .requireAlias(request.requireAlias())
+                .ifSeqNo(request.ifSeqNo())
+                .ifPrimaryTerm(request.ifPrimaryTerm())
+                .version(request.version())
+                .versionType(request.versionType())
+                .document(request.document())
+                .build())
+                .build();
+    }
+
+    private static <T, P> BulkOperation toUpdateOperation(UpdateRequest<T, P> request) {
+        return new BulkOperation.Builder().update(new UpdateOperation.Builder<T, P>()
+                .index(request.index())
+                .id(request.id())
+                .routing(request.routing())
+                .requireAlias(request.requireAlias())
+                .retryOnConflict(request.retryOnConflict())
+                .ifSeqNo(request.ifSeqNo())
+                .ifPrimaryTerm(request.ifPrimaryTerm())
+                .action(new UpdateAction.Builder<T, P>()
+                        .doc(request.doc())
+                        .docAsUpsert(request.docAsUpsert())
+                        .upsert(request.upsert())
+                        .script(request.script())
+                        .scriptedUpsert(request.scriptedUpsert())
+                        .detectNoop(request.detectNoop())
+                        .source(request.source())
+                        .build())
+                .build())
+                .build();
+    }
+
+    /**
+     * The number of bytes the document adds to the bulk request, estimated from the body when it is a String or byte[].
+     * Other bodies are not counted, as serializing the document only to count its bytes would double the cost of the
+     * serialization.
+     */
+    private static long estimateSize(Message message) {
+        Object body = message.getBody();
+        if (body instanceof String) {
+            return ((String) body).length();
+        } else if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        transport = producer.createTransport();
+        retryScheduler = producer.getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newSingleThreadScheduledExecutor(this, "ElasticsearchBulkRetry");
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // sends the pending operations
+        ServiceHelper.stopService(batcher);
+        // wait for the bulk requests in flight, and their retries, so that the exchanges are completed
+        int permits = Math.max(1, configuration.getBulkMaxConcurrentRequests());
+        if (inFlight.tryAcquire(permits, configuration.getSocketTimeout(), TimeUnit.MILLISECONDS)) {
+            inFlight.release(permits);
+        } else {
+            LOG.warn("Timeout waiting for the bulk requests in flight to complete");
+        }
+        if (retryScheduler != null) {
+            producer.getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(retryScheduler);
+            retryScheduler = null;
+        }
+    }
+
+    private static final class Item {
+        private final ElasticsearchOperation type;
+        private final BulkOperation operation;
+        private final ActionContext ctx;
+
+        Item(ElasticsearchOperation type, BulkOperation operation, ActionContext ctx) {
+            this.type = type;
+            this.operation = operation;
+            this.ctx = ctx;
+        }
+    }
+}
@@ -71,6 +71,20 @@ public class ElasticsearchConfiguration {
     private int sniffAfterFailureDelay = ElasticsearchConstants.DEFAULT_AFTER_FAILURE_DELAY;
     @UriParam(label = "advanced", defaultValue = "ObjectNode")
     private Class<?> documentClass = ObjectNode.class;
+    @UriParam
+    private boolean autoBulk;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_SIZE)
+    private int bulkSize = ElasticsearchConstants.DEFAULT_BULK_SIZE;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_MAX_BYTES)
+    private int bulkMaxBytes = ElasticsearchConstants.DEFAULT_BULK_MAX_BYTES;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_LINGER_TIME)
+    private int bulkLingerTime = ElasticsearchConstants.DEFAULT_BULK_LINGER_TIME;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_MAX_CONCURRENT_REQUESTS)
+    private int bulkMaxConcurrentRequests = ElasticsearchConstants.DEFAULT_BULK_MAX_CONCURRENT_REQUESTS;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_MAX_RETRIES)
+    private int bulkMaxRetries = ElasticsearchConstants.DEFAULT_BULK_MAX_RETRIES;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_RETRY_DELAY)
+    private int bulkRetryDelay = ElasticsearchConstants.DEFAULT_BULK_RETRY_DELAY;
 
     /**
      * Starting index of the response.
@@ -312,4 +326,87 @@ public class ElasticsearchConfiguration {
     public void setDocumentClass(Class<?> documentClass) {
         this.documentClass = documentClass;
     }
+
+    /**
+     * Send the Index, Update and Delete operations of the exchanges in bulk requests. The exchanges are completed
+     * individually once the bulk request containing their operation has been executed.
+     */
+    public boolean isAutoBulk() {
+        return autoBulk;
+    }
+
+    public void setAutoBulk(boolean autoBulk) {
+        this.autoBulk = autoBulk;
+    }
+
+    /**
+     * The maximum number of operations to send in one bulk request, when autoBulk is enabled.
+     */
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public void setBulkSize(int bulkSize) {
+        this.bulkSize = bulkSize;
+    }
+
+    /**
+     * The size in bytes of the operations after which a bulk request is sent, when autoBulk is enabled. The size is
+     * estimated from the bodies which are a String or byte[], other bodies are not counted. Set to 0 to not limit bulk
+     * requests by size.
+     */
+    public int getBulkMaxBytes() {
+        return bulkMaxBytes;
+    }
+
+    public void setBulkMaxBytes(int bulkMaxBytes) {
+        this.bulkMaxBytes = bulkMaxBytes;
+    }
+
+    /**
+     * The time in ms after which a bulk request is sent even if it is not full, when autoBulk is enabled.
+     */
+    public int getBulkLingerTime() {
+        return bulkLingerTime;
+    }
+
+    public void setBulkLingerTime(int bulkLingerTime) {
+        this.bulkLingerTime = bulkLingerTime;
+    }
+
+    /**
+     * The maximum number of bulk requests in flight, when autoBulk is enabled. Sending more exchanges blocks until a
+     * bulk request has completed.
+     */
+    public int getBulkMaxConcurrentRequests() {
+        return bulkMaxConcurrentRequests;
+    }
+
+    public void setBulkMaxConcurrentRequests(int bulkMaxConcurrentRequests) {
+        this.bulkMaxConcurrentRequests = bulkMaxConcurrentRequests;
+    }
+
+    /**
+     * The number of times an operation of a bulk request is retried when it is rejected because the cluster is
+     * overloaded or unavailable, when autoBulk is enabled.
+     */
+    public int getBulkMaxRetries() {
+        return bulkMaxRetries;
+    }
+
+    public void setBulkMaxRetries(int bulkMaxRetries) {
+        this.bulkMaxRetries = bulkMaxRetries;
+    }
+
+    /**
+     * The time in ms before the first retry of the rejected operations of a bulk request, which doubles for every
+     * retry.
+     */
+    public int getBulkRetryDelay() {
+        return bulkRetryDelay;
+    }
+
+    public void setBulkRetryDelay(int bulkRetryDelay) {
+        this.bulkRetryDelay = bulkRetryDelay;
+    }
 }
@@ -52,4 +52,10 @@ public interface ElasticsearchConstants {
     int DEFAULT_SNIFFER_INTERVAL = 60000 * 5; // Meaning how often it should search for elasticsearch nodes
     int DEFAULT_AFTER_FAILURE_DELAY = 60000; // Meaning when should the sniff execution scheduled after a failure
     int DEFAULT_SCROLL_KEEP_ALIVE_MS = 60000; // Meaning how many milliseconds elasticsearch will keep the search context
+    int DEFAULT_BULK_SIZE = 1000; // Meaning how many operations are sent in one bulk request
+    int DEFAULT_BULK_MAX_BYTES = 5 * 1024 * 1024; // Meaning how many bytes of operations are sent in one bulk request
+    int DEFAULT_BULK_LINGER_TIME = 100; // Meaning how many milliseconds an operation waits for its bulk request to fill
+    int DEFAULT_BULK_MAX_CONCURRENT_REQUESTS = 1; // Meaning how many bulk requests can be in flight at once
+    int DEFAULT_BULK_MAX_RETRIES = 3; // Meaning how many times a rejected bulk operation is retried
+    int DEFAULT_BULK_RETRY_DELAY = 100; // Meaning how many milliseconds before the first retry of a bulk operation
 }
@@ -58,6 +58,7 @@ import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -85,6 +86,7 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
     private final Object mutex = new Object();
     private volatile RestClient client;
     private Sniffer sniffer;
+    private ElasticsearchBulkBatcher bulkBatcher;
 
     public ElasticsearchProducer(ElasticsearchEndpoint endpoint, ElasticsearchConfiguration configuration) {
         super(endpoint);
@@ -141,9 +143,6 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
             if (configuration.isDisconnect() && client == null) {
                 startClient();
             }
-            final ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-            ElasticsearchTransport transport = new RestClientTransport(client, new JacksonJsonpMapper(mapper));
             // 2. Index and type will be set by:
             // a. If the incoming body is already an action request
             // b. If the body is not an action request we will use headers if they
@@ -188,6 +187,14 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
                 documentClass = configuration.getDocumentClass();
             }
 
+            if (bulkBatcher != null && ElasticsearchBulkBatcher.isBulkOperation(operation)) {
+                // the exchange is completed once the bulk request containing its operation has been executed
+                bulkBatcher.add(operation,
+                        new ActionContext(exchange, callback, null, configIndexName, configWaitForActiveShards));
+                return false;
+            }
+
+            ElasticsearchTransport transport = createTransport();
             ActionContext ctx = new ActionContext(exchange, callback, transport, configIndexName, configWaitForActiveShards);
 
             switch (operation) {
@@ -427,30 +434,26 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
                         });
     }
 
+    /**
+     * Completes an exchange whose operation has been executed in a bulk request by the bulk batcher.
+     */
+    void onBulkOperationComplete(ActionContext ctx) {
+        try {
+            removeConfigHeaders(ctx);
+        } finally {
+            ctx.getCallback().done(false);
+        }
+    }
+
     /**
      * The cleanup task to execute once everything is done.
      */
     private void cleanup(ActionContext ctx) {
 
         try {
-            Message message = ctx.getMessage();
-
-            // If we set params via the configuration on this exchange, remove them
-            // now. This preserves legacy behavior for this component and enables a
-            // use case where one message can be sent to multiple elasticsearch
-            // endpoints where the user is relying on the endpoint configuration
-            // (index/type) rather than header values. If we do not clear this out
-            // sending the same message (index request, for example) to multiple
-            // elasticsearch endpoints would have the effect overriding any
-            // subsequent endpoint index/type with the first endpoint index/type.
-            if (ctx.isConfigIndexName()) {
-                message.removeHeader(ElasticsearchConstants.PARAM_INDEX_NAME);
-            }
-
-            if (ctx.isConfigWaitForActiveShards()) {
-                message.removeHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS);
-            }
-            if (configuration.isDisconnect()) {
+            removeConfigHeaders(ctx);
+            // the bulk batcher keeps using the client
+            if (configuration.isDisconnect() && bulkBatcher == null) {
                 IOHelper.close(ctx.getTransport());
                 if (configuration.isEnableSniffer()) {
                     IOHelper.close(sniffer);
@@ -464,12 +467,42 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
         }
     }
 
+    private void removeConfigHeaders(ActionContext ctx) {
+        Message message = ctx.getMessage();
+
+        // If we set params via the configuration on this exchange, remove them
+        // now. This preserves legacy behavior for this component and enables a
+        // use case where one message can be sent to multiple elasticsearch
+        // endpoints where the user is relying on the endpoint configuration
+        // (index/type) rather than header values. If we do not clear this out
+        // sending the same message (index request, for example) to multiple
+        // elasticsearch endpoints would have the effect overriding any
+        // subsequent endpoint index/type with the first endpoint index/type.
+        if (ctx.isConfigIndexName()) {
+            message.removeHeader(ElasticsearchConstants.PARAM_INDEX_NAME);
+        }
+
+        if (ctx.isConfigWaitForActiveShards()) {
+            message.removeHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS);
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
-        if (!configuration.isDisconnect()) {
+        if (!configuration.isDisconnect() || configuration.isAutoBulk()) {
             startClient();
         }
+        if (configuration.isAutoBulk()) {
+            bulkBatcher = new ElasticsearchBulkBatcher(this, configuration);
+            ServiceHelper.startService(bulkBatcher);
+        }
+    }
+
+    ElasticsearchTransport createTransport() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        return new RestClientTransport(client, new JacksonJsonpMapper(mapper));
     }
 
     private void startClient() {
@@ -517,6 +550,11 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
 
     @Override
     protected void doStop() throws Exception {
+        if (bulkBatcher != null) {
+            // sends the pending operations before disconnecting
+            ServiceHelper.stopService(bulkBatcher);
+            bulkBatcher = null;
+        }
         if (client != null) {
             LOG.info("Disconnecting from ElasticSearch cluster: {}", configuration.getClusterName());
             client.close();
@@ -560,7 +598,7 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
     /**
      * An inner class providing all the information that an asynchronous action could need.
      */
-    private static class ActionContext {
+    static class ActionContext {
 
         private final Exchange exchange;
         private final AsyncCallback callback;
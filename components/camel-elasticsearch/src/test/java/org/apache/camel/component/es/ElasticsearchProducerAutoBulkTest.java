@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.es;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import co.elastic.clients.elasticsearch._types.Result;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import org.apache.camel.Exchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElasticsearchProducerAutoBulkTest extends CamelTestSupport {
+
+    private final List<BulkRequest> requests = new CopyOnWriteArrayList<>();
+    // the status of the n-th item of the first bulk request, then all items succeed
+    private IntFunction<Integer> firstRequestStatus = i -> 200;
+    // the number of items of the first bulk request which are missing from its response
+    private int firstRequestMissingItems;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    void testBulkBySize() throws Exception {
+        ElasticsearchProducer producer = createProducer("bulkSize=3&bulkLingerTime=60000");
+
+        List<CompletableFuture<Exchange>> exchanges = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            exchanges.add(send(producer, ElasticsearchOperation.Index, Map.of("content", "doc" + i), "id" + i));
+        }
+
+        for (int i = 0; i < 6; i++) {
+            Exchange exchange = exchanges.get(i).get(5, TimeUnit.SECONDS);
+            assertNull(exchange.getException());
+            assertEquals("id" + i, exchange.getMessage().getBody());
+        }
+        assertEquals(2, requests.size());
+        assertEquals(3, requests.get(0).operations().size());
+        assertEquals(3, requests.get(1).operations().size());
+        producer.stop();
+    }
+
+    @Test
+    void testBulkByBytes() throws Exception {
+        ElasticsearchProducer producer = createProducer("bulkSize=100&bulkMaxBytes=1&bulkLingerTime=60000");
+
+        Exchange first = send(producer, ElasticsearchOperation.Index, "{\"content\": \"doc\"}", "id1").get(5, TimeUnit.SECONDS);
+        Exchange second = send(producer, ElasticsearchOperation.Delete, "id2", null).get(5, TimeUnit.SECONDS);
+
+        assertEquals("id1", first.getMessage().getBody());
+        assertEquals(Result.Deleted, second.getMessage().getBody());
+        assertEquals(2, requests.size());
+        producer.stop();
+    }
+
+    @Test
+    void testBulkByLingerTime() throws Exception {
+        ElasticsearchProducer producer = createProducer("bulkSize=100&bulkLingerTime=50");
+
+        CompletableFuture<Exchange> index = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id1");
+        CompletableFuture<Exchange> update
+                = send(producer, ElasticsearchOperation.Update, "{\"doc\": {\"content\": \"doc\"}}", "id1");
+
+        assertEquals("id1", index.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        assertEquals("id1", update.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        assertEquals(1, requests.size());
+        assertTrue(requests.get(0).operations().get(0).isIndex());
+        assertTrue(requests.get(0).operations().get(1).isUpdate());
+        producer.stop();
+    }
+
+    @Test
+    void testRetryRejectedOperations() throws Exception {
+        // the second operation is rejected once, the third one is invalid
+        firstRequestStatus = i -> i == 1 ? 429 : i == 2 ? 400 : 200;
+        ElasticsearchProducer producer = createProducer("bulkSize=3&bulkLingerTime=60000&bulkRetryDelay=10");
+
+        List<CompletableFuture<Exchange>> exchanges = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            exchanges.add(send(producer, ElasticsearchOperation.Index, Map.of("content", "doc" + i), "id" + i));
+        }
+
+        assertEquals("id0", exchanges.get(0).get(5, TimeUnit.SECONDS).getMessage().getBody());
+        assertEquals("id1", exchanges.get(1).get(5, TimeUnit.SECONDS).getMessage().getBody());
+        Exception failure = exchanges.get(2).get(5, TimeUnit.SECONDS).getException();
+        assertTrue(failure.getMessage().contains("status 400"), failure.getMessage());
+
+        assertEquals(2, requests.size());
+        assertEquals(1, requests.get(1).operations().size());
+        assertEquals("id1", requests.get(1).operations().get(0).index().id());
+        producer.stop();
+    }
+
+    @Test
+    void testRetryWhileLingerTimeExpires() throws Exception {
+        // the retry holds the only permit while the next bulk request waits for it
+        firstRequestStatus = i -> 429;
+        ElasticsearchProducer producer
+                = createProducer("bulkSize=100&bulkLingerTime=20&bulkMaxConcurrentRequests=1&bulkRetryDelay=200");
+
+        CompletableFuture<Exchange> first = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id1");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> requests.size() == 1);
+        CompletableFuture<Exchange> second = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id2");
+
+        assertEquals("id1", first.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        assertEquals("id2", second.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        assertEquals(3, requests.size());
+        producer.stop();
+    }
+
+    @Test
+    void testMissingResults() throws Exception {
+        firstRequestMissingItems = 1;
+        ElasticsearchProducer producer
+                = createProducer("bulkSize=2&bulkLingerTime=60000&bulkMaxConcurrentRequests=1");
+
+        CompletableFuture<Exchange> first = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id1");
+        CompletableFuture<Exchange> second = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id2");
+
+        assertEquals("id1", first.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        Exception failure = second.get(5, TimeUnit.SECONDS).getException();
+        assertTrue(failure.getCause().getMessage().contains("no result"), failure.getCause().getMessage());
+
+        // the permit of the bulk request has been released
+        CompletableFuture<Exchange> third = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id3");
+        CompletableFuture<Exchange> fourth = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id4");
+        assertEquals("id3", third.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        assertEquals("id4", fourth.get(5, TimeUnit.SECONDS).getMessage().getBody());
+        producer.stop();
+    }
+
+    @Test
+    void testPendingOperationsSentOnStop() throws Exception {
+        ElasticsearchProducer producer = createProducer("bulkSize=100&bulkLingerTime=60000");
+
+        CompletableFuture<Exchange> first = send(producer, ElasticsearchOperation.Index, Map.of("content", "doc"), "id1");
+        CompletableFuture<Exchange> second = send(producer, ElasticsearchOperation.Delete, "id2", null);
+        assertTrue(requests.isEmpty());
+
+        producer.stop();
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertEquals(1, requests.size());
+        assertEquals(2, requests.get(0).operations().size());
+    }
+
+    private ElasticsearchProducer createProducer(String options) throws Exception {
+        ElasticsearchEndpoint endpoint = context.getEndpoint(
+                "elasticsearch://test?hostAddresses=localhost:9200&indexName=test&autoBulk=true&" + options,
+                ElasticsearchEndpoint.class);
+        ElasticsearchProducer producer = new ElasticsearchProducer(endpoint, endpoint.getConfiguration()) {
+            @Override
+            ElasticsearchTransport createTransport() {
+                return new BulkTransport();
+            }
+        };
+        producer.start();
+        return producer;
+    }
+
+    private CompletableFuture<Exchange> send(
+            ElasticsearchProducer producer, ElasticsearchOperation operation, Object body, String indexId) {
+        Exchange exchange = createExchangeWithBody(body);
+        exchange.getMessage().setHeader(ElasticsearchConstants.PARAM_OPERATION, operation);
+        exchange.getMessage().setHeader(ElasticsearchConstants.PARAM_INDEX_ID, indexId);
+        CompletableFuture<Exchange> future = new CompletableFuture<>();
+        producer.process(exchange, doneSync -> future.complete(exchange));
+        return future;
+    }
+
+    private BulkResponse respond(BulkRequest request) {
+        boolean first = requests.isEmpty();
+        requests.add(request);
+        List<BulkResponseItem> items = new ArrayList<>();
+        for (int i = 0; i < request.operations().size() - (first ? firstRequestMissingItems : 0); i++) {
+            BulkOperation operation = request.operations().get(i);
+            int status = first ? firstRequestStatus.apply(i) : 200;
+            BulkResponseItem.Builder item = new BulkResponseItem.Builder()
+                    .operationType(OperationType.valueOf(operation._kind().name()))
+                    .index("test")
+                    .status(status);
+            if (status >= 300) {
+                item.error(e -> e.type(status == 429 ? "es_rejected_execution_exception" : "mapper_parsing_exception")
+                        .reason("failed"));
+            } else if (operation.isDelete()) {
+                item.id(operation.delete().id()).result("deleted");
+            } else {
+                item.id(operation.isIndex() ? operation.index().id() : operation.update().id()).result("created");
+            }
+            items.add(item.build());
+        }
+        return new BulkResponse.Builder().items(items).errors(false).took(1).build();
+    }
+
+    private class BulkTransport implements ElasticsearchTransport {
+
+        private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+                RequestT request, Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+                RequestT request, Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options) {
+            return CompletableFuture.supplyAsync(() -> (ResponseT) respond((BulkRequest) request));
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
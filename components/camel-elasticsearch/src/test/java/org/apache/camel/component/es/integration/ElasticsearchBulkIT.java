@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.GetResponse;
@@ -238,6 +240,21 @@ class ElasticsearchBulkIT extends ElasticsearchTestSupport {
         assertEquals(createPrefix() + "value2", ((ObjectNode) resp.source()).get(createPrefix() + "key2").asText());
     }
 
+    @Test
+    void autoBulkIndexOperations() throws Exception {
+        List<Future<String>> indexIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            indexIds.add(template.asyncRequestBody("direct:autoBulk", createIndexedData(Integer.toString(i)), String.class));
+        }
+
+        for (Future<String> indexId : indexIds) {
+            String id = indexId.get(30, TimeUnit.SECONDS);
+            assertNotNull(id, "indexId should be set");
+            GetResponse<?> resp = template.requestBody("direct:get", id, GetResponse.class);
+            assertNotNull(resp.source(), "response source should not be null");
+        }
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -249,6 +266,8 @@ class ElasticsearchBulkIT extends ElasticsearchTestSupport {
                         .to("elasticsearch://elasticsearch?operation=GetById&indexName=twitter");
                 from("direct:bulk")
                         .to("elasticsearch://elasticsearch?operation=Bulk&indexName=twitter");
+                from("direct:autoBulk")
+                        .to("elasticsearch://elasticsearch?operation=Index&indexName=twitter&autoBulk=true&bulkSize=4");
             }
         };
     }
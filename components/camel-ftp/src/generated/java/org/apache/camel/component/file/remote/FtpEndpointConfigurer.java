@@ -196,6 +196,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "stepwise": target.getConfiguration().setStepwise(property(camelContext, boolean.class, value)); return true;
         case "streamdownload":
         case "streamDownload": target.getConfiguration().setStreamDownload(property(camelContext, boolean.class, value)); return true;
+        case "streaminglist":
+        case "streamingList": target.getConfiguration().setStreamingList(property(camelContext, boolean.class, value)); return true;
         case "tempfilename":
         case "tempFileName": target.setTempFileName(property(camelContext, java.lang.String.class, value)); return true;
         case "tempprefix":
@@ -398,6 +400,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "stepwise": return boolean.class;
         case "streamdownload":
         case "streamDownload": return boolean.class;
+        case "streaminglist":
+        case "streamingList": return boolean.class;
         case "tempfilename":
         case "tempFileName": return java.lang.String.class;
         case "tempprefix":
@@ -601,6 +605,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "stepwise": return target.getConfiguration().isStepwise();
         case "streamdownload":
         case "streamDownload": return target.getConfiguration().isStreamDownload();
+        case "streaminglist":
+        case "streamingList": return target.getConfiguration().isStreamingList();
         case "tempfilename":
         case "tempFileName": return target.getTempFileName();
         case "tempprefix":
@@ -21,7 +21,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(113);
+        Set<String> props = new HashSet<>(114);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -124,6 +124,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("startScheduler");
         props.add("stepwise");
         props.add("streamDownload");
+        props.add("streamingList");
         props.add("tempFileName");
         props.add("tempPrefix");
         props.add("throwExceptionOnConnectFailed");
@@ -226,6 +226,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "stepwise": target.getConfiguration().setStepwise(property(camelContext, boolean.class, value)); return true;
         case "streamdownload":
         case "streamDownload": target.getConfiguration().setStreamDownload(property(camelContext, boolean.class, value)); return true;
+        case "streaminglist":
+        case "streamingList": target.getConfiguration().setStreamingList(property(camelContext, boolean.class, value)); return true;
         case "stricthostkeychecking":
         case "strictHostKeyChecking": target.getConfiguration().setStrictHostKeyChecking(property(camelContext, java.lang.String.class, value)); return true;
         case "tempfilename":
@@ -456,6 +458,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "stepwise": return boolean.class;
         case "streamdownload":
         case "streamDownload": return boolean.class;
+        case "streaminglist":
+        case "streamingList": return boolean.class;
         case "stricthostkeychecking":
         case "strictHostKeyChecking": return java.lang.String.class;
         case "tempfilename":
@@ -687,6 +691,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "stepwise": return target.getConfiguration().isStepwise();
         case "streamdownload":
         case "streamDownload": return target.getConfiguration().isStreamDownload();
+        case "streaminglist":
+        case "streamingList": return target.getConfiguration().isStreamingList();
         case "stricthostkeychecking":
         case "strictHostKeyChecking": return target.getConfiguration().getStrictHostKeyChecking();
         case "tempfilename":
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import java.nio.ByteBuffer;
+
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.resume.Cacheable;
+import org.apache.camel.resume.Deserializable;
+import org.apache.camel.resume.Offset;
+import org.apache.camel.resume.OffsetKey;
+import org.apache.camel.resume.cache.ResumeCache;
+import org.apache.camel.spi.annotations.JdkService;
+import org.apache.camel.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The default {@link RemoteFileResumeAdapter} which keeps a checkpoint per remote directory: the last modified
+ * timestamp and the name of the last consumed file. The files which are not after the checkpoint, in the order of their
+ * last modified timestamp and then their name, are skipped. So the memory used does not grow with the number of files,
+ * but the files must be consumed in this order, such as with <tt>sortBy=file:modified;file:name</tt>.
+ * <p/>
+ * The offset key is the directory and the offset value is the checkpoint of the consumed file, as created by
+ * {@link #toOffsetValue(GenericFile)}, such as <tt>Resumables.of(directory, "1650000000000:file.txt")</tt>. A
+ * {@link GenericFile} value is also accepted.
+ */
+@JdkService("ftp-adapter-factory")
+public class DefaultRemoteFileResumeAdapter implements RemoteFileResumeAdapter, Cacheable, Deserializable {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRemoteFileResumeAdapter.class);
+
+    private ResumeCache<String> cache;
+
+    /**
+     * The offset value of the given file, which is its last modified timestamp and its name separated by a colon
+     */
+    public static String toOffsetValue(GenericFile<?> file) {
+        return file.getLastModified() + ":" + file.getFileNameOnly();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setCache(ResumeCache<?> cache) {
+        this.cache = (ResumeCache<String>) cache;
+    }
+
+    @Override
+    public ResumeCache<?> getCache() {
+        return cache;
+    }
+
+    @Override
+    public boolean add(OffsetKey<?> key, Offset<?> offset) {
+        Object directory = key.getValue();
+        Object value = offset.getValue();
+        if (directory == null || value == null) {
+            LOG.warn("Ignoring the offset as the directory ({}) or the file ({}) is null", directory, value);
+            return true;
+        }
+
+        Checkpoint checkpoint = value instanceof GenericFile
+                ? new Checkpoint(((GenericFile<?>) value).getLastModified(), ((GenericFile<?>) value).getFileNameOnly())
+                : Checkpoint.parse(value.toString());
+        if (checkpoint == null) {
+            LOG.warn("Ignoring the offset {} of directory {} as it is not in the format lastModified:fileName", value,
+                    directory);
+        } else {
+            add(directory.toString(), checkpoint);
+        }
+
+        // it is always safe to continue processing
+        return true;
+    }
+
+    private synchronized void add(String directory, Checkpoint checkpoint) {
+        // only moves the checkpoint forward, as the exchanges may complete out of order
+        String key = normalize(directory);
+        Checkpoint current = cache.get(key, Checkpoint.class);
+        if (current == null || current.compareTo(checkpoint) < 0) {
+            cache.add(key, checkpoint);
+        }
+    }
+
+    @Override
+    public boolean deserialize(ByteBuffer keyBuffer, ByteBuffer valueBuffer) {
+        Object keyObj = deserializeKey(keyBuffer);
+        Object valueObj = deserializeValue(valueBuffer);
+
+        if (keyObj instanceof String && valueObj instanceof String) {
+            Checkpoint checkpoint = Checkpoint.parse((String) valueObj);
+            if (checkpoint != null) {
+                LOG.trace("Deserializing directory {} with checkpoint {}", keyObj, valueObj);
+                add((String) keyObj, checkpoint);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void resume() {
+        // NO-OP
+    }
+
+    @Override
+    public boolean resume(RemoteFile<?> file) {
+        String directory = FileUtil.onlyPath(file.getAbsoluteFilePath());
+        Checkpoint checkpoint = cache.get(normalize(directory), Checkpoint.class);
+        boolean consumed = checkpoint != null
+                && checkpoint.compareTo(new Checkpoint(file.getLastModified(), file.getFileNameOnly())) >= 0;
+
+        LOG.trace("Checking if file {} has been consumed in directory {}: {}", file.getFileNameOnly(), directory, consumed);
+        return consumed;
+    }
+
+    private static String normalize(String directory) {
+        if (directory == null) {
+            return "";
+        }
+        return FileUtil.stripTrailingSeparator(directory);
+    }
+
+    private static final class Checkpoint implements Comparable<Checkpoint> {
+        private final long lastModified;
+        private final String fileName;
+
+        Checkpoint(long lastModified, String fileName) {
+            this.lastModified = lastModified;
+            this.fileName = fileName;
+        }
+
+        static Checkpoint parse(String value) {
+            int pos = value.indexOf(':');
+            if (pos <= 0) {
+                return null;
+            }
+            try {
+                return new Checkpoint(Long.parseLong(value.substring(0, pos)), value.substring(pos + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public int compareTo(Checkpoint other) {
+            int answer = Long.compare(lastModified, other.lastModified);
+            return answer != 0 ? answer : fileName.compareTo(other.fileName);
+        }
+
+        @Override
+        public String toString() {
+            return lastModified + ":" + fileName;
+        }
+    }
+}
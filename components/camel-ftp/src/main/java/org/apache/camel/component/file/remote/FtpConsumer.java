@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -102,7 +103,12 @@ public class FtpConsumer extends RemoteFileConsumer<FTPFile> {
         // strip trailing slash
         fileName = FileUtil.stripTrailingSeparator(fileName);
 
-        boolean answer = doPollDirectory(fileName, null, fileList, depth);
+        boolean answer;
+        try {
+            answer = doPollDirectory(fileName, null, fileList, depth);
+        } finally {
+            drainMatchedFiles(fileList);
+        }
         if (currentDir != null) {
             operations.changeCurrentDirectory(currentDir);
         }
@@ -131,6 +137,10 @@ public class FtpConsumer extends RemoteFileConsumer<FTPFile> {
         // compute dir depending on stepwise is enabled or not
         final String dir = computeDir(absolutePath, dirName);
 
+        if (isStreamingList() && isUseList()) {
+            return doPollDirectoryStreaming(absolutePath, dir, fileList, depth);
+        }
+
         final FTPFile[] files = getFtpFiles(dir);
 
         if (files == null || files.length == 0) {
@@ -196,12 +206,71 @@ public class FtpConsumer extends RemoteFileConsumer<FTPFile> {
     private void handleFile(
             String absolutePath, List<GenericFile<FTPFile>> fileList, int depth, FTPFile[] files, FTPFile file) {
         RemoteFile<FTPFile> remote = asRemoteFile(absolutePath, file, getEndpoint().getCharset());
-        if (depth >= endpoint.getMinDepth() && isValidFile(remote, false, files)) {
+        if (depth >= endpoint.getMinDepth() && !isResumed(remote) && isValidFile(remote, false, files)) {
             // matched file so add
             fileList.add(remote);
         }
     }
 
+    private boolean doPollDirectoryStreaming(
+            String absolutePath, String dir, List<GenericFile<FTPFile>> fileList, int depth) {
+        // sub directories are polled after the listing has completed
+        final List<String> subDirectories = new ArrayList<>();
+        final boolean[] limitHit = new boolean[1];
+
+        try {
+            LOG.trace("Polling directory streaming: {}", dir);
+            getOperations().listFiles(isStepwise() ? null : dir, file -> {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("FtpFile[name={}, dir={}, file={}]", file.getName(), file.isDirectory(), file.isFile());
+                }
+
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    limitHit[0] = true;
+                    return false;
+                }
+
+                if (file.isDirectory()) {
+                    RemoteFile<FTPFile> remote = asRemoteFile(absolutePath, file, getEndpoint().getCharset());
+                    if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(remote, true, null)) {
+                        subDirectories.add(file.getName());
+                    }
+                } else if (file.isFile()) {
+                    RemoteFile<FTPFile> remote = asRemoteFile(absolutePath, file, getEndpoint().getCharset());
+                    if (depth >= endpoint.getMinDepth() && !isResumed(remote) && isValidFile(remote, false, null)) {
+                        // matched file so add
+                        addMatchedFile(fileList, remote);
+                    }
+                } else {
+                    LOG.debug("Ignoring unsupported remote file type: {}", file);
+                }
+                return true;
+            });
+        } catch (GenericFileOperationFailedException e) {
+            if (ignoreCannotRetrieveFile(null, null, e)) {
+                LOG.debug("Cannot list files in directory {} due directory does not exists or file permission error.", dir);
+                return true;
+            }
+            throw e;
+        }
+
+        if (limitHit[0]) {
+            return false;
+        }
+
+        for (String subDirectory : subDirectories) {
+            // recursive scan and add the sub files and folders
+            String path = ObjectHelper.isNotEmpty(absolutePath) ? absolutePath + "/" + subDirectory : subDirectory;
+            boolean canPollMore = pollSubDirectory(path, subDirectory, fileList, depth);
+            if (!canPollMore) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private String computeDir(String absolutePath, String dirName) {
         String dir;
         if (isStepwise()) {
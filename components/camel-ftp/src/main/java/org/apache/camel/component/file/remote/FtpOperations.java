@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
@@ -45,6 +46,7 @@ import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPClientConfig;
 import org.apache.commons.net.ftp.FTPFile;
+import org.apache.commons.net.ftp.FTPListParseEngine;
 import org.apache.commons.net.ftp.FTPReply;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +56,8 @@ import org.slf4j.LoggerFactory;
  */
 public class FtpOperations implements RemoteFileOperations<FTPFile> {
 
+    private static final int LIST_PAGE_SIZE = 100;
+
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final FTPClient client;
     protected final FTPClientConfig clientConfig;
@@ -957,6 +961,33 @@ public class FtpOperations implements RemoteFileOperations<FTPFile> {
         }
     }
 
+    @Override
+    public void listFiles(String path, Predicate<FTPFile> visitor) throws GenericFileOperationFailedException {
+        log.trace("Listing remote files in pages from path {}", path);
+        clientActivityListener.onScanningForFiles(endpoint.remoteServerInformation(), path);
+
+        // use current directory if path not given
+        if (path != null && path.isEmpty()) {
+            path = ".";
+        }
+
+        try {
+            // the listing is parsed into ftp files one page at a time so we only
+            // hold the raw listing and not all the parsed entries at once
+            FTPListParseEngine engine = path != null ? client.initiateListParsing(path) : client.initiateListParsing();
+            while (engine.hasNext()) {
+                for (FTPFile file : engine.getNext(LIST_PAGE_SIZE)) {
+                    if (file != null && !visitor.test(file)) {
+                        return;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            clientActivityListener.onGeneralError(endpoint.getConfiguration().remoteServerInformation(), e.getMessage());
+            throw new GenericFileOperationFailedException(client.getReplyCode(), client.getReplyString(), e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean sendNoop() throws GenericFileOperationFailedException {
         log.trace("sendNoOp");
@@ -108,6 +108,14 @@ public abstract class RemoteFileConfiguration extends GenericFileConfiguration {
                                                          + "By default when a directory or file does not exists or insufficient permission, then an exception "
                                                          + "is thrown. Setting this option to <tt>true</tt> allows to ignore that instead.")
     private boolean ignoreFileNotFoundOrPermissionError;
+    @UriParam(label = "consumer,advanced", description = "Whether to list the remote directories in a streaming "
+                                                         + "fashion, where each directory entry is filtered as it is received from the "
+                                                         + "remote server, instead of first loading the entire directory listing into memory. "
+                                                         + "<p/> When a sorter is configured together with maxMessagesPerPoll and "
+                                                         + "eagerMaxMessagesPerPoll=false, then only the best maxMessagesPerPoll files are "
+                                                         + "kept in memory during the listing. This option cannot be used together with "
+                                                         + "preSort or doneFileName.")
+    private boolean streamingList;
     @UriParam(label = "producer,advanced", defaultValue = "true", description = "Whether to send a noop command "
                                                                                 + "as a pre-write check before uploading files to the FTP server. <p/> This is enabled by default as "
                                                                                 + "a validation of the connection is still valid, which allows to silently re-connect to be able to "
@@ -402,6 +410,22 @@ public abstract class RemoteFileConfiguration extends GenericFileConfiguration {
         this.ignoreFileNotFoundOrPermissionError = ignoreFileNotFoundOrPermissionError;
     }
 
+    public boolean isStreamingList() {
+        return streamingList;
+    }
+
+    /**
+     * Whether to list the remote directories in a streaming fashion, where each directory entry is filtered as it is
+     * received from the remote server, instead of first loading the entire directory listing into memory.
+     * <p/>
+     * When a sorter is configured together with maxMessagesPerPoll and eagerMaxMessagesPerPoll=false, then only the
+     * best maxMessagesPerPoll files are kept in memory during the listing. This option cannot be used together with
+     * preSort or doneFileName.
+     */
+    public void setStreamingList(boolean streamingList) {
+        this.streamingList = streamingList;
+    }
+
     public boolean isSendNoop() {
         return sendNoop;
     }
@@ -16,7 +16,10 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -27,7 +30,12 @@ import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.component.file.GenericFileProcessStrategy;
+import org.apache.camel.resume.ResumeAdapter;
+import org.apache.camel.resume.ResumeAware;
+import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.resume.Resumables;
+import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,12 +43,14 @@ import org.slf4j.LoggerFactory;
 /**
  * Base class for remote file consumers.
  */
-public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
+public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> implements ResumeAware<ResumeStrategy> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RemoteFileConsumer.class);
 
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
+    private ResumeStrategy resumeStrategy;
+    private PriorityQueue<GenericFile<T>> candidates;
 
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                               GenericFileProcessStrategy processStrategy) {
@@ -63,6 +73,12 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         Exchange answer = createExchange(true);
         if (file != null) {
             file.bindToExchange(answer);
+            if (resumeStrategy != null) {
+                // the offset is stored by the resumable EIP, when the exchange has been processed
+                answer.getIn().setHeader(Exchange.OFFSET,
+                        Resumables.of(FileUtil.onlyPath(file.getAbsoluteFilePath()),
+                                DefaultRemoteFileResumeAdapter.toOffsetValue(file)));
+            }
         }
         return answer;
     }
@@ -168,6 +184,79 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return !dir.equals("/") && !dir.equals("\\");
     }
 
+    /**
+     * Whether the remote directories should be listed in a streaming fashion
+     */
+    protected boolean isStreamingList() {
+        return ((RemoteFileConfiguration) endpoint.getConfiguration()).isStreamingList();
+    }
+
+    /**
+     * Whether the given file has been marked as consumed previously by the resume strategy, and should be skipped.
+     */
+    protected boolean isResumed(RemoteFile<T> file) {
+        if (resumeStrategy != null) {
+            ResumeAdapter adapter = resumeStrategy.getAdapter();
+            if (adapter instanceof RemoteFileResumeAdapter && ((RemoteFileResumeAdapter) adapter).resume(file)) {
+                LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the matched file to the list of files to process.
+     * <p/>
+     * When streaming listing is enabled and the files are to be sorted using a sorter with a non-eager
+     * maxMessagesPerPoll limit, then only the best maxMessagesPerPoll files are kept in a bounded heap, until the poll
+     * of the directories has completed. Any file which is not among the best candidates anymore, is removed from the
+     * in-progress repository again.
+     *
+     * @param fileList current list of files gathered
+     * @param file     the matched file
+     */
+    protected void addMatchedFile(List<GenericFile<T>> fileList, GenericFile<T> file) {
+        Comparator<GenericFile<T>> sorter = endpoint.getSorter();
+        if (!isStreamingList() || sorter == null || maxMessagesPerPoll <= 0 || eagerLimitMaxMessagesPerPoll) {
+            fileList.add(file);
+            return;
+        }
+
+        if (candidates == null) {
+            // reverse order so the head is the worst candidate which can be evicted
+            candidates = new PriorityQueue<>(maxMessagesPerPoll + 1, Collections.reverseOrder(sorter));
+        }
+        candidates.add(file);
+        if (candidates.size() > maxMessagesPerPoll) {
+            GenericFile<T> evicted = candidates.poll();
+            LOG.trace("Evicting file: {} as it is not among the best {} files", evicted, maxMessagesPerPoll);
+            endpoint.getInProgressRepository().remove(evicted.getAbsoluteFilePath());
+        }
+    }
+
+    /**
+     * Moves the files kept in the bounded heap by {@link #addMatchedFile(List, GenericFile)} to the list of files to
+     * process. Must be called when the poll of the directories has completed (or failed).
+     *
+     * @param fileList current list of files gathered
+     */
+    protected void drainMatchedFiles(List<GenericFile<T>> fileList) {
+        if (candidates != null) {
+            fileList.addAll(candidates);
+            candidates = null;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (resumeStrategy != null) {
+            resumeStrategy.loadCache();
+        }
+
+        super.doStart();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
@@ -288,4 +377,19 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
      *                      been hit
      */
     protected abstract boolean doPollDirectory(String absolutePath, String dirName, List<GenericFile<T>> fileList, int depth);
+
+    @Override
+    public ResumeStrategy getResumeStrategy() {
+        return resumeStrategy;
+    }
+
+    @Override
+    public void setResumeStrategy(ResumeStrategy resumeStrategy) {
+        this.resumeStrategy = resumeStrategy;
+    }
+
+    @Override
+    public String adapterFactoryService() {
+        return "ftp-adapter-factory";
+    }
 }
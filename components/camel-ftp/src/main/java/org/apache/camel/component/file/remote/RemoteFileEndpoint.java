@@ -157,6 +157,11 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
                     "Endpoint is configured with useList=false, then fileName must be configured also");
         }
 
+        if (getConfiguration().isStreamingList() && (isPreSort() || getDoneFileName() != null)) {
+            throw new IllegalArgumentException(
+                    "Endpoint is configured with streamingList=true, then preSort and doneFileName cannot be used");
+        }
+
         // set max messages per poll
         consumer.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         consumer.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.util.function.Predicate;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.component.file.GenericFileOperations;
@@ -74,4 +76,28 @@ public interface RemoteFileOperations<T> extends GenericFileOperations<T> {
      */
     boolean sendSiteCommand(String command) throws GenericFileOperationFailedException;
 
+    /**
+     * Lists the files in the given directory, and passes each entry to the visitor as soon as it has been received from
+     * the remote server, so the entire directory listing does not have to be kept in memory.
+     * <p/>
+     * The visitor must not invoke any other operations on the remote server, as the listing may still be in progress.
+     * <p/>
+     * The default implementation lists all the files first and then visits the entries.
+     *
+     * @param  path                                the directory, or <tt>null</tt> to list the current directory
+     * @param  visitor                             visitor for each entry, which returns <tt>false</tt> to stop listing
+     *                                             more entries
+     * @throws GenericFileOperationFailedException can be thrown
+     */
+    default void listFiles(String path, Predicate<T> visitor) throws GenericFileOperationFailedException {
+        T[] files = path == null ? listFiles() : listFiles(path);
+        if (files != null) {
+            for (T file : files) {
+                if (!visitor.test(file)) {
+                    return;
+                }
+            }
+        }
+    }
+
 }
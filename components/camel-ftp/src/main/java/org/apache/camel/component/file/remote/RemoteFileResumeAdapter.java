@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import org.apache.camel.resume.ResumeAdapter;
+
+/**
+ * A resume adapter for the remote file consumers, which is used to skip directory entries that has been marked as
+ * consumed previously, before they are being filtered and added as in-progress.
+ */
+public interface RemoteFileResumeAdapter extends ResumeAdapter {
+
+    /**
+     * Whether the remote file has been marked as consumed previously, and should therefore be skipped.
+     *
+     * @param  file the remote file
+     * @return      <tt>true</tt> to skip the file, <tt>false</tt> to continue
+     */
+    boolean resume(RemoteFile<?> file);
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -94,7 +95,12 @@ public class SftpConsumer extends RemoteFileConsumer<SftpRemoteFile> {
         // strip trailing slash
         fileName = FileUtil.stripTrailingSeparator(fileName);
 
-        boolean answer = doPollDirectory(fileName, null, fileList, depth);
+        boolean answer;
+        try {
+            answer = doPollDirectory(fileName, null, fileList, depth);
+        } finally {
+            drainMatchedFiles(fileList);
+        }
         if (currentDir != null) {
             operations.changeCurrentDirectory(currentDir);
         }
@@ -131,6 +137,10 @@ public class SftpConsumer extends RemoteFileConsumer<SftpRemoteFile> {
             dir = absolutePath;
         }
 
+        if (isStreamingList() && isUseList()) {
+            return doPollDirectoryStreaming(absolutePath, dir, fileList, depth);
+        }
+
         final SftpRemoteFile[] files = getSftpRemoteFiles(dir);
 
         if (files == null || files.length == 0) {
@@ -174,7 +184,7 @@ public class SftpConsumer extends RemoteFileConsumer<SftpRemoteFile> {
                 // just assuming its a file we should poll
             } else {
                 RemoteFile<SftpRemoteFile> remote = asRemoteFile(absolutePath, file, getEndpoint().getCharset());
-                if (depth >= endpoint.getMinDepth() && isValidFile(remote, false, files)) {
+                if (depth >= endpoint.getMinDepth() && !isResumed(remote) && isValidFile(remote, false, files)) {
                     // matched file so add
                     fileList.add(remote);
                 }
@@ -184,6 +194,61 @@ public class SftpConsumer extends RemoteFileConsumer<SftpRemoteFile> {
         return true;
     }
 
+    private boolean doPollDirectoryStreaming(
+            String absolutePath, String dir, List<GenericFile<SftpRemoteFile>> fileList, int depth) {
+        // sub directories are polled after the listing, as the channel is busy until then
+        final List<String> subDirectories = new ArrayList<>();
+        final boolean[] limitHit = new boolean[1];
+
+        try {
+            LOG.trace("Polling directory streaming: {}", dir);
+            getOperations().listFiles(isStepwise() ? null : dir, file -> {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("SftpFile[fileName={}, longName={}, dir={}]", file.getFilename(), file.getLongname(),
+                            file.isDirectory());
+                }
+
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    limitHit[0] = true;
+                    return false;
+                }
+
+                RemoteFile<SftpRemoteFile> remote = asRemoteFile(absolutePath, file, getEndpoint().getCharset());
+                if (file.isDirectory()) {
+                    if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(remote, true, null)) {
+                        subDirectories.add(file.getFilename());
+                    }
+                } else if (depth >= endpoint.getMinDepth() && !isResumed(remote) && isValidFile(remote, false, null)) {
+                    // matched file so add
+                    addMatchedFile(fileList, remote);
+                }
+                return true;
+            });
+        } catch (GenericFileOperationFailedException e) {
+            if (ignoreCannotRetrieveFile(null, null, e)) {
+                LOG.debug("Cannot list files in directory {} due directory does not exists or file permission error.", dir);
+                return true;
+            }
+            throw e;
+        }
+
+        if (limitHit[0]) {
+            return false;
+        }
+
+        for (String subDirectory : subDirectories) {
+            // recursive scan and add the sub files and folders
+            String path = ObjectHelper.isNotEmpty(absolutePath) ? absolutePath + "/" + subDirectory : subDirectory;
+            boolean canPollMore = pollSubDirectory(path, subDirectory, fileList, depth);
+            if (!canPollMore) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private SftpRemoteFile[] listFiles(String dir) {
         if (isStepwise()) {
             return operations.listFiles();
@@ -33,6 +33,7 @@ import java.util.Base64;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Vector;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import com.jcraft.jsch.ChannelSftp;
@@ -756,6 +757,24 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
         }
     }
 
+    @Override
+    public synchronized void listFiles(String path, Predicate<SftpRemoteFile> visitor)
+            throws GenericFileOperationFailedException {
+        LOG.trace("Listing remote files streaming from path {}", path);
+        if (ObjectHelper.isEmpty(path)) {
+            // list current directory if file path is not given
+            path = ".";
+        }
+
+        try {
+            // the entries are passed on as they are received from the server
+            channel.ls(path, entry -> visitor.test(new SftpRemoteFileJCraft(entry))
+                    ? ChannelSftp.LsEntrySelector.CONTINUE : ChannelSftp.LsEntrySelector.BREAK);
+        } catch (SftpException e) {
+            throw new GenericFileOperationFailedException("Cannot list directory: " + path, e);
+        }
+    }
+
     @Override
     public synchronized boolean retrieveFile(String name, Exchange exchange, long size)
             throws GenericFileOperationFailedException {
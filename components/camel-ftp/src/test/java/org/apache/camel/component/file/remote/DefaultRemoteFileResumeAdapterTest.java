@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import org.apache.camel.processor.resume.TransientResumeStrategy;
+import org.apache.camel.resume.Resumable;
+import org.apache.camel.support.resume.Resumables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultRemoteFileResumeAdapterTest {
+
+    private final DefaultRemoteFileResumeAdapter adapter = new DefaultRemoteFileResumeAdapter();
+
+    @BeforeEach
+    public void setUp() {
+        adapter.setCache(TransientResumeStrategy.createSimpleCache());
+    }
+
+    @Test
+    public void testResumeCheckpoint() {
+        add(Resumables.of("/inbox/", "2000:b.txt"));
+
+        assertTrue(adapter.resume(file("/inbox/a.txt", "a.txt", 1000)));
+        assertTrue(adapter.resume(file("/inbox/a.txt", "a.txt", 2000)));
+        assertTrue(adapter.resume(file("/inbox/b.txt", "b.txt", 2000)));
+        assertFalse(adapter.resume(file("/inbox/c.txt", "c.txt", 2000)));
+        assertFalse(adapter.resume(file("/inbox/a.txt", "a.txt", 3000)));
+        assertFalse(adapter.resume(file("/outbox/a.txt", "a.txt", 1000)));
+    }
+
+    @Test
+    public void testCheckpointOnlyMovesForward() {
+        add(Resumables.of("/inbox", file("/inbox/b.txt", "b.txt", 2000)));
+        add(Resumables.of("/inbox", DefaultRemoteFileResumeAdapter.toOffsetValue(file("/inbox/a.txt", "a.txt", 1000))));
+
+        assertTrue(adapter.resume(file("/inbox/b.txt", "b.txt", 2000)));
+        assertFalse(adapter.resume(file("/inbox/c.txt", "c.txt", 3000)));
+    }
+
+    @Test
+    public void testInvalidOffsetIgnored() {
+        add(Resumables.of("/inbox", "a.txt"));
+
+        assertFalse(adapter.resume(file("/inbox/a.txt", "a.txt", 1000)));
+    }
+
+    private void add(Resumable resumable) {
+        assertTrue(adapter.add(resumable.getOffsetKey(), resumable.getLastOffset()));
+    }
+
+    private static RemoteFile<Object> file(String absolutePath, String name, long lastModified) {
+        RemoteFile<Object> file = new RemoteFile<>();
+        file.setLastModified(lastModified);
+        file.setAbsoluteFilePath(absolutePath);
+        file.setFileNameOnly(name);
+        return file;
+    }
+}
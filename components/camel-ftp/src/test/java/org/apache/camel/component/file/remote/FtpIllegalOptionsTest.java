@@ -37,4 +37,15 @@ public class FtpIllegalOptionsTest extends CamelTestSupport {
         assertThrows(IllegalArgumentException.class, () -> ftpEndpoint.createConsumer(exchange -> {
         }));
     }
+
+    @Test
+    public void testIllegalStreamingListOptionsFtpEndpoint() {
+        Endpoint ftpEndpoint = context.getEndpoint("ftp://target?streamingList=true&preSort=true");
+        assertThrows(IllegalArgumentException.class, () -> ftpEndpoint.createConsumer(exchange -> {
+        }));
+
+        Endpoint sftpEndpoint = context.getEndpoint("sftp://target?streamingList=true&doneFileName=${file:name}.done");
+        assertThrows(IllegalArgumentException.class, () -> sftpEndpoint.createConsumer(exchange -> {
+        }));
+    }
 }
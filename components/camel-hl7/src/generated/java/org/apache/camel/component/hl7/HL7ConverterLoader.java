@@ -43,12 +43,18 @@ public final class HL7ConverterLoader implements TypeConverterLoader, CamelConte
     private void registerConverters(TypeConverterRegistry registry) {
         addTypeConverter(registry, byte[].class, ca.uhn.hl7v2.model.Message.class, false,
             (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toByteArray((ca.uhn.hl7v2.model.Message) value, exchange));
+        addTypeConverter(registry, byte[].class, org.apache.camel.component.hl7.HL7LazyMessage.class, false,
+            (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toByteArray((org.apache.camel.component.hl7.HL7LazyMessage) value, exchange));
         addTypeConverter(registry, ca.uhn.hl7v2.model.Message.class, byte[].class, false,
             (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toMessage((byte[]) value, exchange));
         addTypeConverter(registry, ca.uhn.hl7v2.model.Message.class, java.lang.String.class, false,
             (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toMessage((java.lang.String) value));
+        addTypeConverter(registry, ca.uhn.hl7v2.model.Message.class, org.apache.camel.component.hl7.HL7LazyMessage.class, false,
+            (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toMessage((org.apache.camel.component.hl7.HL7LazyMessage) value));
         addTypeConverter(registry, java.lang.String.class, ca.uhn.hl7v2.model.Message.class, false,
             (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toString((ca.uhn.hl7v2.model.Message) value));
+        addTypeConverter(registry, java.lang.String.class, org.apache.camel.component.hl7.HL7LazyMessage.class, false,
+            (type, exchange, value) -> org.apache.camel.component.hl7.HL7Converter.toString((org.apache.camel.component.hl7.HL7LazyMessage) value));
     }
 
     private static void addTypeConverter(TypeConverterRegistry registry, Class<?> toType, Class<?> fromType, boolean allowNull, SimpleTypeConverter.ConversionMethod method) { 
@@ -19,6 +19,8 @@ public class HL7DataFormatConfigurer extends PropertyConfigurerSupport implement
         HL7DataFormat dataformat = (HL7DataFormat) target;
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "validate": dataformat.setValidate(property(camelContext, boolean.class, value)); return true;
+        case "lazyparsing":
+        case "lazyParsing": dataformat.setLazyParsing(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -48,8 +48,11 @@ public class AckExpression extends ExpressionAdapter {
     @Override
     public Object evaluate(Exchange exchange) {
         Throwable t = exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Throwable.class);
-        Message msg = exchange.getIn().getBody(Message.class);
+        Object body = exchange.getIn().getBody();
         try {
+            // the acknowledgement only needs the MSH segment of a message that has not been parsed yet
+            Message msg = body instanceof HL7LazyMessage
+                    ? ((HL7LazyMessage) body).parseHeader() : exchange.getIn().getBody(Message.class);
             HL7Exception hl7e = generateHL7Exception(t);
             AcknowledgmentCode code = acknowledgementCode;
             if (t != null && code == null) {
@@ -100,6 +100,21 @@ public enum HL7Charset {
         return getCharsetName(msh18, defaultCharsetName);
     }
 
+    /**
+     * Returns the charset to be used for marshalling HL7 messages. If MSH-18 is empty, the charset configured in
+     * Camel's charset properties/headers is returned.
+     *
+     * @param  message  HL7 message view
+     * @param  exchange Exchange
+     * @return          Java charset name
+     */
+    public static String getCharsetName(HL7LazyMessage message, Exchange exchange) throws HL7Exception {
+        if (message.isParsed()) {
+            return getCharsetName(message.getMessage(), exchange);
+        }
+        return getCharsetName(message.get("MSH-18"), ExchangeHelper.getCharsetName(exchange));
+    }
+
     /**
      * Returns the charset to be used for unmarshalling HL7 messages. If MSH-18 is empty, the temporary charset name is
      * returned.
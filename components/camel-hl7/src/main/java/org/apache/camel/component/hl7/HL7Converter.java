@@ -62,6 +62,21 @@ public final class HL7Converter {
         return IOConverter.toByteArray(message.encode(), exchange);
     }
 
+    @Converter
+    public static Message toMessage(HL7LazyMessage message) throws HL7Exception {
+        return message.getMessage();
+    }
+
+    @Converter
+    public static String toString(HL7LazyMessage message) throws HL7Exception {
+        return message.encode();
+    }
+
+    @Converter
+    public static byte[] toByteArray(HL7LazyMessage message, Exchange exchange) throws HL7Exception, IOException {
+        return IOConverter.toByteArray(message.encode(), exchange);
+    }
+
     @Converter
     public static Message toMessage(String body) throws HL7Exception {
         return DEFAULT_CONTEXT.getGenericParser().parse(body);
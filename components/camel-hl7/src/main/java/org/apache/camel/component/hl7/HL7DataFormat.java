@@ -84,6 +84,10 @@ import static org.apache.camel.component.hl7.HL7Constants.HL7_VERSION_ID;
  * </ul>
  * All headers are String types.
  * <p/>
+ * When <tt>lazyParsing</tt> is enabled, the <tt>unmarshal</tt> operation returns a {@link HL7LazyMessage}, which reads
+ * the headers and other fields from the text of the message, and the message is only parsed when it is converted to a
+ * {@link Message}. As the message is not validated when it is unmarshalled, <tt>validate</tt> must be disabled.
+ * <p/>
  *
  * @see org.apache.camel.component.hl7.HL7MLLPCodec
  */
@@ -95,6 +99,7 @@ public class HL7DataFormat extends ServiceSupport implements DataFormat, DataFor
     private HapiContext hapiContext;
     private Parser parser;
     private boolean validate = true;
+    private boolean lazyParsing;
 
     static {
         HEADER_MAP.put(HL7_SENDING_APPLICATION, "MSH-3");
@@ -118,6 +123,13 @@ public class HL7DataFormat extends ServiceSupport implements DataFormat, DataFor
 
     @Override
     public void marshal(Exchange exchange, Object body, OutputStream outputStream) throws Exception {
+        if (body instanceof HL7LazyMessage) {
+            HL7LazyMessage view = (HL7LazyMessage) body;
+            String charsetName = HL7Charset.getCharsetName(view, exchange);
+            String encoded = view.isParsed() ? parser.encode(view.getMessage()) : view.encode();
+            outputStream.write(encoded.getBytes(charsetName));
+            return;
+        }
         Message message = ExchangeHelper.convertToMandatoryType(exchange, Message.class, body);
         String charsetName = HL7Charset.getCharsetName(message, exchange);
         String encoded = parser.encode(message);
@@ -129,6 +141,17 @@ public class HL7DataFormat extends ServiceSupport implements DataFormat, DataFor
         byte[] body = ExchangeHelper.convertToMandatoryType(exchange, byte[].class, inputStream);
         String charsetName = HL7Charset.getCharsetName(body, guessCharsetName(body, exchange));
         String bodyAsString = new String(body, charsetName);
+
+        if (lazyParsing) {
+            HL7LazyMessage view = new HL7LazyMessage(bodyAsString, parser);
+            for (Map.Entry<String, String> entry : HEADER_MAP.entrySet()) {
+                exchange.getOut().setHeader(entry.getKey(), view.get(entry.getValue()));
+            }
+            exchange.getOut().setHeader(HL7_CONTEXT, hapiContext);
+            exchange.getOut().setHeader(Exchange.CHARSET_NAME, charsetName);
+            return view;
+        }
+
         Message message = parser.parse(bodyAsString);
 
         // add MSH fields as message out headers
@@ -149,6 +172,18 @@ public class HL7DataFormat extends ServiceSupport implements DataFormat, DataFor
         this.validate = validate;
     }
 
+    public boolean isLazyParsing() {
+        return lazyParsing;
+    }
+
+    /**
+     * Whether to unmarshal to a {@link HL7LazyMessage}, which reads fields from the text of the message, and only
+     * parses the message when it is converted to a {@link Message}. This cannot be used together with validate.
+     */
+    public void setLazyParsing(boolean lazyParsing) {
+        this.lazyParsing = lazyParsing;
+    }
+
     public HapiContext getHapiContext() {
         return hapiContext;
     }
@@ -167,6 +202,10 @@ public class HL7DataFormat extends ServiceSupport implements DataFormat, DataFor
 
     @Override
     protected void doStart() throws Exception {
+        if (lazyParsing && validate) {
+            // the fields read from the text of the message are never validated
+            throw new IllegalArgumentException("The lazyParsing option cannot be used together with validate");
+        }
         if (hapiContext == null) {
             ValidationContext validationContext;
             if (validate) {
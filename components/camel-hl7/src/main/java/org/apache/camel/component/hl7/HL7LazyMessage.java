@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hl7;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ca.uhn.hl7v2.HL7Exception;
+import ca.uhn.hl7v2.model.Message;
+import ca.uhn.hl7v2.parser.EncodingCharacters;
+import ca.uhn.hl7v2.parser.Escape;
+import ca.uhn.hl7v2.parser.Parser;
+import ca.uhn.hl7v2.util.Terser;
+
+/**
+ * A view of a pipe delimited (ER7 encoded) HL7 v2 message, which reads {@link Terser} paths from the text of the
+ * message without parsing it into a HAPI {@link Message}.
+ * <p/>
+ * The offsets of the segments and fields are indexed in a single pass over the text when the view is created, and the
+ * repetitions, components and subcomponents are only split when a value is read.
+ * <p/>
+ * The index answers paths to the MSH segment, and paths searching for the first occurrence of a segment anywhere in the
+ * message (like <tt>/.PID-3-1</tt>). Other paths, like paths into groups or to segment repetitions, depend on the
+ * structure of the message, and are answered by parsing the message with HAPI. The message is also parsed when
+ * {@link #getMessage()} is called, and as the parsed message may be modified from then on, all paths are answered from
+ * the parsed message afterwards.
+ *
+ * @see HL7DataFormat#setLazyParsing(boolean)
+ */
+public class HL7LazyMessage {
+
+    private static final Pattern PATH = Pattern.compile(
+            "(/\\.?)?([A-Z][A-Z0-9]{2})(?:\\((\\d+)\\))?-(\\d+)(?:\\((\\d+)\\))?(?:-(\\d+))?(?:-(\\d+))?");
+
+    private final String text;
+    private final Parser parser;
+    private volatile Message message;
+
+    // the index - segmentFields[i] is the index in fieldSeparators of the first field separator of segment i
+    private int segmentCount;
+    private int[] segmentStarts;
+    private int[] segmentEnds;
+    private int[] segmentFields;
+    private int[] fieldSeparators;
+    private EncodingCharacters encodingCharacters;
+
+    /**
+     * @param text   the message
+     * @param parser the parser used when the message must be parsed
+     */
+    public HL7LazyMessage(String text, Parser parser) {
+        this.text = text;
+        this.parser = parser;
+        index();
+    }
+
+    private void index() {
+        // MSH|^~\&|
+        if (text.length() < 8 || !text.startsWith("MSH")) {
+            return;
+        }
+
+        char fieldSeparator = text.charAt(3);
+        int length = text.length();
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        int[] fields = new int[17];
+        int[] separators = new int[128];
+        int segments = 0;
+        int fieldCount = 0;
+        int segmentStart = 0;
+
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : '\r';
+            if (c == '\r' || c == '\n') {
+                if (i > segmentStart) {
+                    if (segments == starts.length) {
+                        starts = Arrays.copyOf(starts, segments * 2);
+                        ends = Arrays.copyOf(ends, segments * 2);
+                        fields = Arrays.copyOf(fields, segments * 2 + 1);
+                    }
+                    starts[segments] = segmentStart;
+                    ends[segments] = i;
+                    segments++;
+                    fields[segments] = fieldCount;
+                }
+                segmentStart = i + 1;
+            } else if (c == fieldSeparator) {
+                if (fieldCount == separators.length) {
+                    separators = Arrays.copyOf(separators, fieldCount * 2);
+                }
+                separators[fieldCount++] = i;
+            }
+        }
+
+        // MSH-2 holds the encoding characters
+        if (fields[1] < 2) {
+            return;
+        }
+        String msh2 = text.substring(separators[0] + 1, separators[1]);
+        if (msh2.length() < 4) {
+            return;
+        }
+
+        this.segmentCount = segments;
+        this.segmentStarts = starts;
+        this.segmentEnds = ends;
+        this.segmentFields = fields;
+        this.fieldSeparators = separators;
+        this.encodingCharacters = new EncodingCharacters(fieldSeparator, msh2);
+    }
+
+    /**
+     * Gets the value at the given {@link Terser} path, like <tt>MSH-9-1</tt> or <tt>/.PID-3(1)-1</tt>
+     *
+     * @param  path          the terser path
+     * @return               the value, or null if the value is empty or not present
+     * @throws HL7Exception if the message has to be parsed and cannot be parsed, or the path is invalid
+     */
+    public String get(String path) throws HL7Exception {
+        if (message == null && encodingCharacters != null) {
+            Matcher matcher = PATH.matcher(path);
+            if (matcher.matches()) {
+                String prefix = matcher.group(1);
+                String name = matcher.group(2);
+                int segmentRepetition = toInt(matcher.group(3), 0);
+                if (segmentRepetition == 0 && ("MSH".equals(name) || "/.".equals(prefix))) {
+                    int segment = findSegment(name);
+                    if (segment >= 0) {
+                        int field = toInt(matcher.group(4), 0);
+                        int repetition = toInt(matcher.group(5), 0);
+                        int component = toInt(matcher.group(6), 1);
+                        int subcomponent = toInt(matcher.group(7), 1);
+                        if (field > 0 && component > 0 && subcomponent > 0) {
+                            return getValue(segment, field, repetition, component, subcomponent);
+                        }
+                    }
+                }
+            }
+        }
+
+        return new Terser(getMessage()).get(path);
+    }
+
+    private int findSegment(String name) {
+        for (int i = 0; i < segmentCount; i++) {
+            int start = segmentStarts[i];
+            int end = segmentFields[i + 1] > segmentFields[i] ? fieldSeparators[segmentFields[i]] : segmentEnds[i];
+            if (end - start == name.length() && text.startsWith(name, start)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private String getValue(int segment, int field, int repetition, int component, int subcomponent) {
+        if (segment == 0 && field <= 2) {
+            // MSH-1 and MSH-2 are the encoding characters, which are not split
+            if (repetition > 0 || component > 1 || subcomponent > 1) {
+                return null;
+            }
+            return field == 1
+                    ? String.valueOf(encodingCharacters.getFieldSeparator())
+                    : text.substring(fieldSeparators[0] + 1, fieldSeparators[1]);
+        }
+
+        // MSH-1 is the first field separator, so the fields of the MSH segment are shifted by one
+        int separator = segment == 0 ? field - 1 : field;
+        int firstSeparator = segmentFields[segment];
+        int separators = segmentFields[segment + 1] - firstSeparator;
+        if (separator > separators) {
+            return null;
+        }
+
+        int start = fieldSeparators[firstSeparator + separator - 1] + 1;
+        int end = separator < separators ? fieldSeparators[firstSeparator + separator] : segmentEnds[segment];
+
+        long range = find(start, end, encodingCharacters.getRepetitionSeparator(), repetition);
+        range = find(range, encodingCharacters.getComponentSeparator(), component - 1);
+        range = find(range, encodingCharacters.getSubcomponentSeparator(), subcomponent - 1);
+        if (range < 0) {
+            return null;
+        }
+
+        start = (int) (range >>> 32);
+        end = (int) range;
+        if (start == end) {
+            return null;
+        }
+
+        String value = text.substring(start, end);
+        if (value.indexOf(encodingCharacters.getEscapeCharacter()) >= 0) {
+            value = Escape.unescape(value, encodingCharacters);
+        }
+        return value;
+    }
+
+    private long find(long range, char separator, int index) {
+        if (range < 0) {
+            return range;
+        }
+        return find((int) (range >>> 32), (int) range, separator, index);
+    }
+
+    /**
+     * Find the part with the given index of the text between start and end, which is split by the separator.
+     *
+     * @return the start and end of the part packed in a long, or -1 if the part is not present
+     */
+    private long find(int start, int end, char separator, int index) {
+        int partStart = start;
+        for (int i = 0; i < index; i++) {
+            int next = text.indexOf(separator, partStart);
+            if (next < 0 || next >= end) {
+                return -1;
+            }
+            partStart = next + 1;
+        }
+
+        int partEnd = text.indexOf(separator, partStart);
+        if (partEnd < 0 || partEnd > end) {
+            partEnd = end;
+        }
+        return ((long) partStart << 32) | partEnd;
+    }
+
+    private static int toInt(String value, int defaultValue) {
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    /**
+     * Gets the parsed message, parsing the message the first time this is called.
+     * <p/>
+     * The view is backed by the parsed message from then on, so changes to the parsed message are visible through the
+     * view.
+     */
+    public Message getMessage() throws HL7Exception {
+        Message answer = message;
+        if (answer == null) {
+            synchronized (this) {
+                answer = message;
+                if (answer == null) {
+                    answer = parser.parse(text);
+                    message = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the message has been parsed
+     */
+    public boolean isParsed() {
+        return message != null;
+    }
+
+    /**
+     * Whether the segments and fields of the message could be indexed, otherwise all paths are answered by parsing the
+     * message.
+     */
+    public boolean isIndexed() {
+        return encodingCharacters != null;
+    }
+
+    /**
+     * The number of segments in the message
+     */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * The name of the segment at the given index
+     */
+    public String getSegmentName(int index) {
+        if (index < 0 || index >= segmentCount) {
+            throw new IndexOutOfBoundsException("Segment " + index + " of " + segmentCount + " segments");
+        }
+        int start = segmentStarts[index];
+        int end = segmentFields[index + 1] > segmentFields[index]
+                ? fieldSeparators[segmentFields[index]] : segmentEnds[index];
+        return text.substring(start, end);
+    }
+
+    /**
+     * Parses only the MSH segment, which is enough to generate an acknowledgement for the message.
+     */
+    Message parseHeader() throws HL7Exception {
+        Message answer = message;
+        if (answer != null || encodingCharacters == null) {
+            return getMessage();
+        }
+        return parser.parse(text.substring(segmentStarts[0], segmentEnds[0]) + '\r');
+    }
+
+    /**
+     * Gets the encoded message, which is the original text until the message has been parsed.
+     */
+    public String encode() throws HL7Exception {
+        Message answer = message;
+        return answer != null ? parser.encode(answer) : text;
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return encode();
+        } catch (HL7Exception e) {
+            return text;
+        }
+    }
+}
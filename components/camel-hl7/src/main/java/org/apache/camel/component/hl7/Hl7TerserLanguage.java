@@ -37,8 +37,13 @@ public class Hl7TerserLanguage implements Language {
 
             @Override
             public Object evaluate(Exchange exchange) {
-                Message message = exchange.getIn().getBody(Message.class);
+                Object body = exchange.getIn().getBody();
                 try {
+                    if (body instanceof HL7LazyMessage) {
+                        // read the field from the text of the message, without parsing the message
+                        return ((HL7LazyMessage) body).get(expression.trim());
+                    }
+                    Message message = exchange.getIn().getBody(Message.class);
                     return new Terser(message).get(expression.trim());
                 } catch (HL7Exception e) {
                     throw RuntimeCamelException.wrapRuntimeCamelException(e);
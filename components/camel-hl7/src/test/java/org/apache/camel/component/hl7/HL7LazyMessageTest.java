@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hl7;
+
+import ca.uhn.hl7v2.model.Message;
+import ca.uhn.hl7v2.parser.Parser;
+import ca.uhn.hl7v2.util.Terser;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.hl7.HL7.hl7terser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for the {@link HL7LazyMessage} view of a message
+ */
+public class HL7LazyMessageTest extends CamelTestSupport {
+
+    private static final String MESSAGE = "MSH|^~\\&|MYSENDER^SUB&PART|MYSENDERAPP|MYCLIENT|MYCLIENTAPP|200612211200||ADT^A01"
+                                          + "|1234|P|2.4\r"
+                                          + "EVN|A01|200612211200\r"
+                                          + "PID|1||123456^^^MRN~654321^^^SSN||Doe^John^^^Dr||19700101|M|||"
+                                          + "Main \\T\\ Second^^Town\r"
+                                          + "PV1|1|I|WARD^1^A\r";
+
+    private static final String[] PATHS = {
+            "MSH-1", "MSH-2", "MSH-3", "MSH-3-1", "MSH-3-2", "MSH-3-2-2", "MSH-3-3", "MSH-8", "MSH-9-1", "MSH-9-2",
+            "MSH-10", "MSH-12", "MSH-18", "MSH-3(0)-1", "MSH-3(1)-1",
+            "/.PID-3-1", "/.PID-3(1)-1", "/.PID-3(1)-4", "/.PID-3(2)-1", "/.PID-4-1", "/.PID-5-2", "/.PID-5-5",
+            "/.PID-11-1", "/.PID-11-3", "/.PID-30", "/.PV1-3-3", "/.EVN-1" };
+
+    private HL7DataFormat hl7 = new HL7DataFormat();
+
+    @Test
+    public void testSameValuesAsTerser() throws Exception {
+        Parser parser = context.getTypeConverter().convertTo(Message.class, MESSAGE).getParser();
+        HL7LazyMessage view = new HL7LazyMessage(MESSAGE, parser);
+        Terser terser = new Terser(parser.parse(MESSAGE));
+
+        assertTrue(view.isIndexed());
+        assertEquals(4, view.getSegmentCount());
+        assertEquals("PID", view.getSegmentName(2));
+        for (String path : PATHS) {
+            assertEquals(terser.get(path), view.get(path), path);
+        }
+        // paths into groups are answered by the parsed message
+        assertFalse(view.isParsed());
+        assertEquals(terser.get("PID-3-1"), view.get("PID-3-1"));
+        assertTrue(view.isParsed());
+    }
+
+    @Test
+    public void testParsedMessageIsUsedOnceParsed() throws Exception {
+        Parser parser = context.getTypeConverter().convertTo(Message.class, MESSAGE).getParser();
+        HL7LazyMessage view = new HL7LazyMessage(MESSAGE, parser);
+        assertEquals(MESSAGE, view.encode());
+
+        Message message = view.getMessage();
+        assertSame(message, view.getMessage());
+        new Terser(message).set("/.PID-5-1", "Smith");
+        assertEquals("Smith", view.get("/.PID-5-1"));
+        assertTrue(view.encode().contains("Smith^John"));
+    }
+
+    @Test
+    public void testUnmarshalLazy() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedHeaderReceived(HL7Constants.HL7_MESSAGE_TYPE, "ADT");
+        mock.expectedHeaderReceived(HL7Constants.HL7_TRIGGER_EVENT, "A01");
+        mock.expectedHeaderReceived(HL7Constants.HL7_MESSAGE_CONTROL, "1234");
+        mock.expectedHeaderReceived("patient", "123456");
+
+        String ack = template.requestBody("direct:unmarshal", MESSAGE, String.class);
+
+        MockEndpoint.assertIsSatisfied(context);
+        HL7LazyMessage view = assertInstanceOf(HL7LazyMessage.class, mock.getReceivedExchanges().get(0).getIn().getBody());
+        assertFalse(view.isParsed());
+        assertTrue(ack.startsWith("MSH|^~\\&|MYCLIENT|MYCLIENTAPP|MYSENDER|MYSENDERAPP|"), ack);
+        assertTrue(ack.contains("MSA|AA|1234"), ack);
+    }
+
+    @Test
+    public void testMarshalLazy() throws Exception {
+        String body = template.requestBody("direct:roundtrip", MESSAGE, String.class);
+        assertEquals(MESSAGE, body);
+    }
+
+    @Test
+    public void testLazyParsingWithValidate() {
+        HL7DataFormat format = new HL7DataFormat();
+        format.setLazyParsing(true);
+
+        assertThrows(IllegalArgumentException.class, format::start);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        hl7.setValidate(false);
+        hl7.setLazyParsing(true);
+
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("direct:unmarshal").unmarshal(hl7)
+                        .setHeader("patient", hl7terser("/.PID-3-1"))
+                        .to("mock:result")
+                        .transform(HL7.ack())
+                        .marshal(hl7);
+
+                from("direct:roundtrip").unmarshal(hl7).marshal(hl7);
+            }
+        };
+    }
+}
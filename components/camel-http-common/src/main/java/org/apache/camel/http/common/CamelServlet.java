@@ -400,13 +400,24 @@ public class CamelServlet extends HttpServlet implements HttpRegistryProvider {
     @Override
     public void connect(HttpConsumer consumer) {
         log.debug("Connecting consumer: {}", consumer);
-        consumers.put(consumer.getEndpoint().getEndpointUri(), consumer);
+        HttpConsumer old = consumers.put(consumer.getEndpoint().getEndpointUri(), consumer);
+        if (servletResolveConsumerStrategy instanceof HttpRestServletResolveConsumerStrategy) {
+            HttpRestServletResolveConsumerStrategy strategy
+                    = (HttpRestServletResolveConsumerStrategy) servletResolveConsumerStrategy;
+            if (old != null) {
+                strategy.removeConsumer(old);
+            }
+            strategy.addConsumer(consumer);
+        }
     }
 
     @Override
     public void disconnect(HttpConsumer consumer) {
         log.debug("Disconnecting consumer: {}", consumer);
-        consumers.remove(consumer.getEndpoint().getEndpointUri());
+        HttpConsumer old = consumers.remove(consumer.getEndpoint().getEndpointUri());
+        if (old != null && servletResolveConsumerStrategy instanceof HttpRestServletResolveConsumerStrategy) {
+            ((HttpRestServletResolveConsumerStrategy) servletResolveConsumerStrategy).removeConsumer(old);
+        }
     }
 
     @Override
@@ -424,6 +435,12 @@ public class CamelServlet extends HttpServlet implements HttpRegistryProvider {
 
     public void setServletResolveConsumerStrategy(ServletResolveConsumerStrategy servletResolveConsumerStrategy) {
         this.servletResolveConsumerStrategy = servletResolveConsumerStrategy;
+        if (servletResolveConsumerStrategy instanceof HttpRestServletResolveConsumerStrategy) {
+            // register the consumers which are already connected
+            for (HttpConsumer consumer : consumers.values()) {
+                ((HttpRestServletResolveConsumerStrategy) servletResolveConsumerStrategy).addConsumer(consumer);
+            }
+        }
     }
 
     public boolean isAsync() {
@@ -23,12 +23,29 @@ import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.camel.support.RestConsumerContextPathMatcher;
+import org.apache.camel.support.RestConsumerContextPathRouter;
 
 /**
  * A {@link org.apache.camel.http.common.HttpServletResolveConsumerStrategy} that supports the Rest DSL.
  */
 public class HttpRestServletResolveConsumerStrategy extends HttpServletResolveConsumerStrategy {
 
+    private final RestConsumerContextPathRouter<HttpConsumer> router = new RestConsumerContextPathRouter<>();
+
+    /**
+     * Registers the consumer, so its path can be matched without scoring every consumer on each request.
+     */
+    public void addConsumer(HttpConsumer consumer) {
+        router.addConsumerPath(new HttpRestConsumerPath(consumer));
+    }
+
+    /**
+     * Unregisters the consumer.
+     */
+    public void removeConsumer(HttpConsumer consumer) {
+        router.removeConsumer(consumer);
+    }
+
     @Override
     protected HttpConsumer doResolve(HttpServletRequest request, String method, Map<String, HttpConsumer> consumers) {
         HttpConsumer answer = null;
@@ -37,15 +54,23 @@ public class HttpRestServletResolveConsumerStrategy extends HttpServletResolveCo
         if (path == null) {
             return null;
         }
-        List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
-        for (final Map.Entry<String, HttpConsumer> entry : consumers.entrySet()) {
-            paths.add(new HttpRestConsumerPath(entry.getValue()));
-        }
+        if (router.size() == consumers.size()) {
+            RestConsumerContextPathRouter.Match<HttpConsumer> best = router.matchBestPath(method, path);
+            if (best != null) {
+                answer = best.getConsumer();
+            }
+        } else {
+            // the consumers are not (yet) registered with this strategy, so match among all of them
+            List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
+            for (final Map.Entry<String, HttpConsumer> entry : consumers.entrySet()) {
+                paths.add(new HttpRestConsumerPath(entry.getValue()));
+            }
 
-        RestConsumerContextPathMatcher.ConsumerPath<HttpConsumer> best
-                = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
-        if (best != null) {
-            answer = best.getConsumer();
+            RestConsumerContextPathMatcher.ConsumerPath<HttpConsumer> best
+                    = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
+            if (best != null) {
+                answer = best.getConsumer();
+            }
         }
 
         if (answer == null) {
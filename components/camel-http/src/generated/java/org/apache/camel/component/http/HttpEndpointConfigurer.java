@@ -21,6 +21,10 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asynchttpversion":
+        case "asyncHttpVersion": target.setAsyncHttpVersion(property(camelContext, java.lang.String.class, value)); return true;
+        case "asyncproducer":
+        case "asyncProducer": target.setAsyncProducer(property(camelContext, boolean.class, value)); return true;
         case "authdomain":
         case "authDomain": target.setAuthDomain(property(camelContext, java.lang.String.class, value)); return true;
         case "authhost":
@@ -126,6 +130,10 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asynchttpversion":
+        case "asyncHttpVersion": return java.lang.String.class;
+        case "asyncproducer":
+        case "asyncProducer": return boolean.class;
         case "authdomain":
         case "authDomain": return java.lang.String.class;
         case "authhost":
@@ -232,6 +240,10 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asynchttpversion":
+        case "asyncHttpVersion": return target.getAsyncHttpVersion();
+        case "asyncproducer":
+        case "asyncProducer": return target.isAsyncProducer();
         case "authdomain":
         case "authDomain": return target.getAuthDomain();
         case "authhost":
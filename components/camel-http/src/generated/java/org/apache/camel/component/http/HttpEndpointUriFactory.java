@@ -22,7 +22,9 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(50);
+        Set<String> props = new HashSet<>(52);
+        props.add("asyncHttpVersion");
+        props.add("asyncProducer");
         props.add("authDomain");
         props.add("authHost");
         props.add("authMethod");
@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.jsse.SSLContextParameters;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.CookieStore;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A non-blocking producer which sends the HTTP requests using the JDK {@link HttpClient}, which supports HTTP/2 where
+ * concurrent requests to the same host are multiplexed over a single connection.
+ * <p/>
+ * The request is created and the response is mapped the same way as {@link HttpProducer} does, but the calling thread
+ * is not blocked while the request is in flight. The exchange is continued from a thread of the HTTP client once the
+ * response headers have been received, and the response body is then read into a stream cache (or used as-is when
+ * stream caching is disabled). Each producer has its own HTTP client, and therefore its own pool of connections, which
+ * is released when the producer is stopped.
+ * <p/>
+ * The Apache HttpClient configuration such as authentication, proxy authentication, cookie store and
+ * {@link HttpClientConfigurer} is not supported, and the producer fails to start if any of them is configured.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+
+    private HttpClient asyncHttpClient;
+    private ExecutorService executorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        HttpEndpoint endpoint = getEndpoint();
+        if (endpoint.getHttpClientConfigurer() != null) {
+            // authentication and proxy authentication are configured with a configurer as well
+            throw new IllegalArgumentException(
+                    "The async producer does not support authentication, proxy authentication or HttpClientConfigurer on endpoint: "
+                                               + endpoint);
+        }
+        CookieStore cookieStore = endpoint.getCookieStore();
+        if (cookieStore != null && cookieStore.getClass() != BasicCookieStore.class
+                && !(cookieStore instanceof NoopCookieStore)) {
+            throw new IllegalArgumentException(
+                    "The async producer does not support a custom cookie store, use a cookie handler instead on endpoint: "
+                                               + endpoint);
+        }
+
+        if (asyncHttpClient == null) {
+            asyncHttpClient = createAsyncHttpClient();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (asyncHttpClient instanceof AutoCloseable) {
+            // the client can be closed since Java 21
+            ((AutoCloseable) asyncHttpClient).close();
+        }
+        // otherwise the client releases its connections when it is no longer referenced
+        asyncHttpClient = null;
+
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    /**
+     * Creates the HTTP client to use by this producer
+     */
+    protected HttpClient createAsyncHttpClient() throws Exception {
+        HttpEndpoint endpoint = getEndpoint();
+        CamelContext context = endpoint.getCamelContext();
+
+        HttpClient.Builder builder = HttpClient.newBuilder();
+        // use a thread pool managed by Camel, so the threads of the client are released when the producer is stopped
+        executorService = context.getExecutorServiceManager().newCachedThreadPool(this, "HttpAsyncProducer");
+        builder.executor(executorService);
+        if ("HTTP_1_1".equalsIgnoreCase(endpoint.getAsyncHttpVersion())) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        } else {
+            builder.version(HttpClient.Version.HTTP_2);
+        }
+        if (endpoint.getConnectTimeout() > 0) {
+            builder.connectTimeout(Duration.ofMillis(endpoint.getConnectTimeout()));
+        }
+        builder.followRedirects(endpoint.isFollowRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER);
+
+        SSLContextParameters sslContextParameters = endpoint.getResolvedSslContextParameters();
+        if (sslContextParameters != null) {
+            builder.sslContext(sslContextParameters.createSSLContext(context));
+        } else if (!"https".equalsIgnoreCase(endpoint.getHttpUri().getScheme())) {
+            // the client would otherwise initialize the default ssl context of the JVM which is not needed for http
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            builder.sslContext(sslContext);
+        }
+
+        if (!endpoint.isUseSystemProperties()) {
+            // configure http proxy from camelContext
+            String host = context.getGlobalOption("http.proxyHost");
+            String port = context.getGlobalOption("http.proxyPort");
+            if (ObjectHelper.isNotEmpty(host) && ObjectHelper.isNotEmpty(port)) {
+                LOG.debug("CamelContext properties http.proxyHost and http.proxyPort detected. Using http proxy host: {} port: {}",
+                        host, port);
+                builder.proxy(ProxySelector.of(new InetSocketAddress(host, Integer.parseInt(port))));
+            }
+        } else {
+            builder.proxy(ProxySelector.getDefault());
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = exchange.getContext().adapt(ExtendedCamelContext.class).getAsyncProcessorAwaitManager();
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        final HttpRequest request;
+        try {
+            httpRequest = createRequest(exchange);
+            request = toHttpRequest(exchange, httpRequest);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        URI uri = request.uri();
+        final HttpHostStatistics statistics = getEndpoint().getHostStatistics();
+        final HttpHostStatistics.HostStatistics host = statistics.onRequest(uri.getHost() + ":" + uri.getPort());
+        final long start = System.currentTimeMillis();
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {}", request.method(), uri);
+        }
+        // the response is completed when the headers have been received, and the body is read from a thread of the client
+        // (which is not the thread receiving the body) into a stream cache when the response is mapped
+        asyncHttpClient.sendAsync(request, BodyHandlers.ofInputStream()).whenComplete((response, error) -> {
+            HttpResponse httpResponse = null;
+            try {
+                if (error != null) {
+                    exchange.setException(error instanceof CompletionException ? error.getCause() : error);
+                } else {
+                    httpResponse = toHttpResponse(response);
+                    handleResponse(exchange, httpRequest, httpResponse);
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            } finally {
+                releaseResponse(exchange, httpResponse);
+                statistics.onResponse(host, System.currentTimeMillis() - start, exchange.getException() != null);
+                callback.done(false);
+            }
+        });
+        return false;
+    }
+
+    /**
+     * Converts the request created by {@link #createRequest(Exchange)} to a request for the JDK HTTP client. The request
+     * body is streamed from the entity.
+     */
+    protected HttpRequest toHttpRequest(Exchange exchange, HttpRequestBase httpRequest) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(httpRequest.getURI());
+        if (getEndpoint().getSocketTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(getEndpoint().getSocketTimeout()));
+        }
+        if (exchange.getIn().getHeader(HttpConstants.HTTP_PROTOCOL_VERSION) != null
+                && httpRequest.getProtocolVersion().getMajor() < 2) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+
+        boolean contentType = false;
+        for (Header header : httpRequest.getAllHeaders()) {
+            String name = header.getName();
+            if (name.equalsIgnoreCase(Exchange.CONTENT_TYPE)) {
+                contentType = true;
+            }
+            setHeader(builder, name, header.getValue());
+        }
+        String userAgent = getEndpoint().getUserAgent();
+        if (userAgent != null && !httpRequest.containsHeader("User-Agent")) {
+            setHeader(builder, "User-Agent", userAgent);
+        }
+
+        BodyPublisher body = BodyPublishers.noBody();
+        if (httpRequest instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) httpRequest).getEntity();
+            if (entity != null) {
+                if (!contentType && entity.getContentType() != null) {
+                    setHeader(builder, Exchange.CONTENT_TYPE, entity.getContentType().getValue());
+                }
+                if (entity.getContentEncoding() != null && !httpRequest.containsHeader(HttpConstants.CONTENT_ENCODING)) {
+                    setHeader(builder, HttpConstants.CONTENT_ENCODING, entity.getContentEncoding().getValue());
+                }
+                body = createBodyPublisher(entity);
+            }
+        }
+        builder.method(httpRequest.getMethod(), body);
+
+        return builder.build();
+    }
+
+    private static BodyPublisher createBodyPublisher(HttpEntity entity) {
+        long length = entity.getContentLength();
+        if (length == 0) {
+            return BodyPublishers.noBody();
+        }
+        Supplier<InputStream> content = () -> {
+            try {
+                return entity.getContent();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        BodyPublisher answer = BodyPublishers.ofInputStream(content);
+        if (length > 0) {
+            answer = BodyPublishers.fromPublisher(answer, length);
+        }
+        return answer;
+    }
+
+    private static void setHeader(HttpRequest.Builder builder, String name, String value) {
+        try {
+            builder.header(name, value);
+        } catch (IllegalArgumentException e) {
+            // the JDK client does not allow setting some headers such as Connection, Host and Content-Length
+            LOG.trace("Cannot set HTTP header: {} on the request due to: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Converts the response of the JDK HTTP client to a response which can be mapped to the exchange by
+     * {@link #handleResponse(Exchange, HttpRequestBase, HttpResponse)}.
+     */
+    protected HttpResponse toHttpResponse(java.net.http.HttpResponse<InputStream> response) {
+        int code = response.statusCode();
+        ProtocolVersion version = response.version() == HttpClient.Version.HTTP_2 ? HTTP_2 : HttpVersion.HTTP_1_1;
+        String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason(code, Locale.ENGLISH);
+        BasicHttpResponse answer = new BasicHttpResponse(new BasicStatusLine(version, code, reason));
+
+        for (Map.Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+            String name = entry.getKey();
+            // skip HTTP/2 pseudo headers
+            if (name.startsWith(":")) {
+                continue;
+            }
+            for (String value : entry.getValue()) {
+                answer.addHeader(name, value);
+            }
+        }
+
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(response.body());
+        entity.setContentLength(response.headers().firstValueAsLong(Exchange.CONTENT_LENGTH).orElse(-1));
+        response.headers().firstValue(Exchange.CONTENT_TYPE).ifPresent(entity::setContentType);
+        response.headers().firstValue(HttpConstants.CONTENT_ENCODING).ifPresent(entity::setContentEncoding);
+        answer.setEntity(entity);
+        return answer;
+    }
+
+}
@@ -20,6 +20,7 @@ import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
+import java.util.StringJoiner;
 
 import javax.net.ssl.HostnameVerifier;
 
@@ -29,6 +30,7 @@ import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.base.HttpHelper;
 import org.apache.camel.http.base.cookie.CookieHandler;
@@ -158,6 +160,23 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private boolean skipResponseHeaders;
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     private String userAgent;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should use a non-blocking HTTP client (the JDK java.net.http client) which"
+                            + " supports HTTP/2, where concurrent requests to the same host are multiplexed over a single connection."
+                            + " The calling thread is not blocked while the request is in flight, and the exchange is continued"
+                            + " from the thread of the HTTP client when the response headers have been received."
+                            + " The socketTimeout option is used as the time to wait for the response headers."
+                            + " Notice the async producer does not support the Apache HttpClient configuration such as"
+                            + " authentication, proxy authentication, cookie store and HttpClientConfigurer, and fails"
+                            + " to start if any of them is configured. The connection manager options are not used.")
+    private boolean asyncProducer;
+    @UriParam(label = "producer,advanced", defaultValue = "HTTP_2", enums = "HTTP_2,HTTP_1_1",
+              description = "The HTTP version the async producer should prefer. With HTTP_2 the client falls back to HTTP/1.1"
+                            + " if the server does not support HTTP/2.")
+    private String asyncHttpVersion = "HTTP_2";
+
+    private final HttpHostStatistics hostStatistics = new HttpHostStatistics();
+    private SSLContextParameters resolvedSslContextParameters;
 
     public HttpEndpoint() {
     }
@@ -188,6 +207,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (asyncProducer) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -610,6 +632,64 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.userAgent = userAgent;
     }
 
+    public boolean isAsyncProducer() {
+        return asyncProducer;
+    }
+
+    /**
+     * Whether the producer should use a non-blocking HTTP client (the JDK java.net.http client) which supports HTTP/2,
+     * where concurrent requests to the same host are multiplexed over a single connection.
+     */
+    public void setAsyncProducer(boolean asyncProducer) {
+        this.asyncProducer = asyncProducer;
+    }
+
+    public String getAsyncHttpVersion() {
+        return asyncHttpVersion;
+    }
+
+    /**
+     * The HTTP version the async producer should prefer. With HTTP_2 the client falls back to HTTP/1.1 if the server
+     * does not support HTTP/2.
+     */
+    public void setAsyncHttpVersion(String asyncHttpVersion) {
+        this.asyncHttpVersion = asyncHttpVersion;
+    }
+
+    SSLContextParameters getResolvedSslContextParameters() {
+        return sslContextParameters != null ? sslContextParameters : resolvedSslContextParameters;
+    }
+
+    void setResolvedSslContextParameters(SSLContextParameters resolvedSslContextParameters) {
+        this.resolvedSslContextParameters = resolvedSslContextParameters;
+    }
+
+    /**
+     * Statistics per target host of the requests sent by the async producers
+     */
+    public HttpHostStatistics getHostStatistics() {
+        return hostStatistics;
+    }
+
+    @ManagedAttribute(description = "Number of requests in flight by the async producers")
+    public int getAsyncInflightRequests() {
+        return hostStatistics.getInflight();
+    }
+
+    @ManagedOperation(description = "Statistics per target host of the requests sent by the async producers")
+    public String dumpHostStatistics() {
+        StringJoiner sj = new StringJoiner("\n");
+        for (HttpHostStatistics.HostStatistics host : hostStatistics.getHosts()) {
+            sj.add(host.toString());
+        }
+        return sj.toString();
+    }
+
+    @ManagedOperation(description = "Resets the statistics per target host of the async producers")
+    public void resetHostStatistics() {
+        hostStatistics.reset();
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
         ConnPoolControl<?> pool = null;
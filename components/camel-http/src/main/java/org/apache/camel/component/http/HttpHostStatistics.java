@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics per target host of the requests sent by the async producers of a {@link HttpEndpoint}.
+ */
+public class HttpHostStatistics {
+
+    private final Map<String, HostStatistics> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * The statistics of a single host.
+     */
+    public static final class HostStatistics {
+
+        private final String host;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private volatile int maxInflight;
+
+        HostStatistics(String host) {
+            this.host = host;
+        }
+
+        void onRequest() {
+            int count = inflight.incrementAndGet();
+            if (count > maxInflight) {
+                maxInflight = count;
+            }
+        }
+
+        void onResponse(long elapsed, boolean failure) {
+            inflight.decrementAndGet();
+            totalTime.add(elapsed);
+            if (failure) {
+                failed.increment();
+            } else {
+                completed.increment();
+            }
+        }
+
+        /**
+         * The host and port
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Number of requests currently in flight
+         */
+        public int getInflight() {
+            return inflight.get();
+        }
+
+        /**
+         * Highest number of requests which have been in flight at the same time
+         */
+        public int getMaxInflight() {
+            return maxInflight;
+        }
+
+        /**
+         * Number of requests completed successfully
+         */
+        public long getCompleted() {
+            return completed.sum();
+        }
+
+        /**
+         * Number of requests which failed
+         */
+        public long getFailed() {
+            return failed.sum();
+        }
+
+        /**
+         * The mean time in millis from sending the request until the response was processed
+         */
+        public long getMeanTime() {
+            long count = completed.sum() + failed.sum();
+            return count > 0 ? totalTime.sum() / count : 0;
+        }
+
+        @Override
+        public String toString() {
+            return host + " [inflight=" + getInflight() + ", maxInflight=" + maxInflight + ", completed=" + getCompleted()
+                   + ", failed=" + getFailed() + ", meanTime=" + getMeanTime() + "]";
+        }
+    }
+
+    /**
+     * Records that a request is sent to the given host
+     *
+     * @param  host the host and port
+     * @return      the statistics of the host, to be used when the response is received
+     */
+    public HostStatistics onRequest(String host) {
+        HostStatistics answer = hosts.computeIfAbsent(host, HostStatistics::new);
+        answer.onRequest();
+        return answer;
+    }
+
+    /**
+     * Records that the response of a request is received
+     *
+     * @param statistics the statistics of the host the request was sent to
+     * @param elapsed    the time in millis the request took
+     * @param failure    whether the request failed
+     */
+    public void onResponse(HostStatistics statistics, long elapsed, boolean failure) {
+        statistics.onResponse(elapsed, failure);
+    }
+
+    /**
+     * Gets the statistics of the given host, or <tt>null</tt> if no requests has been sent to the host.
+     */
+    public HostStatistics getHost(String host) {
+        return hosts.get(host);
+    }
+
+    /**
+     * Gets the statistics of all the hosts
+     */
+    public Collection<HostStatistics> getHosts() {
+        return new ArrayList<>(hosts.values());
+    }
+
+    /**
+     * Number of requests currently in flight to all the hosts
+     */
+    public int getInflight() {
+        int answer = 0;
+        for (HostStatistics host : hosts.values()) {
+            answer += host.getInflight();
+        }
+        return answer;
+    }
+
+    /**
+     * Removes the statistics of the hosts that have no requests in flight
+     */
+    public void reset() {
+        hosts.values().removeIf(host -> host.getInflight() == 0);
+    }
+
+}
@@ -141,6 +141,30 @@ public class HttpProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpRequestBase httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+
+        // lets store the result in the output message.
+        HttpResponse httpResponse = null;
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+            }
+            httpResponse = executeMethod(httpHost, httpRequest);
+            handleResponse(exchange, httpRequest, httpResponse);
+        } finally {
+            releaseResponse(exchange, httpResponse);
+        }
+    }
+
+    /**
+     * Creates the HTTP request to send, with the HTTP headers and cookies from the exchange.
+     *
+     * @param  exchange  the exchange
+     * @return           the request to send
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpRequestBase createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -160,7 +184,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpRequestBase httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(HttpConstants.HTTP_PROTOCOL_VERSION, String.class);
@@ -264,57 +287,68 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HTTP.CONN_CLOSE);
         }
 
-        // lets store the result in the output message.
-        HttpResponse httpResponse = null;
-        try {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
-            }
-            httpResponse = executeMethod(httpHost, httpRequest);
-            int responseCode = httpResponse.getStatusLine().getStatusCode();
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Http responseCode: {}", responseCode);
-            }
+        return httpRequest;
+    }
+
+    /**
+     * Populates the exchange from the HTTP response, or throws the exception when the response code is not ok.
+     *
+     * @param  exchange     the exchange
+     * @param  httpRequest  the request which was sent
+     * @param  httpResponse the response
+     * @throws Exception    is thrown if the HTTP operation failed or the response could not be read
+     */
+    protected void handleResponse(Exchange exchange, HttpRequestBase httpRequest, HttpResponse httpResponse)
+            throws Exception {
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        int responseCode = httpResponse.getStatusLine().getStatusCode();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Http responseCode: {}", responseCode);
+        }
 
-            if (!throwException) {
-                // if we do not use failed exception then populate response for all response codes
+        if (!throwException) {
+            // if we do not use failed exception then populate response for all response codes
+            populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+        } else {
+            boolean ok;
+            if (minOkRange > 0) {
+                ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+            } else {
+                ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+            }
+            if (ok) {
+                // only populate response for OK response
                 populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
             } else {
-                boolean ok;
-                if (minOkRange > 0) {
-                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                } else {
-                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
-                }
-                if (ok) {
-                    // only populate response for OK response
-                    populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                } else {
-                    // operation failed so populate exception to throw
-                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
-                }
+                // operation failed so populate exception to throw
+                throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
             }
-        } finally {
-            final HttpResponse response = httpResponse;
-            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
-                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
-                    @Override
-                    public void onDone(Exchange exchange) {
-                        try {
-                            EntityUtils.consume(response.getEntity());
-                        } catch (Exception e) {
-                            // ignore
-                        }
+        }
+    }
+
+    /**
+     * Consumes the HTTP response entity, either now or when the exchange is done if stream caching is disabled.
+     */
+    protected void releaseResponse(Exchange exchange, HttpResponse httpResponse) {
+        final HttpResponse response = httpResponse;
+        if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+            // close the stream at the end of the exchange to ensure it gets eventually closed later
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    try {
+                        EntityUtils.consume(response.getEntity());
+                    } catch (Exception e) {
+                        // ignore
                     }
-                });
-            } else if (httpResponse != null) {
-                // close the stream now
-                try {
-                    EntityUtils.consume(response.getEntity());
-                } catch (Exception e) {
-                    // ignore
                 }
+            });
+        } else if (httpResponse != null) {
+            // close the stream now
+            try {
+                EntityUtils.consume(response.getEntity());
+            } catch (Exception e) {
+                // ignore
             }
         }
     }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import io.undertow.util.Headers;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Sends requests with the async producer to a server which supports HTTP/2 over clear text (h2c)
+ */
+public class HttpAsyncProducerHttp2Test extends CamelTestSupport {
+
+    private Undertow server;
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        int port = AvailablePortFinder.getNextAvailable();
+        server = Undertow.builder()
+                .setServerOption(UndertowOptions.ENABLE_HTTP2, true)
+                .addHttpListener(port, "localhost")
+                .setHandler(exchange -> {
+                    exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, "text/plain");
+                    exchange.getResponseSender().send(exchange.getProtocol().toString());
+                })
+                .build();
+        server.start();
+
+        baseUrl = "http://localhost:" + port;
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testHttp2() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/protocol?asyncProducer=true", HttpEndpoint.class);
+        AsyncProducer producer = endpoint.createAsyncProducer();
+        producer.start();
+
+        try {
+            // the first request upgrades the connection to HTTP/2
+            Exchange first = producer.processAsync(endpoint.createExchange()).get(10, TimeUnit.SECONDS);
+            assertFalse(first.isFailed());
+
+            List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(producer.processAsync(endpoint.createExchange()));
+            }
+            for (CompletableFuture<Exchange> future : futures) {
+                Exchange exchange = future.get(10, TimeUnit.SECONDS);
+                assertFalse(exchange.isFailed());
+                assertEquals("HTTP/2.0", exchange.getMessage().getBody(String.class));
+                assertEquals(200, exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+            }
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testHttp11() throws Exception {
+        String out = template.requestBody(baseUrl + "/protocol?asyncProducer=true&asyncHttpVersion=HTTP_1_1", null,
+                String.class);
+
+        assertEquals("HTTP/1.1", out);
+    }
+}
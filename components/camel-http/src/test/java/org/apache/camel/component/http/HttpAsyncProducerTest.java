@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.util.StopWatch;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private static final int LARGE_SIZE = 1024 * 1024;
+
+    private HttpServer localServer;
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setExpectationVerifier(getHttpExpectationVerifier()).setSslContext(getSSLContext())
+                .registerHandler("/hello", new BasicValidationHandler("GET", null, null, getExpectedContent()))
+                .registerHandler("/echo", (request, response, context) -> {
+                    String body = EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity());
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("Bye " + body));
+                })
+                .registerHandler("/large", (request, response, context) -> {
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new ByteArrayEntity(new byte[LARGE_SIZE]));
+                })
+                .registerHandler("/missing", (request, response, context) -> {
+                    response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                })
+                .registerHandler("/slow", (request, response, context) -> {
+                    try {
+                        Thread.sleep(1000);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("slow"));
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://localhost:" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/hello?asyncProducer=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        String out = template.requestBody(baseUrl + "/echo?asyncProducer=true", "World", String.class);
+
+        assertEquals("Bye World", out);
+    }
+
+    @Test
+    public void testNotFound() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/missing?asyncProducer=true", exchange1 -> {
+        });
+
+        assertTrue(exchange.isFailed());
+        HttpOperationFailedException cause
+                = assertInstanceOf(HttpOperationFailedException.class, exchange.getException());
+        assertEquals(404, cause.getStatusCode());
+    }
+
+    @Test
+    public void testLargeResponseIsStreamCached() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/large?asyncProducer=true", exchange1 -> {
+        });
+
+        assertFalse(exchange.isFailed());
+        // the large response is read into a stream cache
+        assertInstanceOf(InputStream.class, exchange.getMessage().getBody());
+        assertEquals(LARGE_SIZE, exchange.getMessage().getBody(byte[].class).length);
+    }
+
+    @Test
+    public void testAuthenticationNotSupported() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(
+                baseUrl + "/hello?asyncProducer=true&authMethod=Basic&authUsername=camel&authPassword=secret",
+                HttpEndpoint.class);
+        AsyncProducer producer = endpoint.createAsyncProducer();
+
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Test
+    public void testNonBlocking() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/slow?asyncProducer=true", HttpEndpoint.class);
+        AsyncProducer producer = endpoint.createAsyncProducer();
+        assertInstanceOf(HttpAsyncProducer.class, producer);
+        producer.start();
+
+        StopWatch watch = new StopWatch();
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(producer.processAsync(endpoint.createExchange()));
+        }
+        // sending the requests must not wait for the responses
+        assertTrue(watch.taken() < 1000, "Should not block the calling thread");
+
+        for (CompletableFuture<Exchange> future : futures) {
+            Exchange exchange = future.get(10, TimeUnit.SECONDS);
+            assertFalse(exchange.isFailed());
+            assertEquals("slow", exchange.getMessage().getBody(String.class));
+        }
+        producer.stop();
+
+        HttpHostStatistics.HostStatistics host = endpoint.getHostStatistics().getHost("localhost:" + localServer.getLocalPort());
+        assertNotNull(host);
+        assertEquals(10, host.getCompleted());
+        assertEquals(0, host.getFailed());
+        assertEquals(0, host.getInflight());
+        assertTrue(host.getMaxInflight() > 1, "Should have concurrent requests in flight");
+        assertEquals(0, endpoint.getAsyncInflightRequests());
+    }
+
+}
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.FormatSchema;
@@ -33,6 +34,8 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -83,6 +86,8 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private SchemaResolver schemaResolver;
     private boolean autoDiscoverSchemaResolver = true;
     private String namingStrategy;
+    private final Map<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+    private volatile ObjectWriter objectWriter;
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -152,7 +157,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (this.schemaResolver != null) {
             schema = this.schemaResolver.resolve(exchange);
         }
-        this.objectMapper.writerWithView(jsonView).with(schema).writeValue(stream, graph);
+        getObjectWriter().with(schema).writeValue(stream, graph);
 
         if (contentTypeHeader) {
             exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, getDefaultContentType());
@@ -177,12 +182,46 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            return this.objectMapper.readerFor(collType).with(schema).readValue(stream);
-        } else {
+        if (clazz == null) {
             return this.objectMapper.reader(schema).readValue(stream, clazz);
         }
+        return getObjectReader(clazz).with(schema).readValue(stream);
+    }
+
+    /**
+     * Gets the writer to use for marshalling, which is created once as creating a writer per message is expensive.
+     */
+    protected ObjectWriter getObjectWriter() {
+        ObjectWriter answer = objectWriter;
+        if (answer == null) {
+            answer = objectMapper.writerWithView(jsonView);
+            objectWriter = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the reader to use for unmarshalling to the given type, which is created once per type as creating a reader
+     * per message is expensive.
+     */
+    protected ObjectReader getObjectReader(Class<?> clazz) {
+        return objectReaders.computeIfAbsent(clazz, type -> {
+            if (collectionType != null) {
+                CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, type);
+                return objectMapper.readerFor(collType);
+            } else {
+                return objectMapper.readerFor(type);
+            }
+        });
+    }
+
+    /**
+     * Clears the cached readers and writer, which are created again from the current configuration of the
+     * {@link ObjectMapper} when used.
+     */
+    protected void clearObjectReadersAndWriters() {
+        objectWriter = null;
+        objectReaders.clear();
     }
 
     // Properties
@@ -194,6 +233,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        clearObjectReadersAndWriters();
     }
 
     public boolean isUseDefaultObjectMapper() {
@@ -226,6 +266,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setCollectionType(Class<? extends Collection> collectionType) {
         this.collectionType = collectionType;
+        clearObjectReadersAndWriters();
     }
 
     public String getCollectionTypeName() {
@@ -242,6 +283,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        clearObjectReadersAndWriters();
     }
 
     public String getJsonViewTypeName() {
@@ -681,6 +723,9 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         } else {
             LOG.debug("The option autoDiscoverSchemaResolver is set to false, Camel won't search in the registry");
         }
+
+        // the object mapper may have been configured so create the readers and writer again
+        clearObjectReadersAndWriters();
     }
 
     private PropertyNamingStrategy determineNamingStrategy(String namingStrategy) {
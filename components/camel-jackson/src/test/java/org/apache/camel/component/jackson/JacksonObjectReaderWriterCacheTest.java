@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JacksonObjectReaderWriterCacheTest extends CamelTestSupport {
+
+    private final JacksonDataFormat format = new JacksonDataFormat();
+
+    @Test
+    public void testReadersAndWriterReused() throws Exception {
+        String json = "{\"name\":\"Camel\"}";
+        for (int i = 0; i < 3; i++) {
+            Object pojo = template.requestBodyAndHeader("direct:back", json, JacksonConstants.UNMARSHAL_TYPE,
+                    TestPojo.class.getName());
+            assertEquals("Camel", assertInstanceOf(TestPojo.class, pojo).getName());
+
+            Object other = template.requestBodyAndHeader("direct:back", json, JacksonConstants.UNMARSHAL_TYPE,
+                    TestOtherPojo.class.getName());
+            assertInstanceOf(TestOtherPojo.class, other);
+
+            assertEquals(json, template.requestBody("direct:in", pojo, String.class));
+        }
+
+        ObjectReader reader = format.getObjectReader(TestPojo.class);
+        assertSame(reader, format.getObjectReader(TestPojo.class));
+        assertNotSame(reader, format.getObjectReader(TestOtherPojo.class));
+        ObjectWriter writer = format.getObjectWriter();
+        assertSame(writer, format.getObjectWriter());
+
+        // setting another mapper creates new readers and writers
+        format.setObjectMapper(new ObjectMapper());
+        assertNotSame(reader, format.getObjectReader(TestPojo.class));
+        assertNotSame(writer, format.getObjectWriter());
+    }
+
+    @Test
+    public void testCollectionType() throws Exception {
+        template.requestBodyAndHeader("direct:back", "{\"name\":\"Camel\"}", JacksonConstants.UNMARSHAL_TYPE,
+                TestPojo.class.getName());
+
+        // the readers for the collection type must be used instead
+        format.setCollectionType(ArrayList.class);
+
+        Object list = template.requestBodyAndHeader("direct:back", "[{\"name\":\"Camel\"}]", JacksonConstants.UNMARSHAL_TYPE,
+                TestPojo.class.getName());
+        assertInstanceOf(TestPojo.class, assertInstanceOf(List.class, list).get(0));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() {
+                format.setAllowUnmarshallType(true);
+
+                from("direct:in").marshal(format);
+                from("direct:back").unmarshal(format);
+            }
+        };
+    }
+
+}
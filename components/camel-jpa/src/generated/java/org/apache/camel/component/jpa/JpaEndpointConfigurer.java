@@ -27,6 +27,12 @@ public class JpaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": target.setBackoffIdleThreshold(property(camelContext, int.class, value)); return true;
         case "backoffmultiplier":
         case "backoffMultiplier": target.setBackoffMultiplier(property(camelContext, int.class, value)); return true;
+        case "batchflushsize":
+        case "batchFlushSize": target.setBatchFlushSize(property(camelContext, int.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
+        case "batchtimeout":
+        case "batchTimeout": target.setBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "consumedelete":
@@ -63,6 +69,8 @@ public class JpaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "namedQuery": target.setNamedQuery(property(camelContext, java.lang.String.class, value)); return true;
         case "nativequery":
         case "nativeQuery": target.setNativeQuery(property(camelContext, java.lang.String.class, value)); return true;
+        case "pagesize":
+        case "pageSize": target.setPageSize(property(camelContext, int.class, value)); return true;
         case "parameters": target.setParameters(property(camelContext, java.util.Map.class, value)); return true;
         case "persistenceunit":
         case "persistenceUnit": target.setPersistenceUnit(property(camelContext, java.lang.String.class, value)); return true;
@@ -115,6 +123,12 @@ public class JpaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return int.class;
         case "backoffmultiplier":
         case "backoffMultiplier": return int.class;
+        case "batchflushsize":
+        case "batchFlushSize": return int.class;
+        case "batchsize":
+        case "batchSize": return int.class;
+        case "batchtimeout":
+        case "batchTimeout": return long.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "consumedelete":
@@ -151,6 +165,8 @@ public class JpaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "namedQuery": return java.lang.String.class;
         case "nativequery":
         case "nativeQuery": return java.lang.String.class;
+        case "pagesize":
+        case "pageSize": return int.class;
         case "parameters": return java.util.Map.class;
         case "persistenceunit":
         case "persistenceUnit": return java.lang.String.class;
@@ -204,6 +220,12 @@ public class JpaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return target.getBackoffIdleThreshold();
         case "backoffmultiplier":
         case "backoffMultiplier": return target.getBackoffMultiplier();
+        case "batchflushsize":
+        case "batchFlushSize": return target.getBatchFlushSize();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
+        case "batchtimeout":
+        case "batchTimeout": return target.getBatchTimeout();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "consumedelete":
@@ -240,6 +262,8 @@ public class JpaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "namedQuery": return target.getNamedQuery();
         case "nativequery":
         case "nativeQuery": return target.getNativeQuery();
+        case "pagesize":
+        case "pageSize": return target.getPageSize();
         case "parameters": return target.getParameters();
         case "persistenceunit":
         case "persistenceUnit": return target.getPersistenceUnit();
@@ -21,10 +21,13 @@ public class JpaEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(45);
+        Set<String> props = new HashSet<>(49);
         props.add("backoffErrorThreshold");
         props.add("backoffIdleThreshold");
         props.add("backoffMultiplier");
+        props.add("batchFlushSize");
+        props.add("batchSize");
+        props.add("batchTimeout");
         props.add("bridgeErrorHandler");
         props.add("consumeDelete");
         props.add("consumeLockEntity");
@@ -45,6 +48,7 @@ public class JpaEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("maximumResults");
         props.add("namedQuery");
         props.add("nativeQuery");
+        props.add("pageSize");
         props.add("parameters");
         props.add("persistenceUnit");
         props.add("pollStrategy");
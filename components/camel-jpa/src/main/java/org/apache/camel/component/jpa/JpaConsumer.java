@@ -17,12 +17,15 @@
 package org.apache.camel.component.jpa;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Queue;
+import java.util.Set;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
@@ -62,6 +65,7 @@ public class JpaConsumer extends ScheduledBatchPollingConsumer {
     private Class<?> resultClass;
     private boolean transacted;
     private boolean skipLockedEntity;
+    private int pageSize;
 
     static {
         NOWAIT = new HashMap<>();
@@ -110,48 +114,92 @@ public class JpaConsumer extends ScheduledBatchPollingConsumer {
                     entityManager.joinTransaction();
                 }
 
-                Queue<DataHolder> answer = new LinkedList<>();
+                int firstResult = 0;
+                // the entities consumed from the current page, as the query may still return them
+                Set<Object> consumed = new HashSet<>();
+                boolean more = true;
+                while (more) {
+                    int maxResults = pageSize;
+                    if (maxMessagesPerPoll > 0 && pageSize > 0) {
+                        maxResults = Math.min(pageSize, maxMessagesPerPoll - messagePolled[0]);
+                    }
 
-                Query toExecute = getQueryFactory().createQuery(entityManager);
-                configureParameters(toExecute);
-                LOG.trace("Created query {}", toExecute);
+                    Queue<DataHolder> answer = new LinkedList<>();
+                    Set<Object> returned = new HashSet<>();
 
-                List<?> results = toExecute.getResultList();
-                LOG.trace("Got result list from query {}", results);
+                    Query toExecute = getQueryFactory().createQuery(entityManager);
+                    configureParameters(toExecute);
+                    if (pageSize > 0) {
+                        toExecute.setFirstResult(firstResult);
+                        toExecute.setMaxResults(maxResults);
+                    }
+                    LOG.trace("Created query {}", toExecute);
+
+                    List<?> results = toExecute.getResultList();
+                    LOG.trace("Got result list from query {}", results);
+
+                    for (Object result : results) {
+                        if (pageSize > 0) {
+                            Object identity = getIdentity(result);
+                            returned.add(identity);
+                            if (!consumed.add(identity)) {
+                                continue;
+                            }
+                        }
+                        DataHolder holder = new DataHolder();
+                        holder.manager = entityManager;
+                        holder.result = result;
+                        holder.exchange = createExchange(result, entityManager);
+                        answer.add(holder);
+                    }
 
-                for (Object result : results) {
-                    DataHolder holder = new DataHolder();
-                    holder.manager = entityManager;
-                    holder.result = result;
-                    holder.exchange = createExchange(result, entityManager);
-                    answer.add(holder);
-                }
+                    int fresh = answer.size();
+                    PersistenceException cause = null;
+                    try {
+                        messagePolled[0] += processBatch(CastUtils.cast(answer));
+                    } catch (PersistenceException e) {
+                        cause = e;
+                    } catch (Exception e) {
+                        cause = new PersistenceException(e);
+                    }
 
-                PersistenceException cause = null;
-                try {
-                    messagePolled[0] = processBatch(CastUtils.cast(answer));
-                } catch (PersistenceException e) {
-                    cause = e;
-                } catch (Exception e) {
-                    cause = new PersistenceException(e);
-                }
+                    if (cause != null) {
+                        if (!isTransacted()) {
+                            LOG.warn(
+                                    "Error processing last message due: {}. Will commit all previous successful processed message, and ignore this last failure.",
+                                    cause.getMessage(), cause);
+                        } else {
+                            // rollback all by throwing exception
+                            throw cause;
+                        }
+                    }
 
-                if (cause != null) {
-                    if (!isTransacted()) {
-                        LOG.warn(
-                                "Error processing last message due: {}. Will commit all previous successful processed message, and ignore this last failure.",
-                                cause.getMessage(), cause);
+                    // commit
+                    LOG.debug("Flushing EntityManager");
+                    entityManager.flush();
+
+                    if (pageSize > 0) {
+                        // the consumed entities are usually no longer returned by the query (as they are removed, or
+                        // updated by the @Consumed method), so the next page is read from the same offset, until it
+                        // only has entities which have been consumed already. These are still returned by the query,
+                        // so the next page is read after them, which requires an ordered query.
+                        if (fresh == 0) {
+                            firstResult += results.size();
+                            // the entities of the page are now before the offset
+                            consumed.clear();
+                        } else {
+                            // the entities which are no longer returned by the query are not read again
+                            consumed.retainAll(returned);
+                        }
+                        more = cause == null && results.size() == maxResults && isRunAllowed()
+                                && (maxMessagesPerPoll <= 0 || messagePolled[0] < maxMessagesPerPoll);
                     } else {
-                        // rollback all by throwing exception
-                        throw cause;
+                        more = false;
                     }
-                }
 
-                // commit
-                LOG.debug("Flushing EntityManager");
-                entityManager.flush();
-                // must clear after flush
-                entityManager.clear();
+                    // must clear after flush
+                    entityManager.clear();
+                }
             });
         } catch (Exception e) {
             // Potentially EntityManager could be in an inconsistent state after transaction rollback,
@@ -165,6 +213,25 @@ public class JpaConsumer extends ScheduledBatchPollingConsumer {
         return getEndpoint().getCamelContext().getTypeConverter().convertTo(int.class, messagePolled[0]);
     }
 
+    /**
+     * The identity of a result of the query, which is the identifier of an entity, or the result itself, such as the
+     * values of a row returned by a native query.
+     */
+    private Object getIdentity(Object result) {
+        if (result instanceof Object[]) {
+            return Arrays.asList((Object[]) result);
+        }
+        try {
+            Object id = entityManagerFactory.getPersistenceUnitUtil().getIdentifier(result);
+            if (id != null) {
+                return Arrays.asList(result.getClass(), id);
+            }
+        } catch (IllegalArgumentException e) {
+            // not an entity
+        }
+        return result;
+    }
+
     @Override
     public int processBatch(Queue<Object> exchanges) throws Exception {
         int total = exchanges.size();
@@ -338,6 +405,18 @@ public class JpaConsumer extends ScheduledBatchPollingConsumer {
         return skipLockedEntity;
     }
 
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of entities to read from the query at a time. The EntityManager is flushed and cleared after each
+     * page has been processed, so only the entities of one page are managed at a time.
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -76,6 +76,8 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
     private boolean consumeLockEntity = true;
     @UriParam(label = "consumer")
     private int maxMessagesPerPoll;
+    @UriParam(label = "consumer")
+    private int pageSize;
 
     @UriParam
     private String query;
@@ -110,6 +112,12 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
     private Boolean useExecuteUpdate;
     @UriParam(label = "producer")
     private boolean findEntity;
+    @UriParam(label = "producer,advanced")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100", javaType = "java.time.Duration")
+    private long batchTimeout = 100;
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private int batchFlushSize = 100;
 
     @UriParam(label = "advanced", prefix = "emf.", multiValue = true)
     private Map<String, Object> entityManagerProperties;
@@ -145,6 +153,7 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
         validate();
         JpaConsumer consumer = new JpaConsumer(this, processor);
         consumer.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
+        consumer.setPageSize(getPageSize());
         consumer.setQuery(getQuery());
         consumer.setNamedQuery(getNamedQuery());
         consumer.setNativeQuery(getNativeQuery());
@@ -544,6 +553,58 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
         this.findEntity = findEntity;
     }
 
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * The number of entities to read from the query at a time. When set, the consumer reads the result of the query in
+     * pages, processes each page as a batch, and then flushes and clears the EntityManager, so only the entities of one
+     * page are managed at a time. The number of entities read by a poll is bounded by maxMessagesPerPoll. The next page
+     * is read from the same offset, as the consumed entities are expected to no longer match the query (consumeDelete, or
+     * a @Consumed method). When the consumed entities still match the query, the query must be ordered (ORDER BY).
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of exchanges to save or remove the entities of in one transaction. When set, the entities of
+     * the exchanges are saved (or removed) by batches, which are committed once they are full, or once batchTimeout has
+     * elapsed. The exchanges are completed when their batch has been committed, and they all fail if it fails. This
+     * does not apply to queries, to findEntity, or to transacted exchanges.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time (in millis) an exchange waits for its batch to fill up, before the batch is committed.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    public int getBatchFlushSize() {
+        return batchFlushSize;
+    }
+
+    /**
+     * The number of entities after which the EntityManager is flushed and cleared while saving a batch, to bound the
+     * number of entities managed by the persistence context. Use 0 to only flush once the whole batch has been saved.
+     */
+    public void setBatchFlushSize(int batchFlushSize) {
+        this.batchFlushSize = batchFlushSize;
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
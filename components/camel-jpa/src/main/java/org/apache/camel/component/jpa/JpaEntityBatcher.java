@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jpa;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.Batcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.StringHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+/**
+ * Saves (or removes) the entities of several exchanges in one transaction, which is committed when the batch is full,
+ * or when the batch timeout has elapsed. The EntityManager is flushed and cleared every flush size entities, so the
+ * persistence context does not grow with the batch. The exchanges are completed once their batch has been committed.
+ * When the transaction of a batch fails, each exchange of the batch is saved again in its own transaction, so that only
+ * the exchanges whose entities cannot be saved fail.
+ */
+class JpaEntityBatcher extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JpaEntityBatcher.class);
+    // all the exchanges are saved in the same transaction
+    private static final String KEY = "batch";
+
+    private final JpaProducer producer;
+    private final int flushSize;
+    private final Batcher<String, Entry> batcher;
+
+    JpaEntityBatcher(JpaProducer producer, int batchSize, long batchTimeout, int flushSize) {
+        this.producer = producer;
+        this.flushSize = flushSize;
+        this.batcher = new Batcher<>(
+                producer.getEndpoint().getCamelContext(), "JpaBatch", batchSize, batchTimeout,
+                (key, entries) -> execute(entries));
+    }
+
+    /**
+     * Adds the entities of the exchange to the current batch
+     */
+    void add(Object values, Exchange exchange, AsyncCallback callback) {
+        batcher.add(KEY, new Entry(values, exchange, callback));
+    }
+
+    private void execute(List<Entry> entries) {
+        LOG.trace("Saving batch of {} exchanges", entries.size());
+        Exception cause = save(entries);
+        if (cause != null && entries.size() > 1) {
+            // the transaction is rolled back as a whole, so save each exchange on its own to fail only the exchanges
+            // whose entities cannot be saved
+            LOG.debug("Saving batch of {} exchanges failed due: {}. Saving each exchange in its own transaction.",
+                    entries.size(), cause.getMessage());
+            for (Entry entry : entries) {
+                if (producer.getEndpoint().isUsePersist() && !producer.getEndpoint().isRemove()) {
+                    resetGeneratedValues(entry.values);
+                }
+                Exception failure = save(List.of(entry));
+                if (failure != null) {
+                    entry.exchange.setException(failure);
+                }
+                entry.callback.done(false);
+            }
+            return;
+        }
+
+        for (Entry entry : entries) {
+            if (cause != null) {
+                entry.exchange.setException(cause);
+            }
+            entry.callback.done(false);
+        }
+    }
+
+    /**
+     * Saves (or removes) the entities of the exchanges in one transaction
+     *
+     * @return the exception the transaction failed with, or <tt>null</tt> if it has been committed
+     */
+    private Exception save(List<Entry> entries) {
+        JpaEndpoint endpoint = producer.getEndpoint();
+        EntityManager entityManager = endpoint.isSharedEntityManager()
+                ? SharedEntityManagerCreator.createSharedEntityManager(endpoint.getEntityManagerFactory())
+                : endpoint.getEntityManagerFactory().createEntityManager();
+        try {
+            producer.getTransactionStrategy().executeInTransaction(() -> {
+                if (endpoint.isJoinTransaction()) {
+                    entityManager.joinTransaction();
+                }
+
+                int unflushed = 0;
+                for (Entry entry : entries) {
+                    unflushed += producer.saveOrRemove(entry.exchange, entityManager, entry.values);
+                    if (flushSize > 0 && unflushed >= flushSize) {
+                        entityManager.flush();
+                        // must clear after flush
+                        entityManager.clear();
+                        unflushed = 0;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return null;
+        } catch (Exception e) {
+            return e;
+        } finally {
+            if (!endpoint.isSharedEntityManager()) {
+                entityManager.close();
+            }
+        }
+    }
+
+    /**
+     * Resets the generated id and the version of the entities, which have been assigned by persisting them in a
+     * transaction that has been rolled back, as they could not be persisted again otherwise.
+     */
+    private void resetGeneratedValues(Object values) {
+        if (values.getClass().isArray()) {
+            for (Object entity : (Object[]) values) {
+                resetGeneratedValues(entity);
+            }
+        } else if (values instanceof Collection) {
+            for (Object entity : (Collection<?>) values) {
+                resetGeneratedValues(entity);
+            }
+        } else {
+            Metamodel metamodel = producer.getEndpoint().getEntityManagerFactory().getMetamodel();
+            EntityType<?> type;
+            try {
+                type = metamodel.entity(values.getClass());
+            } catch (IllegalArgumentException e) {
+                // not an entity
+                return;
+            }
+            for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+                if (attribute.isVersion() || attribute.isId() && isGenerated(attribute.getJavaMember())) {
+                    resetValue(values, attribute);
+                }
+            }
+        }
+    }
+
+    private static boolean isGenerated(Member member) {
+        return member instanceof Field && ((Field) member).isAnnotationPresent(GeneratedValue.class)
+                || member instanceof Method && ((Method) member).isAnnotationPresent(GeneratedValue.class);
+    }
+
+    private static void resetValue(Object entity, SingularAttribute<?, ?> attribute) {
+        Class<?> type = attribute.getJavaType();
+        // the default value of a primitive type, or null
+        Object value = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        Member member = attribute.getJavaMember();
+        try {
+            if (member instanceof Field) {
+                Field field = (Field) member;
+                field.setAccessible(true);
+                field.set(entity, value);
+            } else {
+                Method setter = member.getDeclaringClass()
+                        .getDeclaredMethod("set" + StringHelper.capitalize(attribute.getName()), type);
+                setter.setAccessible(true);
+                setter.invoke(entity, value);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Cannot reset the attribute {} of the entity {}", attribute.getName(), entity, e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+    }
+
+    private static final class Entry {
+        private final Object values;
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        Entry(Object values, Exchange exchange, AsyncCallback callback) {
+            this.values = values;
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
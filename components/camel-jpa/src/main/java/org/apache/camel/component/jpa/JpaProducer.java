@@ -24,18 +24,20 @@ import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Query;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
 import org.apache.camel.language.simple.SimpleLanguage;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.component.jpa.JpaHelper.getTargetEntityManager;
 
-public class JpaProducer extends DefaultProducer {
+public class JpaProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(JpaProducer.class);
 
@@ -50,6 +52,7 @@ public class JpaProducer extends DefaultProducer {
     private Class<?> resultClass;
     private QueryFactory queryFactory;
     private Boolean useExecuteUpdate;
+    private JpaEntityBatcher batcher;
 
     public JpaProducer(JpaEndpoint endpoint, Expression expression) {
         super(endpoint);
@@ -63,6 +66,10 @@ public class JpaProducer extends DefaultProducer {
         return (JpaEndpoint) super.getEndpoint();
     }
 
+    TransactionStrategy getTransactionStrategy() {
+        return transactionStrategy;
+    }
+
     public QueryFactory getQueryFactory() {
         if (queryFactory == null) {
             if (query != null) {
@@ -158,7 +165,13 @@ public class JpaProducer extends DefaultProducer {
     }
 
     @Override
-    public void process(final Exchange exchange) {
+    public void process(final Exchange exchange) throws Exception {
+        if (isBatched(exchange)) {
+            // wait for the batch of the exchange to be committed
+            super.process(exchange);
+            return;
+        }
+
         // resolve the entity manager before evaluating the expression
         final EntityManager entityManager = getTargetEntityManager(exchange, entityManagerFactory,
                 getEndpoint().isUsePassedInEntityManager(), getEndpoint().isSharedEntityManager(), true);
@@ -172,6 +185,34 @@ public class JpaProducer extends DefaultProducer {
         }
     }
 
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (isBatched(exchange)) {
+                Object values = expression.evaluate(exchange, Object.class);
+                if (values != null) {
+                    batcher.add(values, exchange, callback);
+                    return false;
+                }
+            } else {
+                process(exchange);
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Whether the entities of the exchange are saved by a batch, which is not the case for queries, or when the
+     * exchange has its own entity manager or transaction
+     */
+    private boolean isBatched(Exchange exchange) {
+        return batcher != null && !findEntity && getQueryFactory() == null && !getEndpoint().isUsePassedInEntityManager()
+                && !exchange.isTransacted();
+    }
+
     protected void processQuery(Exchange exchange, EntityManager entityManager) {
         Query innerQuery = getQueryFactory().createQuery(entityManager);
         configureParameters(innerQuery, exchange);
@@ -255,105 +296,134 @@ public class JpaProducer extends DefaultProducer {
         final Object values = expression.evaluate(exchange, Object.class);
 
         if (values != null) {
-            transactionStrategy.executeInTransaction(new Runnable() {
-                @Override
-                public void run() {
-                    if (getEndpoint().isJoinTransaction()) {
-                        entityManager.joinTransaction();
-                    }
-
-                    if (values.getClass().isArray()) {
-                        Object[] array = (Object[]) values;
-                        // need to create an array to store returned values as they can be updated
-                        // by JPA such as setting auto assigned ids
-                        Object[] managedArray = new Object[array.length];
-                        Object managedEntity;
-                        for (int i = 0; i < array.length; i++) {
-                            Object element = array[i];
-                            if (!getEndpoint().isRemove()) {
-                                managedEntity = save(element);
-                            } else {
-                                managedEntity = remove(element);
-                            }
-                            managedArray[i] = managedEntity;
-                        }
-                        if (!getEndpoint().isUsePersist()) {
-                            // and copy back to original array
-                            System.arraycopy(managedArray, 0, array, 0, array.length);
-                            exchange.getIn().setBody(array);
-                        }
-                    } else if (values instanceof Collection) {
-                        Collection<?> collection = (Collection<?>) values;
-                        // need to create a list to store returned values as they can be updated
-                        // by JPA such as setting auto assigned ids
-                        Collection<Object> managedCollection = new ArrayList<>(collection.size());
-                        Object managedEntity;
-                        for (Object entity : collection) {
-                            if (!getEndpoint().isRemove()) {
-                                managedEntity = save(entity);
-                            } else {
-                                managedEntity = remove(entity);
-                            }
-                            managedCollection.add(managedEntity);
-                        }
-                        if (!getEndpoint().isUsePersist()) {
-                            exchange.getIn().setBody(managedCollection);
-                        }
-                    } else {
-                        Object managedEntity;
-                        if (!getEndpoint().isRemove()) {
-                            managedEntity = save(values);
-                        } else {
-                            managedEntity = remove(values);
-                        }
-                        if (!getEndpoint().isUsePersist()) {
-                            exchange.getIn().setBody(managedEntity);
-                        }
-                    }
-
-                    if (getEndpoint().isFlushOnSend()) {
-                        entityManager.flush();
-                    }
+            transactionStrategy.executeInTransaction(() -> {
+                if (getEndpoint().isJoinTransaction()) {
+                    entityManager.joinTransaction();
                 }
 
-                /**
-                 * Save the given entity and return the managed entity
-                 *
-                 * @return the managed entity
-                 */
-                private Object save(final Object entity) {
-                    LOG.debug("save: {}", entity);
-                    if (getEndpoint().isUsePersist()) {
-                        entityManager.persist(entity);
-                        return entity;
-                    } else {
-                        return entityManager.merge(entity);
-                    }
-                }
+                saveOrRemove(exchange, entityManager, values);
 
-                /**
-                 * Remove the given entity and return the managed entity
-                 *
-                 * @return the managed entity
-                 */
-                private Object remove(final Object entity) {
-                    LOG.debug("remove: {}", entity);
-
-                    Object managedEntity;
-
-                    // First check if entity is attached to the persistence context
-                    if (entityManager.contains(entity)) {
-                        managedEntity = entity;
-                    } else {
-                        // If not, merge entity state into context before removing it
-                        managedEntity = entityManager.merge(entity);
-                    }
-
-                    entityManager.remove(managedEntity);
-                    return managedEntity;
+                if (getEndpoint().isFlushOnSend()) {
+                    entityManager.flush();
                 }
             });
         }
     }
 
+    /**
+     * Saves or removes the given entities, which can be an array, a collection or a single entity, and sets the managed
+     * entities as the body of the exchange.
+     *
+     * @return the number of entities
+     */
+    int saveOrRemove(Exchange exchange, EntityManager entityManager, Object values) {
+        if (values.getClass().isArray()) {
+            Object[] array = (Object[]) values;
+            // need to create an array to store returned values as they can be updated
+            // by JPA such as setting auto assigned ids
+            Object[] managedArray = new Object[array.length];
+            Object managedEntity;
+            for (int i = 0; i < array.length; i++) {
+                Object element = array[i];
+                if (!getEndpoint().isRemove()) {
+                    managedEntity = save(entityManager, element);
+                } else {
+                    managedEntity = remove(entityManager, element);
+                }
+                managedArray[i] = managedEntity;
+            }
+            if (!getEndpoint().isUsePersist()) {
+                // and copy back to original array
+                System.arraycopy(managedArray, 0, array, 0, array.length);
+                exchange.getIn().setBody(array);
+            }
+            return array.length;
+        } else if (values instanceof Collection) {
+            Collection<?> collection = (Collection<?>) values;
+            // need to create a list to store returned values as they can be updated
+            // by JPA such as setting auto assigned ids
+            Collection<Object> managedCollection = new ArrayList<>(collection.size());
+            Object managedEntity;
+            for (Object entity : collection) {
+                if (!getEndpoint().isRemove()) {
+                    managedEntity = save(entityManager, entity);
+                } else {
+                    managedEntity = remove(entityManager, entity);
+                }
+                managedCollection.add(managedEntity);
+            }
+            if (!getEndpoint().isUsePersist()) {
+                exchange.getIn().setBody(managedCollection);
+            }
+            return collection.size();
+        } else {
+            Object managedEntity;
+            if (!getEndpoint().isRemove()) {
+                managedEntity = save(entityManager, values);
+            } else {
+                managedEntity = remove(entityManager, values);
+            }
+            if (!getEndpoint().isUsePersist()) {
+                exchange.getIn().setBody(managedEntity);
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Save the given entity and return the managed entity
+     *
+     * @return the managed entity
+     */
+    private Object save(EntityManager entityManager, final Object entity) {
+        LOG.debug("save: {}", entity);
+        if (getEndpoint().isUsePersist()) {
+            entityManager.persist(entity);
+            return entity;
+        } else {
+            return entityManager.merge(entity);
+        }
+    }
+
+    /**
+     * Remove the given entity and return the managed entity
+     *
+     * @return the managed entity
+     */
+    private Object remove(EntityManager entityManager, final Object entity) {
+        LOG.debug("remove: {}", entity);
+
+        Object managedEntity;
+
+        // First check if entity is attached to the persistence context
+        if (entityManager.contains(entity)) {
+            managedEntity = entity;
+        } else {
+            // If not, merge entity state into context before removing it
+            managedEntity = entityManager.merge(entity);
+        }
+
+        entityManager.remove(managedEntity);
+        return managedEntity;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getEndpoint().getBatchSize() > 0) {
+            batcher = new JpaEntityBatcher(
+                    this, getEndpoint().getBatchSize(), getEndpoint().getBatchTimeout(), getEndpoint().getBatchFlushSize());
+            ServiceHelper.startService(batcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+
+        super.doStop();
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.examples.SendEmail;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JpaProducerBatchTest extends AbstractJpaTest {
+    protected static final String SELECT_ALL_STRING = "select x from " + SendEmail.class.getName() + " x";
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replies.add(template.asyncRequestBody("direct:start", new SendEmail("batch" + i + "@somewhere.org")));
+        }
+
+        for (CompletableFuture<Object> reply : replies) {
+            SendEmail email = (SendEmail) reply.get(5, TimeUnit.SECONDS);
+            // the merged entity has its generated id
+            assertNotNull(email.getId());
+        }
+        MockEndpoint.assertIsSatisfied(context);
+        assertEntityInDB(5);
+    }
+
+    @Test
+    public void testSyncSend() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        // the batch is committed once the batch timeout has elapsed
+        template.sendBody("direct:start", new SendEmail("one@somewhere.org"));
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEntityInDB(1);
+    }
+
+    @Test
+    public void testBatchFailure() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        // the address of the second entity is too long for its column
+        List<CompletableFuture<Exchange>> replies = new ArrayList<>();
+        for (String address : List.of("first@somewhere.org", "x".repeat(300) + "@somewhere.org", "third@somewhere.org")) {
+            replies.add(template.asyncSend("direct:start", exchange -> exchange.getIn().setBody(new SendEmail(address))));
+        }
+
+        // only the exchange of the invalid entity fails
+        assertNull(replies.get(0).get(5, TimeUnit.SECONDS).getException());
+        assertNotNull(replies.get(1).get(5, TimeUnit.SECONDS).getException());
+        assertNull(replies.get(2).get(5, TimeUnit.SECONDS).getException());
+        MockEndpoint.assertIsSatisfied(context);
+        assertEntityInDB(2);
+    }
+
+    @Test
+    public void testBatchFailureWithPersist() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        // the ids generated by the transaction of the batch are rolled back with it
+        List<SendEmail> emails = new ArrayList<>();
+        List<CompletableFuture<Exchange>> replies = new ArrayList<>();
+        for (String address : List.of("first@somewhere.org", "x".repeat(300) + "@somewhere.org", "third@somewhere.org")) {
+            SendEmail email = new SendEmail(address);
+            emails.add(email);
+            replies.add(template.asyncSend("direct:persist", exchange -> exchange.getIn().setBody(email)));
+        }
+
+        assertNull(replies.get(0).get(5, TimeUnit.SECONDS).getException());
+        assertNotNull(replies.get(1).get(5, TimeUnit.SECONDS).getException());
+        assertNull(replies.get(2).get(5, TimeUnit.SECONDS).getException());
+        MockEndpoint.assertIsSatisfied(context);
+        assertEntityInDB(2);
+        assertNotNull(emails.get(0).getId());
+        assertNotNull(emails.get(2).getId());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .to("jpa://" + SendEmail.class.getName() + "?batchSize=3&batchTimeout=100&batchFlushSize=2")
+                        .to("mock:result");
+
+                from("direct:persist")
+                        .to("jpa://" + SendEmail.class.getName()
+                            + "?usePersist=true&batchSize=3&batchTimeout=100&batchFlushSize=2")
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Override
+    protected String routeXml() {
+        return "org/apache/camel/processor/jpa/springJpaRouteTest.xml";
+    }
+
+    @Override
+    protected String selectAllString() {
+        return SELECT_ALL_STRING;
+    }
+}
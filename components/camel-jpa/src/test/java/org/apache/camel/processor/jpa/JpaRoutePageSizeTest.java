@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.jpa;
+
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.examples.MultiSteps;
+import org.apache.camel.examples.SendEmail;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JpaRoutePageSizeTest extends AbstractJpaTest {
+    protected static final String SELECT_ALL_STRING = "select x from " + SendEmail.class.getName() + " x";
+    protected static final String SELECT_ALL_STEPS = "select x from " + MultiSteps.class.getName() + " x";
+
+    @Test
+    public void testRouteJpa() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            saveEntityInDB(new SendEmail("page" + i + "@somewhere.org"));
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+        context.getRouteController().startRoute("pages");
+        MockEndpoint.assertIsSatisfied(context);
+
+        // each page is processed as a batch
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        assertEquals(2, exchanges.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(2, exchanges.get(2).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(1, exchanges.get(4).getProperty(Exchange.BATCH_SIZE));
+
+        // the consumed entities are deleted, page by page
+        assertEquals(0, entityManager.createQuery(SELECT_ALL_STRING).getResultList().size());
+    }
+
+    @Test
+    public void testRouteJpaConsumedEntitiesNoLongerMatch() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            saveEntityInDB(new MultiSteps("page" + i + "@somewhere.org"));
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+        context.getRouteController().startRoute("steps");
+        // all the entities are consumed by the first poll, even though the query is not ordered
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the entities saved by the test are still managed by its entity manager
+        entityManager.clear();
+        List<?> steps = entityManager.createQuery(SELECT_ALL_STEPS).getResultList();
+        assertEquals(5, steps.size());
+        for (Object step : steps) {
+            assertEquals(2, ((MultiSteps) step).getStep());
+        }
+    }
+
+    @Override
+    protected void cleanupRepository() {
+        super.cleanupRepository();
+        transactionTemplate.execute(status -> {
+            entityManager.joinTransaction();
+            for (Object step : entityManager.createQuery(SELECT_ALL_STEPS).getResultList()) {
+                entityManager.remove(step);
+            }
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("jpa://" + SendEmail.class.getName() + "?pageSize=2&delay=5000"
+                     + "&query=select x from " + SendEmail.class.getName() + " x order by x.id")
+                        .routeId("pages").autoStartup(false)
+                        .to("mock:result");
+
+                // the @Consumed method moves the entities to the next step, so they no longer match the query
+                from("jpa://" + MultiSteps.class.getName() + "?pageSize=2&delay=60000&consumeDelete=false"
+                     + "&query=select x from " + MultiSteps.class.getName() + " x where x.step = 1")
+                        .routeId("steps").autoStartup(false)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Override
+    protected String routeXml() {
+        return "org/apache/camel/processor/jpa/springJpaRouteTest.xml";
+    }
+
+    @Override
+    protected String selectAllString() {
+        return SELECT_ALL_STRING;
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.ParsedDocumentCache;
 
 public class JqExpression extends ExpressionAdapter implements ExpressionResultTypeAware {
 
@@ -180,14 +181,14 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
             if (outputs.size() == 1) {
                 // no need to convert output
                 if (resultType == JsonNode.class) {
-                    return outputs.get(0);
+                    return copyOf(outputs.get(0));
                 }
 
                 return this.typeConverter.convertTo(resultType, exchange, outputs.get(0));
             } else if (outputs.size() > 1) {
                 // no need to convert outputs
                 if (resultType == JsonNode.class) {
-                    return outputs;
+                    return outputs.stream().map(JqExpression::copyOf).collect(Collectors.toList());
                 }
 
                 return outputs.stream()
@@ -213,13 +214,13 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
         JsonNode payload = null;
 
         if (headerName == null && propertyName == null) {
-            payload = exchange.getMessage().getBody(JsonNode.class);
+            payload = getPayload(exchange, exchange.getMessage().getBody());
             if (payload == null) {
                 throw new InvalidPayloadException(exchange, JsonNode.class);
             }
         } else {
             if (headerName != null) {
-                payload = exchange.getMessage().getHeader(headerName, JsonNode.class);
+                payload = getPayload(exchange, exchange.getMessage().getHeader(headerName));
             }
             if (payload == null && propertyName != null) {
                 payload = exchange.getProperty(propertyName, JsonNode.class);
@@ -231,4 +232,22 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
 
         return payload;
     }
+
+    private JsonNode getPayload(Exchange exchange, Object value) throws Exception {
+        // the payload is only parsed once per exchange when evaluating several expressions, and the parsed
+        // document is only shared with expressions parsing it with the same type converter
+        return ParsedDocumentCache.getOrParse(exchange, value, getDocumentKind(),
+                source -> typeConverter.convertTo(JsonNode.class, exchange, source));
+    }
+
+    private String getDocumentKind() {
+        return JqExpression.class.getName() + "@" + System.identityHashCode(typeConverter);
+    }
+
+    /**
+     * The output of the query may be a node of the cached payload, so a copy is returned which can be modified
+     */
+    private static JsonNode copyOf(JsonNode node) {
+        return node.isContainerNode() ? node.deepCopy() : node;
+    }
 }
@@ -45,6 +45,7 @@ import org.apache.camel.component.ResourceEndpoint;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -150,8 +151,6 @@ public class JsltEndpoint extends ResourceEndpoint {
             return;
         }
 
-        JsonNode input;
-
         ObjectMapper objectMapper;
         if (ObjectHelper.isEmpty(getObjectMapper())) {
             objectMapper = new ObjectMapper();
@@ -163,28 +162,40 @@ public class JsltEndpoint extends ResourceEndpoint {
         }
 
         Object body = exchange.getIn().getBody();
+        // the payload is only parsed once per exchange, and only shared with endpoints parsing it the same way
+        // (the parsed document is never exposed, as the output of the transformation is written as a string)
+        String kind = JsltEndpoint.class.getName();
+        if (ObjectHelper.isNotEmpty(getObjectMapper())) {
+            kind += "@" + System.identityHashCode(objectMapper);
+        } else if (isMapBigDecimalAsFloats()) {
+            kind += ":" + DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS.name();
+        }
+        JsonNode input = ParsedDocumentCache.getOrParse(exchange, body, kind, source -> readTree(exchange, objectMapper, source));
+
+        Map<String, JsonNode> variables = extractVariables(exchange);
+        JsonNode output = getTransform(exchange.getMessage()).apply(variables, input);
+
+        String result = isPrettyPrint() ? output.toPrettyString() : output.toString();
+        ExchangeHelper.setInOutBodyPatternAware(exchange, result);
+    }
+
+    private static JsonNode readTree(Exchange exchange, ObjectMapper objectMapper, Object body) throws Exception {
         if (body instanceof WrappedFile) {
             body = ((WrappedFile<?>) body).getFile();
         }
         if (body instanceof String) {
-            input = objectMapper.readTree((String) body);
+            return objectMapper.readTree((String) body);
         } else if (body instanceof Reader) {
-            input = objectMapper.readTree((Reader) body);
+            return objectMapper.readTree((Reader) body);
         } else if (body instanceof File) {
-            input = objectMapper.readTree((File) body);
+            return objectMapper.readTree((File) body);
         } else if (body instanceof byte[]) {
-            input = objectMapper.readTree((byte[]) body);
+            return objectMapper.readTree((byte[]) body);
         } else if (body instanceof InputStream) {
-            input = objectMapper.readTree((InputStream) body);
+            return objectMapper.readTree((InputStream) body);
         } else {
             throw new ValidationException(exchange, "Allowed body types are String, Reader, File, byte[] or InputStream.");
         }
-
-        Map<String, JsonNode> variables = extractVariables(exchange);
-        JsonNode output = getTransform(exchange.getMessage()).apply(variables, input);
-
-        String result = isPrettyPrint() ? output.toPrettyString() : output.toString();
-        ExchangeHelper.setInOutBodyPatternAware(exchange, result);
     }
 
     /**
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * {@link org.apache.camel.Expression} to walk a JSON {@link org.apache.camel.Message} body using an {@link Iterator},
+ * which uses the Jackson streaming parser to read the elements of an array one at a time. This allows splitting very
+ * large JSON documents with the split EIP in streaming mode, as only a single element is held in memory.
+ * <p/>
+ * The array is selected by a simple path, which is a subset of JSONPath that supports child fields and wildcard array
+ * elements, for example <tt>$</tt> for a top-level array, <tt>$.store.book</tt> or
+ * <tt>$.orders[*].items</tt>. A field can be <tt>*</tt> to match any field name. If the path selects a value which is
+ * not an array then the value itself is returned.
+ * <p/>
+ * The elements are returned as <tt>java.util.Map</tt>, <tt>java.util.List</tt> or plain values, or as JSON strings when
+ * <tt>writeAsString</tt> is enabled.
+ */
+public class JsonArrayIteratorExpression extends ExpressionAdapter {
+
+    private static final String ANY = "*";
+    private static final String ANY_ELEMENT = "[*]";
+
+    private final String path;
+    private final String[] segments;
+    private boolean writeAsString;
+    private ObjectMapper objectMapper;
+
+    /**
+     * Creates this expression.
+     *
+     * @param path the simple path of the array to iterate, such as <tt>$.store.book</tt>
+     */
+    public JsonArrayIteratorExpression(String path) {
+        this(path, false);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param path          the simple path of the array to iterate, such as <tt>$.store.book</tt>
+     * @param writeAsString whether to return each element as a JSON string
+     */
+    public JsonArrayIteratorExpression(String path, boolean writeAsString) {
+        ObjectHelper.notNull(path, "path");
+        this.path = path;
+        this.segments = parsePath(path);
+        this.writeAsString = writeAsString;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isWriteAsString() {
+        return writeAsString;
+    }
+
+    /**
+     * Whether to return each element as a JSON string instead of a Map, List or plain value
+     */
+    public void setWriteAsString(boolean writeAsString) {
+        this.writeAsString = writeAsString;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * To use a custom Jackson {@link ObjectMapper} to read the elements. If not set then a single {@link ObjectMapper}
+     * from the registry is used, or a default mapper.
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        super.init(context);
+        if (objectMapper == null) {
+            objectMapper = context.getRegistry().findSingleByType(ObjectMapper.class);
+        }
+        if (objectMapper == null) {
+            objectMapper = new ObjectMapper();
+        }
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        if (objectMapper == null) {
+            init(exchange.getContext());
+        }
+
+        InputStream is = null;
+        try {
+            is = exchange.getIn().getMandatoryBody(InputStream.class);
+            String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
+            JsonParser parser = jsonEncoding != null
+                    ? objectMapper.getFactory().createParser(new InputStreamReader(is, jsonEncoding))
+                    : objectMapper.getFactory().createParser(is);
+            return new JsonArrayIterator(parser);
+        } catch (InvalidPayloadException | IOException e) {
+            IOHelper.close(is);
+            exchange.setException(e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "jsonArrayIterator[" + path + "]";
+    }
+
+    private static String[] parsePath(String path) {
+        String text = path.trim();
+        if (!text.startsWith("$")) {
+            throw new IllegalArgumentException("Path must start with $ but was: " + path);
+        }
+        List<String> answer = new ArrayList<>();
+        int i = 1;
+        while (i < text.length()) {
+            char ch = text.charAt(i);
+            if (ch == '.') {
+                int end = i + 1;
+                while (end < text.length() && text.charAt(end) != '.' && text.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("Path has an empty field name: " + path);
+                }
+                answer.add(text.substring(i + 1, end));
+                i = end;
+            } else if (text.startsWith(ANY_ELEMENT, i)) {
+                answer.add(ANY_ELEMENT);
+                i += ANY_ELEMENT.length();
+            } else {
+                throw new IllegalArgumentException(
+                        "Path only supports child fields and [*] array elements but was: " + path);
+            }
+        }
+        return answer.toArray(new String[0]);
+    }
+
+    private enum Match {
+        NONE,
+        PREFIX,
+        EXACT
+    }
+
+    /**
+     * Matches the location of the current value of the given container with the path
+     */
+    private Match match(JsonStreamContext container) {
+        int depth = 0;
+        for (JsonStreamContext context = container; !context.inRoot(); context = context.getParent()) {
+            depth++;
+        }
+        if (depth > segments.length) {
+            return Match.NONE;
+        }
+        JsonStreamContext context = container;
+        for (int i = depth - 1; i >= 0; i--) {
+            String segment = segments[i];
+            if (context.inArray()) {
+                if (!ANY_ELEMENT.equals(segment)) {
+                    return Match.NONE;
+                }
+            } else if (!ANY.equals(segment) && !segment.equals(context.getCurrentName())) {
+                return Match.NONE;
+            }
+            context = context.getParent();
+        }
+        return depth == segments.length ? Match.EXACT : Match.PREFIX;
+    }
+
+    /**
+     * Iterator to walk the JSON parser
+     */
+    final class JsonArrayIterator implements Iterator<Object>, Closeable {
+
+        private final JsonParser parser;
+        private boolean inArray;
+        private boolean done;
+        private boolean ready;
+        private Object element;
+
+        JsonArrayIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready && !done) {
+                element = getNextElement();
+            }
+            return ready;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object answer = element;
+            element = null;
+            ready = false;
+            return answer;
+        }
+
+        private Object getNextElement() {
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null) {
+                    if (inArray) {
+                        if (token == JsonToken.END_ARRAY) {
+                            inArray = false;
+                            continue;
+                        }
+                        return readValue();
+                    }
+                    if (token == JsonToken.FIELD_NAME || token.isStructEnd()) {
+                        continue;
+                    }
+
+                    JsonStreamContext container = parser.getParsingContext();
+                    if (token.isStructStart()) {
+                        container = container.getParent();
+                    }
+                    Match match = match(container);
+                    if (match == Match.EXACT) {
+                        if (token == JsonToken.START_ARRAY) {
+                            inArray = true;
+                        } else {
+                            return readValue();
+                        }
+                    } else if (match == Match.NONE && token.isStructStart()) {
+                        // the value cannot contain the path so skip it
+                        parser.skipChildren();
+                    }
+                }
+                close();
+                return null;
+            } catch (IOException e) {
+                close();
+                throw new RuntimeCamelException(e);
+            }
+        }
+
+        private Object readValue() throws IOException {
+            Object answer;
+            if (writeAsString) {
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+                    generator.copyCurrentStructure(parser);
+                }
+                answer = writer.toString();
+            } else {
+                answer = objectMapper.readValue(parser, Object.class);
+            }
+            ready = true;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            IOHelper.close(parser);
+        }
+    }
+}
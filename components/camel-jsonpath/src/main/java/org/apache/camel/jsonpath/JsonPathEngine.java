@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -39,6 +40,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.StreamCache;
 import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +61,9 @@ public class JsonPathEngine {
     private final String headerName;
     private final Configuration configuration;
     private final boolean hasSimple;
+    private final String documentKind;
+    private final Map<String, JsonPath> compiledPaths;
+    private volatile JsonPath compiledPath;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -90,6 +96,10 @@ public class JsonPathEngine {
             builder.options(SUPPRESS_EXCEPTIONS);
         }
         this.configuration = builder.build();
+        // the parsed documents can only be shared between engines that parse in the same way
+        this.documentKind = objectMapper != null
+                ? JsonPathEngine.class.getName() + "@" + System.identityHashCode(objectMapper)
+                : JsonPathEngine.class.getName();
 
         boolean simpleInUse = false;
         if (allowSimple) {
@@ -100,6 +110,8 @@ public class JsonPathEngine {
             }
         }
         this.hasSimple = simpleInUse;
+        // cache the paths which are computed dynamically using simple
+        this.compiledPaths = simpleInUse ? LRUCacheFactory.newLRUCache(1000) : null;
     }
 
     private ObjectMapper findRegisteredMapper(CamelContext context) {
@@ -170,43 +182,23 @@ public class JsonPathEngine {
         return answer;
     }
 
-    private Object doRead(String path, Exchange exchange) throws IOException, CamelExchangeException {
+    private Object doRead(String path, Exchange exchange) throws Exception {
         Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
 
-        if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
-        } else if (json instanceof GenericFile) {
-            LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
-            GenericFile<?> genericFile = (GenericFile<?>) json;
-            if (genericFile.getCharset() != null) {
-                // special treatment for generic file with charset
-                InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
-            }
-        }
-
-        if (json instanceof String) {
-            LOG.trace("JSonPath: {} is read as String: {}", path, json);
-            String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
-        } else if (json instanceof Map) {
-            LOG.trace("JSonPath: {} is read as Map: {}", path, json);
-            Map map = (Map) json;
-            return JsonPath.using(configuration).parse(map).read(path);
-        } else if (json instanceof List) {
-            LOG.trace("JSonPath: {} is read as List: {}", path, json);
-            List list = (List) json;
-            return JsonPath.using(configuration).parse(list).read(path);
+        Object document;
+        boolean cached = false;
+        if (json instanceof Map || json instanceof List) {
+            LOG.trace("JSonPath: {} is read as {}: {}", path, json instanceof Map ? "Map" : "List", json);
+            document = json;
         } else {
-            //try to auto convert into inputStream
-            Object answer = readWithInputStream(path, exchange);
-            if (answer == null) {
-                // fallback and attempt an adapter which can read the message body/header
-                answer = readWithAdapter(path, exchange);
-            }
-            if (answer != null) {
-                return answer;
-            }
+            // the payload is only parsed once per exchange when evaluating several expressions
+            document = ParsedDocumentCache.getOrParse(exchange, json, documentKind, source -> parse(path, source, exchange));
+            cached = ParsedDocumentCache.isCacheable(json);
+        }
+        if (document != null) {
+            Object answer = JsonPath.using(configuration).parse(document).read(compilePath(path));
+            // the result may be part of the cached document, so return a copy which can be modified
+            return cached ? copyOf(answer) : answer;
         }
 
         // is json path configured to suppress exceptions
@@ -226,8 +218,74 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(String path, Exchange exchange) throws IOException {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    /**
+     * Copies the maps and lists of the parsed document, the other values (strings, numbers etc) are immutable
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copyOf(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> source = (Map<Object, Object>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(source.size());
+            for (Map.Entry<Object, Object> entry : source.entrySet()) {
+                copy.put(entry.getKey(), copyOf(entry.getValue()));
+            }
+            return copy;
+        } else if (value instanceof List) {
+            List<Object> source = (List<Object>) value;
+            List<Object> copy = new ArrayList<>(source.size());
+            for (Object element : source) {
+                copy.add(copyOf(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private JsonPath compilePath(String path) {
+        if (!hasSimple) {
+            JsonPath answer = compiledPath;
+            if (answer == null) {
+                answer = JsonPath.compile(path);
+                compiledPath = answer;
+            }
+            return answer;
+        }
+        return compiledPaths.computeIfAbsent(path, JsonPath::compile);
+    }
+
+    /**
+     * Parses the JSON value into the document which the json path is evaluated on, or <tt>null</tt> if the value is
+     * not supported.
+     */
+    private Object parse(String path, Object json, Exchange exchange) throws IOException {
+        if (json instanceof InputStream) {
+            return parseInputStream(path, json, exchange);
+        } else if (json instanceof GenericFile) {
+            LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
+            GenericFile<?> genericFile = (GenericFile<?>) json;
+            if (genericFile.getCharset() != null) {
+                // special treatment for generic file with charset
+                try (InputStream inputStream = new FileInputStream((File) genericFile.getFile())) {
+                    return configuration.jsonProvider().parse(inputStream, genericFile.getCharset());
+                }
+            }
+        }
+
+        if (json instanceof String) {
+            LOG.trace("JSonPath: {} is read as String: {}", path, json);
+            return configuration.jsonProvider().parse((String) json);
+        }
+
+        //try to auto convert into inputStream
+        Object answer = parseInputStream(path, json, exchange);
+        if (answer == null) {
+            // fallback and attempt an adapter which can read the message body/header
+            answer = parseWithAdapter(path, json, exchange);
+        }
+        return answer;
+    }
+
+    private Object parseInputStream(String path, Object json, Exchange exchange) throws IOException {
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
@@ -240,20 +298,19 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return configuration.jsonProvider().parse(is, jsonEncoding);
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return configuration.jsonProvider().parse(jsonStream, jsonStream.getEncoding().name());
             }
         }
 
         return null;
     }
 
-    private Object readWithAdapter(String path, Exchange exchange) {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private Object parseWithAdapter(String path, Object json, Exchange exchange) {
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
 
         doInitAdapter(exchange);
@@ -271,7 +328,7 @@ public class JsonPathEngine {
                     LOG.debug("JacksonJsonAdapter converted object from: {} to: java.util.Map",
                             ObjectHelper.classCanonicalName(json));
                 }
-                return JsonPath.using(configuration).parse(map).read(path);
+                return map;
             }
         }
 
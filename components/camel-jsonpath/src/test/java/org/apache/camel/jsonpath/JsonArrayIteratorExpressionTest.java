@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonArrayIteratorExpressionTest extends CamelTestSupport {
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:books")
+                        .split(new JsonArrayIteratorExpression("$.store.book")).streaming()
+                        .to("mock:book");
+
+                from("direct:parallel")
+                        .split(new JsonArrayIteratorExpression("$", true)).streaming().parallelProcessing()
+                        .to("mock:item");
+            }
+        };
+    }
+
+    @Test
+    public void testSplitBooks() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:book");
+        mock.expectedMessageCount(3);
+
+        template.sendBody("direct:books", new File("src/test/resources/books.json"));
+
+        MockEndpoint.assertIsSatisfied(context);
+        Map<?, ?> book = mock.getReceivedExchanges().get(0).getIn().getBody(Map.class);
+        assertEquals("Nigel Rees", book.get("author"));
+    }
+
+    @Test
+    public void testSplitLargeArrayInParallel() throws Exception {
+        int size = 20000;
+        MockEndpoint mock = getMockEndpoint("mock:item");
+        mock.expectedMessageCount(size);
+
+        template.sendBody("direct:parallel", largeArray(size));
+
+        MockEndpoint.assertIsSatisfied(context);
+        String body = mock.getReceivedExchanges().get(0).getIn().getBody(String.class);
+        assertTrue(body.startsWith("{\"id\":"), body);
+    }
+
+    @Test
+    public void testNestedPath() throws Exception {
+        String json = "{\"orders\":[{\"id\":1,\"items\":[\"a\",\"b\"],\"note\":{\"items\":[\"x\"]}},"
+                      + "{\"id\":2,\"items\":[\"c\"]},{\"id\":3}]}";
+
+        assertEquals(List.of("a", "b", "c"), iterate("$.orders[*].items", json, false));
+        assertEquals(List.of("x"), iterate("$.orders[*].note.items", json, false));
+        assertEquals(List.of("x"), iterate("$.orders[*].*.items", json, false));
+        assertEquals(List.of("1", "2", "3"), iterate("$.orders[*].id", json, true));
+        assertEquals(List.of("[\"a\",\"b\"]", "[\"c\"]"), iterate("$.matrix", "{\"matrix\":[[\"a\",\"b\"],[\"c\"]]}", true));
+        assertEquals(Collections.emptyList(), iterate("$.unknown", json, false));
+    }
+
+    @Test
+    public void testInvalidPath() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonArrayIteratorExpression("store.book"));
+        assertThrows(IllegalArgumentException.class, () -> new JsonArrayIteratorExpression("$.store.book[0]"));
+        assertThrows(IllegalArgumentException.class, () -> new JsonArrayIteratorExpression("$..book"));
+    }
+
+    private List<Object> iterate(String path, String json, boolean writeAsString) {
+        JsonArrayIteratorExpression expression = new JsonArrayIteratorExpression(path, writeAsString);
+        expression.init(context);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(json);
+        Iterator<?> it = expression.evaluate(exchange, Iterator.class);
+        List<Object> answer = new ArrayList<>();
+        while (it.hasNext()) {
+            answer.add(it.next());
+        }
+        assertFalse(it.hasNext());
+        return answer;
+    }
+
+    private static InputStream largeArray(int size) {
+        // generate the json document on the fly so it is never fully held in memory
+        Enumeration<InputStream> parts = new Enumeration<InputStream>() {
+            private int index = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return index <= size;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String text;
+                if (index == -1) {
+                    text = "[";
+                } else if (index == size) {
+                    text = "]";
+                } else {
+                    text = (index > 0 ? "," : "") + "{\"id\":" + index + ",\"name\":\"item " + index + "\"}";
+                }
+                index++;
+                return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(parts);
+    }
+}
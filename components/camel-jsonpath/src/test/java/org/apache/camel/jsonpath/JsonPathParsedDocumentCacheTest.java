@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonPathParsedDocumentCacheTest extends CamelTestSupport {
+
+    // the exchange property the documents are cached in
+    private static final String PARSED_DOCUMENT_CACHE = "CamelParsedDocumentCache";
+
+    private static final String BOOKS
+            = "{\"store\":{\"book\":[{\"title\":\"Camel\",\"price\":10},{\"title\":\"Java\",\"price\":50}]}}";
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .choice()
+                        .when().jsonpath("$.store.book[?(@.price > 100)]")
+                        .to("mock:expensive")
+                        .when().jsonpath("$.store.book[?(@.price > 20)]")
+                        .to("mock:average")
+                        .otherwise()
+                        .to("mock:cheap");
+            }
+        };
+    }
+
+    @Test
+    public void testParseStreamOnce() throws Exception {
+        getMockEndpoint("mock:expensive").expectedMessageCount(0);
+        getMockEndpoint("mock:average").expectedMessageCount(1);
+        getMockEndpoint("mock:cheap").expectedMessageCount(0);
+
+        // the stream can only be read once so the second predicate must use the parsed document
+        template.sendBody("direct:start", new ByteArrayInputStream(BOOKS.getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testCacheInvalidatedWhenBodyChanges() throws Exception {
+        JsonPathLanguage language = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        Expression title = language.createExpression("$.store.book[0].title");
+        Predicate expensive = language.createPredicate("$.store.book[?(@.price > 20)]");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(BOOKS);
+        assertEquals("Camel", title.evaluate(exchange, String.class));
+        assertTrue(expensive.matches(exchange));
+        Object cache = exchange.getProperty(PARSED_DOCUMENT_CACHE);
+        assertNotNull(cache);
+
+        assertEquals("Camel", title.evaluate(exchange, String.class));
+        assertSame(cache, exchange.getProperty(PARSED_DOCUMENT_CACHE));
+
+        exchange.getIn().setBody(BOOKS.replace("Camel", "Kamel").replace("50", "15"));
+        assertEquals("Kamel", title.evaluate(exchange, String.class));
+        assertFalse(expensive.matches(exchange));
+        assertNotSame(cache, exchange.getProperty(PARSED_DOCUMENT_CACHE));
+    }
+
+    @Test
+    public void testWriteAsStringDoesNotModifyCachedDocument() throws Exception {
+        JsonPathLanguage language = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        Expression store = language.createExpression("$.store", new Object[] { null, null, null, null, true, null, null, null });
+        Expression books = language.createExpression("$.store.book");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(BOOKS);
+        Map<?, ?> map = store.evaluate(exchange, Map.class);
+        assertTrue(map.get("book") instanceof String);
+
+        List<?> list = books.evaluate(exchange, List.class);
+        assertEquals(2, list.size());
+        assertTrue(list.get(0) instanceof Map);
+    }
+
+    @Test
+    public void testModifyingResultDoesNotModifyCachedDocument() throws Exception {
+        JsonPathLanguage language = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        Expression books = language.createExpression("$.store.book");
+        Expression title = language.createExpression("$.store.book[0].title");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(BOOKS);
+
+        List<Map<String, Object>> list = books.evaluate(exchange, List.class);
+        list.get(0).put("title", "Changed");
+        list.remove(1);
+
+        assertEquals("Camel", title.evaluate(exchange, String.class));
+        assertEquals(2, books.evaluate(exchange, List.class).size());
+    }
+}
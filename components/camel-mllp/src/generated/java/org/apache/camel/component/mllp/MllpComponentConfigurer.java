@@ -72,6 +72,11 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "maxConcurrentConsumers": getOrCreateConfiguration(target).setMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "minbuffersize":
         case "minBufferSize": getOrCreateConfiguration(target).setMinBufferSize(property(camelContext, int.class, value)); return true;
+        case "nio": getOrCreateConfiguration(target).setNio(property(camelContext, boolean.class, value)); return true;
+        case "nioiothreads":
+        case "nioIoThreads": getOrCreateConfiguration(target).setNioIoThreads(property(camelContext, int.class, value)); return true;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": getOrCreateConfiguration(target).setNioWorkerThreads(property(camelContext, int.class, value)); return true;
         case "readtimeout":
         case "readTimeout": getOrCreateConfiguration(target).setReadTimeout(property(camelContext, int.class, value)); return true;
         case "receivebuffersize":
@@ -141,6 +146,11 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "maxConcurrentConsumers": return int.class;
         case "minbuffersize":
         case "minBufferSize": return int.class;
+        case "nio": return boolean.class;
+        case "nioiothreads":
+        case "nioIoThreads": return int.class;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return int.class;
         case "readtimeout":
         case "readTimeout": return int.class;
         case "receivebuffersize":
@@ -211,6 +221,11 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "maxConcurrentConsumers": return getOrCreateConfiguration(target).getMaxConcurrentConsumers();
         case "minbuffersize":
         case "minBufferSize": return getOrCreateConfiguration(target).getMinBufferSize();
+        case "nio": return getOrCreateConfiguration(target).isNio();
+        case "nioiothreads":
+        case "nioIoThreads": return getOrCreateConfiguration(target).getNioIoThreads();
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return getOrCreateConfiguration(target).getNioWorkerThreads();
         case "readtimeout":
         case "readTimeout": return getOrCreateConfiguration(target).getReadTimeout();
         case "receivebuffersize":
@@ -58,6 +58,11 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "maxConcurrentConsumers": target.getConfiguration().setMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "minbuffersize":
         case "minBufferSize": target.getConfiguration().setMinBufferSize(property(camelContext, int.class, value)); return true;
+        case "nio": target.getConfiguration().setNio(property(camelContext, boolean.class, value)); return true;
+        case "nioiothreads":
+        case "nioIoThreads": target.getConfiguration().setNioIoThreads(property(camelContext, int.class, value)); return true;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": target.getConfiguration().setNioWorkerThreads(property(camelContext, int.class, value)); return true;
         case "readtimeout":
         case "readTimeout": target.getConfiguration().setReadTimeout(property(camelContext, int.class, value)); return true;
         case "receivebuffersize":
@@ -120,6 +125,11 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "maxConcurrentConsumers": return int.class;
         case "minbuffersize":
         case "minBufferSize": return int.class;
+        case "nio": return boolean.class;
+        case "nioiothreads":
+        case "nioIoThreads": return int.class;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return int.class;
         case "readtimeout":
         case "readTimeout": return int.class;
         case "receivebuffersize":
@@ -183,6 +193,11 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "maxConcurrentConsumers": return target.getConfiguration().getMaxConcurrentConsumers();
         case "minbuffersize":
         case "minBufferSize": return target.getConfiguration().getMinBufferSize();
+        case "nio": return target.getConfiguration().isNio();
+        case "nioiothreads":
+        case "nioIoThreads": return target.getConfiguration().getNioIoThreads();
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return target.getConfiguration().getNioWorkerThreads();
         case "readtimeout":
         case "readTimeout": return target.getConfiguration().getReadTimeout();
         case "receivebuffersize":
@@ -21,7 +21,7 @@ public class MllpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(30);
+        Set<String> props = new HashSet<>(33);
         props.add("acceptTimeout");
         props.add("autoAck");
         props.add("backlog");
@@ -42,6 +42,9 @@ public class MllpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("maxBufferSize");
         props.add("maxConcurrentConsumers");
         props.add("minBufferSize");
+        props.add("nio");
+        props.add("nioIoThreads");
+        props.add("nioWorkerThreads");
         props.add("port");
         props.add("readTimeout");
         props.add("receiveBufferSize");
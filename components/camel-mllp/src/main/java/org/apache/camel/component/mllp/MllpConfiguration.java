@@ -110,6 +110,13 @@ public class MllpConfiguration implements Cloneable {
     @UriParam(label = "advanced", defaultValue = "" + 0x40000000)
     int maxBufferSize = 0x40000000;
 
+    @UriParam(label = "advanced,consumer", defaultValue = "false")
+    boolean nio;
+    @UriParam(label = "advanced,consumer", defaultValue = "1")
+    int nioIoThreads = 1;
+    @UriParam(label = "advanced,consumer", defaultValue = "10")
+    int nioWorkerThreads = 10;
+
     public MllpConfiguration() {
     }
 
@@ -145,6 +152,9 @@ public class MllpConfiguration implements Cloneable {
             target.validatePayload = source.validatePayload;
             target.charsetName = source.charsetName;
             target.maxConcurrentConsumers = source.maxConcurrentConsumers;
+            target.nio = source.nio;
+            target.nioIoThreads = source.nioIoThreads;
+            target.nioWorkerThreads = source.nioWorkerThreads;
         }
     }
 
@@ -556,6 +566,48 @@ public class MllpConfiguration implements Cloneable {
         this.maxBufferSize = maxBufferSize;
     }
 
+    public boolean isNio() {
+        return nio;
+    }
+
+    /**
+     * Use a selector based (NIO) server instead of a thread per connection.
+     *
+     * The connections are read by a small number of I/O threads, and the received messages are processed by a pool of
+     * worker threads. The maxConcurrentConsumers option still limits the number of connections.
+     *
+     * @param nio true to use the NIO server
+     */
+    public void setNio(boolean nio) {
+        this.nio = nio;
+    }
+
+    public int getNioIoThreads() {
+        return nioIoThreads;
+    }
+
+    /**
+     * The number of I/O threads used to accept and read the connections when the NIO server is used.
+     *
+     * @param nioIoThreads the number of I/O threads
+     */
+    public void setNioIoThreads(int nioIoThreads) {
+        this.nioIoThreads = nioIoThreads;
+    }
+
+    public int getNioWorkerThreads() {
+        return nioWorkerThreads;
+    }
+
+    /**
+     * The number of threads used to process the received messages when the NIO server is used.
+     *
+     * @param nioWorkerThreads the number of worker threads
+     */
+    public void setNioWorkerThreads(int nioWorkerThreads) {
+        this.nioWorkerThreads = nioWorkerThreads;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(bridgeErrorHandler,
@@ -582,7 +634,10 @@ public class MllpConfiguration implements Cloneable {
                 validatePayload,
                 charsetName,
                 minBufferSize,
-                maxBufferSize);
+                maxBufferSize,
+                nio,
+                nioIoThreads,
+                nioWorkerThreads);
     }
 
     @Override
@@ -613,6 +668,9 @@ public class MllpConfiguration implements Cloneable {
                 && idleTimeoutStrategy == rhs.idleTimeoutStrategy
                 && minBufferSize == rhs.minBufferSize
                 && maxBufferSize == rhs.maxBufferSize
+                && nio == rhs.nio
+                && nioIoThreads == rhs.nioIoThreads
+                && nioWorkerThreads == rhs.nioWorkerThreads
                 && Objects.equals(backlog, rhs.backlog)
                 && Objects.equals(maxConcurrentConsumers, rhs.maxConcurrentConsumers)
                 && Objects.equals(idleTimeout, rhs.idleTimeout)
@@ -651,6 +709,9 @@ public class MllpConfiguration implements Cloneable {
                + ", validatePayload=" + validatePayload
                + ", minBufferSize=" + minBufferSize
                + ", maxBufferSize=" + maxBufferSize
+               + ", nio=" + nio
+               + ", nioIoThreads=" + nioIoThreads
+               + ", nioWorkerThreads=" + nioWorkerThreads
                + ", charsetName='" + charsetName + '\''
                + '}';
     }
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.net.BindException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Date;
@@ -33,6 +35,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
@@ -45,14 +48,17 @@ import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.mllp.internal.Hl7Util;
+import org.apache.camel.component.mllp.internal.MllpServerConnection;
 import org.apache.camel.component.mllp.internal.MllpSocketBuffer;
 import org.apache.camel.component.mllp.internal.TcpServerAcceptThread;
 import org.apache.camel.component.mllp.internal.TcpServerBindThread;
 import org.apache.camel.component.mllp.internal.TcpServerConsumerValidationRunnable;
+import org.apache.camel.component.mllp.internal.TcpServerSelectorThread;
 import org.apache.camel.component.mllp.internal.TcpSocketConsumerRunnable;
 import org.apache.camel.processor.mllp.Hl7AcknowledgementGenerationException;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,7 +77,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     TcpServerBindThread bindThread;
     TcpServerAcceptThread acceptThread;
 
-    Map<TcpSocketConsumerRunnable, Long> consumerRunnables = new ConcurrentHashMap<>();
+    List<TcpServerSelectorThread> selectorThreads;
+    ExecutorService nioWorkerExecutor;
+    final AtomicInteger nextSelectorThread = new AtomicInteger();
+
+    Map<MllpServerConnection, Long> connections = new ConcurrentHashMap<>();
 
     public MllpTcpServerConsumer(MllpEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -91,10 +101,10 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     public Map<String, Date> getLastActivityTimes() {
         Map<String, Date> answer = new HashMap<>();
 
-        for (Map.Entry<TcpSocketConsumerRunnable, Long> entry : consumerRunnables.entrySet()) {
-            TcpSocketConsumerRunnable consumerRunnable = entry.getKey();
-            if (consumerRunnable != null) {
-                answer.put(consumerRunnable.getCombinedAddress(), new Date(entry.getValue()));
+        for (Map.Entry<MllpServerConnection, Long> entry : connections.entrySet()) {
+            MllpServerConnection connection = entry.getKey();
+            if (connection != null) {
+                answer.put(connection.getCombinedAddress(), new Date(entry.getValue()));
             }
         }
         return answer;
@@ -102,20 +112,20 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @ManagedOperation(description = "Close Connections")
     public void closeConnections() {
-        for (TcpSocketConsumerRunnable consumerRunnable : consumerRunnables.keySet()) {
-            if (consumerRunnable != null) {
-                log.info("Close Connection called via JMX for address {}", consumerRunnable.getCombinedAddress());
-                consumerRunnable.closeSocket();
+        for (MllpServerConnection connection : connections.keySet()) {
+            if (connection != null) {
+                log.info("Close Connection called via JMX for address {}", connection.getCombinedAddress());
+                connection.closeSocket();
             }
         }
     }
 
     @ManagedOperation(description = "Reset Connections")
     public void resetConnections() {
-        for (TcpSocketConsumerRunnable consumerRunnable : consumerRunnables.keySet()) {
-            if (consumerRunnable != null) {
-                log.info("Reset Connection called via JMX for address {}", consumerRunnable.getCombinedAddress());
-                consumerRunnable.resetSocket();
+        for (MllpServerConnection connection : connections.keySet()) {
+            if (connection != null) {
+                log.info("Reset Connection called via JMX for address {}", connection.getCombinedAddress());
+                connection.resetSocket();
             }
         }
     }
@@ -130,8 +140,18 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         log.trace("doStop()");
 
         // Close any client sockets that are currently open
-        for (TcpSocketConsumerRunnable consumerClientSocketThread : consumerRunnables.keySet()) {
-            consumerClientSocketThread.stop();
+        for (MllpServerConnection connection : connections.keySet()) {
+            if (connection instanceof TcpSocketConsumerRunnable) {
+                ((TcpSocketConsumerRunnable) connection).stop();
+            }
+        }
+
+        // The selector threads close their connections when they are stopped
+        if (selectorThreads != null) {
+            for (TcpServerSelectorThread selectorThread : selectorThreads) {
+                selectorThread.interrupt();
+            }
+            selectorThreads = null;
         }
 
         if (acceptThread != null) {
@@ -149,6 +169,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @Override
     protected void doStart() throws Exception {
+        if (getConfiguration().isNio() && nioWorkerExecutor == null) {
+            nioWorkerExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "MllpNioWorker", getConfiguration().getNioWorkerThreads());
+        }
+
         if (bindThread == null || !bindThread.isAlive()) {
             bindThread = new TcpServerBindThread(this);
 
@@ -159,7 +184,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                 log.debug("doStart() - attempting to bind to port {}", getEndpoint().getPort());
                 bindThread.run();
 
-                if (this.acceptThread == null) {
+                if (this.acceptThread == null && this.selectorThreads == null) {
                     throw new BindException("Failed to bind to port " + getEndpoint().getPort());
                 }
             }
@@ -176,6 +201,10 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             acceptThread.interrupt();
         }
         validationExecutor.shutdownNow();
+        if (nioWorkerExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(nioWorkerExecutor);
+            nioWorkerExecutor = null;
+        }
     }
 
     public void handleMessageTimeout(String message, byte[] payload, Throwable cause) {
@@ -190,8 +219,12 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         return getEndpoint().getConfiguration();
     }
 
-    public Map<TcpSocketConsumerRunnable, Long> getConsumerRunnables() {
-        return consumerRunnables;
+    public Map<MllpServerConnection, Long> getConnections() {
+        return connections;
+    }
+
+    public ExecutorService getNioWorkerExecutor() {
+        return nioWorkerExecutor;
     }
 
     public void validateConsumer(Socket clientSocket) {
@@ -208,15 +241,39 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     }
 
     public void startAcceptThread(ServerSocket serverSocket) {
-        acceptThread = new TcpServerAcceptThread(this, serverSocket);
-        acceptThread.start();
+        if (getConfiguration().isNio()) {
+            startSelectorThreads(serverSocket.getChannel());
+        } else {
+            acceptThread = new TcpServerAcceptThread(this, serverSocket);
+            acceptThread.start();
+        }
+    }
+
+    void startSelectorThreads(ServerSocketChannel serverChannel) {
+        List<TcpServerSelectorThread> threads = new ArrayList<>();
+        try {
+            // The first thread also accepts the connections
+            for (int i = 0; i < Math.max(1, getConfiguration().getNioIoThreads()); ++i) {
+                threads.add(new TcpServerSelectorThread(this, i == 0 ? serverChannel : null, i));
+            }
+        } catch (IOException ioEx) {
+            log.error("startSelectorThreads({}) - failed to open selectors", serverChannel, ioEx);
+            IOHelper.close(serverChannel);
+            return;
+        }
+
+        log.info("Starting {} selector threads for {}", threads.size(), serverChannel);
+        for (TcpServerSelectorThread thread : threads) {
+            thread.start();
+        }
+        selectorThreads = threads;
     }
 
     public void startConsumer(Socket clientSocket, MllpSocketBuffer mllpBuffer) {
         TcpSocketConsumerRunnable client = new TcpSocketConsumerRunnable(
                 this, clientSocket, mllpBuffer, hl7Util, logPhi);
 
-        consumerRunnables.put(client, System.currentTimeMillis());
+        connections.put(client, System.currentTimeMillis());
         try {
             log.info("startConsumer({}) - starting consumer", clientSocket);
             consumerExecutor.submit(client);
@@ -227,15 +284,35 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         }
     }
 
-    public void processMessage(byte[] hl7MessageBytes, TcpSocketConsumerRunnable consumerRunnable) {
+    public void startConsumer(SocketChannel clientChannel) {
+        List<TcpServerSelectorThread> threads = selectorThreads;
+        if (threads == null || connections.size() >= getConfiguration().getMaxConcurrentConsumers()) {
+            log.warn("startConsumer({}) - cannot start consumer - max consumers already active", clientChannel);
+            new MllpSocketBuffer(getEndpoint()).resetSocket(clientChannel.socket());
+            return;
+        }
+
+        TcpServerSelectorThread selectorThread
+                = threads.get(Math.floorMod(nextSelectorThread.getAndIncrement(), threads.size()));
+        try {
+            log.debug("startConsumer({}) - registering connection with {}", clientChannel, selectorThread.getName());
+            selectorThread.register(clientChannel);
+            getEndpoint().updateLastConnectionEstablishedTicks();
+        } catch (Exception registrationEx) {
+            log.warn("startConsumer({}) - cannot start consumer", clientChannel, registrationEx);
+            new MllpSocketBuffer(getEndpoint()).resetSocket(clientChannel.socket());
+        }
+    }
+
+    public void processMessage(byte[] hl7MessageBytes, MllpServerConnection connection) {
         long now = System.currentTimeMillis();
 
         getEndpoint().updateLastConnectionActivityTicks(now);
-        consumerRunnables.put(consumerRunnable, now);
+        connections.put(connection, now);
 
         // Send the message on to Camel for processing and wait for the response
         log.debug("processMessage(hl7MessageBytes[{}], {}) - populating the exchange with received payload",
-                hl7MessageBytes == null ? -1 : hl7MessageBytes.length, consumerRunnable.getSocket());
+                hl7MessageBytes == null ? -1 : hl7MessageBytes.length, connection.getSocket());
         Exchange exchange = createExchange(false);
         exchange.setPattern(ExchangePattern.InOut);
         if (getConfiguration().hasCharsetName()) {
@@ -250,12 +327,12 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
             Message message = exchange.getIn();
 
-            if (consumerRunnable.hasLocalAddress()) {
-                message.setHeader(MllpConstants.MLLP_LOCAL_ADDRESS, consumerRunnable.getLocalAddress());
+            if (connection.hasLocalAddress()) {
+                message.setHeader(MllpConstants.MLLP_LOCAL_ADDRESS, connection.getLocalAddress());
             }
 
-            if (consumerRunnable.hasRemoteAddress()) {
-                message.setHeader(MllpConstants.MLLP_REMOTE_ADDRESS, consumerRunnable.getRemoteAddress());
+            if (connection.hasRemoteAddress()) {
+                message.setHeader(MllpConstants.MLLP_REMOTE_ADDRESS, connection.getRemoteAddress());
             }
 
             if (getConfiguration().isValidatePayload()) {
@@ -280,19 +357,19 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             }
 
             log.debug("processMessage(hl7MessageBytes[{}], {}) - calling processor",
-                    hl7MessageBytes == null ? -1 : hl7MessageBytes.length, consumerRunnable.getSocket());
+                    hl7MessageBytes == null ? -1 : hl7MessageBytes.length, connection.getSocket());
             try {
                 getProcessor().process(exchange);
-                sendAcknowledgement(hl7MessageBytes, exchange, consumerRunnable);
+                sendAcknowledgement(hl7MessageBytes, exchange, connection);
             } catch (Exception unexpectedEx) {
                 String resetMessage
-                        = "processMessage(byte[], TcpSocketConsumerRunnable) - Unexpected exception processing exchange";
-                consumerRunnable.resetSocket(resetMessage);
+                        = "processMessage(byte[], MllpServerConnection) - Unexpected exception processing exchange";
+                connection.resetSocket(resetMessage);
                 getExceptionHandler().handleException(resetMessage, exchange, unexpectedEx);
             }
         } catch (Exception uowEx) {
             getExceptionHandler().handleException(
-                    "processMessage(byte[], TcpSocketConsumerRunnable) - Unexpected exception creating Unit of Work", exchange,
+                    "processMessage(byte[], MllpServerConnection) - Unexpected exception creating Unit of Work", exchange,
                     uowEx);
         } finally {
             doneUoW(exchange);
@@ -404,12 +481,12 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     }
 
-    void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange, TcpSocketConsumerRunnable consumerRunnable) {
+    void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange, MllpServerConnection connection) {
         log.trace("sendAcknowledgement(originalHl7MessageBytes[{}], Exchange[{}], {}) - entering",
                 originalHl7MessageBytes == null ? -1 : originalHl7MessageBytes.length, exchange.getExchangeId(),
-                consumerRunnable.getSocket());
+                connection.getSocket());
 
-        getEndpoint().checkBeforeSendProperties(exchange, consumerRunnable.getSocket(), log);
+        getEndpoint().checkBeforeSendProperties(exchange, connection.getSocket(), log);
 
         // Find the acknowledgement body
         byte[] acknowledgementMessageBytes = exchange.getProperty(MllpConstants.MLLP_ACKNOWLEDGEMENT, byte[].class);
@@ -481,7 +558,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                         }
                     }
 
-                    hl7Util.generateAcknowledgementPayload(consumerRunnable.getMllpBuffer(), originalHl7MessageBytes,
+                    hl7Util.generateAcknowledgementPayload(connection.getMllpBuffer(), originalHl7MessageBytes,
                             acknowledgementMessageType, msa3);
 
                 } catch (MllpAcknowledgementGenerationException ackGenerationException) {
@@ -490,7 +567,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                 }
             }
         } else {
-            consumerRunnable.getMllpBuffer().setEnvelopedMessage(acknowledgementMessageBytes);
+            connection.getMllpBuffer().setEnvelopedMessage(acknowledgementMessageBytes);
 
             final byte bM = 77;
             final byte bS = 83;
@@ -555,21 +632,21 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         Charset charset = MllpCharsetHelper.getCharset(exchange, this.charset);
 
         // TODO:  re-evaluate this - it seems that the MLLP buffer should be populated by now
-        if (consumerRunnable.getMllpBuffer().hasCompleteEnvelope()) {
+        if (connection.getMllpBuffer().hasCompleteEnvelope()) {
             // The mllpBuffer will be used if bufferWrites is set or if auto acknowledgement is used
-            message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT, consumerRunnable.getMllpBuffer().toMllpPayload());
-            message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING, consumerRunnable.getMllpBuffer().toHl7String(charset));
+            message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT, connection.getMllpBuffer().toMllpPayload());
+            message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING, connection.getMllpBuffer().toHl7String(charset));
 
             // Send the acknowledgement
             if (log.isDebugEnabled()) {
                 log.debug("sendAcknowledgement(originalHl7MessageBytes[{}], Exchange[{}], {}) - Sending Acknowledgement: {}",
                         originalHl7MessageBytes == null ? -1 : originalHl7MessageBytes.length, exchange.getExchangeId(),
-                        consumerRunnable.getSocket(),
-                        consumerRunnable.getMllpBuffer().toPrintFriendlyHl7String());
+                        connection.getSocket(),
+                        connection.getMllpBuffer().toPrintFriendlyHl7String());
             }
 
             try {
-                consumerRunnable.getMllpBuffer().writeTo(consumerRunnable.getSocket());
+                connection.writeMllpBuffer();
             } catch (MllpSocketException acknowledgementDeliveryEx) {
                 Exception exchangeEx = new MllpAcknowledgementDeliveryException(
                         "Failure delivering acknowledgment", originalHl7MessageBytes, acknowledgementMessageBytes,
@@ -577,7 +654,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                 exchange.setProperty(MllpConstants.MLLP_ACKNOWLEDGEMENT_EXCEPTION, acknowledgementDeliveryEx);
                 exchange.setException(exchangeEx);
             } finally {
-                consumerRunnable.getMllpBuffer().reset();
+                connection.getMllpBuffer().reset();
             }
         } else if (acknowledgementMessageBytes != null && acknowledgementMessageBytes.length > 0) {
             message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT, acknowledgementMessageBytes);
@@ -588,13 +665,13 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             if (log.isDebugEnabled()) {
                 log.debug("sendAcknowledgement(originalHl7MessageBytes[{}], Exchange[{}], {}) - Sending Acknowledgement: {}",
                         originalHl7MessageBytes == null ? -1 : originalHl7MessageBytes.length, exchange.getExchangeId(),
-                        consumerRunnable.getSocket(),
+                        connection.getSocket(),
                         hl7Util.convertToPrintFriendlyString(acknowledgementMessageBytes));
             }
 
             try {
-                consumerRunnable.getMllpBuffer().setEnvelopedMessage(acknowledgementMessageBytes);
-                consumerRunnable.getMllpBuffer().writeTo(consumerRunnable.getSocket());
+                connection.getMllpBuffer().setEnvelopedMessage(acknowledgementMessageBytes);
+                connection.writeMllpBuffer();
             } catch (MllpSocketException acknowledgementDeliveryEx) {
                 Exception exchangeEx = new MllpAcknowledgementDeliveryException(
                         "Failure delivering acknowledgment", originalHl7MessageBytes, acknowledgementMessageBytes,
@@ -604,7 +681,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             }
         }
 
-        getEndpoint().checkAfterSendProperties(exchange, consumerRunnable.getSocket(), log);
+        getEndpoint().checkAfterSendProperties(exchange, connection.getSocket(), log);
     }
 
     private static String getTypeOrNullString(Object acknowledgementBytesProperty) {
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.net.Socket;
+
+import org.apache.camel.component.mllp.MllpSocketException;
+
+/**
+ * A client connection of the MLLP consumer, which the received messages are processed for and the acknowledgements
+ * are sent to.
+ */
+public interface MllpServerConnection {
+
+    /**
+     * The socket of the connection, which is used to close or reset the connection.
+     */
+    Socket getSocket();
+
+    /**
+     * The buffer the acknowledgement is built in before it is written with {@link #writeMllpBuffer()}.
+     */
+    MllpSocketBuffer getMllpBuffer();
+
+    /**
+     * Write the contents of the MLLP buffer to the connection.
+     */
+    void writeMllpBuffer() throws MllpSocketException;
+
+    void closeSocket();
+
+    void closeSocket(String logMessage);
+
+    void resetSocket();
+
+    void resetSocket(String logMessage);
+
+    boolean hasLocalAddress();
+
+    String getLocalAddress();
+
+    boolean hasRemoteAddress();
+
+    String getRemoteAddress();
+
+    String getCombinedAddress();
+}
@@ -22,6 +22,10 @@ import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 
@@ -38,6 +42,9 @@ import org.slf4j.LoggerFactory;
 public class MllpSocketBuffer {
 
     private static final Logger LOG = LoggerFactory.getLogger(MllpSocketBuffer.class);
+    private static final byte[] START_OF_BLOCK = { MllpProtocolConstants.START_OF_BLOCK };
+    private static final byte[] END_OF_DATA = { MllpProtocolConstants.END_OF_DATA };
+
     final MllpEndpoint endpoint;
 
     byte buffer[];
@@ -258,6 +265,82 @@ public class MllpSocketBuffer {
         LOG.trace("writeTo({}) - exiting", socket);
     }
 
+    /**
+     * Write the enveloped contents of the buffer to a non-blocking channel.
+     * <p/>
+     * The contents are written directly from the buffer, and if the channel cannot accept all the data right away this
+     * waits for the channel to become writable for at most the given timeout.
+     *
+     * @param  channel              the channel to write to
+     * @param  writeTimeout         the time (in milliseconds) to wait for the channel to become writable
+     * @throws MllpSocketException if the data could not be written - the channel is reset in this case
+     */
+    public synchronized void writeTo(SocketChannel channel, int writeTimeout) throws MllpSocketException {
+        if (channel != null && channel.isOpen() && channel.isConnected()) {
+            LOG.trace("writeTo({}, {}) - entering", channel, writeTimeout);
+            if (!isEmpty()) {
+                ByteBuffer[] data = toByteBuffers();
+                try {
+                    channel.write(data);
+                    if (data[data.length - 1].hasRemaining()) {
+                        writeRemaining(channel, data, writeTimeout);
+                    }
+                } catch (IOException ioEx) {
+                    final String exceptionMessage = String.format("writeTo(%s, %d) - IOException encountered", channel,
+                            writeTimeout);
+                    resetSocket(channel.socket(), exceptionMessage);
+                    throw new MllpSocketException(exceptionMessage, ioEx);
+                }
+            } else {
+                LOG.warn("writeTo({}, {}) - no data written because buffer is empty", channel, writeTimeout);
+            }
+        } else {
+            LOG.warn("writeTo({}, {}) - no data written because SocketChannel is invalid", channel, writeTimeout);
+        }
+
+        LOG.trace("writeTo({}, {}) - exiting", channel, writeTimeout);
+    }
+
+    /**
+     * Wrap the contents of the buffer, adding any missing enveloping characters, without copying the data.
+     */
+    ByteBuffer[] toByteBuffers() {
+        if (hasStartOfBlock()) {
+            if (hasEndOfData()) {
+                return new ByteBuffer[] {
+                        ByteBuffer.wrap(buffer, startOfBlockIndex, endOfBlockIndex - startOfBlockIndex + 2) };
+            } else if (hasEndOfBlock()) {
+                return new ByteBuffer[] {
+                        ByteBuffer.wrap(buffer, startOfBlockIndex, endOfBlockIndex - startOfBlockIndex + 1),
+                        ByteBuffer.wrap(END_OF_DATA) };
+            } else {
+                return new ByteBuffer[] {
+                        ByteBuffer.wrap(buffer, startOfBlockIndex, availableByteCount - startOfBlockIndex),
+                        ByteBuffer.wrap(MllpProtocolConstants.PAYLOAD_TERMINATOR) };
+            }
+        }
+
+        return new ByteBuffer[] {
+                ByteBuffer.wrap(START_OF_BLOCK), ByteBuffer.wrap(buffer, 0, availableByteCount),
+                ByteBuffer.wrap(MllpProtocolConstants.PAYLOAD_TERMINATOR) };
+    }
+
+    private static void writeRemaining(SocketChannel channel, ByteBuffer[] data, int writeTimeout) throws IOException {
+        // The send buffer of the socket is full - wait for the channel to become writable without using the selector of the consumer
+        try (Selector selector = Selector.open()) {
+            channel.register(selector, SelectionKey.OP_WRITE);
+            while (data[data.length - 1].hasRemaining()) {
+                if (selector.select(writeTimeout) == 0) {
+                    throw new SocketTimeoutException(
+                            String.format("Timeout after %d milliseconds waiting for %s to become writable", writeTimeout,
+                                    channel));
+                }
+                selector.selectedKeys().clear();
+                channel.write(data);
+            }
+        }
+    }
+
     public synchronized byte[] toByteArray() {
         if (availableByteCount > 0) {
             return Arrays.copyOf(buffer, availableByteCount);
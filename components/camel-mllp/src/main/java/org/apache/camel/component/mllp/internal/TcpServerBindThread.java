@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.SocketException;
+import java.nio.channels.ServerSocketChannel;
 import java.time.Duration;
 
 import org.apache.camel.Route;
@@ -71,8 +72,9 @@ public class TcpServerBindThread extends Thread {
 
         try {
             // Note: this socket is going to be closed in the TcpServerAcceptThread instance
-            // launched by the consumer
-            ServerSocket serverSocket = new ServerSocket();
+            // launched by the consumer, or in the first TcpServerSelectorThread when the NIO server is used
+            ServerSocket serverSocket = consumer.getConfiguration().isNio()
+                    ? ServerSocketChannel.open().socket() : new ServerSocket();
             InetSocketAddress socketAddress = setupSocket(serverSocket);
 
             log.debug("Attempting to bind to {}", socketAddress);
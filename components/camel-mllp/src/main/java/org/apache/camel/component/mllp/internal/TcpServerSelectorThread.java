@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.camel.Route;
+import org.apache.camel.component.mllp.MllpConfiguration;
+import org.apache.camel.component.mllp.MllpTcpServerConsumer;
+import org.apache.camel.spi.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * I/O thread of the NIO server, which reads the MLLP frames from the connections registered with its selector.
+ * <p/>
+ * The data is read into a single buffer owned by the thread, so an idle connection does not hold any buffers. A frame
+ * buffer is only taken from the pool of the thread while a frame is split over more than one read. Reading a connection
+ * is suspended while a received message is processed, and all timeouts are checked by this thread.
+ * <p/>
+ * The first thread also accepts the new connections.
+ */
+public class TcpServerSelectorThread extends Thread {
+    static final long TIMEOUT_CHECK_INTERVAL = 100;
+    static final int MAX_POOLED_FRAME_BUFFERS = 64;
+
+    Logger log = LoggerFactory.getLogger(this.getClass());
+
+    final MllpTcpServerConsumer consumer;
+    final MllpConfiguration configuration;
+    final Selector selector;
+    final ServerSocketChannel serverChannel;
+    final ByteBuffer readBuffer;
+    final Hl7Util hl7Util;
+    final ThreadLocal<MllpSocketBuffer> mllpBuffers;
+
+    // only used by this thread
+    final List<TcpSocketChannelConnection> connections = new ArrayList<>();
+    final Deque<ByteBuffer> frameBufferPool = new ArrayDeque<>();
+    final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+    volatile boolean running;
+    long lastTimeoutCheckTicks;
+
+    /**
+     * @param consumer      the consumer
+     * @param serverChannel the bound server channel to accept connections from, or null if the thread only reads
+     *                      connections
+     * @param index         the index of the thread, which is used in the thread name
+     */
+    public TcpServerSelectorThread(MllpTcpServerConsumer consumer, ServerSocketChannel serverChannel, int index)
+                                                                                                                  throws IOException {
+        this.consumer = consumer;
+        this.configuration = consumer.getConfiguration();
+        this.serverChannel = serverChannel;
+        this.selector = Selector.open();
+        this.hl7Util = new Hl7Util(consumer.getEndpoint().getComponent().getLogPhiMaxBytes(),
+                consumer.getEndpoint().getComponent().getLogPhi());
+        this.mllpBuffers = ThreadLocal.withInitial(() -> new MllpSocketBuffer(consumer.getEndpoint()));
+
+        int readBufferSize = configuration.hasReceiveBufferSize()
+                ? Math.max(configuration.getReceiveBufferSize(), configuration.getMinBufferSize())
+                : configuration.getMinBufferSize();
+        this.readBuffer = ByteBuffer.allocateDirect(readBufferSize);
+
+        if (serverChannel != null) {
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        }
+
+        // Get the URI without options
+        String fullEndpointKey = consumer.getEndpoint().getEndpointKey();
+        String endpointKey;
+        if (fullEndpointKey.contains("?")) {
+            endpointKey = fullEndpointKey.substring(0, fullEndpointKey.indexOf('?'));
+        } else {
+            endpointKey = fullEndpointKey;
+        }
+
+        this.setName(String.format("%s[%s] - %d", this.getClass().getSimpleName(), endpointKey, index));
+    }
+
+    /**
+     * Register a new connection with the selector of this thread.
+     */
+    public void register(SocketChannel channel) throws IOException {
+        channel.configureBlocking(false);
+        TcpSocketChannelConnection connection = new TcpSocketChannelConnection(consumer, this, channel);
+        consumer.getConnections().put(connection, System.currentTimeMillis());
+
+        execute(() -> {
+            try {
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                connections.add(connection);
+            } catch (IOException registrationEx) {
+                log.warn("Failed to register {} - resetting connection", connection.getCombinedAddress(), registrationEx);
+                connection.resetSocket();
+                consumer.getConnections().remove(connection);
+            }
+        });
+    }
+
+    /**
+     * Resume reading a connection after its message has been processed.
+     */
+    void resumeReading(TcpSocketChannelConnection connection) {
+        execute(() -> {
+            connection.processing = false;
+            connection.lastReadTicks = System.currentTimeMillis();
+            if (connection.key != null && connection.key.isValid()) {
+                connection.key.interestOps(SelectionKey.OP_READ);
+            }
+        });
+    }
+
+    /**
+     * The buffer of the current thread, which is used to send the acknowledgements and close the connections.
+     */
+    MllpSocketBuffer getMllpBuffer() {
+        return mllpBuffers.get();
+    }
+
+    void execute(Runnable task) {
+        pendingTasks.add(task);
+        selector.wakeup();
+    }
+
+    ByteBuffer acquireFrameBuffer() {
+        ByteBuffer frameBuffer = frameBufferPool.poll();
+        if (frameBuffer == null) {
+            frameBuffer = ByteBuffer.allocate(configuration.getMinBufferSize());
+        }
+
+        return frameBuffer;
+    }
+
+    void releaseFrameBuffer(ByteBuffer frameBuffer) {
+        // only the buffers of the initial size are pooled - larger buffers are released to the GC
+        if (frameBuffer.capacity() == configuration.getMinBufferSize() && frameBufferPool.size() < MAX_POOLED_FRAME_BUFFERS) {
+            frameBuffer.clear();
+            frameBufferPool.push(frameBuffer);
+        }
+    }
+
+    @Override
+    public void run() {
+        running = true;
+        MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, consumer.getEndpoint().getCamelContext().getName());
+
+        Route route = consumer.getRoute();
+        if (route != null) {
+            String routeId = route.getId();
+            if (routeId != null) {
+                MDC.put(UnitOfWork.MDC_ROUTE_ID, route.getId());
+            }
+        }
+
+        log.debug("Starting {}", this.getName());
+        try {
+            while (running) {
+                selector.select(TIMEOUT_CHECK_INTERVAL);
+
+                Runnable task;
+                while ((task = pendingTasks.poll()) != null) {
+                    task.run();
+                }
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else if (key.isReadable()) {
+                        ((TcpSocketChannelConnection) key.attachment()).read(readBuffer);
+                    }
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastTimeoutCheckTicks >= TIMEOUT_CHECK_INTERVAL) {
+                    lastTimeoutCheckTicks = now;
+                    connections.removeIf(connection -> !connection.checkTimeouts(now));
+                }
+            }
+        } catch (Exception unexpectedEx) {
+            log.error("Unexpected exception encountered selecting connections", unexpectedEx);
+        } finally {
+            log.debug("{} completed - closing connections", this.getName());
+            for (TcpSocketChannelConnection connection : connections) {
+                connection.resetSocket();
+                connection.release();
+            }
+            connections.clear();
+
+            if (serverChannel != null) {
+                try {
+                    serverChannel.close();
+                } catch (IOException ioEx) {
+                    log.debug("Exception encountered closing ServerSocketChannel - ignoring", ioEx);
+                }
+            }
+
+            try {
+                selector.close();
+            } catch (IOException ioEx) {
+                log.debug("Exception encountered closing Selector - ignoring", ioEx);
+            }
+
+            MDC.remove(UnitOfWork.MDC_ROUTE_ID);
+            MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+        }
+    }
+
+    void accept() {
+        SocketChannel channel;
+        try {
+            while ((channel = serverChannel.accept()) != null) {
+                consumer.startConsumer(channel);
+            }
+        } catch (IOException ioEx) {
+            log.warn("Exception encountered accepting connection - ignoring", ioEx);
+        }
+    }
+
+    @Override
+    public void interrupt() {
+        this.running = false;
+        super.interrupt();
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.component.mllp.MllpConfiguration;
+import org.apache.camel.component.mllp.MllpProtocolConstants;
+import org.apache.camel.component.mllp.MllpSocketException;
+import org.apache.camel.component.mllp.MllpTcpServerConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection of the NIO server, which is read by a {@link TcpServerSelectorThread}.
+ * <p/>
+ * The start and end of the MLLP frames are found in the data as it is read. When a complete frame is received in a
+ * single read, the payload is copied straight from the read buffer of the selector thread. Otherwise the partial frame
+ * is collected in a frame buffer from the pool of the selector thread until the end of the frame is received.
+ * <p/>
+ * The connection follows the same rules as the {@link TcpServerConsumerValidationRunnable} and
+ * {@link TcpSocketConsumerRunnable} for the initial data received, out-of-band data and timeouts.
+ */
+public class TcpSocketChannelConnection implements MllpServerConnection {
+    Logger log = LoggerFactory.getLogger(this.getClass());
+
+    final MllpTcpServerConsumer consumer;
+    final MllpConfiguration configuration;
+    final TcpServerSelectorThread selectorThread;
+    final SocketChannel channel;
+    final Hl7Util hl7Util;
+    final long connectTicks;
+
+    // only used by the selector thread
+    SelectionKey key;
+    ByteBuffer frameBuffer;
+    int frameScanIndex;
+    boolean validating = true;
+    boolean processing;
+    long lastReadTicks;
+
+    private final String localAddress;
+    private final String remoteAddress;
+    private final String combinedAddress;
+
+    public TcpSocketChannelConnection(MllpTcpServerConsumer consumer, TcpServerSelectorThread selectorThread,
+                                      SocketChannel channel) {
+        this.consumer = consumer;
+        this.configuration = consumer.getConfiguration();
+        this.selectorThread = selectorThread;
+        this.channel = channel;
+        this.hl7Util = selectorThread.hl7Util;
+        this.connectTicks = System.currentTimeMillis();
+        this.lastReadTicks = connectTicks;
+
+        Socket socket = channel.socket();
+        SocketAddress localSocketAddress = socket.getLocalSocketAddress();
+        if (localSocketAddress != null) {
+            localAddress = localSocketAddress.toString();
+        } else {
+            localAddress = null;
+        }
+
+        SocketAddress remoteSocketAddress = socket.getRemoteSocketAddress();
+        if (remoteSocketAddress != null) {
+            remoteAddress = remoteSocketAddress.toString();
+        } else {
+            remoteAddress = null;
+        }
+
+        combinedAddress = MllpSocketBuffer.formatAddressString(remoteSocketAddress, localSocketAddress);
+
+        try {
+            if (configuration.hasKeepAlive()) {
+                socket.setKeepAlive(configuration.getKeepAlive());
+            }
+            if (configuration.hasTcpNoDelay()) {
+                socket.setTcpNoDelay(configuration.getTcpNoDelay());
+            }
+            if (configuration.hasReceiveBufferSize()) {
+                socket.setReceiveBufferSize(configuration.getReceiveBufferSize());
+            }
+            if (configuration.hasSendBufferSize()) {
+                socket.setSendBufferSize(configuration.getSendBufferSize());
+            }
+
+            socket.setSoLinger(false, -1);
+        } catch (IOException initializationException) {
+            throw new IllegalStateException("Failed to initialize " + this.getClass().getSimpleName(), initializationException);
+        }
+    }
+
+    /**
+     * Read the available data from the channel - called by the selector thread when the channel is readable.
+     *
+     * @param readBuffer the read buffer of the selector thread
+     */
+    void read(ByteBuffer readBuffer) {
+        readBuffer.clear();
+        try {
+            int readCount = channel.read(readBuffer);
+            if (readCount == MllpProtocolConstants.END_OF_STREAM) {
+                handleReadException(new MllpSocketException(
+                        String.format("read(%s) - END_OF_STREAM returned from SocketChannel.read()", combinedAddress)));
+                return;
+            }
+            if (readCount == 0) {
+                return;
+            }
+        } catch (IOException ioEx) {
+            handleReadException(new MllpSocketException(
+                    String.format("read(%s) - IOException thrown from SocketChannel.read()", combinedAddress), ioEx));
+            return;
+        }
+
+        lastReadTicks = System.currentTimeMillis();
+        readBuffer.flip();
+        try {
+            if (frameBuffer == null) {
+                startFrame(readBuffer);
+            } else {
+                continueFrame(readBuffer);
+            }
+        } catch (Exception unexpectedEx) {
+            log.error("Unexpected exception encountered receiving messages", unexpectedEx);
+            release();
+            resetSocket();
+        }
+    }
+
+    void startFrame(ByteBuffer readBuffer) {
+        int startOfBlockIndex = indexOfStartOfBlock(readBuffer);
+        if (startOfBlockIndex < 0) {
+            if (validating) {
+                log.info("Ignoring out-of-band data on initial read [{} bytes]: {}", readBuffer.remaining(),
+                        toPrintFriendlyString(readBuffer, readBuffer.position(), readBuffer.limit()));
+                resetSocket();
+            } else {
+                log.warn("Ignoring {} byte un-enveloped payload {}", readBuffer.remaining(),
+                        toPrintFriendlyString(readBuffer, readBuffer.position(), readBuffer.limit()));
+            }
+            return;
+        }
+
+        if (startOfBlockIndex > readBuffer.position()) {
+            log.warn("Ignoring leading out-of-band data: {}",
+                    toPrintFriendlyString(readBuffer, readBuffer.position(), startOfBlockIndex));
+        }
+
+        int endOfBlockIndex = indexOfEndOfFrame(readBuffer, startOfBlockIndex + 1, readBuffer.limit());
+        if (endOfBlockIndex >= 0) {
+            // The complete frame was received - copy the payload straight out of the read buffer
+            byte[] payload = new byte[endOfBlockIndex - startOfBlockIndex - 1];
+            readBuffer.position(startOfBlockIndex + 1);
+            readBuffer.get(payload);
+            ignoreTrailingData(readBuffer, endOfBlockIndex, readBuffer.limit());
+            processMessage(payload);
+        } else {
+            readBuffer.position(startOfBlockIndex);
+            frameBuffer = selectorThread.acquireFrameBuffer();
+            frameScanIndex = 1;
+            continueFrame(readBuffer);
+        }
+    }
+
+    void continueFrame(ByteBuffer readBuffer) {
+        ensureCapacity(readBuffer.remaining());
+        frameBuffer.put(readBuffer);
+
+        int endOfBlockIndex = indexOfEndOfFrame(frameBuffer, frameScanIndex, frameBuffer.position());
+        if (endOfBlockIndex < 0) {
+            // The last byte may be an END_OF_BLOCK waiting for the END_OF_DATA
+            frameScanIndex = Math.max(frameScanIndex, frameBuffer.position() - 1);
+            return;
+        }
+
+        byte[] payload = new byte[endOfBlockIndex - 1];
+        frameBuffer.flip();
+        frameBuffer.position(1);
+        frameBuffer.get(payload);
+        ignoreTrailingData(frameBuffer, endOfBlockIndex, frameBuffer.limit());
+        release();
+        processMessage(payload);
+    }
+
+    void ensureCapacity(int requiredCapacity) {
+        if (frameBuffer.remaining() < requiredCapacity) {
+            int requiredBufferSize = frameBuffer.position() + requiredCapacity;
+            if (requiredBufferSize > configuration.getMaxBufferSize()) {
+                throw new IllegalStateException(
+                        String.format(
+                                "Cannot increase the buffer size <%d> to <%d> because the required buffer size exceeds the maximum buffer size <%d>",
+                                frameBuffer.capacity(), requiredBufferSize, configuration.getMaxBufferSize()));
+            }
+            int newBufferSize = Math.min(Math.max(frameBuffer.capacity() * 2, requiredBufferSize),
+                    configuration.getMaxBufferSize());
+            ByteBuffer newFrameBuffer = ByteBuffer.allocate(newBufferSize);
+            frameBuffer.flip();
+            newFrameBuffer.put(frameBuffer);
+            selectorThread.releaseFrameBuffer(frameBuffer);
+            frameBuffer = newFrameBuffer;
+        }
+    }
+
+    void ignoreTrailingData(ByteBuffer buffer, int endOfBlockIndex, int limit) {
+        int trailingDataIndex = endOfBlockIndex + 1;
+        if (trailingDataIndex < limit && buffer.get(trailingDataIndex) == MllpProtocolConstants.END_OF_DATA) {
+            trailingDataIndex++;
+        }
+        if (trailingDataIndex < limit) {
+            log.warn("Ignoring trailing out-of-band data: {}", toPrintFriendlyString(buffer, trailingDataIndex, limit));
+        }
+    }
+
+    void processMessage(byte[] payload) {
+        if (log.isDebugEnabled()) {
+            log.debug("Received {} byte message {}", payload.length, hl7Util.convertToPrintFriendlyString(payload));
+        }
+
+        validating = false;
+        processing = true;
+        key.interestOps(0);
+
+        try {
+            consumer.getNioWorkerExecutor().execute(() -> {
+                try {
+                    getMllpBuffer().reset();
+                    consumer.processMessage(payload, this);
+                } finally {
+                    selectorThread.resumeReading(this);
+                }
+            });
+        } catch (RejectedExecutionException rejectedExecutionEx) {
+            log.warn("processMessage({}) - cannot process message - the worker pool is not running", combinedAddress);
+            resetSocket();
+        }
+    }
+
+    void handleReadException(MllpSocketException mllpSocketEx) {
+        resetSocket();
+        if (frameBuffer != null) {
+            byte[] payload = toByteArray(frameBuffer);
+            release();
+            if (validating) {
+                log.warn("Exception encountered receiving complete initial message [{} bytes]: {}", payload.length,
+                        hl7Util.convertToPrintFriendlyString(payload));
+            } else {
+                consumer.handleMessageException("Exception encountered reading payload", payload, mllpSocketEx);
+            }
+        } else {
+            log.debug("Ignoring exception encountered checking for data", mllpSocketEx);
+        }
+    }
+
+    /**
+     * Check the timeouts of the connection - called periodically by the selector thread.
+     *
+     * @return false if the connection was closed and should not be checked again
+     */
+    boolean checkTimeouts(long now) {
+        if (!channel.isOpen()) {
+            release();
+            consumer.getConnections().remove(this);
+            return false;
+        }
+
+        if (processing) {
+            return true;
+        }
+
+        if (frameBuffer != null) {
+            if (now - lastReadTicks >= configuration.getReadTimeout()) {
+                byte[] payload = toByteArray(frameBuffer);
+                release();
+                resetSocket();
+                if (validating) {
+                    log.warn("Timeout receiving complete initial message on read [{} bytes]: {}", payload.length,
+                            hl7Util.convertToPrintFriendlyString(payload));
+                } else {
+                    consumer.handleMessageTimeout("Timeout receiving complete message payload", payload,
+                            new SocketTimeoutException(
+                                    String.format("No data received for %d milliseconds", now - lastReadTicks)));
+                }
+                consumer.getConnections().remove(this);
+                return false;
+            }
+        } else if (validating) {
+            if (now - connectTicks >= Math.min(500, configuration.getReceiveTimeout())) {
+                log.debug("Initial read timed-out but no data was read - starting consumer");
+                validating = false;
+            }
+        } else if (configuration.hasIdleTimeout()) {
+            Long lastReceivedMessageTicks = consumer.getConnections().get(this);
+            if (lastReceivedMessageTicks != null) {
+                long idleTime = now - lastReceivedMessageTicks;
+                if (idleTime >= configuration.getIdleTimeout()) {
+                    String resetMessage = String.format("Connection idle time %d exceeded idleTimeout %d", idleTime,
+                            configuration.getIdleTimeout());
+                    resetSocket(resetMessage);
+                    consumer.getConnections().remove(this);
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the frame buffer to the pool of the selector thread.
+     */
+    void release() {
+        if (frameBuffer != null) {
+            selectorThread.releaseFrameBuffer(frameBuffer);
+            frameBuffer = null;
+        }
+    }
+
+    int indexOfStartOfBlock(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); ++i) {
+            if (buffer.get(i) == MllpProtocolConstants.START_OF_BLOCK) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the END_OF_BLOCK of the frame, which must be followed by an END_OF_DATA when requireEndOfData is set.
+     *
+     * @return the index of the END_OF_BLOCK, or -1 if the frame is not complete
+     */
+    int indexOfEndOfFrame(ByteBuffer buffer, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; ++i) {
+            if (buffer.get(i) == MllpProtocolConstants.END_OF_BLOCK) {
+                if (!configuration.isRequireEndOfData()) {
+                    return i;
+                } else if (i + 1 >= toIndex) {
+                    return -1;
+                } else if (buffer.get(i + 1) == MllpProtocolConstants.END_OF_DATA) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static byte[] toByteArray(ByteBuffer frameBuffer) {
+        byte[] answer = new byte[frameBuffer.position()];
+        frameBuffer.flip();
+        frameBuffer.get(answer);
+        return answer;
+    }
+
+    String toPrintFriendlyString(ByteBuffer buffer, int fromIndex, int toIndex) {
+        byte[] data = new byte[toIndex - fromIndex];
+        ByteBuffer source = buffer.duplicate();
+        source.position(fromIndex);
+        source.get(data);
+        return hl7Util.convertToPrintFriendlyString(data);
+    }
+
+    @Override
+    public Socket getSocket() {
+        return channel.socket();
+    }
+
+    /**
+     * The acknowledgements are generated by the worker threads, so the buffer is shared by all the connections a worker
+     * thread processes messages for.
+     */
+    @Override
+    public MllpSocketBuffer getMllpBuffer() {
+        return selectorThread.getMllpBuffer();
+    }
+
+    @Override
+    public void writeMllpBuffer() throws MllpSocketException {
+        getMllpBuffer().writeTo(channel, configuration.getReadTimeout());
+    }
+
+    @Override
+    public void closeSocket() {
+        getMllpBuffer().closeSocket(channel.socket());
+    }
+
+    @Override
+    public void closeSocket(String logMessage) {
+        getMllpBuffer().closeSocket(channel.socket(), logMessage);
+    }
+
+    @Override
+    public void resetSocket() {
+        getMllpBuffer().resetSocket(channel.socket());
+    }
+
+    @Override
+    public void resetSocket(String logMessage) {
+        getMllpBuffer().resetSocket(channel.socket(), logMessage);
+    }
+
+    @Override
+    public boolean hasLocalAddress() {
+        return localAddress != null && !localAddress.isEmpty();
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return localAddress;
+    }
+
+    @Override
+    public boolean hasRemoteAddress() {
+        return remoteAddress != null && !remoteAddress.isEmpty();
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public String getCombinedAddress() {
+        return combinedAddress;
+    }
+}
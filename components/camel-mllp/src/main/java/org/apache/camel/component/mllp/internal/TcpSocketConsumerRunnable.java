@@ -33,7 +33,7 @@ import org.slf4j.MDC;
 /**
  * Runnable to read the Socket
  */
-public class TcpSocketConsumerRunnable implements Runnable {
+public class TcpSocketConsumerRunnable implements Runnable, MllpServerConnection {
     final Socket clientSocket;
     final MllpSocketBuffer mllpBuffer;
 
@@ -182,7 +182,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
                     if (mllpBuffer.isEmpty()) {
                         if (consumer.getConfiguration().hasIdleTimeout()) {
                             long currentTicks = System.currentTimeMillis();
-                            long lastReceivedMessageTicks = consumer.getConsumerRunnables().get(this);
+                            long lastReceivedMessageTicks = consumer.getConnections().get(this);
                             long idleTime = currentTicks - lastReceivedMessageTicks;
                             if (idleTime >= consumer.getConfiguration().getIdleTimeout()) {
                                 String resetMessage = String.format("Connection idle time %d exceeded idleTimeout %d", idleTime,
@@ -212,7 +212,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
         } catch (Exception unexpectedEx) {
             log.error("Unexpected exception encountered receiving messages", unexpectedEx);
         } finally {
-            consumer.getConsumerRunnables().remove(this);
+            consumer.getConnections().remove(this);
             log.debug("{} for {} completed", this.getClass().getSimpleName(), combinedAddress);
 
             Thread.currentThread().setName(originalThreadName);
@@ -223,26 +223,37 @@ public class TcpSocketConsumerRunnable implements Runnable {
         }
     }
 
+    @Override
     public Socket getSocket() {
         return clientSocket;
     }
 
+    @Override
     public MllpSocketBuffer getMllpBuffer() {
         return mllpBuffer;
     }
 
+    @Override
+    public void writeMllpBuffer() throws MllpSocketException {
+        mllpBuffer.writeTo(clientSocket);
+    }
+
+    @Override
     public void closeSocket() {
         mllpBuffer.closeSocket(clientSocket);
     }
 
+    @Override
     public void closeSocket(String logMessage) {
         mllpBuffer.closeSocket(clientSocket, logMessage);
     }
 
+    @Override
     public void resetSocket() {
         mllpBuffer.resetSocket(clientSocket);
     }
 
+    @Override
     public void resetSocket(String logMessage) {
         mllpBuffer.resetSocket(clientSocket, logMessage);
     }
@@ -251,18 +262,22 @@ public class TcpSocketConsumerRunnable implements Runnable {
         running = false;
     }
 
+    @Override
     public boolean hasLocalAddress() {
         return localAddress != null && !localAddress.isEmpty();
     }
 
+    @Override
     public String getLocalAddress() {
         return localAddress;
     }
 
+    @Override
     public boolean hasRemoteAddress() {
         return remoteAddress != null && !remoteAddress.isEmpty();
     }
 
+    @Override
     public String getRemoteAddress() {
         return remoteAddress;
     }
@@ -271,6 +286,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
         return combinedAddress != null && combinedAddress.isEmpty();
     }
 
+    @Override
     public String getCombinedAddress() {
         return combinedAddress;
     }
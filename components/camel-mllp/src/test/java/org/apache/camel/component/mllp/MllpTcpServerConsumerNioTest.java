@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit.rule.mllp.MllpClientResource;
+import org.apache.camel.test.junit.rule.mllp.MllpJUnitResourceException;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.test.mllp.Hl7TestMessageGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MllpTcpServerConsumerNioTest extends CamelTestSupport {
+    static final int RECEIVE_TIMEOUT = 1000;
+    static final int READ_TIMEOUT = 500;
+
+    @RegisterExtension
+    public MllpClientResource mllpClient = new MllpClientResource();
+
+    @EndpointInject("mock://result")
+    MockEndpoint result;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        mllpClient.setMllpHost("localhost");
+        mllpClient.setMllpPort(AvailablePortFinder.getNextAvailable());
+
+        super.doPreSetup();
+    }
+
+    @Test
+    public void testReceiveMultipleMessagesInMultiplePackets() throws Exception {
+        int sendMessageCount = 100;
+        result.expectedMessageCount(sendMessageCount);
+
+        addTestRoute(-1);
+
+        mllpClient.setSoTimeout(10000);
+        mllpClient.connect();
+
+        for (int i = 1; i <= sendMessageCount; ++i) {
+            String testMessage = Hl7TestMessageGenerator.generateMessage(i);
+            result.message(i - 1).body().isEqualTo(testMessage);
+            mllpClient.sendFramedDataInMultiplePackets(testMessage, (byte) '\r');
+            String acknowledgement = mllpClient.receiveFramedData();
+            assertThat("Should be acknowledgment for message " + i, acknowledgement,
+                    containsString(String.format("MSA|AA|%05d", i)));
+        }
+
+        MockEndpoint.assertIsSatisfied(context, 10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testManyConnections() throws Exception {
+        int connectionCount = 50;
+        result.expectedMessageCount(connectionCount);
+
+        addTestRoute(-1);
+
+        List<MllpClientResource> clients = new ArrayList<>();
+        try {
+            for (int i = 1; i <= connectionCount; ++i) {
+                MllpClientResource client = new MllpClientResource(mllpClient.getMllpHost(), mllpClient.getMllpPort());
+                client.setSoTimeout(10000);
+                client.connect();
+                clients.add(client);
+            }
+
+            for (int i = 1; i <= connectionCount; ++i) {
+                clients.get(i - 1).sendFramedData(Hl7TestMessageGenerator.generateMessage(i));
+            }
+
+            for (int i = 1; i <= connectionCount; ++i) {
+                assertThat("Should be acknowledgment for message " + i, clients.get(i - 1).receiveFramedData(),
+                        containsString(String.format("MSA|AA|%05d", i)));
+            }
+
+            MllpTcpServerConsumer consumer = (MllpTcpServerConsumer) context.getRoute("mllp-nio-receiver").getConsumer();
+            assertEquals(connectionCount, consumer.getConnections().size());
+        } finally {
+            for (MllpClientResource client : clients) {
+                client.close();
+            }
+        }
+
+        MockEndpoint.assertIsSatisfied(context, 10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testIdleConnection() throws Exception {
+        final int idleTimeout = RECEIVE_TIMEOUT * 2;
+        result.expectedMessageCount(1);
+
+        addTestRoute(idleTimeout);
+
+        mllpClient.connect();
+        mllpClient.sendMessageAndWaitForAcknowledgement(Hl7TestMessageGenerator.generateMessage());
+        Thread.sleep(idleTimeout + RECEIVE_TIMEOUT);
+
+        assertThrows(MllpJUnitResourceException.class, () -> mllpClient.checkConnection());
+
+        MockEndpoint.assertIsSatisfied(context, 10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPartialMessageTimeout() throws Exception {
+        result.expectedMessageCount(0);
+        result.setAssertPeriod(500);
+
+        addTestRoute(-1);
+
+        mllpClient.setSendEndOfBlock(false);
+        mllpClient.setSendEndOfData(false);
+        mllpClient.connect();
+        mllpClient.sendFramedData(Hl7TestMessageGenerator.generateMessage());
+        Thread.sleep(READ_TIMEOUT * 3);
+
+        assertThrows(MllpJUnitResourceException.class, () -> mllpClient.checkConnection());
+
+        MockEndpoint.assertIsSatisfied(context, 10, TimeUnit.SECONDS);
+    }
+
+    void addTestRoute(final int idleTimeout) throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                fromF("mllp://%s:%d?nio=true&nioIoThreads=2&nioWorkerThreads=4&maxConcurrentConsumers=100"
+                      + "&receiveTimeout=%d&readTimeout=%d&idleTimeout=%d",
+                        mllpClient.getMllpHost(), mllpClient.getMllpPort(), RECEIVE_TIMEOUT, READ_TIMEOUT, idleTimeout)
+                                .routeId("mllp-nio-receiver")
+                                .to(result);
+            }
+        });
+        context.start();
+    }
+}
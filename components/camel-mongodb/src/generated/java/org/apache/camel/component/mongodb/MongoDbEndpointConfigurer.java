@@ -25,6 +25,10 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "authSource": target.setAuthSource(property(camelContext, java.lang.String.class, value)); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
+        case "bulkwritebatchsize":
+        case "bulkWriteBatchSize": target.setBulkWriteBatchSize(property(camelContext, int.class, value)); return true;
+        case "bulkwritebatchtimeout":
+        case "bulkWriteBatchTimeout": target.setBulkWriteBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "collection": target.setCollection(property(camelContext, java.lang.String.class, value)); return true;
         case "collectionindex":
         case "collectionIndex": target.setCollectionIndex(property(camelContext, java.lang.String.class, value)); return true;
@@ -81,6 +85,10 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "authSource": return java.lang.String.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
+        case "bulkwritebatchsize":
+        case "bulkWriteBatchSize": return int.class;
+        case "bulkwritebatchtimeout":
+        case "bulkWriteBatchTimeout": return long.class;
         case "collection": return java.lang.String.class;
         case "collectionindex":
         case "collectionIndex": return java.lang.String.class;
@@ -138,6 +146,10 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "authSource": return target.getAuthSource();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
+        case "bulkwritebatchsize":
+        case "bulkWriteBatchSize": return target.getBulkWriteBatchSize();
+        case "bulkwritebatchtimeout":
+        case "bulkWriteBatchTimeout": return target.getBulkWriteBatchTimeout();
         case "collection": return target.getCollection();
         case "collectionindex":
         case "collectionIndex": return target.getCollectionIndex();
@@ -21,9 +21,11 @@ public class MongoDbEndpointUriFactory extends org.apache.camel.support.componen
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(29);
+        Set<String> props = new HashSet<>(31);
         props.add("authSource");
         props.add("bridgeErrorHandler");
+        props.add("bulkWriteBatchSize");
+        props.add("bulkWriteBatchTimeout");
         props.add("collection");
         props.add("collectionIndex");
         props.add("connectionBean");
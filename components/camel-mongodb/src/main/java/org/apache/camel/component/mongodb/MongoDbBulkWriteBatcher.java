@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.support.Batcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups the single document writes of concurrent exchanges by collection into unordered bulk writes, which are sent
+ * when they are full, or when the batch timeout has elapsed. Each exchange is completed with the result or the error of
+ * its own document.
+ * <p/>
+ * The bulk writes block until the server has replied, so they are sent from a thread pool of their own, and neither the
+ * thread of the exchange filling a batch nor the thread sending the expired batches waits for them.
+ */
+class MongoDbBulkWriteBatcher extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDbBulkWriteBatcher.class);
+
+    private final MongoDbProducer producer;
+    private final Batcher<MongoNamespace, Entry> batcher;
+    private volatile ExecutorService executorService;
+
+    MongoDbBulkWriteBatcher(MongoDbProducer producer, int batchSize, long batchTimeout) {
+        this.producer = producer;
+        this.batcher = new Batcher<>(
+                producer.getEndpoint().getCamelContext(), "MongoDbBulkWriteBatch", batchSize, batchTimeout,
+                (namespace, entries) -> send(entries));
+    }
+
+    /**
+     * Adds the write to the batch of its collection, and sends the batch if it is full
+     */
+    void add(
+            MongoCollection<Document> collection, WriteModel<Document> model, MongoDbOperation operation, Exchange exchange,
+            AsyncCallback callback) {
+        batcher.add(collection.getNamespace(), new Entry(collection, model, operation, exchange, callback));
+    }
+
+    private void send(List<Entry> entries) {
+        ExecutorService executor = executorService;
+        if (executor != null) {
+            try {
+                executor.execute(() -> execute(entries));
+                return;
+            } catch (RejectedExecutionException e) {
+                // the producer is being stopped
+            }
+        }
+        execute(entries);
+    }
+
+    private void execute(List<Entry> entries) {
+        MongoCollection<Document> collection = entries.get(0).collection;
+        List<WriteModel<Document>> requests = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            requests.add(entry.model);
+        }
+
+        LOG.trace("Sending bulk write of {} documents to {}", requests.size(), collection.getNamespace());
+        BulkWriteResult result = null;
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        Exception failure = null;
+        try {
+            result = collection.bulkWrite(requests, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                failure = e;
+            } else {
+                // the other documents of an unordered bulk write have been written
+                result = e.getWriteResult();
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    errors.put(error.getIndex(), error);
+                }
+            }
+            if (failure == null) {
+                for (int i = 0; i < entries.size(); i++) {
+                    BulkWriteError error = errors.get(i);
+                    if (error != null) {
+                        entries.get(i).exchange.setException(
+                                new CamelMongoDbException(new MongoWriteException(error, e.getServerAddress())));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            failure = e;
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            try {
+                if (failure != null) {
+                    entry.exchange.setException(MongoDbComponent.wrapInCamelMongoDbException(failure));
+                } else if (!errors.containsKey(i)) {
+                    producer.completeBulkWrite(entry.operation, entry.model, entry.exchange, result, i);
+                }
+            } catch (Exception e) {
+                entry.exchange.setException(e);
+            }
+            entry.callback.done(false);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // the default thread pool runs the bulk writes in the calling thread when all its threads are busy
+        executorService = producer.getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newDefaultThreadPool(this, "MongoDbBulkWrite");
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // sends the pending batches
+        ServiceHelper.stopService(batcher);
+        if (executorService != null) {
+            // wait for the bulk writes in flight, so that the exchanges are completed
+            ExecutorServiceManager manager = producer.getEndpoint().getCamelContext().getExecutorServiceManager();
+            manager.shutdownGraceful(executorService);
+            executorService = null;
+        }
+    }
+
+    private static final class Entry {
+        private final MongoCollection<Document> collection;
+        private final WriteModel<Document> model;
+        private final MongoDbOperation operation;
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        Entry(MongoCollection<Document> collection, WriteModel<Document> model, MongoDbOperation operation,
+              Exchange exchange, AsyncCallback callback) {
+            this.collection = collection;
+            this.model = model;
+            this.operation = operation;
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
@@ -99,6 +99,10 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     private String readPreference = "PRIMARY";
     @UriParam(label = "advanced")
     private boolean writeResultAsHeader;
+    @UriParam(label = "producer,advanced")
+    private int bulkWriteBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10", javaType = "java.time.Duration")
+    private long bulkWriteBatchTimeout = 10;
     @UriParam(label = "consumer")
     private String consumerType;
     @UriParam(label = "advanced", defaultValue = "1000", javaType = "java.time.Duration")
@@ -629,6 +633,35 @@ public class MongoDbEndpoint extends DefaultEndpoint {
         this.writeResultAsHeader = writeResultAsHeader;
     }
 
+    public int getBulkWriteBatchSize() {
+        return bulkWriteBatchSize;
+    }
+
+    /**
+     * The maximum number of single document insert, save and update exchanges to group into one unordered bulk write.
+     * When set, the writes of concurrent exchanges to the same collection are sent as a bulk write once the batch is
+     * full, or once bulkWriteBatchTimeout has elapsed, and each exchange is completed with the result or error of its
+     * own document. 0 disables batching.
+     *
+     * @param bulkWriteBatchSize the maximum number of writes in a bulk write
+     */
+    public void setBulkWriteBatchSize(int bulkWriteBatchSize) {
+        this.bulkWriteBatchSize = bulkWriteBatchSize;
+    }
+
+    public long getBulkWriteBatchTimeout() {
+        return bulkWriteBatchTimeout;
+    }
+
+    /**
+     * The maximum time (in millis) a write waits for its bulk write batch to fill up, before the batch is sent.
+     *
+     * @param bulkWriteBatchTimeout the maximum time to wait
+     */
+    public void setBulkWriteBatchTimeout(long bulkWriteBatchTimeout) {
+        this.bulkWriteBatchTimeout = bulkWriteBatchTimeout;
+    }
+
     public MongoDbOutputType getOutputType() {
         return outputType;
     }
@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
@@ -33,20 +35,27 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Processor;
 import org.apache.camel.TypeConverter;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,12 +83,13 @@ import static org.apache.camel.component.mongodb.MongoDbConstants.WRITERESULT;
 /**
  * The MongoDb producer.
  */
-public class MongoDbProducer extends DefaultProducer {
+public class MongoDbProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(MongoDbProducer.class);
 
     private final Map<MongoDbOperation, Processor> operations = new HashMap<>();
     private MongoDbEndpoint endpoint;
+    private MongoDbBulkWriteBatcher batcher;
 
     {
         bind(MongoDbOperation.aggregate, createDoAggregate());
@@ -104,7 +114,51 @@ public class MongoDbProducer extends DefaultProducer {
     }
 
     @Override
-    public void process(Exchange exchange) throws Exception {
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (endpoint.getBulkWriteBatchSize() > 0) {
+            batcher = new MongoDbBulkWriteBatcher(this, endpoint.getBulkWriteBatchSize(), endpoint.getBulkWriteBatchTimeout());
+            ServiceHelper.startService(batcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+        super.doStop();
+    }
+
+    @Override
+    public MongoDbEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            MongoDbOperation operation = getOperation(exchange);
+            if (batcher != null) {
+                WriteModel<Document> model = createBulkWriteModel(operation, exchange);
+                if (model != null) {
+                    batcher.add(calculateCollection(exchange), model, operation, exchange, callback);
+                    return false;
+                }
+            }
+
+            try {
+                invokeOperation(operation, exchange);
+            } catch (Exception e) {
+                throw MongoDbComponent.wrapInCamelMongoDbException(e);
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private MongoDbOperation getOperation(Exchange exchange) {
         MongoDbOperation operation = endpoint.getOperation();
         Object header = exchange.getIn().getHeader(OPERATION_HEADER);
         if (header != null) {
@@ -120,13 +174,7 @@ public class MongoDbProducer extends DefaultProducer {
                 throw new CamelMongoDbException("Operation specified on header is not supported. Value: " + header, e);
             }
         }
-
-        try {
-            invokeOperation(operation, exchange);
-        } catch (Exception e) {
-            throw MongoDbComponent.wrapInCamelMongoDbException(e);
-        }
-
+        return operation;
     }
 
     /**
@@ -284,6 +332,106 @@ public class MongoDbProducer extends DefaultProducer {
         }
     }
 
+    // --------- Batched bulk writes -----------------------
+
+    /**
+     * Creates the write model of a single document insert, save or update, to be sent in a bulk write with the writes
+     * of other exchanges.
+     *
+     * @return the write model, or null if the exchange must be processed on its own
+     */
+    private WriteModel<Document> createBulkWriteModel(MongoDbOperation operation, Exchange exchange) {
+        if (operation == MongoDbOperation.insert) {
+            Object insert = exchange.getIn().getBody();
+            if (insert == null || insert.getClass().isArray() || insert instanceof Collection) {
+                return null;
+            }
+            Document document = exchange.getContext().getTypeConverter().tryConvertTo(Document.class, exchange, insert);
+            if (document == null) {
+                return null;
+            }
+            // the id is generated here, as the result of a bulk write does not include the ids of inserted documents
+            if (document.get(MONGO_ID) == null) {
+                document.put(MONGO_ID, new ObjectId());
+            }
+            return new InsertOneModel<>(document);
+        } else if (operation == MongoDbOperation.save) {
+            Document saveObj = exchange.getIn().getBody(Document.class);
+            if (saveObj == null) {
+                return null;
+            }
+            if (saveObj.get(MONGO_ID) == null) {
+                saveObj.put(MONGO_ID, new ObjectId());
+            }
+            Bson query = eq(MONGO_ID, saveObj.get(MONGO_ID));
+            Bson criteria = exchange.getIn().getHeader(CRITERIA, Bson.class);
+            query = criteria != null ? Filters.and(criteria, query) : query;
+            return new ReplaceOneModel<>(query, saveObj, new ReplaceOptions().upsert(true));
+        } else if (operation == MongoDbOperation.update) {
+            Bson updateCriteria = exchange.getIn().getHeader(CRITERIA, Bson.class);
+            Bson objNew;
+            if (updateCriteria == null) {
+                List<?> saveObj = exchange.getIn().getBody(List.class);
+                if (saveObj == null || saveObj.size() != 2 || !(saveObj.get(0) instanceof Bson)
+                        || !(saveObj.get(1) instanceof Bson)) {
+                    return null;
+                }
+                updateCriteria = (Bson) saveObj.get(0);
+                objNew = (Bson) saveObj.get(1);
+            } else {
+                objNew = exchange.getIn().getBody(Bson.class);
+                if (objNew == null) {
+                    return null;
+                }
+            }
+
+            Boolean multi = exchange.getIn().getHeader(MULTIUPDATE, Boolean.class);
+            Boolean upsert = exchange.getIn().getHeader(UPSERT, Boolean.class);
+            UpdateOptions options = new UpdateOptions();
+            if (upsert != null) {
+                options.upsert(upsert);
+            }
+            if (multi == null || !multi) {
+                return new UpdateOneModel<>(updateCriteria, objNew, options);
+            } else {
+                return new UpdateManyModel<>(updateCriteria, objNew, options);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Completes an exchange which write has been sent at the given index of a bulk write.
+     * <p/>
+     * An insert results in the inserted document. As the server does not report the number of documents matched and
+     * modified by each write of a bulk write, a save or update results in the result of the whole bulk write, and the
+     * id of an upserted document is set as header.
+     */
+    void completeBulkWrite(
+            MongoDbOperation operation, WriteModel<Document> model, Exchange exchange, BulkWriteResult bulkResult, int index) {
+        Object result;
+        if (operation == MongoDbOperation.insert) {
+            Document document = ((InsertOneModel<Document>) model).getDocument();
+            exchange.getIn().setHeader(OID, document.get(MONGO_ID));
+            result = document;
+        } else if (operation == MongoDbOperation.save) {
+            exchange.getIn().setHeader(OID, ((ReplaceOneModel<Document>) model).getReplacement().get(MONGO_ID));
+            result = bulkResult;
+        } else {
+            if (bulkResult.wasAcknowledged()) {
+                for (BulkWriteUpsert upsert : bulkResult.getUpserts()) {
+                    if (upsert.getIndex() == index) {
+                        exchange.getIn().setHeader(OID, upsert.getId());
+                    }
+                }
+            }
+            result = bulkResult;
+        }
+        copyHeaders(exchange);
+        moveBodyToOutIfResultIsReturnedAsHeader(exchange, operation);
+        processAndTransferResult(result, exchange, operation);
+    }
+
     private Function<Exchange, Object> createDoGetColStats() {
         return exch -> calculateDb(exch).runCommand(createCollStatsCommand(calculateCollectionName(exch)));
     }
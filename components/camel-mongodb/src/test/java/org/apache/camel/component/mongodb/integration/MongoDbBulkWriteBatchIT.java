@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mongodb.CamelMongoDbException;
+import org.apache.camel.component.mongodb.MongoDbConstants;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MongoDbBulkWriteBatchIT extends AbstractMongoDbITSupport {
+
+    @Test
+    public void testBatchedInserts() throws Exception {
+        assertEquals(0, testCollection.countDocuments());
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Document document = new Document("MyId", i);
+            futures.add(template.asyncSend("direct:insert", exchange -> exchange.getIn().setBody(document)));
+        }
+
+        for (Future<Exchange> future : futures) {
+            Exchange exchange = future.get(10, TimeUnit.SECONDS);
+            assertNull(exchange.getException());
+            Object oid = exchange.getMessage().getHeader(MongoDbConstants.OID);
+            assertNotNull(oid);
+            Document body = exchange.getMessage().getBody(Document.class);
+            assertEquals(body.get("MyId"), testCollection.find(eq(MongoDbConstants.MONGO_ID, oid)).first().get("MyId"));
+        }
+        assertEquals(25, testCollection.countDocuments());
+    }
+
+    @Test
+    public void testBatchedInsertWithDuplicateKey() throws Exception {
+        testCollection.insertOne(new Document(MongoDbConstants.MONGO_ID, "duplicate"));
+
+        Future<Exchange> first = template.asyncSend("direct:insert",
+                exchange -> exchange.getIn().setBody(new Document(MongoDbConstants.MONGO_ID, "first")));
+        Future<Exchange> duplicate = template.asyncSend("direct:insert",
+                exchange -> exchange.getIn().setBody(new Document(MongoDbConstants.MONGO_ID, "duplicate")));
+        Future<Exchange> last = template.asyncSend("direct:insert",
+                exchange -> exchange.getIn().setBody(new Document(MongoDbConstants.MONGO_ID, "last")));
+
+        assertNull(first.get(10, TimeUnit.SECONDS).getException());
+        assertNull(last.get(10, TimeUnit.SECONDS).getException());
+        Exception exception = duplicate.get(10, TimeUnit.SECONDS).getException();
+        assertInstanceOf(CamelMongoDbException.class, exception);
+        assertInstanceOf(MongoWriteException.class, exception.getCause());
+        assertEquals(3, testCollection.countDocuments());
+    }
+
+    @Test
+    public void testBatchedSaveAndUpdate() throws Exception {
+        testCollection.insertOne(new Document(MongoDbConstants.MONGO_ID, "1").append("scientist", "Einstein"));
+
+        Future<Exchange> save = template.asyncSend("direct:save",
+                exchange -> exchange.getIn().setBody(new Document("scientist", "Darwin")));
+        Future<Exchange> update = template.asyncSend("direct:update", exchange -> {
+            exchange.getIn().setHeader(MongoDbConstants.CRITERIA, eq(MongoDbConstants.MONGO_ID, "1"));
+            exchange.getIn().setBody(new Document("$set", new Document("scientist", "Albert Einstein")));
+        });
+
+        Exchange saved = save.get(10, TimeUnit.SECONDS);
+        assertNull(saved.getException());
+        assertInstanceOf(BulkWriteResult.class, saved.getMessage().getBody());
+        Object oid = saved.getMessage().getHeader(MongoDbConstants.OID);
+        assertEquals("Darwin", testCollection.find(eq(MongoDbConstants.MONGO_ID, oid)).first().getString("scientist"));
+
+        assertNull(update.get(10, TimeUnit.SECONDS).getException());
+        assertEquals("Albert Einstein",
+                testCollection.find(eq(MongoDbConstants.MONGO_ID, "1")).first().getString("scientist"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                String options = "&bulkWriteBatchSize=10&bulkWriteBatchTimeout=100";
+                from("direct:insert").to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}"
+                                         + "&operation=insert" + options);
+                from("direct:save").to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}"
+                                       + "&operation=save" + options);
+                from("direct:update").to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}"
+                                         + "&operation=update" + options);
+            }
+        };
+    }
+}
@@ -38,10 +38,10 @@ import io.netty.util.AttributeKey;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.netty.http.HttpServerConsumerChannelFactory;
 import org.apache.camel.component.netty.http.InboundStreamHttpRequest;
-import org.apache.camel.component.netty.http.NettyHttpConfiguration;
 import org.apache.camel.component.netty.http.NettyHttpConstants;
 import org.apache.camel.component.netty.http.NettyHttpConsumer;
 import org.apache.camel.support.RestConsumerContextPathMatcher;
+import org.apache.camel.support.RestConsumerContextPathRouter;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +68,8 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpConsumer.class);
     private static final AttributeKey<HttpServerChannelHandler> SERVER_HANDLER_KEY = AttributeKey.valueOf("serverHandler");
     private final Set<HttpServerChannelHandler> consumers = new CopyOnWriteArraySet<>();
+    private final Set<HttpServerChannelHandler> proxyConsumers = new CopyOnWriteArraySet<>();
+    private final RestConsumerContextPathRouter<HttpServerChannelHandler> router = new RestConsumerContextPathRouter<>();
     private int port;
     private String token;
     private int len;
@@ -85,7 +87,12 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
 
     @Override
     public void addConsumer(NettyHttpConsumer consumer) {
-        consumers.add(new HttpServerChannelHandler(consumer));
+        HttpServerChannelHandler handler = new HttpServerChannelHandler(consumer);
+        consumers.add(handler);
+        if (consumer.getConfiguration().isHttpProxy()) {
+            proxyConsumers.add(handler);
+        }
+        router.addConsumerPath(new HttpRestConsumerPath(handler));
     }
 
     @Override
@@ -93,6 +100,8 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
         for (HttpServerChannelHandler handler : consumers) {
             if (handler.getConsumer() == consumer) {
                 consumers.remove(handler);
+                proxyConsumers.remove(handler);
+                router.removeConsumer(handler);
             }
         }
     }
@@ -211,18 +220,12 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
         return getHandler(request, method) != null;
     }
 
-    @SuppressWarnings("unchecked")
     private HttpServerChannelHandler getHandler(HttpRequest request, String method) {
         HttpServerChannelHandler answer = null;
 
         // quick path to find if there are handlers with HTTP proxy consumers
-        for (final HttpServerChannelHandler handler : consumers) {
-            NettyHttpConsumer consumer = handler.getConsumer();
-
-            final NettyHttpConfiguration configuration = consumer.getConfiguration();
-            if (configuration.isHttpProxy()) {
-                return handler;
-            }
+        for (final HttpServerChannelHandler handler : proxyConsumers) {
+            return handler;
         }
 
         // need to strip out host and port etc, as we only need the context-path for matching
@@ -238,13 +241,7 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
         // use the path as key to find the consumer handler to use
         path = pathAsKey(path);
 
-        List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
-        for (final HttpServerChannelHandler handler : consumers) {
-            paths.add(new HttpRestConsumerPath(handler));
-        }
-
-        RestConsumerContextPathMatcher.ConsumerPath<HttpServerChannelHandler> best
-                = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
+        RestConsumerContextPathRouter.Match<HttpServerChannelHandler> best = router.matchBestPath(method, path);
         if (best != null) {
             answer = best.getConsumer();
         }
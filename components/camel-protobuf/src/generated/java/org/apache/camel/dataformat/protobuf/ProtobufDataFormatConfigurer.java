@@ -22,6 +22,8 @@ public class ProtobufDataFormatConfigurer extends PropertyConfigurerSupport impl
         case "contentTypeHeader": dataformat.setContentTypeHeader(property(camelContext, boolean.class, value)); return true;
         case "contenttypeformat":
         case "contentTypeFormat": dataformat.setContentTypeFormat(property(camelContext, java.lang.String.class, value)); return true;
+        case "uselist":
+        case "useList": dataformat.setUseList(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
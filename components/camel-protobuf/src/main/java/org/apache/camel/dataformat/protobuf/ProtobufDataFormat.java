@@ -20,11 +20,17 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.Message;
 import com.google.protobuf.Message.Builder;
+import com.google.protobuf.Parser;
 import com.google.protobuf.util.JsonFormat;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -44,7 +50,7 @@ import org.apache.commons.io.IOUtils;
 
 @Dataformat("protobuf")
 @Metadata(excludeProperties = "library,objectMapper,useDefaultObjectMapper,jsonViewTypeName,jsonView,include,allowJmsType," +
-                              "collectionTypeName,collectionType,useList,moduleClassNames,moduleRefs,enableFeatures," +
+                              "collectionTypeName,collectionType,moduleClassNames,moduleRefs,enableFeatures," +
                               "disableFeatures,allowUnmarshallType,timezone,autoDiscoverObjectMapper," +
                               "schemaResolver,autoDiscoverSchemaResolver,unmarshalType,unmarshalTypeName")
 public class ProtobufDataFormat extends ServiceSupport
@@ -61,6 +67,10 @@ public class ProtobufDataFormat extends ServiceSupport
     private String instanceClassName;
     private boolean contentTypeHeader = true;
     private String contentTypeFormat = CONTENT_TYPE_FORMAT_NATIVE;
+    private boolean useList;
+    private volatile Parser<? extends Message> parser;
+    private final JsonFormat.Printer jsonPrinter = JsonFormat.printer();
+    private final JsonFormat.Parser jsonParser = JsonFormat.parser().ignoringUnknownFields();
 
     public ProtobufDataFormat() {
     }
@@ -91,11 +101,12 @@ public class ProtobufDataFormat extends ServiceSupport
 
     public void setDefaultInstance(Message instance) {
         this.defaultInstance = instance;
+        this.parser = null;
     }
 
     public void setDefaultInstance(Object instance) {
         if (instance instanceof Message) {
-            this.defaultInstance = (Message) instance;
+            setDefaultInstance((Message) instance);
         } else {
             throw new IllegalArgumentException(
                     "The argument for setDefaultInstance should be subClass of com.google.protobuf.Message");
@@ -115,6 +126,18 @@ public class ProtobufDataFormat extends ServiceSupport
         return contentTypeHeader;
     }
 
+    public boolean isUseList() {
+        return useList;
+    }
+
+    /**
+     * To marshal and unmarshal a List of messages as a sequence of length delimited messages, which is only supported
+     * with the native content type format. A single message is also marshalled as a length delimited message.
+     */
+    public void setUseList(boolean useList) {
+        this.useList = useList;
+    }
+
     /*
      * Defines a content type format in which protobuf message will be
      * serialized/deserialized from(to) the Java been. It can be native protobuf
@@ -132,14 +155,28 @@ public class ProtobufDataFormat extends ServiceSupport
      */
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream outputStream) throws Exception {
-        final Message inputMessage = convertGraphToMessage(exchange, graph);
-
         String contentTypeHeader = CONTENT_TYPE_HEADER_NATIVE;
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
-            IOUtils.write(JsonFormat.printer().print(inputMessage), outputStream, StandardCharsets.UTF_8);
+            if (graph instanceof Collection) {
+                throw new CamelException("Marshalling a List of messages is not supported with the json content type format");
+            }
+            final Message inputMessage = convertGraphToMessage(exchange, graph);
+            IOUtils.write(jsonPrinter.print(inputMessage), outputStream, StandardCharsets.UTF_8);
             contentTypeHeader = CONTENT_TYPE_HEADER_JSON;
         } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
-            inputMessage.writeTo(outputStream);
+            if (graph instanceof Collection) {
+                if (!useList) {
+                    throw new CamelException("Marshalling a List of messages requires the useList option to be enabled");
+                }
+                // a sequence of messages can only be read back when each message is prefixed with its length
+                for (Object element : (Collection<?>) graph) {
+                    convertGraphToMessage(exchange, element).writeDelimitedTo(outputStream);
+                }
+            } else if (useList) {
+                convertGraphToMessage(exchange, graph).writeDelimitedTo(outputStream);
+            } else {
+                convertGraphToMessage(exchange, graph).writeTo(outputStream);
+            }
         } else {
             throw new CamelException("Invalid protobuf content type format: " + contentTypeFormat);
         }
@@ -162,6 +199,23 @@ public class ProtobufDataFormat extends ServiceSupport
         return exchange.getContext().getTypeConverter().mandatoryConvertTo(Message.class, exchange, inputData);
     }
 
+    /**
+     * Unmarshals the body as is when it is a byte array or a {@link ByteBuffer}, to avoid copying the body into a
+     * stream first.
+     */
+    @Override
+    public Object unmarshal(final Exchange exchange, final Object body) throws Exception {
+        if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
+            if (body instanceof byte[]) {
+                return unmarshal(exchange, CodedInputStream.newInstance((byte[]) body));
+            } else if (body instanceof ByteBuffer) {
+                // use a view of the buffer, so the position of the buffer is not changed
+                return unmarshal(exchange, CodedInputStream.newInstance(((ByteBuffer) body).duplicate()));
+            }
+        }
+        return DataFormat.super.unmarshal(exchange, body);
+    }
+
     /*
      * (non-Javadoc)
      * @see org.apache.camel.spi.DataFormat#unmarshal(org.apache.camel.Exchange,
@@ -169,23 +223,54 @@ public class ProtobufDataFormat extends ServiceSupport
      */
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
-        ObjectHelper.notNull(defaultInstance, "defaultInstance or instanceClassName must be set", this);
-        Builder builder = defaultInstance.newBuilderForType();
-
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
-            JsonFormat.parser().ignoringUnknownFields().merge(new InputStreamReader(inputStream), builder);
+            ObjectHelper.notNull(defaultInstance, "defaultInstance or instanceClassName must be set", this);
+            Builder builder = defaultInstance.newBuilderForType();
+            jsonParser.merge(new InputStreamReader(inputStream), builder);
+            if (!builder.isInitialized()) {
+                // TODO which exception should be thrown here?
+                throw new InvalidPayloadException(exchange, defaultInstance.getClass());
+            }
+            return builder.build();
         } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
-            builder = defaultInstance.newBuilderForType().mergeFrom(inputStream);
+            return unmarshal(exchange, CodedInputStream.newInstance(inputStream));
         } else {
             throw new CamelException("Invalid protobuf content type format: " + contentTypeFormat);
         }
+    }
+
+    private Object unmarshal(final Exchange exchange, final CodedInputStream input) throws Exception {
+        final Parser<? extends Message> messageParser = getParser();
+        if (!useList) {
+            return checkInitialized(exchange, messageParser.parsePartialFrom(input));
+        }
 
-        if (!builder.isInitialized()) {
-            // TODO which exception should be thrown here?
+        final List<Message> answer = new ArrayList<>();
+        while (!input.isAtEnd()) {
+            final int size = input.readRawVarint32();
+            final int oldLimit = input.pushLimit(size);
+            answer.add(checkInitialized(exchange, messageParser.parsePartialFrom(input)));
+            input.popLimit(oldLimit);
+        }
+        return answer;
+    }
+
+    private Message checkInitialized(final Exchange exchange, final Message message) throws InvalidPayloadException {
+        if (!message.isInitialized()) {
             throw new InvalidPayloadException(exchange, defaultInstance.getClass());
         }
+        return message;
+    }
 
-        return builder.build();
+    private Parser<? extends Message> getParser() {
+        Parser<? extends Message> answer = parser;
+        if (answer == null) {
+            ObjectHelper.notNull(defaultInstance, "defaultInstance or instanceClassName must be set", this);
+            // the parser is thread safe, so it is looked up once and reused for all the messages
+            answer = defaultInstance.getParserForType();
+            parser = answer;
+        }
+        return answer;
     }
 
     protected Message loadDefaultInstance(final String className, final CamelContext context)
@@ -208,6 +293,9 @@ public class ProtobufDataFormat extends ServiceSupport
 
     @Override
     protected void doStart() throws Exception {
+        if (useList && contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
+            throw new IllegalArgumentException("The useList option is not supported with the json content type format");
+        }
         if (defaultInstance == null && instanceClassName != null) {
             defaultInstance = loadDefaultInstance(instanceClassName, getCamelContext());
         }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.protobuf;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelException;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dataformat.protobuf.generated.AddressBookProtos.Person;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProtobufMarshalAndUnmarshalListTest extends CamelTestSupport {
+
+    @Test
+    public void testMarshalAndUnmarshalList() {
+        List<Person> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add(Person.newBuilder().setName("Martin " + i).setId(i).build());
+        }
+
+        byte[] marshalled = template.requestBody("direct:marshalList", input, byte[].class);
+        List<?> output = template.requestBody("direct:unmarshalList", marshalled, List.class);
+
+        assertEquals(input, output);
+    }
+
+    @Test
+    public void testMarshalAndUnmarshalEmptyList() {
+        byte[] marshalled = template.requestBody("direct:marshalList", new ArrayList<>(), byte[].class);
+        List<?> output = template.requestBody("direct:unmarshalList", marshalled, List.class);
+
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    public void testMarshalListRequiresUseList() {
+        List<Person> input = List.of(Person.newBuilder().setName("Martin").setId(1234).build());
+
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:marshal", input, byte[].class));
+        assertIsInstanceOf(CamelException.class, e.getCause());
+    }
+
+    @Test
+    public void testUseListWithJsonNotSupported() {
+        ProtobufDataFormat format = new ProtobufDataFormat(Person.getDefaultInstance(), "json");
+        format.setUseList(true);
+        format.setCamelContext(context);
+
+        assertThrows(IllegalArgumentException.class, format::start);
+    }
+
+    @Test
+    public void testUnmarshalByteBuffer() {
+        Person input = Person.newBuilder().setName("Martin").setId(1234).build();
+        byte[] data = input.toByteArray();
+
+        ByteBuffer heap = ByteBuffer.allocate(data.length + 2);
+        heap.put((byte) 0).put(data).flip().position(1);
+        assertEquals(input, template.requestBody("direct:unmarshal", heap, Person.class));
+        // the buffer is left as is
+        assertEquals(1, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        assertEquals(input, template.requestBody("direct:unmarshal", direct, Person.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                ProtobufDataFormat format = new ProtobufDataFormat(Person.getDefaultInstance());
+                ProtobufDataFormat listFormat = new ProtobufDataFormat(Person.getDefaultInstance());
+                listFormat.setUseList(true);
+
+                from("direct:marshal").marshal(format);
+                from("direct:unmarshal").unmarshal(format);
+                from("direct:marshalList").marshal(listFormat);
+                from("direct:unmarshalList").unmarshal(listFormat);
+            }
+        };
+    }
+
+}
@@ -21,7 +21,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(46);
+        Set<String> props = new HashSet<>(48);
         props.add("allowNamedParameters");
         props.add("alwaysPopulateStatement");
         props.add("backoffErrorThreshold");
@@ -35,8 +35,10 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("expectedUpdateCount");
+        props.add("fetchSize");
         props.add("greedy");
         props.add("initialDelay");
+        props.add("keysetColumn");
         props.add("lazyStartProducer");
         props.add("maxMessagesPerPoll");
         props.add("noop");
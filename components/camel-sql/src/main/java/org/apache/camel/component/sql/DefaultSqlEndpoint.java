@@ -80,6 +80,16 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private int expectedUpdateCount = -1;
     @UriParam(label = "consumer", description = "Sets whether to break batch if onConsume failed.")
     private boolean breakBatchOnConsumeFail;
+    @UriParam(label = "consumer",
+              description = "Enables keyset pagination, where each poll only reads the rows with a value of this column greater than the last row consumed,"
+                            + " in the ascending order of the column, instead of running the full query. The query must not have an ORDER BY clause,"
+                            + " and the column should be unique and indexed. Requires maxMessagesPerPoll to bound the number of rows read by each poll,"
+                            + " and the SelectList output type. The last key can be persisted with a resume strategy.")
+    private String keysetColumn;
+    @UriParam(label = "consumer,advanced",
+              description = "The number of rows the JDBC driver fetches from the database in each round trip when the consumer reads the result of the query."
+                            + " The default of 0 uses the default of the JDBC driver.")
+    private int fetchSize;
     @UriParam(defaultValue = "true", description = "Whether to allow using named parameters in the queries.")
     private boolean allowNamedParameters = true;
     @UriParam(label = "advanced",
@@ -402,6 +412,32 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.expectedUpdateCount = expectedUpdateCount;
     }
 
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    /**
+     * Enables keyset pagination, where each poll only reads the rows with a value of this column greater than the last
+     * row consumed, in the ascending order of the column, instead of running the full query. The query must not have an
+     * ORDER BY clause, and the column should be unique and indexed. Requires maxMessagesPerPoll to bound the number of
+     * rows read by each poll, and the SelectList output type. The last key can be persisted with a resume strategy.
+     */
+    public void setKeysetColumn(String keysetColumn) {
+        this.keysetColumn = keysetColumn;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * The number of rows the JDBC driver fetches from the database in each round trip when the consumer reads the
+     * result of the query. The default of 0 uses the default of the JDBC driver.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public boolean isBreakBatchOnConsumeFail() {
         return breakBatchOnConsumeFail;
     }
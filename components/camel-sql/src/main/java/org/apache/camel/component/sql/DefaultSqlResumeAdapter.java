@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.nio.ByteBuffer;
+
+import org.apache.camel.resume.Cacheable;
+import org.apache.camel.resume.Deserializable;
+import org.apache.camel.resume.Offset;
+import org.apache.camel.resume.OffsetKey;
+import org.apache.camel.resume.cache.ResumeCache;
+import org.apache.camel.spi.annotations.JdkService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resumes the SQL consumer from the last key stored in the cache of the resume strategy.
+ */
+@JdkService("sql-adapter-factory")
+public class DefaultSqlResumeAdapter implements SqlResumeAdapter, Cacheable, Deserializable {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultSqlResumeAdapter.class);
+
+    private ResumeCache<Object> cache;
+    private SqlConsumer consumer;
+    private String resumeKey;
+
+    @Override
+    public void setConsumer(SqlConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void setResumeKey(String resumeKey) {
+        this.resumeKey = resumeKey;
+    }
+
+    @Override
+    public void resume() {
+        assert consumer != null;
+        assert resumeKey != null;
+
+        Object lastKey = cache.get(resumeKey);
+        if (lastKey == null) {
+            LOG.info("There is no last key for the query {}", resumeKey);
+            return;
+        }
+
+        LOG.info("Resuming from last key {} for the query {}", lastKey, resumeKey);
+        consumer.setLastKey(lastKey);
+    }
+
+    @Override
+    public boolean add(OffsetKey<?> key, Offset<?> offset) {
+        cache.add(key.getValue(), offset.getValue());
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setCache(ResumeCache<?> cache) {
+        this.cache = (ResumeCache<Object>) cache;
+    }
+
+    @Override
+    public ResumeCache<?> getCache() {
+        return cache;
+    }
+
+    @Override
+    public boolean deserialize(ByteBuffer keyBuffer, ByteBuffer valueBuffer) {
+        Object key = deserializeKey(keyBuffer);
+        Object value = deserializeValue(valueBuffer);
+
+        if (key == null || value == null) {
+            return false;
+        }
+        cache.add(key, value);
+
+        return true;
+    }
+}
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.sql;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -30,23 +33,30 @@ import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RollbackExchangeException;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.resume.ResumeAware;
+import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
+import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 
-public class SqlConsumer extends ScheduledBatchPollingConsumer {
+public class SqlConsumer extends ScheduledBatchPollingConsumer implements ResumeAware<ResumeStrategy> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlConsumer.class);
+    private static final String LAST_KEY_PARAMETER = "CamelSqlLastKey";
 
     private final String query;
     private String resolvedQuery;
@@ -65,10 +75,17 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean breakBatchOnConsumeFail;
     private int parametersCount;
     private boolean alwaysPopulateStatement;
+    private String keysetColumn;
+    private int fetchSize;
+    private String firstPageQuery;
+    private String nextPageQuery;
+    private volatile Object lastKey;
+    private ResumeStrategy resumeStrategy;
 
     private static final class DataHolder {
         private Exchange exchange;
         private Object data;
+        private Object key;
 
         private DataHolder() {
         }
@@ -121,6 +138,55 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
         }
+
+        if (keysetColumn != null) {
+            if (!getEndpoint().isAllowNamedParameters()) {
+                throw new IllegalArgumentException("The keysetColumn option requires allowNamedParameters to be enabled");
+            }
+            if (maxMessagesPerPoll <= 0) {
+                // otherwise the first poll would read the whole table
+                throw new IllegalArgumentException("The keysetColumn option requires a positive maxMessagesPerPoll");
+            }
+            if (getEndpoint().getOutputType() != SqlOutputType.SelectList) {
+                throw new IllegalArgumentException(
+                        "The keysetColumn option cannot be used with outputType=" + getEndpoint().getOutputType());
+            }
+            // wrap the query as a derived table, so the rows can be filtered and ordered by the key column
+            String rows = "select * from (" + trimQuery(resolvedQuery) + ") keyset_rows";
+            String order = " order by keyset_rows." + keysetColumn;
+            firstPageQuery = rows + order;
+            nextPageQuery = rows + " where keyset_rows." + keysetColumn + " > :?" + LAST_KEY_PARAMETER + order;
+        }
+
+        if (resumeStrategy != null) {
+            resumeLastKey();
+        }
+    }
+
+    private void resumeLastKey() throws Exception {
+        if (keysetColumn == null) {
+            LOG.warn("There is a resume strategy setup, but the keysetColumn option is not configured");
+            return;
+        }
+
+        resumeStrategy.loadCache();
+        SqlResumeAdapter adapter = resumeStrategy.getAdapter(SqlResumeAdapter.class);
+        if (adapter == null) {
+            LOG.warn("There is a resume strategy setup, but no adapter configured or the type is incorrect");
+            return;
+        }
+
+        adapter.setConsumer(this);
+        adapter.setResumeKey(query);
+        adapter.resume();
+    }
+
+    private static String trimQuery(String query) {
+        String answer = query.trim();
+        while (answer.endsWith(";")) {
+            answer = answer.substring(0, answer.length() - 1).trim();
+        }
+        return answer;
     }
 
     @Override
@@ -130,8 +196,17 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         pendingExchanges = 0;
 
         final Exchange dummy = getEndpoint().createExchange();
+        final String pageQuery;
+        if (keysetColumn == null) {
+            pageQuery = resolvedQuery;
+        } else if (lastKey == null) {
+            pageQuery = firstPageQuery;
+        } else {
+            pageQuery = nextPageQuery;
+            dummy.getIn().setHeader(LAST_KEY_PARAMETER, lastKey);
+        }
         final String preparedQuery
-                = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery, getEndpoint().isAllowNamedParameters(), dummy);
+                = sqlPrepareStatementStrategy.prepareQuery(pageQuery, getEndpoint().isAllowNamedParameters(), dummy);
 
         LOG.trace("poll: {}", preparedQuery);
         final PreparedStatementCallback<Integer> callback = new PreparedStatementCallback<Integer>() {
@@ -143,10 +218,13 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
 
                 // only populate if really needed
                 if (alwaysPopulateStatement || expected > 0) {
-                    Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(resolvedQuery, preparedQuery, expected,
+                    Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(pageQuery, preparedQuery, expected,
                             dummy, null);
                     sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
                 }
+                if (fetchSize > 0) {
+                    ps.setFetchSize(fetchSize);
+                }
 
                 LOG.debug("Executing query: {}", preparedQuery);
                 ResultSet rs = ps.executeQuery();
@@ -154,7 +232,9 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                 boolean closeEager = true;
                 try {
                     LOG.trace("Got result list from query: {}, outputType={}", rs, outputType);
-                    if (outputType == SqlOutputType.StreamList) {
+                    if (keysetColumn != null) {
+                        addKeysetRowsToQueue(rs, answer);
+                    } else if (outputType == SqlOutputType.StreamList) {
                         ResultSetIterator data = getEndpoint().queryForStreamList(ps.getConnection(), ps, rs);
                         // only process if we have data
                         if (data.hasNext()) {
@@ -222,12 +302,57 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         }
     }
 
-    private void addItemToQueue(Object item, Queue<DataHolder> answer) {
+    private DataHolder addItemToQueue(Object item, Queue<DataHolder> answer) {
         Exchange exchange = createExchange(item);
         DataHolder holder = new DataHolder();
         holder.exchange = exchange;
         holder.data = item;
         answer.add(holder);
+        return holder;
+    }
+
+    /**
+     * Adds the rows of a page of the keyset pagination to the queue, together with their key, which becomes the last
+     * key once they have been processed.
+     */
+    private void addKeysetRowsToQueue(ResultSet rs, Queue<DataHolder> answer) throws SQLException {
+        RowMapper<?> rowMapper;
+        if (getEndpoint().getOutputClass() != null) {
+            Class<?> outputClazz = getEndpoint().getCamelContext().getClassResolver().resolveClass(getEndpoint().getOutputClass());
+            rowMapper = new BeanPropertyRowMapper<>(outputClazz);
+        } else {
+            rowMapper = new ColumnMapRowMapper();
+        }
+
+        List<Object> rows = new ArrayList<>();
+        Object key = null;
+        int rowNum = 0;
+        while (rs.next()) {
+            Object row = rowMapper.mapRow(rs, rowNum++);
+            key = rs.getObject(keysetColumn);
+            if (useIterator) {
+                addItemToQueue(row, answer).key = key;
+            } else {
+                rows.add(row);
+            }
+        }
+        if (!useIterator && (!rows.isEmpty() || routeEmptyResultSet)) {
+            addItemToQueue(rows, answer).key = key;
+        }
+    }
+
+    /**
+     * The offset of the exchange, as a value which can be stored by the resume strategies
+     */
+    private static Object toOffsetValue(Object key) {
+        if (key instanceof Integer || key instanceof Long || key instanceof String) {
+            return key;
+        }
+        if (key instanceof Short || key instanceof Byte || key instanceof BigInteger
+                || key instanceof BigDecimal && ((BigDecimal) key).scale() <= 0) {
+            return ((Number) key).longValue();
+        }
+        return key.toString();
     }
 
     protected Exchange createExchange(Object data) {
@@ -260,6 +385,9 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
             exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
             exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+            if (holder.key != null) {
+                exchange.getIn().setHeader(Exchange.OFFSET, Resumables.of(query, toOffsetValue(holder.key)));
+            }
 
             // update pending number of exchanges
             pendingExchanges = total - index - 1;
@@ -284,7 +412,8 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             }
 
             // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+            boolean failed = exchange.isFailed();
+            String sql = failed ? onConsumeFailed : onConsume;
             try {
                 // we can only run on consume if there was data
                 if (data != null && sql != null) {
@@ -311,6 +440,16 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             } finally {
                 releaseExchange(exchange, false);
             }
+
+            if (keysetColumn != null) {
+                if (failed) {
+                    // the next poll reads the page again from the failed row
+                    break;
+                }
+                if (holder.key != null) {
+                    lastKey = holder.key;
+                }
+            }
         }
 
         try {
@@ -429,4 +568,53 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     public void setAlwaysPopulateStatement(boolean alwaysPopulateStatement) {
         this.alwaysPopulateStatement = alwaysPopulateStatement;
     }
+
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    /**
+     * Sets the column used for keyset pagination, where each poll only reads the rows with a key greater than the last
+     * row consumed, and at most maxMessagesPerPoll rows.
+     */
+    public void setKeysetColumn(String keysetColumn) {
+        this.keysetColumn = keysetColumn;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the number of rows the JDBC driver fetches in each round trip.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public Object getLastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Sets the key of the last row consumed, so the next poll with keyset pagination reads the rows after it.
+     */
+    public void setLastKey(Object lastKey) {
+        this.lastKey = lastKey;
+    }
+
+    @Override
+    public void setResumeStrategy(ResumeStrategy resumeStrategy) {
+        this.resumeStrategy = resumeStrategy;
+    }
+
+    @Override
+    public ResumeStrategy getResumeStrategy() {
+        return resumeStrategy;
+    }
+
+    @Override
+    public String adapterFactoryService() {
+        return "sql-adapter-factory";
+    }
 }
@@ -61,6 +61,8 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
         consumer.setParametersCount(getParametersCount());
         consumer.setAlwaysPopulateStatement(isAlwaysPopulateStatement());
+        consumer.setKeysetColumn(getKeysetColumn());
+        consumer.setFetchSize(getFetchSize());
         configureConsumer(consumer);
         return consumer;
     }
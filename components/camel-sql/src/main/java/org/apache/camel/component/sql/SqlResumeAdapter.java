@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import org.apache.camel.resume.ResumeAdapter;
+
+/**
+ * The resume adapter for the SQL consumer with keyset pagination
+ */
+public interface SqlResumeAdapter extends ResumeAdapter {
+    /**
+     * Sets the consumer whose last key is resumed
+     *
+     * @param consumer the consumer
+     */
+    void setConsumer(SqlConsumer consumer);
+
+    /**
+     * Sets the key under which the last key of the consumer is stored
+     *
+     * @param resumeKey the resume key, which is the query of the consumer
+     */
+    void setResumeKey(String resumeKey);
+}
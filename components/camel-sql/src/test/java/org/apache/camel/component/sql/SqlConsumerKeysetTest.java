@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.resume.TransientResumeStrategy;
+import org.apache.camel.resume.Cacheable;
+import org.apache.camel.resume.Offset;
+import org.apache.camel.resume.OffsetKey;
+import org.apache.camel.resume.Resumable;
+import org.apache.camel.resume.ResumeAdapter;
+import org.apache.camel.resume.ResumeStrategy;
+import org.apache.camel.resume.ResumeStrategyConfiguration;
+import org.apache.camel.resume.cache.ResumeCache;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlConsumerKeysetTest extends CamelTestSupport {
+
+    private static final String QUERY = "select * from projects";
+
+    private EmbeddedDatabase db;
+    private final TestResumeStrategy resumeStrategy = new TestResumeStrategy();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.DERBY)
+                .addScript("sql/createAndPopulateDatabase.sql")
+                .build();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testKeysetPages() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        MockEndpoint.assertIsSatisfied(context);
+
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        assertBodyMapValue(1, "ID", exchanges.get(0));
+        assertEquals(2, exchanges.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertBodyMapValue(2, "ID", exchanges.get(1));
+        assertEquals(2, exchanges.get(1).getProperty(Exchange.BATCH_SIZE));
+        assertBodyMapValue(3, "ID", exchanges.get(2));
+        assertEquals(1, exchanges.get(2).getProperty(Exchange.BATCH_SIZE));
+
+        // only the new row is read by the next polls
+        mock.reset();
+        mock.expectedMessageCount(1);
+        new JdbcTemplate(db).update("insert into projects values (4, 'Kafka', 'ASF')");
+        MockEndpoint.assertIsSatisfied(context);
+        assertBodyMapValue(4, "ID", mock.getReceivedExchanges().get(0));
+
+        mock.reset();
+        mock.expectedMessageCount(0);
+        mock.setAssertPeriod(200);
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testResumeFromLastKey() throws Exception {
+        resumeStrategy.cache.add(QUERY, 2);
+
+        MockEndpoint mock = getMockEndpoint("mock:resumed");
+        mock.expectedMessageCount(1);
+        context.getRouteController().startRoute("resumed");
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertBodyMapValue(3, "ID", mock.getReceivedExchanges().get(0));
+        // the last key is updated when the exchange is complete
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(List.of(3), resumeStrategy.updates));
+        assertEquals(3, resumeStrategy.cache.get(QUERY));
+    }
+
+    @Test
+    public void testInvalidKeysetOptions() throws Exception {
+        // the first poll would read the whole table
+        assertConsumerFailsToStart("sql:" + QUERY + "?keysetColumn=id");
+        assertConsumerFailsToStart("sql:" + QUERY + "?keysetColumn=id&maxMessagesPerPoll=2&outputType=StreamList");
+        assertConsumerFailsToStart("sql:" + QUERY + "?keysetColumn=id&maxMessagesPerPoll=2&outputType=SelectOne");
+    }
+
+    private void assertConsumerFailsToStart(String uri) throws Exception {
+        Consumer consumer = context.getEndpoint(uri).createConsumer(exchange -> {
+        });
+        assertThrows(IllegalArgumentException.class, consumer::start);
+    }
+
+    private void assertBodyMapValue(Object value, String key, Exchange exchange) {
+        assertEquals(value, exchange.getIn().getBody(Map.class).get(key));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:" + QUERY + "?keysetColumn=id&maxMessagesPerPoll=2&initialDelay=0&delay=50")
+                        .to("mock:result");
+
+                from("sql:" + QUERY + "?keysetColumn=id&maxMessagesPerPoll=10&fetchSize=10&initialDelay=0&delay=50")
+                        .routeId("resumed").autoStartup(false)
+                        .resumable().resumeStrategy(resumeStrategy)
+                        .to("mock:resumed");
+            }
+        };
+    }
+
+    private static final class TestResumeStrategy implements ResumeStrategy {
+        private final ResumeCache<Object> cache = TransientResumeStrategy.createSimpleCache();
+        private final List<Object> updates = new CopyOnWriteArrayList<>();
+        private ResumeAdapter adapter;
+
+        @Override
+        public void setAdapter(ResumeAdapter adapter) {
+            this.adapter = adapter;
+        }
+
+        @Override
+        public ResumeAdapter getAdapter() {
+            return adapter;
+        }
+
+        @Override
+        public <T extends Resumable> void updateLastOffset(T offset) {
+            updateLastOffset(offset.getOffsetKey(), offset.getLastOffset());
+        }
+
+        @Override
+        public <T extends Resumable> void updateLastOffset(T offset, UpdateCallBack updateCallBack) {
+            updateLastOffset(offset);
+        }
+
+        @Override
+        public void updateLastOffset(OffsetKey<?> offsetKey, Offset<?> offset) {
+            updates.add(offset.getValue());
+            ((Cacheable) adapter).add(offsetKey, offset);
+        }
+
+        @Override
+        public void updateLastOffset(OffsetKey<?> offsetKey, Offset<?> offset, UpdateCallBack updateCallBack) {
+            updateLastOffset(offsetKey, offset);
+        }
+
+        @Override
+        public void setResumeStrategyConfiguration(ResumeStrategyConfiguration resumeStrategyConfiguration) {
+            // the configuration is fixed
+        }
+
+        @Override
+        public ResumeStrategyConfiguration getResumeStrategyConfiguration() {
+            ResumeStrategyConfiguration configuration = new ResumeStrategyConfiguration() {
+                @Override
+                public String resumeStrategyService() {
+                    return "test-resume-strategy";
+                }
+            };
+            configuration.setResumeCache(cache);
+            return configuration;
+        }
+
+        @Override
+        public void start() {
+            // noop
+        }
+
+        @Override
+        public void stop() {
+            // noop
+        }
+    }
+}
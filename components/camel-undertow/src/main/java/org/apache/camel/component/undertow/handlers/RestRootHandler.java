@@ -29,6 +29,7 @@ import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
 import org.apache.camel.component.undertow.UndertowConsumer;
 import org.apache.camel.support.RestConsumerContextPathMatcher;
+import org.apache.camel.support.RestConsumerContextPathRouter;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 
 /**
@@ -42,6 +43,7 @@ public class RestRootHandler implements HttpHandler {
             = Arrays.asList("GET", "HEAD", "POST", "PUT", "DELETE", "TRACE", "OPTIONS", "CONNECT", "PATCH");
 
     private final Set<UndertowConsumer> consumers = new CopyOnWriteArraySet<>();
+    private final RestConsumerContextPathRouter<UndertowConsumer> router = new RestConsumerContextPathRouter<>();
 
     //private int port; // unread field
     private String token;
@@ -61,6 +63,7 @@ public class RestRootHandler implements HttpHandler {
      */
     public void addConsumer(UndertowConsumer consumer) {
         consumers.add(consumer);
+        router.addConsumerPath(new RestConsumerPath(consumer));
     }
 
     /**
@@ -68,6 +71,7 @@ public class RestRootHandler implements HttpHandler {
      */
     public void removeConsumer(UndertowConsumer consumer) {
         consumers.remove(consumer);
+        router.removeConsumer(consumer);
     }
 
     /**
@@ -118,13 +122,7 @@ public class RestRootHandler implements HttpHandler {
         // use the path as key to find the consumer handler to use
         path = pathAsKey(path);
 
-        List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
-        for (final UndertowConsumer consumer : consumers) {
-            paths.add(new RestConsumerPath(consumer));
-        }
-
-        RestConsumerContextPathMatcher.ConsumerPath<UndertowConsumer> best
-                = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
+        RestConsumerContextPathRouter.Match<UndertowConsumer> best = router.matchBestPath(method, path);
         if (best != null) {
             answer = best.getConsumer();
         }
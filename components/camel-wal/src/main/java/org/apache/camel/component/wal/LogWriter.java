@@ -17,12 +17,21 @@
 
 package org.apache.camel.component.wal;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.apache.camel.RuntimeCamelException;
@@ -30,7 +39,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A writer for write-ahead log files
+ * A writer for write-ahead log files.
+ *
+ * The writer can work in two modes. In the default mode, all the records are kept in a single file that is truncated
+ * and rewritten whenever the in-memory transaction log rolls over. In the segmented mode, the records are appended to a
+ * sequence of segment files (named after the log file, with a numeric suffix): when the current segment reaches the
+ * maximum record count, it is sealed and a new one is created. Sealed segments are deleted as soon as all of their
+ * records have been marked as processed or failed, and segments left behind by a previous run are kept untouched so that they
+ * can be recovered.
+ *
+ * In both modes, concurrent callers can use {@link #sync()} to wait for their records to be durably stored. Concurrent
+ * sync requests are coalesced into a single force call (group commit).
  */
 public final class LogWriter implements AutoCloseable {
     /**
@@ -38,13 +57,44 @@ public final class LogWriter implements AutoCloseable {
      */
     public static final int DEFAULT_CAPACITY = 1024 * 512;
     private static final Logger LOG = LoggerFactory.getLogger(LogWriter.class);
+    private static final String SEGMENT_SUFFIX_FORMAT = "%010d";
 
-    private final FileChannel fileChannel;
+    /**
+     * A segment file used when the writer is working in the segmented mode
+     */
+    private static final class Segment {
+        private final File file;
+        private final FileChannel channel;
+        private int pending;
+        private boolean sealed;
+
+        private Segment(File file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+    }
 
+    private final File logFile;
+    private final boolean segmented;
+    private final int maxRecordCount;
     private final LogSupervisor flushPolicy;
     private final TransactionLog transactionLog;
+    private final ReentrantLock syncLock = new ReentrantLock();
 
+    // segmented mode only: the open segments indexed by their layer and the segments left behind by a previous run
+    private final Map<Integer, Segment> segments = new TreeMap<>();
+    private final List<File> recoverableSegments;
+    private long firstSegmentId;
+    private int currentLayer;
+    private int currentIndex;
+
+    private FileChannel fileChannel;
     private long startOfRecords;
+    private long groupCommitWindow;
+
+    // incremented on every write, used to determine whether a sync request is already satisfied
+    private volatile long writeSequence;
+    private volatile long durableSequence;
 
     /**
      * Constructs a new log writer with the default capacity {@link LogWriter#DEFAULT_CAPACITY} (512 KiB). If the file
@@ -69,17 +119,175 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException    in case of I/O errors
      */
     LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount) throws IOException {
-        this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
-                StandardOpenOption.TRUNCATE_EXISTING);
+        this(logFile, logSupervisor, maxRecordCount, false);
+    }
 
-        final Header header = Header.WA_DEFAULT_V1;
-        writeHeader(header);
+    /**
+     * Constructs a new log writer.
+     *
+     * In the segmented mode, the log file is used as the base name for the segment files and existing segments are not
+     * modified: they can be obtained via {@link #getRecoverableSegments()}. Otherwise, if the file already exists, it
+     * will be truncated.
+     *
+     * @param  logFile        the transaction log file
+     * @param  logSupervisor  the log supervisor {@link LogSupervisor} for the writer
+     * @param  maxRecordCount the maximum number of records to keep in the file (or in each segment, when segmented).
+     *                        Beyond this count, entries will be rolled-over.
+     * @param  segmented      whether to write the records to a sequence of segment files
+     * @throws IOException    in case of I/O errors
+     */
+    public LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount, boolean segmented) throws IOException {
+        this.logFile = logFile;
+        this.segmented = segmented;
+        this.maxRecordCount = maxRecordCount;
+
+        if (segmented) {
+            this.recoverableSegments = findSegments(logFile);
+            if (!recoverableSegments.isEmpty()) {
+                firstSegmentId = segmentId(logFile, recoverableSegments.get(recoverableSegments.size() - 1)) + 1;
+            }
+
+            this.transactionLog = null;
+            openSegment(0);
+        } else {
+            this.recoverableSegments = Collections.emptyList();
+            this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+
+            final Header header = Header.WA_DEFAULT_V1;
+            writeHeader(header);
+
+            this.transactionLog = new TransactionLog(maxRecordCount);
+        }
 
         this.flushPolicy = logSupervisor;
-        this.transactionLog = new TransactionLog(maxRecordCount);
         this.flushPolicy.start(this::tryFlush);
     }
 
+    /**
+     * Finds the segment files for the given log file, ordered from the oldest to the newest
+     *
+     * @param  logFile the transaction log file used as the base name for the segments
+     * @return         the segment files
+     */
+    public static List<File> findSegments(File logFile) {
+        final File dir = logFile.getAbsoluteFile().getParentFile();
+        final File[] files = dir.listFiles((d, name) -> isSegmentName(logFile, name));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+
+        List<File> ret = new ArrayList<>(files.length);
+        Collections.addAll(ret, files);
+        ret.sort((a, b) -> Long.compare(segmentId(logFile, a), segmentId(logFile, b)));
+
+        return ret;
+    }
+
+    private static boolean isSegmentName(File logFile, String name) {
+        final String prefix = logFile.getName() + ".";
+        if (!name.startsWith(prefix) || name.length() == prefix.length()) {
+            return false;
+        }
+
+        for (int i = prefix.length(); i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long segmentId(File logFile, File segment) {
+        return Long.parseLong(segment.getName().substring(logFile.getName().length() + 1));
+    }
+
+    private void openSegment(int layer) throws IOException {
+        final long id = firstSegmentId + layer;
+        final File file = new File(logFile.getAbsoluteFile().getParentFile(),
+                logFile.getName() + "." + String.format(SEGMENT_SUFFIX_FORMAT, id));
+
+        LOG.debug("Creating a new transaction log segment {}", file);
+        fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        writeHeader(Header.WA_DEFAULT_V1);
+
+        segments.put(layer, new Segment(file, fileChannel));
+        currentLayer = layer;
+        currentIndex = 0;
+    }
+
+    /**
+     * Seals the current segment and creates a new one. The sealed segment is forced to disk so that a subsequent
+     * {@link #sync()} only needs to force the new one.
+     */
+    private void rollSegment() throws IOException {
+        final Segment current = segments.get(currentLayer);
+
+        current.channel.force(true);
+        current.sealed = true;
+        if (current.pending == 0) {
+            removeSegment(currentLayer, current);
+        }
+
+        openSegment(currentLayer + 1);
+    }
+
+    private void removeSegment(int layer, Segment segment) throws IOException {
+        LOG.debug("Removing the fully processed transaction log segment {}", segment.file);
+        segments.remove(layer);
+        segment.channel.close();
+
+        if (!segment.file.delete()) {
+            LOG.warn("Unable to delete the transaction log segment {}", segment.file);
+        }
+    }
+
+    /**
+     * Gets the segments that were left behind by a previous run and may contain records that need to be recovered. It
+     * is always empty if the writer is not segmented.
+     *
+     * @return the segment files, ordered from the oldest to the newest
+     */
+    public List<File> getRecoverableSegments() {
+        return Collections.unmodifiableList(recoverableSegments);
+    }
+
+    /**
+     * Whether this writer is writing the records to a sequence of segment files
+     *
+     * @return true if segmented or false otherwise
+     */
+    public boolean isSegmented() {
+        return segmented;
+    }
+
+    /**
+     * Gets the number of segments currently open (including the active one). It is always zero if the writer is not
+     * segmented.
+     *
+     * @return the number of segments
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Sets how long the thread performing a group commit waits for other writes to complete before forcing the data to
+     * disk. By default, it does not wait: the writes performed while a force is in progress are coalesced into the next
+     * one.
+     *
+     * @param groupCommitWindow the window, in milliseconds
+     */
+    public void setGroupCommitWindow(long groupCommitWindow) {
+        this.groupCommitWindow = groupCommitWindow;
+    }
+
+    public long getGroupCommitWindow() {
+        return groupCommitWindow;
+    }
+
     /**
      * Flushes the data to disk
      *
@@ -89,27 +297,85 @@ public final class LogWriter implements AutoCloseable {
         fileChannel.force(true);
     }
 
-    private synchronized void tryFlush() {
+    private void tryFlush() {
         try {
-            flush();
+            sync();
         } catch (IOException e) {
             LOG.error("Unable to save record: {}", e.getMessage(), e);
             throw new RuntimeException(e);
         }
     }
 
-    public void reset() throws IOException {
+    /**
+     * Waits until every record written so far is durably stored. The calling thread either forces the data to disk
+     * itself or piggybacks on a force that is already covering its writes, so concurrent callers share a single force
+     * call (group commit).
+     *
+     * @throws IOException in case of I/O errors
+     */
+    public void sync() throws IOException {
+        final long target = writeSequence;
+        if (durableSequence >= target) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            if (durableSequence >= target) {
+                return;
+            }
+
+            if (groupCommitWindow > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(groupCommitWindow));
+            }
+
+            final long sequence;
+            final FileChannel channel;
+            synchronized (this) {
+                sequence = writeSequence;
+                channel = fileChannel;
+            }
+
+            try {
+                // previous segments are forced when rolling, so it is enough to force the active one
+                channel.force(true);
+            } catch (ClosedChannelException e) {
+                /*
+                 The channel was closed after the sequence was read: either the segment was rolled and then removed,
+                 which forces it before closing it, or the writer was closed, which flushes it. Either way, the
+                 records up to the sequence are already on disk.
+                 */
+                LOG.trace("The channel was closed while syncing: the records were flushed when it was closed");
+            }
+            durableSequence = sequence;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public synchronized void reset() throws IOException {
         fileChannel.truncate(startOfRecords);
         fileChannel.position(startOfRecords);
+        writeSequence++;
     }
 
     @Override
     public void close() {
         try {
             flushPolicy.stop();
-            flush();
 
-            fileChannel.close();
+            synchronized (this) {
+                flush();
+
+                if (segmented) {
+                    for (Segment segment : segments.values()) {
+                        segment.channel.close();
+                    }
+                    segments.clear();
+                } else {
+                    fileChannel.close();
+                }
+            }
         } catch (IOException e) {
             LOG.error(e.getMessage(), e);
         }
@@ -133,7 +399,13 @@ public final class LogWriter implements AutoCloseable {
      * @return             An entry info instance with the metadata for the appended log entry
      * @throws IOException for lower-level I/O errors
      */
-    public EntryInfo.CachedEntryInfo append(LogEntry entry) throws IOException {
+    public synchronized EntryInfo.CachedEntryInfo append(LogEntry entry) throws IOException {
+        writeSequence++;
+
+        if (segmented) {
+            return appendToSegment(entry);
+        }
+
         final TransactionLog.LayerInfo layerInfo = transactionLog.add(entry);
         if (layerInfo.getLayer() == 0) {
             return persist(layerInfo, entry);
@@ -163,6 +435,24 @@ public final class LogWriter implements AutoCloseable {
         return spear;
     }
 
+    private EntryInfo.CachedEntryInfo appendToSegment(LogEntry entry) throws IOException {
+        boolean rollingOver = false;
+        if (currentIndex >= maxRecordCount) {
+            rollSegment();
+            rollingOver = true;
+        }
+
+        final TransactionLog.LayerInfo layerInfo = new TransactionLog.LayerInfo(currentIndex, currentLayer, rollingOver);
+        final EntryInfo.CachedEntryInfo entryInfo = persist(layerInfo, entry);
+
+        currentIndex++;
+        if (entry.getEntryState() == LogEntry.EntryState.NEW) {
+            segments.get(currentLayer).pending++;
+        }
+
+        return entryInfo;
+    }
+
     /**
      * Persists an entry to the log
      * 
@@ -223,6 +513,53 @@ public final class LogWriter implements AutoCloseable {
         }
     }
 
+    /**
+     * Reads back an entry that was appended to a segment which has not been removed yet. It is only supported in the
+     * segmented mode, where the records are written to the segment as soon as they are appended.
+     *
+     * @param  entryInfo   the entry information returned when the entry was appended
+     * @return             the entry, as it is currently stored
+     * @throws IOException if the segment has been removed or in case of lower-level I/O errors
+     */
+    public synchronized LogEntry readEntry(EntryInfo.CachedEntryInfo entryInfo) throws IOException {
+        if (!segmented) {
+            throw new IllegalStateException("Entries can only be read back from a segmented log");
+        }
+
+        final TransactionLog.LayerInfo layerInfo = entryInfo.getLayerInfo();
+        final Segment segment = segments.get(layerInfo.getLayer());
+        if (segment == null) {
+            throw new IOException("The segment of the record " + layerInfo + " has already been removed");
+        }
+
+        long position = entryInfo.getPosition();
+        ByteBuffer fields = ByteBuffer.allocate(Integer.BYTES * 3);
+        position += readFully(segment.channel, fields, position);
+        final int state = fields.getInt();
+        final int keyMetadata = fields.getInt();
+        final byte[] key = new byte[fields.getInt()];
+        position += readFully(segment.channel, ByteBuffer.wrap(key), position);
+
+        fields = ByteBuffer.allocate(Integer.BYTES * 2);
+        position += readFully(segment.channel, fields, position);
+        final int valueMetadata = fields.getInt();
+        final byte[] value = new byte[fields.getInt()];
+        readFully(segment.channel, ByteBuffer.wrap(value), position);
+
+        return new LogEntry(LogEntry.EntryState.fromInt(state), keyMetadata, key, valueMetadata, value);
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        final int size = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + size - buffer.remaining()) < 0) {
+                throw new EOFException("Unexpected end of the segment at position " + position);
+            }
+        }
+        buffer.flip();
+        return size;
+    }
+
     /**
      * Updates the state of af entry (i.e.: to mark them after they have seen successfully processed)
      * 
@@ -230,7 +567,8 @@ public final class LogWriter implements AutoCloseable {
      * @param  state       the state to update the entry to
      * @throws IOException in case of lower-level I/O errors
      */
-    public void updateState(EntryInfo.CachedEntryInfo entryInfo, LogEntry.EntryState state) throws IOException {
+    public synchronized void updateState(EntryInfo.CachedEntryInfo entryInfo, LogEntry.EntryState state)
+            throws IOException {
         final TransactionLog.LayerInfo layerInfo = entryInfo.getLayerInfo();
 
         /*
@@ -240,6 +578,12 @@ public final class LogWriter implements AutoCloseable {
          Trying to update a persisted entry here is not acceptable
          */
         assert layerInfo != null;
+        writeSequence++;
+
+        if (segmented) {
+            updateSegmentState(layerInfo, entryInfo.getPosition(), state);
+            return;
+        }
 
         final LogEntry logEntry = transactionLog.update(layerInfo, state);
 
@@ -248,6 +592,40 @@ public final class LogWriter implements AutoCloseable {
         }
     }
 
+    /**
+     * Updates the state of an entry stored in a segment. Only the state field (the first one in the record) is
+     * rewritten. Once all the records of a sealed segment are processed or failed, the segment is deleted.
+     */
+    private void updateSegmentState(TransactionLog.LayerInfo layerInfo, long position, LogEntry.EntryState state)
+            throws IOException {
+        final Segment segment = segments.get(layerInfo.getLayer());
+        if (segment == null) {
+            LOG.debug("Discarded an update for a record on a segment that was already removed: {}", layerInfo);
+            return;
+        }
+
+        // a record may be updated more than once (i.e.: marked as failed twice), but it is pending only until the first
+        // update to a final state
+        ByteBuffer stateBuffer = ByteBuffer.allocate(Integer.BYTES);
+        segment.channel.read(stateBuffer, position);
+        stateBuffer.flip();
+        final boolean wasPending = stateBuffer.remaining() < Integer.BYTES
+                || stateBuffer.getInt() == LogEntry.EntryState.NEW.getCode();
+
+        stateBuffer.clear();
+        stateBuffer.putInt(state.getCode());
+
+        IOUtil.write(segment.channel, stateBuffer, position);
+
+        if (wasPending && state != LogEntry.EntryState.NEW) {
+            segment.pending--;
+
+            if (segment.sealed && segment.pending <= 0) {
+                removeSegment(layerInfo.getLayer(), segment);
+            }
+        }
+    }
+
     /**
      * Updates the state of af entry that has been already persisted to disk. Wraps any lower-level I/O errors in
      * runtime exceptions
@@ -256,7 +634,9 @@ public final class LogWriter implements AutoCloseable {
      * @param  state       the state to update the entry to
      * @throws IOException if the buffer is too small for the entry or in case of lower-level I/O errors
      */
-    public void updateState(PersistedLogEntry entry, LogEntry.EntryState state) throws IOException {
+    public synchronized void updateState(PersistedLogEntry entry, LogEntry.EntryState state) throws IOException {
+        writeSequence++;
+
         ByteBuffer updateBuffer = ByteBuffer.allocate(entry.size());
 
         IOUtil.serialize(updateBuffer, state.getCode(), entry.getKeyMetadata(), entry.getKey(), entry.getValueMetadata(),
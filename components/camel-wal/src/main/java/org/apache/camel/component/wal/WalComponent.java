@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.annotations.Component;
+import org.apache.camel.support.DefaultComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The WAL component provides durable asynchronous hand-off of exchanges within a CamelContext, using a segmented
+ * write-ahead log on the local file system.
+ */
+@Component("wal")
+public class WalComponent extends DefaultComponent {
+    private static final Logger LOG = LoggerFactory.getLogger(WalComponent.class);
+
+    @Metadata(description = "The default directory where the logs of the queues are stored. Each queue uses a"
+                            + " sub directory with the name of the queue.")
+    private String directory;
+    @Metadata(label = "advanced", defaultValue = "" + WalEndpoint.DEFAULT_MAX_RECORD_COUNT,
+              description = "The default maximum number of messages on each segment file of the queues.")
+    private int maxRecordCount = WalEndpoint.DEFAULT_MAX_RECORD_COUNT;
+    @Metadata(label = "advanced", defaultValue = "" + WalEndpoint.DEFAULT_FLUSH_INTERVAL,
+              description = "The default interval (in milliseconds) between the periodic flushes of the logs to disk.")
+    private long flushInterval = WalEndpoint.DEFAULT_FLUSH_INTERVAL;
+
+    private final Map<String, QueueHolder> queues = new HashMap<>();
+
+    private static final class QueueHolder {
+        private final WalQueue queue;
+        private int count;
+
+        QueueHolder(WalQueue queue) {
+            this.queue = queue;
+        }
+    }
+
+    public WalComponent() {
+    }
+
+    @Override
+    protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+        WalEndpoint endpoint = new WalEndpoint(uri, this);
+        endpoint.setName(remaining);
+        endpoint.setDirectory(directory);
+        endpoint.setMaxRecordCount(maxRecordCount);
+        endpoint.setFlushInterval(flushInterval);
+        setProperties(endpoint, parameters);
+
+        if (endpoint.getDirectory() == null) {
+            throw new IllegalArgumentException("The directory must be configured on the component or endpoint: " + uri);
+        }
+        return endpoint;
+    }
+
+    /**
+     * Gets the queue for the endpoint, opening it if this is the first endpoint using it
+     */
+    synchronized WalQueue acquireQueue(WalEndpoint endpoint) throws IOException {
+        File dir = new File(endpoint.getDirectory(), endpoint.getName()).getAbsoluteFile();
+        String key = dir.getPath();
+
+        QueueHolder holder = queues.get(key);
+        if (holder == null) {
+            LOG.debug("Opening queue {} at {}", endpoint.getName(), dir);
+            ScheduledExecutorService executor = getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "WalQueueFlusher[" + endpoint.getName() + "]");
+            LogSupervisor supervisor = new DefaultLogSupervisor(endpoint.getFlushInterval(), executor);
+            try {
+                holder = new QueueHolder(new WalQueue(dir, endpoint.getMaxRecordCount(), supervisor));
+            } catch (IOException | RuntimeException e) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(executor);
+                throw e;
+            }
+            queues.put(key, holder);
+        }
+        holder.count++;
+        return holder.queue;
+    }
+
+    /**
+     * Releases the queue of the endpoint, closing it when it is no longer used by any endpoint
+     */
+    synchronized void releaseQueue(WalEndpoint endpoint) {
+        String key = new File(endpoint.getDirectory(), endpoint.getName()).getAbsoluteFile().getPath();
+
+        QueueHolder holder = queues.get(key);
+        if (holder != null && --holder.count <= 0) {
+            LOG.debug("Closing queue {}", endpoint.getName());
+            queues.remove(key);
+            holder.queue.close();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        synchronized (this) {
+            for (QueueHolder holder : queues.values()) {
+                holder.queue.close();
+            }
+            queues.clear();
+        }
+        super.doStop();
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The default directory where the logs of the queues are stored. Each queue uses a sub directory with the name of
+     * the queue.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getMaxRecordCount() {
+        return maxRecordCount;
+    }
+
+    /**
+     * The default maximum number of messages on each segment file of the queues.
+     */
+    public void setMaxRecordCount(int maxRecordCount) {
+        this.maxRecordCount = maxRecordCount;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * The default interval (in milliseconds) between the periodic flushes of the logs to disk.
+     */
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.support.DefaultConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A consumer of the messages stored in the write-ahead log of a queue. Each message is acknowledged in the log once it
+ * has been processed, so the messages that were not processed are consumed again after a restart. Messages that failed
+ * are acknowledged as failed after the exception handler has been invoked, and they are not consumed again.
+ */
+public class WalConsumer extends DefaultConsumer implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(WalConsumer.class);
+
+    private WalQueue queue;
+    private ExecutorService executor;
+
+    public WalConsumer(WalEndpoint endpoint, Processor processor) {
+        super(endpoint, processor);
+    }
+
+    @Override
+    public WalEndpoint getEndpoint() {
+        return (WalEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    public void run() {
+        final int pollTimeout = getEndpoint().getPollTimeout();
+
+        while (isRunAllowed()) {
+            WalQueue.Record record;
+            try {
+                record = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                LOG.debug("Sleep interrupted, are we stopping? {}", isStopping() || isStopped());
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                getExceptionHandler().handleException("Error reading the message from the write-ahead log", e);
+                continue;
+            }
+
+            if (record == null) {
+                continue;
+            }
+            if (!isRunAllowed()) {
+                // put it back so it is consumed later (or recovered on the next start)
+                queue.release(record);
+                return;
+            }
+
+            processRecord(record);
+        }
+    }
+
+    private void processRecord(WalQueue.Record record) {
+        Exchange exchange = createExchange(false);
+        try {
+            Message message = exchange.getMessage();
+            WalMessageCodec.decodeHeaders(record.getKey(), message);
+            if (record.getValueMetadata() == WalMessageCodec.BODY_BYTES) {
+                message.setBody(record.getValue());
+            }
+
+            getProcessor().process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        Exception cause = exchange.getException();
+        if (cause != null) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, cause);
+        }
+
+        try {
+            queue.acknowledge(record, cause != null ? LogEntry.EntryState.FAILED : LogEntry.EntryState.PROCESSED);
+        } catch (IOException e) {
+            getExceptionHandler().handleException("Error acknowledging the message on the write-ahead log", exchange, e);
+        }
+        releaseExchange(exchange, false);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        queue = getEndpoint().acquireQueue();
+
+        int poolSize = getEndpoint().getConcurrentConsumers();
+        executor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                getEndpoint().getEndpointUri(), poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executor);
+            executor = null;
+        }
+        if (queue != null) {
+            getEndpoint().releaseQueue();
+            queue = null;
+        }
+        super.doStop();
+    }
+}
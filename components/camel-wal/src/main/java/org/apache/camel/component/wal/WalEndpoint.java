@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import org.apache.camel.Category;
+import org.apache.camel.Consumer;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
+import org.apache.camel.spi.UriPath;
+import org.apache.camel.support.DefaultEndpoint;
+
+/**
+ * Durable asynchronous hand-off of exchanges within the same CamelContext, backed by a local write-ahead log.
+ */
+@UriEndpoint(firstVersion = "3.20.0", scheme = "wal", title = "WAL", syntax = "wal:name",
+             category = { Category.CORE, Category.ENDPOINT })
+public class WalEndpoint extends DefaultEndpoint {
+    /**
+     * The default maximum number of messages on each segment file
+     */
+    public static final int DEFAULT_MAX_RECORD_COUNT = 10000;
+    /**
+     * The default interval between periodic flushes: 1 second
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000;
+
+    private volatile WalQueue queue;
+    private int queueReferences;
+
+    @UriPath(description = "Name of queue")
+    @Metadata(required = true)
+    private String name;
+    @UriParam(description = "The directory where the log of the queue is stored. The log is stored in a sub directory"
+                            + " with the name of the queue.")
+    private String directory;
+    @UriParam(label = "advanced", defaultValue = "" + DEFAULT_MAX_RECORD_COUNT,
+              description = "The maximum number of messages on each segment file. When the active segment is full, a new"
+                            + " one is created.")
+    private int maxRecordCount = DEFAULT_MAX_RECORD_COUNT;
+    @UriParam(label = "advanced", defaultValue = "" + DEFAULT_FLUSH_INTERVAL,
+              description = "The interval (in milliseconds) between the periodic flushes of the log to disk.")
+    private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+    @UriParam(label = "consumer", defaultValue = "1", description = "Number of concurrent threads processing exchanges.")
+    private int concurrentConsumers = 1;
+    @UriParam(label = "consumer,advanced", defaultValue = "1000",
+              description = "The timeout (in milliseconds) used when polling. When a timeout occurs, the consumer can"
+                            + " check whether it is allowed to continue running.")
+    private int pollTimeout = 1000;
+    @UriParam(label = "producer", defaultValue = "true",
+              description = "Whether the producer waits until the message has been flushed to disk before continuing."
+                            + " Concurrent producers are flushed together (group commit). When disabled, messages are"
+                            + " flushed periodically (see flushInterval), and may be lost on a crash.")
+    private boolean sync = true;
+
+    public WalEndpoint(String endpointUri, WalComponent component) {
+        super(endpointUri, component);
+    }
+
+    @Override
+    public WalComponent getComponent() {
+        return (WalComponent) super.getComponent();
+    }
+
+    @Override
+    public Producer createProducer() throws Exception {
+        return new WalProducer(this);
+    }
+
+    @Override
+    public Consumer createConsumer(Processor processor) throws Exception {
+        WalConsumer consumer = new WalConsumer(this, processor);
+        configureConsumer(consumer);
+        return consumer;
+    }
+
+    /**
+     * Gets the queue, opening it on first use
+     */
+    synchronized WalQueue acquireQueue() throws Exception {
+        if (queue == null) {
+            queue = getComponent().acquireQueue(this);
+        }
+        queueReferences++;
+        return queue;
+    }
+
+    synchronized void releaseQueue() {
+        if (queue != null && --queueReferences <= 0) {
+            getComponent().releaseQueue(this);
+            queue = null;
+        }
+    }
+
+    /**
+     * The number of messages waiting to be consumed
+     */
+    public int getPendingSize() {
+        WalQueue current = queue;
+        return current != null ? current.size() : 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Name of queue
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory where the log of the queue is stored. The log is stored in a sub directory with the name of the
+     * queue.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getMaxRecordCount() {
+        return maxRecordCount;
+    }
+
+    /**
+     * The maximum number of messages on each segment file. When the active segment is full, a new one is created.
+     */
+    public void setMaxRecordCount(int maxRecordCount) {
+        this.maxRecordCount = maxRecordCount;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * The interval (in milliseconds) between the periodic flushes of the log to disk.
+     */
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Number of concurrent threads processing exchanges.
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
+    public int getPollTimeout() {
+        return pollTimeout;
+    }
+
+    /**
+     * The timeout (in milliseconds) used when polling. When a timeout occurs, the consumer can check whether it is
+     * allowed to continue running.
+     */
+    public void setPollTimeout(int pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether the producer waits until the message has been flushed to disk before continuing. Concurrent producers are
+     * flushed together (group commit). When disabled, messages are flushed periodically (see flushInterval), and may be
+     * lost on a crash.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+}
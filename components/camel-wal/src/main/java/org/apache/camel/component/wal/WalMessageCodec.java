@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.Message;
+
+/**
+ * Encodes the message of an exchange to the key and value of a log record. The key holds the message headers and the
+ * value holds the message body as bytes. Only headers of simple types (strings, numbers, booleans and characters) are
+ * stored; other headers are skipped. Strings are stored as their length followed by their UTF-8 bytes, so there is no
+ * limit on their size other than the size of the record.
+ */
+final class WalMessageCodec {
+    static final int BODY_NULL = 0;
+    static final int BODY_BYTES = 1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_FLOAT = 6;
+    private static final byte TYPE_SHORT = 7;
+    private static final byte TYPE_BYTE = 8;
+    private static final byte TYPE_CHARACTER = 9;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private WalMessageCodec() {
+
+    }
+
+    /**
+     * Encodes the message headers
+     *
+     * @param  message     the message
+     * @param  skipped     receives the names of the headers that were skipped because of their type
+     * @return             the encoded headers
+     * @throws IOException in case of I/O errors
+     */
+    static byte[] encodeHeaders(Message message, Set<String> skipped) throws IOException {
+        if (!message.hasHeaders()) {
+            return EMPTY;
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bos)) {
+            for (Map.Entry<String, Object> entry : message.getHeaders().entrySet()) {
+                if (!writeHeader(out, entry.getKey(), entry.getValue())) {
+                    skipped.add(entry.getKey());
+                }
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private static boolean writeHeader(DataOutputStream out, String key, Object value) throws IOException {
+        if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, key);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            writeString(out, key);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            writeString(out, key);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            writeString(out, key);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            writeString(out, key);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            writeString(out, key);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            writeString(out, key);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            writeString(out, key);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHARACTER);
+            writeString(out, key);
+            out.writeChar((Character) value);
+        } else {
+            // null headers are not stored, which is the same as not having them
+            return value == null;
+        }
+        return true;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the message headers
+     */
+    static void decodeHeaders(byte[] data, Message message) throws IOException {
+        if (data.length == 0) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            while (in.available() > 0) {
+                byte type = in.readByte();
+                String key = readString(in);
+                message.setHeader(key, readValue(in, type));
+            }
+        }
+    }
+
+    private static Object readValue(DataInputStream in, byte type) throws IOException {
+        switch (type) {
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_CHARACTER:
+                return in.readChar();
+            default:
+                throw new IOException("Invalid header type " + type);
+        }
+    }
+
+    /**
+     * Encodes the message body, which must be convertible to bytes
+     */
+    static byte[] encodeBody(Exchange exchange) throws InvalidPayloadException {
+        Message message = exchange.getMessage();
+        if (message.getBody() == null) {
+            return EMPTY;
+        }
+        return message.getMandatoryBody(byte[].class);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends the message of the exchanges to the write-ahead log of the queue. Only the message body and the headers of
+ * simple types are stored: the other headers and the exchange properties are not available to the consumer.
+ */
+public class WalProducer extends DefaultProducer {
+    private static final Logger LOG = LoggerFactory.getLogger(WalProducer.class);
+
+    private final Set<String> warnedHeaders = new HashSet<>();
+    private volatile boolean warnedProperties;
+    private WalQueue queue;
+
+    public WalProducer(WalEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    public WalEndpoint getEndpoint() {
+        return (WalEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        Set<String> skipped = new HashSet<>();
+        byte[] headers = WalMessageCodec.encodeHeaders(exchange.getMessage(), skipped);
+        int bodyType = exchange.getMessage().getBody() == null ? WalMessageCodec.BODY_NULL : WalMessageCodec.BODY_BYTES;
+        byte[] body = WalMessageCodec.encodeBody(exchange);
+
+        warnDropped(exchange, skipped);
+
+        queue.append(0, headers, bodyType, body);
+        if (getEndpoint().isSync()) {
+            queue.sync();
+        }
+    }
+
+    /**
+     * Logs a warning the first time a header or the exchange properties are not stored in the log
+     */
+    private void warnDropped(Exchange exchange, Set<String> skipped) {
+        if (!skipped.isEmpty()) {
+            synchronized (warnedHeaders) {
+                for (String name : skipped) {
+                    if (warnedHeaders.add(name)) {
+                        LOG.warn("The header {} is not stored on the queue {} because its type is not supported: only"
+                                 + " strings, numbers, booleans and characters are stored",
+                                name, getEndpoint().getName());
+                    }
+                }
+            }
+        }
+
+        if (!warnedProperties && exchange.hasProperties()) {
+            warnedProperties = true;
+            LOG.warn("The exchange properties are not stored on the queue {}: use message headers to pass data to the"
+                     + " consumer",
+                    getEndpoint().getName());
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        queue = getEndpoint().acquireQueue();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (queue != null) {
+            getEndpoint().releaseQueue();
+            queue = null;
+        }
+        super.doStop();
+    }
+}
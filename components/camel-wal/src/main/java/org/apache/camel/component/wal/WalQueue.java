@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.component.wal.exceptions.InvalidRecordException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A durable queue backed by a {@link LogWriter} working in the segmented mode.
+ * <p/>
+ * Records are appended to the active segment of the log and a new segment is rolled when the active one reaches the
+ * maximum record count. Producers can wait for their records to be durable via {@link #sync()}, which relies on the
+ * group commit of the writer: concurrent callers waiting for a flush are served by a single force of the segment to
+ * disk. Records are handed over to consumers in the order they were appended, and once every record in a sealed segment
+ * has been acknowledged, the writer deletes the segment file. On startup, the records that were not acknowledged by a
+ * previous run are appended again to the log and handed over to the consumers.
+ * <p/>
+ * Only the position of the records waiting to be consumed is kept in memory: the data of a record is read back from its
+ * segment when it is taken by a consumer, so a slow consumer does not make the data of the pending records pile up on
+ * the heap.
+ */
+class WalQueue implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(WalQueue.class);
+    private static final String LOG_FILE_NAME = "queue.log";
+
+    /**
+     * A record that is being consumed
+     */
+    static final class Record {
+        private final EntryInfo.CachedEntryInfo entryInfo;
+        private final LogEntry entry;
+
+        Record(EntryInfo.CachedEntryInfo entryInfo, LogEntry entry) {
+            this.entryInfo = entryInfo;
+            this.entry = entry;
+        }
+
+        int getKeyMetadata() {
+            return entry.getKeyMetadata();
+        }
+
+        byte[] getKey() {
+            return entry.getKey();
+        }
+
+        int getValueMetadata() {
+            return entry.getValueMetadata();
+        }
+
+        byte[] getValue() {
+            return entry.getValue();
+        }
+    }
+
+    private final File directory;
+    private final LogWriter logWriter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Deque<EntryInfo.CachedEntryInfo> ready = new ArrayDeque<>();
+
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a durable queue in the given directory
+     *
+     * @param  directory      the directory holding the segment files of this queue
+     * @param  maxRecordCount the maximum number of records on each segment file
+     * @param  logSupervisor  the supervisor that flushes the log to disk periodically
+     * @throws IOException    in case of I/O errors
+     */
+    WalQueue(File directory, int maxRecordCount, LogSupervisor logSupervisor) throws IOException {
+        this.directory = directory;
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create the directory " + directory);
+        }
+
+        this.logWriter = new LogWriter(new File(directory, LOG_FILE_NAME), logSupervisor, maxRecordCount, true);
+        lock.lock();
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            logWriter.close();
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the records that were not acknowledged by a previous run to the log, then deletes the old segments.
+     */
+    private void recover() throws IOException {
+        for (File segment : logWriter.getRecoverableSegments()) {
+            int count = 0;
+
+            // the segment is the upper bound for the size of any record stored on it
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(LogReader.DEFAULT_CAPACITY, segment.length()));
+            try (LogReader reader = new LogReader(segment, capacity)) {
+                PersistedLogEntry entry = reader.readEntry();
+                while (entry != null) {
+                    if (entry.getEntryState() == LogEntry.EntryState.NEW) {
+                        doAppend(entry.getKeyMetadata(), entry.getKey(), entry.getValueMetadata(), entry.getValue());
+                        count++;
+                    }
+
+                    entry = reader.readEntry();
+                }
+            } catch (InvalidRecordException e) {
+                LOG.warn("Discarding the incomplete record at the end of the segment {}: {}", segment, e.getMessage());
+            }
+
+            // make sure the recovered records are durable before deleting the segment they came from
+            logWriter.sync();
+
+            LOG.debug("Recovered {} pending records from {}", count, segment);
+            if (!segment.delete()) {
+                LOG.warn("Unable to delete the recovered segment {}", segment);
+            }
+        }
+    }
+
+    /**
+     * Appends a new record to the queue
+     *
+     * @param  keyMetadata   the key metadata
+     * @param  key           the key
+     * @param  valueMetadata the value metadata
+     * @param  value         the value
+     * @throws IOException   in case of I/O errors
+     */
+    void append(int keyMetadata, byte[] key, int valueMetadata, byte[] value) throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IOException("The queue at " + directory + " is closed");
+            }
+
+            doAppend(keyMetadata, key, valueMetadata, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void doAppend(int keyMetadata, byte[] key, int valueMetadata, byte[] value) throws IOException {
+        LogEntry entry = new LogEntry(LogEntry.EntryState.NEW, keyMetadata, key, valueMetadata, value);
+
+        ready.add(logWriter.append(entry));
+        notEmpty.signal();
+    }
+
+    /**
+     * Waits until every record appended so far has been flushed to disk. Concurrent callers are coalesced, so that a
+     * single flush makes the records of all of them durable.
+     *
+     * @throws IOException in case of I/O errors
+     */
+    void sync() throws IOException {
+        logWriter.sync();
+    }
+
+    /**
+     * Takes the next record to consume, waiting up to the given timeout if there are none. The data of the record is read
+     * back from the log.
+     *
+     * @return             the record or null if none became available within the timeout
+     * @throws IOException in case of I/O errors reading the record, which is then recovered on the next start
+     */
+    Record poll(long timeout, TimeUnit unit) throws InterruptedException, IOException {
+        long nanos = unit.toNanos(timeout);
+
+        EntryInfo.CachedEntryInfo entryInfo;
+        lock.lockInterruptibly();
+        try {
+            while (ready.isEmpty()) {
+                if (nanos <= 0 || closed) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            entryInfo = ready.poll();
+        } finally {
+            lock.unlock();
+        }
+
+        // the segment is not removed while the record is not acknowledged, and the writer serializes the reads with the
+        // writes
+        return new Record(entryInfo, logWriter.readEntry(entryInfo));
+    }
+
+    /**
+     * Acknowledges a record with its final state. The writer deletes the segment of the record once all the records in
+     * it are acknowledged.
+     *
+     * @param  record      the record
+     * @param  state       the final state ({@link LogEntry.EntryState#PROCESSED} or {@link LogEntry.EntryState#FAILED})
+     * @throws IOException in case of I/O errors
+     */
+    void acknowledge(Record record, LogEntry.EntryState state) throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                // the record is recovered again on the next start
+                return;
+            }
+
+            logWriter.updateState(record.entryInfo, state);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts back a record that was taken but not consumed, so it can be taken again
+     */
+    void release(Record record) {
+        lock.lock();
+        try {
+            ready.addFirst(record.entryInfo);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of records waiting to be consumed
+     */
+    int size() {
+        lock.lock();
+        try {
+            return ready.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of segment files currently in use
+     */
+    int getSegmentCount() {
+        return logWriter.getSegmentCount();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+
+            logWriter.close();
+            ready.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
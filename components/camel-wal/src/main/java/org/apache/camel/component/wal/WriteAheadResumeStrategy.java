@@ -184,6 +184,9 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
                     keyBuffer.array(), 0, valueBuffer.array());
 
             entryInfo = logWriter.append(entry);
+            if (resumeStrategyConfiguration.isGroupCommit()) {
+                logWriter.sync();
+            }
         } catch (IOException e) {
             LOG.error("Unable to append a new record to the transaction log. The system will try to update the record " +
                       "on the delegate strategy before forcing the failure");
@@ -270,6 +273,11 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
         resumeStrategy.loadCache();
         LOG.debug("Done loading cache for the delegate strategy");
 
+        if (logWriter.isSegmented()) {
+            recoverSegments();
+            return;
+        }
+
         try (LogReader reader = new LogReader(logFile)) {
 
             int updatedCount = 0;
@@ -303,6 +311,45 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
         }
     }
 
+    /**
+     * Replays the records that were not processed by a previous run. The records are appended to the current segment
+     * before updating the delegate strategy (so they are tracked as any other new record), then the old segments are
+     * deleted.
+     */
+    private void recoverSegments() throws Exception {
+        for (File segment : logWriter.getRecoverableSegments()) {
+            LOG.debug("Recovering records from the transaction log segment {}", segment);
+
+            int updatedCount = 0;
+            try (LogReader reader = new LogReader(segment)) {
+                PersistedLogEntry logEntry = reader.readEntry();
+                while (logEntry != null) {
+                    final LogEntry.EntryState entryState = logEntry.getEntryState();
+                    if (entryState == LogEntry.EntryState.NEW || entryState == LogEntry.EntryState.FAILED) {
+                        final ResumeAdapter adapter = resumeStrategy.getAdapter();
+
+                        if (adapter instanceof Deserializable) {
+                            Deserializable deserializable = (Deserializable) adapter;
+
+                            Object oKey = deserializable.deserializeKey(ByteBuffer.wrap(logEntry.getKey()));
+                            Object value = deserializable.deserializeValue(ByteBuffer.wrap(logEntry.getValue()));
+
+                            updateLastOffset(OffsetKeys.of(oKey), Offsets.of(value), null);
+                            updatedCount++;
+                        }
+                    }
+
+                    logEntry = reader.readEntry();
+                }
+            }
+
+            LOG.debug("Recovered {} records from the transaction log segment {}", updatedCount, segment);
+            if (!segment.delete()) {
+                LOG.warn("Unable to delete the recovered transaction log segment {}", segment);
+            }
+        }
+    }
+
     @Override
     public void start() {
         try {
@@ -315,7 +362,11 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
             DefaultLogSupervisor flushPolicy = new DefaultLogSupervisor(
                     resumeStrategyConfiguration.getSupervisorInterval(),
                     executorService);
-            logWriter = new LogWriter(logFile, flushPolicy);
+            final int maxRecordCount = resumeStrategyConfiguration.getMaxRecordCount() > 0
+                    ? resumeStrategyConfiguration.getMaxRecordCount() : LogWriter.DEFAULT_CAPACITY;
+
+            logWriter = new LogWriter(logFile, flushPolicy, maxRecordCount, resumeStrategyConfiguration.isSegmented());
+            logWriter.setGroupCommitWindow(resumeStrategyConfiguration.getGroupCommitWindow());
         } catch (Exception e) {
             throw new RuntimeCamelException(e);
         }
@@ -28,6 +28,10 @@ public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfigu
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private boolean segmented;
+    private int maxRecordCount;
+    private boolean groupCommit;
+    private long groupCommitWindow;
 
     public File getLogFile() {
         return logFile;
@@ -53,6 +57,38 @@ public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfigu
         this.supervisorInterval = supervisorInterval;
     }
 
+    public boolean isSegmented() {
+        return segmented;
+    }
+
+    void setSegmented(boolean segmented) {
+        this.segmented = segmented;
+    }
+
+    public int getMaxRecordCount() {
+        return maxRecordCount;
+    }
+
+    void setMaxRecordCount(int maxRecordCount) {
+        this.maxRecordCount = maxRecordCount;
+    }
+
+    public boolean isGroupCommit() {
+        return groupCommit;
+    }
+
+    void setGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    public long getGroupCommitWindow() {
+        return groupCommitWindow;
+    }
+
+    void setGroupCommitWindow(long groupCommitWindow) {
+        this.groupCommitWindow = groupCommitWindow;
+    }
+
     @Override
     public String resumeStrategyService() {
         return "write-ahead-resume-strategy";
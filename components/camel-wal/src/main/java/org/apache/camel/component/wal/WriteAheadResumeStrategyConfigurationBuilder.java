@@ -28,6 +28,10 @@ public class WriteAheadResumeStrategyConfigurationBuilder
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private boolean segmented;
+    private int maxRecordCount = LogWriter.DEFAULT_CAPACITY;
+    private boolean groupCommit;
+    private long groupCommitWindow;
 
     /**
      * The transaction log file to use
@@ -53,6 +57,60 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         return this;
     }
 
+    /**
+     * Whether to write the transaction log to a sequence of segment files, instead of a single file that is rewritten
+     * when rolling over. Fully processed segments are deleted and the segments left behind by a previous run are
+     * recovered on startup.
+     *
+     * @param  segmented true to use segment files
+     * @return           this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withSegmented(boolean segmented) {
+        this.segmented = segmented;
+
+        return this;
+    }
+
+    /**
+     * The maximum number of records kept in the transaction log file (or in each segment, when segmented) before
+     * rolling over
+     *
+     * @param  maxRecordCount the maximum number of records
+     * @return                this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withMaxRecordCount(int maxRecordCount) {
+        this.maxRecordCount = maxRecordCount;
+
+        return this;
+    }
+
+    /**
+     * Whether to wait for every new record to be durably stored before updating the delegate strategy. Concurrent
+     * updates share a single force to disk (group commit), instead of relying only on the periodic flush of the log
+     * supervisor.
+     *
+     * @param  groupCommit true to sync the records on update
+     * @return             this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+
+        return this;
+    }
+
+    /**
+     * How long (in milliseconds) a group commit waits for other updates before forcing the data to disk. Larger values
+     * trade latency for fewer disk syncs.
+     *
+     * @param  groupCommitWindow the window in milliseconds
+     * @return                   this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withGroupCommitWindow(long groupCommitWindow) {
+        this.groupCommitWindow = groupCommitWindow;
+
+        return this;
+    }
+
     @Override
     public WriteAheadResumeStrategyConfiguration build() {
         final WriteAheadResumeStrategyConfiguration writeAheadResumeStrategyConfiguration
@@ -63,6 +121,10 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         writeAheadResumeStrategyConfiguration.setLogFile(logFile);
         writeAheadResumeStrategyConfiguration.setDelegateResumeStrategy(delegateResumeStrategy);
         writeAheadResumeStrategyConfiguration.setSupervisorInterval(supervisorInterval);
+        writeAheadResumeStrategyConfiguration.setSegmented(segmented);
+        writeAheadResumeStrategyConfiguration.setMaxRecordCount(maxRecordCount);
+        writeAheadResumeStrategyConfiguration.setGroupCommit(groupCommit);
+        writeAheadResumeStrategyConfiguration.setGroupCommitWindow(groupCommitWindow);
 
         return writeAheadResumeStrategyConfiguration;
     }
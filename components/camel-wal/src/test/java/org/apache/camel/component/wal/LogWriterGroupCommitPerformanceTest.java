@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of writers that force every record to disk with the one of writers that use group commit. It
+ * is a manual test, enabled with -Denable.performance.tests=true.
+ */
+@EnabledIfSystemProperty(named = "enable.performance.tests", matches = "true",
+                         disabledReason = "Manual performance test")
+public class LogWriterGroupCommitPerformanceTest extends LogTestBase {
+    private static final Logger LOG = LoggerFactory.getLogger(LogWriterGroupCommitPerformanceTest.class);
+    private static final int RECORDS_PER_THREAD = 500;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4, 8 })
+    public void testGroupCommitPerformance(int threads) throws Exception {
+        long flushEach = run(new File(testDir, "flush.data"), threads, false);
+        long groupCommit = run(new File(testDir, "group.data"), threads, true);
+
+        LOG.info("Writing {} records with {} threads: flushing each record took {}, group commit took {}",
+                threads * RECORDS_PER_THREAD, threads, TimeUtils.printDuration(flushEach, true),
+                TimeUtils.printDuration(groupCommit, true));
+    }
+
+    private long run(File logFile, int threads, boolean groupCommit) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(1000), 1000, true)) {
+            StopWatch watch = new StopWatch();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                        logWriter.append(createNewLogEntry(null, i));
+
+                        if (groupCommit) {
+                            logWriter.sync();
+                        } else {
+                            synchronized (logWriter) {
+                                logWriter.flush();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            return watch.taken();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
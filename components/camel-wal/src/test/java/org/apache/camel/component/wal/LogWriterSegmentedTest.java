@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogWriterSegmentedTest extends LogTestBase {
+
+    @Test
+    public void testRollAndRemoveProcessedSegments() throws IOException {
+        File logFile = new File(testDir, "test.data");
+        List<EntryInfo.CachedEntryInfo> entryInfos = new ArrayList<>();
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(100), 10, true)) {
+            generateDataFilePredictable(entryInfos::add, logWriter, 35);
+
+            assertEquals(4, logWriter.getSegmentCount());
+            assertEquals(4, LogWriter.findSegments(logFile).size());
+
+            for (int i = 0; i < 30; i++) {
+                logWriter.updateState(entryInfos.get(i), LogEntry.EntryState.PROCESSED);
+            }
+
+            assertEquals(1, logWriter.getSegmentCount());
+            assertEquals(1, LogWriter.findSegments(logFile).size());
+
+            // the active segment is never removed, even if all of its records are processed
+            for (int i = 30; i < 35; i++) {
+                logWriter.updateState(entryInfos.get(i), LogEntry.EntryState.PROCESSED);
+            }
+            assertEquals(1, logWriter.getSegmentCount());
+        }
+    }
+
+    @Test
+    public void testRemoveSegmentsWithFailedRecords() throws IOException {
+        File logFile = new File(testDir, "test.data");
+        List<EntryInfo.CachedEntryInfo> entryInfos = new ArrayList<>();
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(100), 10, true)) {
+            generateDataFilePredictable(entryInfos::add, logWriter, 25);
+            assertEquals(3, logWriter.getSegmentCount());
+
+            for (int i = 0; i < 10; i++) {
+                LogEntry.EntryState state = i % 2 == 0 ? LogEntry.EntryState.FAILED : LogEntry.EntryState.PROCESSED;
+                logWriter.updateState(entryInfos.get(i), state);
+            }
+            assertEquals(2, logWriter.getSegmentCount());
+
+            // updating the same record twice must not count it twice
+            for (int i = 10; i < 19; i++) {
+                logWriter.updateState(entryInfos.get(i), LogEntry.EntryState.FAILED);
+            }
+            logWriter.updateState(entryInfos.get(18), LogEntry.EntryState.FAILED);
+            assertEquals(2, logWriter.getSegmentCount());
+
+            logWriter.updateState(entryInfos.get(19), LogEntry.EntryState.PROCESSED);
+            assertEquals(1, logWriter.getSegmentCount());
+        }
+    }
+
+    @Test
+    public void testSegmentsAreKeptForRecovery() throws IOException {
+        File logFile = new File(testDir, "test.data");
+        List<EntryInfo.CachedEntryInfo> entryInfos = new ArrayList<>();
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(100), 10, true)) {
+            generateDataFilePredictable(entryInfos::add, logWriter, 15);
+
+            for (int i = 0; i < 5; i++) {
+                logWriter.updateState(entryInfos.get(i), LogEntry.EntryState.PROCESSED);
+            }
+        }
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(100), 10, true)) {
+            final List<File> segments = logWriter.getRecoverableSegments();
+            assertEquals(2, segments.size());
+            assertEquals(3, LogWriter.findSegments(logFile).size());
+
+            int pending = 0;
+            for (File segment : segments) {
+                try (LogReader reader = new LogReader(segment)) {
+                    PersistedLogEntry entry = reader.readEntry();
+                    while (entry != null) {
+                        if (entry.getEntryState() == LogEntry.EntryState.NEW) {
+                            pending++;
+                        }
+                        entry = reader.readEntry();
+                    }
+                }
+            }
+
+            assertEquals(10, pending);
+        }
+    }
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        File logFile = new File(testDir, "test.data");
+        final int threads = 4;
+        final int recordsPerThread = 250;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(1000), 100, true)) {
+            logWriter.setGroupCommitWindow(1);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        logWriter.append(createNewLogEntry(null, i));
+                        logWriter.sync();
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        int count = 0;
+        for (File segment : LogWriter.findSegments(logFile)) {
+            try (LogReader reader = new LogReader(segment)) {
+                PersistedLogEntry entry = reader.readEntry();
+                while (entry != null) {
+                    assertTrue(new String(entry.getKey()).startsWith("record-"));
+                    count++;
+                    entry = reader.readEntry();
+                }
+            }
+        }
+
+        assertEquals(threads * recordsPerThread, count);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Message;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultMessage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class WalMessageCodecTest {
+
+    @Test
+    public void testHeaders() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+
+        // larger than what DataOutput.writeUTF supports
+        String large = "x".repeat(70000) + "é";
+
+        Message message = new DefaultMessage(context);
+        message.setHeader("large", large);
+        message.setHeader("counter", 42);
+        message.setHeader("unsupported", new Object());
+
+        Set<String> skipped = new HashSet<>();
+        byte[] data = WalMessageCodec.encodeHeaders(message, skipped);
+        assertEquals(Set.of("unsupported"), skipped);
+
+        Message decoded = new DefaultMessage(context);
+        WalMessageCodec.decodeHeaders(data, decoded);
+        assertEquals(large, decoded.getHeader("large"));
+        assertEquals(42, decoded.getHeader("counter"));
+        assertFalse(decoded.hasHeaders() && decoded.getHeaders().containsKey("unsupported"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WalQueueTest {
+    private static final int MAX_RECORD_COUNT = 10;
+
+    @TempDir
+    File testDir;
+
+    private static byte[] value(int i) {
+        return ("message-" + i).getBytes();
+    }
+
+    private WalQueue newQueue() throws Exception {
+        return new WalQueue(testDir, MAX_RECORD_COUNT, new DefaultLogSupervisor(100));
+    }
+
+    @Test
+    public void testAppendAndConsume() throws Exception {
+        try (WalQueue queue = newQueue()) {
+            for (int i = 0; i < 10; i++) {
+                queue.append(0, new byte[0], 1, value(i));
+                queue.sync();
+            }
+
+            for (int i = 0; i < 10; i++) {
+                WalQueue.Record record = queue.poll(1, TimeUnit.SECONDS);
+                assertNotNull(record);
+                assertEquals("message-" + i, new String(record.getValue()));
+                queue.acknowledge(record, LogEntry.EntryState.PROCESSED);
+            }
+
+            assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    public void testRecoverUnacknowledged() throws Exception {
+        try (WalQueue queue = newQueue()) {
+            for (int i = 0; i < 25; i++) {
+                queue.append(0, new byte[0], 1, value(i));
+            }
+            queue.sync();
+
+            // consume and acknowledge the first twenty only, one of them as failed
+            for (int i = 0; i < 20; i++) {
+                LogEntry.EntryState state = i == 19 ? LogEntry.EntryState.FAILED : LogEntry.EntryState.PROCESSED;
+                queue.acknowledge(queue.poll(1, TimeUnit.SECONDS), state);
+            }
+            // taken but not acknowledged
+            assertNotNull(queue.poll(1, TimeUnit.SECONDS));
+        }
+
+        try (WalQueue queue = newQueue()) {
+            assertEquals(5, queue.size());
+
+            for (int i = 20; i < 25; i++) {
+                WalQueue.Record record = queue.poll(1, TimeUnit.SECONDS);
+                assertEquals("message-" + i, new String(record.getValue()));
+            }
+        }
+
+        // the recovered records are stored again, so they are still available if the queue is reopened
+        try (WalQueue queue = newQueue()) {
+            assertEquals(5, queue.size());
+        }
+    }
+
+    @Test
+    public void testRollAndRemoveSegments() throws Exception {
+        try (WalQueue queue = newQueue()) {
+            for (int i = 0; i < 100; i++) {
+                queue.append(0, new byte[0], 1, value(i));
+            }
+
+            assertTrue(queue.getSegmentCount() > 1, "The messages should span multiple segments");
+
+            for (int i = 0; i < 100; i++) {
+                queue.acknowledge(queue.poll(1, TimeUnit.SECONDS), LogEntry.EntryState.PROCESSED);
+            }
+
+            // only the active segment is kept
+            assertEquals(1, queue.getSegmentCount());
+            assertEquals(1, testDir.listFiles().length);
+        }
+    }
+
+    @Test
+    public void testRecordsAreReadBackFromTheLog() throws Exception {
+        try (WalQueue queue = newQueue()) {
+            // spans two segments, and the records are read back before the log is flushed
+            for (int i = 0; i < MAX_RECORD_COUNT + 5; i++) {
+                queue.append(i, ("key-" + i).getBytes(), 1, value(i));
+            }
+
+            WalQueue.Record record = queue.poll(1, TimeUnit.SECONDS);
+            queue.release(record);
+            for (int i = 0; i < MAX_RECORD_COUNT + 5; i++) {
+                record = queue.poll(1, TimeUnit.SECONDS);
+                assertNotNull(record);
+                assertEquals(i, record.getKeyMetadata());
+                assertEquals("key-" + i, new String(record.getKey()));
+                assertEquals("message-" + i, new String(record.getValue()));
+                queue.acknowledge(record, LogEntry.EntryState.PROCESSED);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeRecord() throws Exception {
+        byte[] large = new byte[LogReader.DEFAULT_CAPACITY * 2];
+        large[large.length - 1] = 1;
+
+        try (WalQueue queue = newQueue()) {
+            queue.append(0, new byte[0], 1, large);
+            queue.sync();
+        }
+
+        try (WalQueue queue = newQueue()) {
+            WalQueue.Record record = queue.poll(1, TimeUnit.SECONDS);
+            assertNotNull(record);
+            assertEquals(large.length, record.getValue().length);
+            assertEquals(1, record.getValue()[large.length - 1]);
+        }
+    }
+}
@@ -255,7 +255,9 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
     protected void loadResource(String resourceUri, XsltBuilder xslt) throws TransformerException, IOException {
         LOG.trace("{} loading schema resource: {}", this, resourceUri);
         Source source = xslt.getUriResolver().resolve(resourceUri, null);
-        if (this.saxonReaderProperties != null) {
+        // the shared cache compiles the stylesheet from its content, which is only used without reader properties
+        boolean shared = getTemplatesCache() != null && isTemplatesCacheable();
+        if (this.saxonReaderProperties != null && !shared) {
             //for Saxon we need to create XMLReader for the coming source
             //so that the features configuration can take effect
             source = createReaderForSource(source);
@@ -263,12 +265,30 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
         if (source == null) {
             throw new IOException("Cannot load schema resource " + resourceUri);
         } else {
-            xslt.setTransformerSource(source);
+            setTransformerSource(resourceUri, xslt, source);
         }
         // now loaded so clear flag
         setCacheCleared(false);
     }
 
+    /**
+     * The compiled stylesheet can only be shared when the endpoint uses the Saxon configuration of the component.
+     */
+    @Override
+    protected boolean isTemplatesCacheable() {
+        if (!super.isTemplatesCacheable()) {
+            return false;
+        }
+        if (saxonReaderProperties != null && !saxonReaderProperties.isEmpty()) {
+            return false;
+        }
+        XsltSaxonComponent component = (XsltSaxonComponent) getComponent();
+        return saxonConfiguration == component.getSaxonConfiguration()
+                && saxonConfigurationProperties == component.getSaxonConfigurationProperties()
+                && saxonExtensionFunctions == component.getSaxonExtensionFunctions()
+                && secureProcessing == component.isSecureProcessing();
+    }
+
     private Source createReaderForSource(Source source) {
         try {
             XMLReader xmlReader = XMLReaderFactory.createXMLReader();
@@ -27,6 +27,8 @@ public class XsltComponentConfigurer extends PropertyConfigurerSupport implement
         case "contentCache": target.setContentCache(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "templatescachesize":
+        case "templatesCacheSize": target.setTemplatesCacheSize(property(camelContext, int.class, value)); return true;
         case "transformerfactoryclass":
         case "transformerFactoryClass": target.setTransformerFactoryClass(property(camelContext, java.lang.String.class, value)); return true;
         case "transformerfactoryconfigurationstrategy":
@@ -48,6 +50,8 @@ public class XsltComponentConfigurer extends PropertyConfigurerSupport implement
         case "contentCache": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
+        case "templatescachesize":
+        case "templatesCacheSize": return int.class;
         case "transformerfactoryclass":
         case "transformerFactoryClass": return java.lang.String.class;
         case "transformerfactoryconfigurationstrategy":
@@ -70,6 +74,8 @@ public class XsltComponentConfigurer extends PropertyConfigurerSupport implement
         case "contentCache": return target.isContentCache();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
+        case "templatescachesize":
+        case "templatesCacheSize": return target.getTemplatesCacheSize();
         case "transformerfactoryclass":
         case "transformerFactoryClass": return target.getTransformerFactoryClass();
         case "transformerfactoryconfigurationstrategy":
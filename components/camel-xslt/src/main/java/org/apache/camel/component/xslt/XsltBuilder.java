@@ -328,6 +328,17 @@ public class XsltBuilder implements Processor {
      * @throws TransformerConfigurationException is thrown if creating a XSLT transformer failed.
      */
     public void setTransformerSource(Source source) throws TransformerConfigurationException {
+        setTemplate(createTemplates(source));
+    }
+
+    /**
+     * Compiles the XSLT stylesheet from a Source, using the transformer factory of this builder
+     *
+     * @param  source                            the source
+     * @return                                   the compiled stylesheet
+     * @throws TransformerConfigurationException is thrown if creating a XSLT transformer failed.
+     */
+    public Templates createTemplates(Source source) throws TransformerConfigurationException {
         TransformerFactory factory = converter.getTransformerFactory();
         if (errorListener != null) {
             factory.setErrorListener(errorListener);
@@ -344,7 +355,7 @@ public class XsltBuilder implements Processor {
         // deployment and raise an exception as the route will not be setup properly.
         Templates templates = factory.newTemplates(source);
         if (templates != null) {
-            setTemplate(templates);
+            return templates;
         } else {
             throw new TransformerConfigurationException(
                     "Error creating XSLT template. "
@@ -410,6 +421,10 @@ public class XsltBuilder implements Processor {
         this.converter.setTransformerFactory(transformerFactory);
     }
 
+    public TransformerFactory getTransformerFactory() {
+        return this.converter.getTransformerFactory();
+    }
+
     private void releaseTransformer(Transformer transformer) {
         if (transformers != null) {
             transformer.reset();
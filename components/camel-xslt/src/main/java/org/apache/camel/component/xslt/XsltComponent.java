@@ -21,6 +21,9 @@ import java.util.Map;
 import javax.xml.transform.URIResolver;
 
 import org.apache.camel.Endpoint;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Component;
 import org.apache.camel.support.DefaultComponent;
@@ -32,6 +35,7 @@ import org.slf4j.LoggerFactory;
  * The <a href="http://camel.apache.org/xslt.html">XSLT Component</a> is for performing XSLT transformations of messages
  */
 @Component("xslt")
+@ManagedResource(description = "Managed XsltComponent")
 public class XsltComponent extends DefaultComponent {
 
     private static final Logger LOG = LoggerFactory.getLogger(XsltComponent.class);
@@ -46,6 +50,10 @@ public class XsltComponent extends DefaultComponent {
     private TransformerFactoryConfigurationStrategy transformerFactoryConfigurationStrategy;
     @Metadata(label = "advanced")
     private String transformerFactoryClass;
+    @Metadata(label = "advanced")
+    private int templatesCacheSize;
+
+    private XsltTemplatesCache templatesCache;
 
     public XsltComponent() {
     }
@@ -109,6 +117,78 @@ public class XsltComponent extends DefaultComponent {
         this.transformerFactoryClass = transformerFactoryClass;
     }
 
+    public int getTemplatesCacheSize() {
+        return templatesCacheSize;
+    }
+
+    /**
+     * The number of compiled stylesheets to cache and share between the endpoints of this component. The compiled
+     * stylesheets are keyed by the resource uri and a checksum of the stylesheet, so endpoints created dynamically
+     * (such as with toD) using a stylesheet which has been compiled before do not compile it again. By default no
+     * stylesheets are shared.
+     */
+    public void setTemplatesCacheSize(int templatesCacheSize) {
+        this.templatesCacheSize = templatesCacheSize;
+    }
+
+    /**
+     * Gets the cache of compiled stylesheets shared by the endpoints, or <tt>null</tt> if the compiled stylesheets are
+     * not shared.
+     */
+    public XsltTemplatesCache getTemplatesCache() {
+        return templatesCache;
+    }
+
+    @ManagedAttribute(description = "Number of compiled stylesheets in the shared cache")
+    public int getTemplatesCacheCurrentSize() {
+        return templatesCache != null ? templatesCache.size() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a compiled stylesheet was found in the shared cache")
+    public long getTemplatesCacheHits() {
+        return templatesCache != null ? templatesCache.getHits() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a stylesheet was not found in the shared cache and was compiled")
+    public long getTemplatesCacheMisses() {
+        return templatesCache != null ? templatesCache.getMisses() : 0;
+    }
+
+    @ManagedAttribute(description = "Total time in millis spent compiling stylesheets for the shared cache")
+    public long getTemplatesCompileTime() {
+        return templatesCache != null ? templatesCache.getCompileTime() : 0;
+    }
+
+    @ManagedOperation(description = "Clears the compiled stylesheets shared by the endpoints")
+    public void clearTemplatesCache() {
+        if (templatesCache != null) {
+            templatesCache.clear();
+        }
+    }
+
+    @ManagedOperation(description = "Resets the statistics of the shared cache")
+    public void resetTemplatesCacheStatistics() {
+        if (templatesCache != null) {
+            templatesCache.resetStatistics();
+        }
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        if (templatesCacheSize > 0 && templatesCache == null) {
+            templatesCache = new XsltTemplatesCache(templatesCacheSize);
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        if (templatesCache != null) {
+            templatesCache.clear();
+        }
+    }
+
     @Override
     protected Endpoint createEndpoint(String uri, final String remaining, Map<String, Object> parameters) throws Exception {
         XsltEndpoint endpoint = createXsltEndpoint(uri);
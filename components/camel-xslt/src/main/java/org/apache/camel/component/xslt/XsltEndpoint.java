@@ -323,12 +323,47 @@ public class XsltEndpoint extends ProcessorEndpoint {
         if (source == null) {
             throw new IOException("Cannot load schema resource " + resourceUri);
         } else {
-            xslt.setTransformerSource(source);
+            setTransformerSource(resourceUri, xslt, source);
         }
         // now loaded so clear flag
         cacheCleared = false;
     }
 
+    /**
+     * Sets the compiled stylesheet on the builder, which is taken from the cache shared by the endpoints of the
+     * component if enabled.
+     *
+     * @param  resourceUri          the resource of the stylesheet
+     * @param  xslt                 the builder
+     * @param  source               the source of the stylesheet
+     * @throws TransformerException is thrown if error compiling the stylesheet
+     * @throws IOException          is thrown if error reading the stylesheet
+     */
+    protected void setTransformerSource(String resourceUri, XsltBuilder xslt, Source source)
+            throws TransformerException, IOException {
+        XsltTemplatesCache cache = getTemplatesCache();
+        if (cache != null && isTemplatesCacheable()) {
+            xslt.setTemplate(cache.getTemplates(xslt, resourceUri, source));
+        } else {
+            xslt.setTransformerSource(source);
+        }
+    }
+
+    /**
+     * Whether the compiled stylesheet of this endpoint can be shared with the other endpoints of the component, which
+     * is not the case when the endpoint uses its own transformer factory, configuration strategy, error listener,
+     * entity resolver or a custom uri resolver, as these may change how the stylesheet is compiled.
+     */
+    protected boolean isTemplatesCacheable() {
+        return transformerFactory == null && transformerFactoryConfigurationStrategy == null
+                && errorListener == null && entityResolver == null
+                && (uriResolver == null || uriResolver.getClass() == XsltUriResolver.class);
+    }
+
+    protected XsltTemplatesCache getTemplatesCache() {
+        return getComponent() instanceof XsltComponent ? ((XsltComponent) getComponent()).getTemplatesCache() : null;
+    }
+
     @Override
     protected void doInit() throws Exception {
         super.doInit();
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A size bounded cache of compiled XSLT stylesheets ({@link Templates}), which is shared by the endpoints of a
+ * {@link XsltComponent}.
+ * <p/>
+ * The stylesheets are keyed by the transformer factory, the resource uri and a checksum of the content of the
+ * stylesheet, so endpoints loading the same stylesheet reuse the compiled stylesheet, and a stylesheet which is changed
+ * is compiled again. Only the content of the stylesheet itself is part of the key, any stylesheets it includes or
+ * imports are resolved when the stylesheet is compiled the first time.
+ */
+public class XsltTemplatesCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XsltTemplatesCache.class);
+
+    private final Map<String, Templates> cache;
+    private final int maximumCacheSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compileTime = new LongAdder();
+
+    public XsltTemplatesCache(int maximumCacheSize) {
+        this.maximumCacheSize = maximumCacheSize;
+        this.cache = Collections.synchronizedMap(LRUCacheFactory.newLRUCache(maximumCacheSize));
+    }
+
+    /**
+     * Gets the compiled stylesheet from the cache, or compiles the stylesheet with the given builder if the stylesheet
+     * is not in the cache.
+     * <p/>
+     * The source is read fully to compute the checksum of the stylesheet, so only a {@link StreamSource} with an input
+     * stream can be cached, and any other source is always compiled.
+     *
+     * @param  xslt                              the builder used to compile the stylesheet
+     * @param  resourceUri                       the uri of the stylesheet
+     * @param  source                            the source of the stylesheet
+     * @return                                   the compiled stylesheet
+     * @throws TransformerConfigurationException is thrown if compiling the stylesheet failed
+     * @throws IOException                       is thrown if reading the stylesheet failed
+     */
+    public Templates getTemplates(XsltBuilder xslt, String resourceUri, Source source)
+            throws TransformerConfigurationException, IOException {
+        if (!(source instanceof StreamSource) || ((StreamSource) source).getInputStream() == null) {
+            return compile(xslt, source);
+        }
+
+        StreamSource streamSource = (StreamSource) source;
+        byte[] data;
+        InputStream is = streamSource.getInputStream();
+        try {
+            data = is.readAllBytes();
+        } finally {
+            IOHelper.close(is);
+        }
+
+        String key = xslt.getTransformerFactory().getClass().getName() + ":" + resourceUri + ":" + checksum(data);
+        Templates answer = cache.get(key);
+        if (answer != null) {
+            hits.increment();
+            LOG.trace("Using cached stylesheet {}", resourceUri);
+            return answer;
+        }
+
+        misses.increment();
+        answer = compile(xslt, new StreamSource(new ByteArrayInputStream(data), streamSource.getSystemId()));
+        // another endpoint may have compiled the same stylesheet in the meantime
+        Templates existing = cache.putIfAbsent(key, answer);
+        return existing != null ? existing : answer;
+    }
+
+    private Templates compile(XsltBuilder xslt, Source source) throws TransformerConfigurationException {
+        long start = System.nanoTime();
+        Templates answer = xslt.createTemplates(source);
+        long delta = System.nanoTime() - start;
+        compileTime.add(delta);
+        LOG.debug("Compiled stylesheet {} in {} millis", source.getSystemId(), TimeUnit.NANOSECONDS.toMillis(delta));
+        return answer;
+    }
+
+    private static String checksum(byte[] data) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return String.format("%064x", new BigInteger(1, digest.digest(data)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Clears the cache, so the stylesheets are compiled again when they are loaded
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Number of compiled stylesheets in the cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Maximum number of compiled stylesheets in the cache
+     */
+    public int getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    /**
+     * Number of times a stylesheet was found in the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a stylesheet was not found in the cache
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Total time in millis spent compiling stylesheets
+     */
+    public long getCompileTime() {
+        return TimeUnit.NANOSECONDS.toMillis(compileTime.sum());
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        compileTime.reset();
+    }
+}
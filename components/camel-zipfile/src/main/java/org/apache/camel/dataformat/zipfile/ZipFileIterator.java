@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which uses the central directory of a {@link ZipFile} to inflate the entries in parallel on a thread
+ * pool. Each entry is inflated into a stream cache, which is spooled to disk only if spooling is enabled on the stream
+ * caching strategy, and the entries are returned in the order of the zip file, or in the order they are inflated.
+ */
+public class ZipFileIterator implements Iterator<Message>, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipFileIterator.class);
+
+    private final Exchange exchange;
+    private final ExecutorService executorService;
+    private final boolean preserveOrder;
+    private final int maxInflating;
+    private final Deque<Future<Message>> inflating = new ArrayDeque<>();
+    private final CompletionService<Message> completionService;
+    private volatile ZipFile zipFile;
+    private Enumeration<? extends ZipEntry> entries;
+    private int pending;
+
+    public ZipFileIterator(Exchange exchange, File file, ExecutorService executorService, boolean preserveOrder,
+                           int maxInflating) {
+        this.exchange = exchange;
+        this.executorService = executorService;
+        this.preserveOrder = preserveOrder;
+        this.maxInflating = maxInflating;
+        this.completionService = preserveOrder ? null : new ExecutorCompletionService<>(executorService);
+
+        try {
+            zipFile = new ZipFile(file);
+        } catch (ZipException e) {
+            throw new IllegalStateException("Unable to unzip the file, it may be corrupted.", e);
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+        if (zipFile.size() == 0) {
+            IOHelper.close(zipFile);
+            zipFile = null;
+            throw new IllegalStateException("Unable to unzip the file, it may be corrupted.");
+        }
+        entries = zipFile.entries();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (zipFile == null) {
+            return false;
+        }
+        inflateEntries();
+        if (pending == 0) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            Future<Message> future;
+            if (preserveOrder) {
+                future = inflating.poll();
+            } else {
+                future = completionService.take();
+                inflating.remove(future);
+            }
+            pending--;
+            Message answer = future.get();
+            // keep the thread pool busy while the message is processed
+            inflateEntries();
+            return answer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            close();
+            throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+        }
+    }
+
+    private void inflateEntries() {
+        while (pending < maxInflating && entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (entry.isDirectory()) {
+                continue;
+            }
+            Message answer = new DefaultMessage(exchange.getContext());
+            answer.getHeaders().putAll(exchange.getIn().getHeaders());
+            answer.setHeader("zipFileName", entry.getName());
+            answer.setHeader(Exchange.FILE_NAME, entry.getName());
+            // create the cache in this thread, as it registers the cleanup of the temporary file on the exchange
+            CachedOutputStream cos = new CachedOutputStream(exchange);
+            ZipFile file = zipFile;
+            Future<Message> future;
+            if (preserveOrder) {
+                future = executorService.submit(() -> inflate(file, entry, cos, answer));
+            } else {
+                future = completionService.submit(() -> inflate(file, entry, cos, answer));
+            }
+            inflating.add(future);
+            pending++;
+        }
+    }
+
+    private static Message inflate(ZipFile file, ZipEntry entry, CachedOutputStream cos, Message answer)
+            throws IOException {
+        LOGGER.debug("inflate zipEntry {}", entry.getName());
+        try (InputStream is = file.getInputStream(entry)) {
+            IOHelper.copy(is, cos);
+        }
+        StreamCache body = cos.newStreamCache();
+        answer.setBody(body);
+        return answer;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        if (zipFile == null) {
+            return;
+        }
+        for (Future<Message> future : inflating) {
+            future.cancel(true);
+        }
+        inflating.clear();
+        pending = 0;
+        LOGGER.trace("close zipFile");
+        IOHelper.close(zipFile);
+        zipFile = null;
+    }
+}
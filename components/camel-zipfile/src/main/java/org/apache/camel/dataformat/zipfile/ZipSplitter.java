@@ -16,30 +16,120 @@
  */
 package org.apache.camel.dataformat.zipfile;
 
+import java.io.File;
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
+import org.apache.camel.WrappedFile;
 
 /**
  * ZipSplitter the expression builder which can be used after the splitter Based on the thread
  * <a href= "http://camel.465427.n5.nabble.com/zip-file-best-practices-td5713437.html" >zip file best practices</a>
+ * <p/>
+ * When parallel processing is enabled and the message body is a file, then the entries are inflated in parallel using
+ * the central directory of the zip file.
  */
 public class ZipSplitter implements Expression {
 
+    private boolean parallelProcessing;
+    private volatile ExecutorService executorService;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private boolean preserveOrder = true;
+
     public ZipSplitter() {
     }
 
     public Object evaluate(Exchange exchange) {
         Message inputMessage = exchange.getIn();
+        if (parallelProcessing) {
+            Object body = inputMessage.getBody();
+            if (body instanceof WrappedFile) {
+                body = ((WrappedFile<?>) body).getFile();
+            }
+            if (body instanceof File) {
+                return createZipFileIterator(exchange, (File) body);
+            }
+        }
         InputStream inputStream = inputMessage.getBody(InputStream.class);
         return new ZipIterator(exchange, inputStream);
     }
 
+    private ZipFileIterator createZipFileIterator(Exchange exchange, File file) {
+        // limit the number of entries inflated ahead of the splitter
+        return new ZipFileIterator(exchange, file, getOrCreateExecutorService(exchange), preserveOrder, poolSize * 2);
+    }
+
+    private ExecutorService getOrCreateExecutorService(Exchange exchange) {
+        ExecutorService executor = executorService;
+        if (executor == null) {
+            synchronized (this) {
+                executor = executorService;
+                if (executor == null) {
+                    // the thread pool is shared by all the zip files, and is shutdown when camel is stopped
+                    executor = exchange.getContext().getExecutorServiceManager().newFixedThreadPool(this, "ZipSplitter",
+                            poolSize);
+                    executorService = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     @Override
     public <T> T evaluate(Exchange exchange, Class<T> type) {
         Object result = evaluate(exchange);
         return exchange.getContext().getTypeConverter().convertTo(type, exchange, result);
     }
+
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether to inflate the entries in parallel when the message body is a file. The entries are inflated into stream
+     * caches, which are only spooled to disk when spooling is enabled on the stream caching strategy, otherwise the
+     * entries are held in memory.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The thread pool to use when inflating in parallel. By default a thread pool is created on first use, which is
+     * shared by all the zip files split by this splitter.
+     */
+    public synchronized void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * The number of threads to inflate in parallel, which defaults to the number of processors. The number of entries
+     * inflated ahead of the splitter is twice the pool size.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public boolean isPreserveOrder() {
+        return preserveOrder;
+    }
+
+    /**
+     * Whether the entries inflated in parallel are split in the order of the zip file (default), or in the order they
+     * are inflated.
+     */
+    public void setPreserveOrder(boolean preserveOrder) {
+        this.preserveOrder = preserveOrder;
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ZipSplitterParallelTest extends CamelTestSupport {
+
+    private static final int ENTRIES = 200;
+    private static final File ZIP = new File("target/zipsplitter/parallel.zip");
+
+    private final ZipSplitter ordered = new ZipSplitter();
+
+    @BeforeAll
+    public static void createZipFile() throws IOException {
+        ZIP.getParentFile().mkdirs();
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(ZIP))) {
+            zos.putNextEntry(new ZipEntry("folder/"));
+            zos.closeEntry();
+            for (int i = 0; i < ENTRIES; i++) {
+                zos.putNextEntry(new ZipEntry("folder/entry" + i + ".txt"));
+                zos.write(content(i).getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+    }
+
+    private static String content(int i) {
+        // make some entries big enough to be spooled to disk
+        return i % 50 == 0 ? "big" + i + "x".repeat(300 * 1024) : "entry" + i;
+    }
+
+    @Test
+    public void testSplitInOrder() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:ordered");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            expected.add(content(i));
+        }
+        mock.expectedBodiesReceived(expected);
+
+        template.sendBody("direct:ordered", ZIP);
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals("folder/entry1.txt", mock.getReceivedExchanges().get(1).getIn().getHeader(Exchange.FILE_NAME));
+    }
+
+    @Test
+    public void testSplitUnordered() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:unordered");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            expected.add(content(i));
+        }
+        mock.expectedBodiesReceivedInAnyOrder(expected);
+
+        template.sendBody("direct:unordered", ZIP);
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSplitStreamWithoutFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:ordered");
+        mock.expectedMessageCount(ENTRIES);
+
+        // not a file so the zip input stream is used instead
+        template.sendBody("direct:ordered", Files.readAllBytes(ZIP.toPath()));
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals("entry1", mock.getReceivedExchanges().get(1).getIn().getBody(String.class));
+    }
+
+    @Test
+    public void testThreadPoolIsShared() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:ordered");
+        mock.expectedMessageCount(ENTRIES * 2);
+
+        template.sendBody("direct:ordered", ZIP);
+        ExecutorService executorService = ordered.getExecutorService();
+        template.sendBody("direct:ordered", ZIP);
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertNotNull(executorService);
+        assertSame(executorService, ordered.getExecutorService());
+        assertFalse(executorService.isShutdown());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // spool the big entries to disk
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                ordered.setParallelProcessing(true);
+                ordered.setPoolSize(4);
+
+                ZipSplitter unordered = new ZipSplitter();
+                unordered.setParallelProcessing(true);
+                unordered.setPreserveOrder(false);
+
+                from("direct:ordered")
+                        .split(ordered).streaming()
+                        .convertBodyTo(String.class)
+                        .to("mock:ordered");
+
+                from("direct:unordered")
+                        .split(unordered).streaming().parallelProcessing()
+                        .convertBodyTo(String.class)
+                        .to("mock:unordered");
+            }
+        };
+    }
+}
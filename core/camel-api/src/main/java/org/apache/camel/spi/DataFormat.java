@@ -18,10 +18,13 @@ package org.apache.camel.spi;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Iterator;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.Service;
+import org.apache.camel.util.IOHelper;
 
 /**
  * Represents a <a href="http://camel.apache.org/data-format.html">data format</a> used to marshal objects to and from
@@ -54,4 +57,38 @@ public interface DataFormat extends Service {
      * @throws Exception can be thrown
      */
     Object unmarshal(Exchange exchange, InputStream stream) throws Exception;
+
+    /**
+     * Unmarshals the given body into an object.
+     * <p/>
+     * The default implementation converts the body to an {@link InputStream} and calls
+     * {@link #unmarshal(Exchange, InputStream)}. Data formats which can read the body as is, such as a byte array or a
+     * {@link java.nio.ByteBuffer}, can override this method to avoid copying the body into a stream.
+     * <p/>
+     * <b>Notice:</b> The result is set as body on the exchange OUT message, as with
+     * {@link #unmarshal(Exchange, InputStream)}.
+     *
+     * @param  exchange  the current exchange
+     * @param  body      the body of the message to be unmarshalled
+     * @return           the unmarshalled object
+     * @throws Exception can be thrown
+     */
+    default Object unmarshal(Exchange exchange, Object body) throws Exception {
+        InputStream stream;
+        try {
+            stream = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, body);
+        } catch (Exception cause) {
+            throw new InvalidPayloadException(exchange, InputStream.class, exchange.getIn(), cause);
+        }
+        Object result = null;
+        try {
+            result = unmarshal(exchange, stream);
+            return result;
+        } finally {
+            // The Iterator will close the stream itself
+            if (!(result instanceof Iterator)) {
+                IOHelper.close(stream, "input stream");
+            }
+        }
+    }
 }
@@ -41,6 +41,9 @@ public class HL7DataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(defaultValue = "true", javaType = "java.lang.Boolean")
     private String validate;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "false", javaType = "java.lang.Boolean")
+    private String lazyParsing;
 
     public HL7DataFormat() {
         super("hl7");
@@ -50,6 +53,7 @@ public class HL7DataFormat extends DataFormatDefinition {
         this();
         this.parser = builder.parser;
         this.validate = builder.validate;
+        this.lazyParsing = builder.lazyParsing;
     }
 
     public String getValidate() {
@@ -65,6 +69,18 @@ public class HL7DataFormat extends DataFormatDefinition {
         this.validate = validate;
     }
 
+    public String getLazyParsing() {
+        return lazyParsing;
+    }
+
+    /**
+     * Whether to unmarshal to a lazily parsed message, which reads the headers and fields from the text of the message,
+     * and only parses the message when it is converted to a HAPI message. This requires validate to be disabled.
+     */
+    public void setLazyParsing(String lazyParsing) {
+        this.lazyParsing = lazyParsing;
+    }
+
     public Object getParser() {
         return parser;
     }
@@ -84,6 +100,7 @@ public class HL7DataFormat extends DataFormatDefinition {
 
         private Object parser;
         private String validate;
+        private String lazyParsing;
 
         /**
          * Whether to validate the HL7 message
@@ -105,6 +122,26 @@ public class HL7DataFormat extends DataFormatDefinition {
             return this;
         }
 
+        /**
+         * Whether to unmarshal to a lazily parsed message, which reads the headers and fields from the text of the
+         * message, and only parses the message when it is converted to a HAPI message. This requires validate to be
+         * disabled.
+         */
+        public Builder lazyParsing(String lazyParsing) {
+            this.lazyParsing = lazyParsing;
+            return this;
+        }
+
+        /**
+         * Whether to unmarshal to a lazily parsed message, which reads the headers and fields from the text of the
+         * message, and only parses the message when it is converted to a HAPI message. This requires validate to be
+         * disabled.
+         */
+        public Builder lazyParsing(boolean lazyParsing) {
+            this.lazyParsing = Boolean.toString(lazyParsing);
+            return this;
+        }
+
         /**
          * To use a custom HL7 parser
          */
@@ -907,6 +907,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
             streamCache = (StreamCache) exchange.getIn().getBody();
         }
 
+        // the route and unit of work are the same for all the copies
+        Route route = ExchangeHelper.getRoute(exchange);
+        UnitOfWork parentUnitOfWork = exchange.getUnitOfWork();
+
         int index = 0;
         for (Processor processor : processors) {
             // copy exchange, and do not share the unit of work
@@ -938,7 +942,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
             // Set therefore the unit of work of the  parent route as stream cache unit of work,
             // if it is not already set.
             if (copy.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK) == null) {
-                copy.setProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, exchange.getUnitOfWork());
+                copy.setProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, parentUnitOfWork);
             }
             // if we share unit of work, we need to prepare the child exchange
             if (isShareUnitOfWork()) {
@@ -946,7 +950,6 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
 
             // and add the pair
-            Route route = ExchangeHelper.getRoute(exchange);
             result.add(createProcessorExchangePair(index++, processor, copy, route));
         }
 
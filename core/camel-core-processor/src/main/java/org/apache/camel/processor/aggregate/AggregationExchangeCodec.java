@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+
+/**
+ * Encodes aggregated {@link Exchange}s to bytes for the {@link OffHeapAggregationRepository}.
+ * <p/>
+ * Strings, byte arrays and the common primitive wrappers are written directly, and any other {@link Serializable} value
+ * with Java serialization. The whole exchange is encoded (properties, headers and body of the message), so the
+ * decoded exchange can replace the original transparently. When a value is not serializable then encoding fails with a
+ * {@link NotSerializableException}, and the exchange must be kept as is.
+ */
+final class AggregationExchangeCodec {
+
+    private static final int VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte SERIALIZED = 7;
+
+    private AggregationExchangeCodec() {
+    }
+
+    static byte[] encode(Exchange exchange) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, exchange.getExchangeId());
+            writeString(out, exchange.getPattern().name());
+            writeString(out, exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null);
+            writeString(out, exchange.getFromRouteId());
+            writeMap(out, exchange.getAllProperties());
+            writeMap(out, exchange.getMessage().getHeaders());
+            writeValue(out, exchange.getMessage().getBody());
+            writeValue(out, exchange.getException());
+        }
+        return bytes.toByteArray();
+    }
+
+    static Exchange decode(CamelContext camelContext, byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ClassLoadingAwareObjectInputStream(
+                camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(data))) {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported aggregated exchange version " + version);
+            }
+            Exchange answer = new DefaultExchange(camelContext);
+            answer.setExchangeId(readString(in));
+            answer.setPattern(ExchangePattern.valueOf(readString(in)));
+            String fromEndpointUri = readString(in);
+            if (fromEndpointUri != null) {
+                Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+                if (fromEndpoint != null) {
+                    answer.adapt(ExtendedExchange.class).setFromEndpoint(fromEndpoint);
+                }
+            }
+            answer.adapt(ExtendedExchange.class).setFromRouteId(readString(in));
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                answer.setProperty(readString(in), readValue(in));
+            }
+            Message message = answer.getIn();
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                message.setHeader(readString(in), readValue(in));
+            }
+            message.setBody(readValue(in));
+            answer.setException((Throwable) readValue(in));
+            return answer;
+        }
+    }
+
+    private static void writeMap(ObjectOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(ObjectOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            out.writeInt(((byte[]) value).length);
+            out.write((byte[]) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Serializable) {
+            out.writeByte(SERIALIZED);
+            out.writeObject(value);
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BYTES:
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                return data;
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case SERIALIZED:
+                return in.readObject();
+            default:
+                throw new StreamCorruptedException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeString(ObjectOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] data = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(data.length);
+            out.write(data);
+        }
+    }
+
+    private static String readString(ObjectInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.camel.util.FileUtil;
+
+/**
+ * Stores encoded aggregated exchanges outside the heap for the {@link OffHeapAggregationRepository}: in a direct byte
+ * buffer of the maximum off-heap size, and beyond that (or when the free space of the buffer is too fragmented) in a
+ * spill file, which is compacted when most of it is no longer used.
+ * <p/>
+ * The direct buffer is allocated once, when the first exchange is moved off the heap, and its free ranges are reused,
+ * so the direct memory does not depend on the garbage collection of released buffers.
+ * <p/>
+ * This class is not thread-safe, the repository must synchronize the access.
+ */
+final class AggregationSpillStore {
+
+    private static final long COMPACT_THRESHOLD = 16 * 1024 * 1024;
+
+    private final long maximumOffHeapSize;
+    private final Path spillDirectory;
+    private final Set<Slot> fileSlots = Collections.newSetFromMap(new IdentityHashMap<>());
+    // the free ranges of the arena by their offset, adjacent ranges are merged
+    private final TreeMap<Integer, Integer> freeRanges = new TreeMap<>();
+    private ByteBuffer arena;
+    private long offHeapSize;
+    private Path spillFile;
+    private FileChannel channel;
+    private long fileSize;
+    private long fileDeadSize;
+
+    AggregationSpillStore(long maximumOffHeapSize, Path spillDirectory) {
+        this.maximumOffHeapSize = maximumOffHeapSize;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * The location of encoded data in the store
+     */
+    static final class Slot {
+        private final int length;
+        private int offset = -1;
+        private long position;
+
+        private Slot(int length) {
+            this.length = length;
+        }
+    }
+
+    Slot put(byte[] data) throws IOException {
+        Slot slot = new Slot(data.length);
+        slot.offset = allocate(data.length);
+        if (slot.offset >= 0) {
+            ByteBuffer buffer = arena.duplicate();
+            buffer.position(slot.offset);
+            buffer.put(data);
+            offHeapSize += data.length;
+        } else {
+            write(slot, ByteBuffer.wrap(data));
+        }
+        return slot;
+    }
+
+    byte[] get(Slot slot) throws IOException {
+        byte[] data = new byte[slot.length];
+        if (slot.offset >= 0) {
+            ByteBuffer buffer = arena.duplicate();
+            buffer.position(slot.offset);
+            buffer.get(data);
+        } else {
+            read(slot, ByteBuffer.wrap(data));
+        }
+        return data;
+    }
+
+    void free(Slot slot) throws IOException {
+        if (slot.offset >= 0) {
+            release(slot.offset, slot.length);
+            slot.offset = -1;
+            offHeapSize -= slot.length;
+        } else if (fileSlots.remove(slot)) {
+            fileDeadSize += slot.length;
+            if (fileSlots.isEmpty()) {
+                channel.truncate(0);
+                fileSize = 0;
+                fileDeadSize = 0;
+            } else if (fileDeadSize >= COMPACT_THRESHOLD && fileDeadSize > fileSize / 2) {
+                compact();
+            }
+        }
+    }
+
+    long getOffHeapSize() {
+        return offHeapSize;
+    }
+
+    long getSpilledSize() {
+        return fileSize - fileDeadSize;
+    }
+
+    void clear() throws IOException {
+        arena = null;
+        freeRanges.clear();
+        offHeapSize = 0;
+        fileSlots.clear();
+        fileSize = 0;
+        fileDeadSize = 0;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+            FileUtil.deleteFile(spillFile.toFile());
+            spillFile = null;
+        }
+    }
+
+    /**
+     * Allocates the first free range of the arena which is large enough
+     *
+     * @return the offset of the allocated range, or -1 if there is none
+     */
+    private int allocate(int length) {
+        if (maximumOffHeapSize <= 0 || length == 0) {
+            return -1;
+        }
+        if (arena == null) {
+            arena = ByteBuffer.allocateDirect((int) Math.min(maximumOffHeapSize, Integer.MAX_VALUE));
+            freeRanges.put(0, arena.capacity());
+        }
+        for (Map.Entry<Integer, Integer> range : freeRanges.entrySet()) {
+            if (range.getValue() >= length) {
+                int offset = range.getKey();
+                freeRanges.remove(offset);
+                if (range.getValue() > length) {
+                    freeRanges.put(offset + length, range.getValue() - length);
+                }
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Releases the range of the arena, merging it with the adjacent free ranges
+     */
+    private void release(int offset, int length) {
+        Map.Entry<Integer, Integer> next = freeRanges.ceilingEntry(offset);
+        if (next != null && next.getKey() == offset + length) {
+            freeRanges.remove(next.getKey());
+            length += next.getValue();
+        }
+        Map.Entry<Integer, Integer> previous = freeRanges.floorEntry(offset);
+        if (previous != null && previous.getKey() + previous.getValue() == offset) {
+            offset = previous.getKey();
+            length += previous.getValue();
+        }
+        freeRanges.put(offset, length);
+    }
+
+    private void write(Slot slot, ByteBuffer data) throws IOException {
+        if (channel == null) {
+            channel = openSpillFile();
+        }
+        slot.position = fileSize;
+        long position = fileSize;
+        while (data.hasRemaining()) {
+            position += channel.write(data, position);
+        }
+        fileSize = position;
+        fileSlots.add(slot);
+    }
+
+    private void read(Slot slot, ByteBuffer data) throws IOException {
+        long position = slot.position;
+        while (data.hasRemaining()) {
+            int read = channel.read(data, position);
+            if (read < 0) {
+                throw new EOFException("Spill file " + spillFile + " is truncated");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Copies the used parts of the spill file to the start of a new file
+     */
+    private void compact() throws IOException {
+        Path oldFile = spillFile;
+        FileChannel oldChannel = channel;
+        FileChannel newChannel = openSpillFile();
+        for (Slot slot : fileSlots) {
+            long transferred = 0;
+            while (transferred < slot.length) {
+                long count = oldChannel.transferTo(slot.position + transferred, slot.length - transferred, newChannel);
+                if (count <= 0) {
+                    // keep using the old file, as the slots still point into it
+                    newChannel.close();
+                    FileUtil.deleteFile(spillFile.toFile());
+                    spillFile = oldFile;
+                    throw new EOFException("Spill file " + oldFile + " is truncated");
+                }
+                transferred += count;
+            }
+        }
+        long position = 0;
+        for (Slot slot : fileSlots) {
+            slot.position = position;
+            position += slot.length;
+        }
+        channel = newChannel;
+        fileSize = position;
+        fileDeadSize = 0;
+
+        oldChannel.close();
+        FileUtil.deleteFile(oldFile.toFile());
+    }
+
+    private FileChannel openSpillFile() throws IOException {
+        spillFile = spillDirectory != null
+                ? Files.createTempFile(Files.createDirectories(spillDirectory), "aggregation-", ".spill")
+                : Files.createTempFile("camel-aggregation-", ".spill");
+        spillFile.toFile().deleteOnExit();
+        return FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
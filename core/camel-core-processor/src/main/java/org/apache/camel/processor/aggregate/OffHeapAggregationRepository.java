@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory based {@link org.apache.camel.spi.AggregationRepository} which keeps a bounded number of the most recently
+ * used {@link Exchange}s on the heap, and moves the others off the heap: encoded in direct memory up to the maximum
+ * off-heap size, and beyond that in a spill file.
+ * <p/>
+ * Exchanges with values that cannot be serialized (such as the grouped exchanges of
+ * {@link GroupedExchangeAggregationStrategy}) are always kept on the heap.
+ * <p/>
+ * Like the {@link MemoryAggregationRepository} the exchanges are not kept when the repository is stopped. Supports both
+ * optimistic locking and non-optimistic locking modes, defaults to non-optimistic locking mode. Recovery of completed
+ * exchanges which failed is disabled by default.
+ */
+public class OffHeapAggregationRepository extends ServiceSupport
+        implements OptimisticLockingAggregationRepository, RecoverableAggregationRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapAggregationRepository.class);
+
+    private final boolean optimisticLocking;
+    private final Object lock = new Object();
+    // the exchanges on the heap in least recently used order
+    private final LinkedHashMap<String, Exchange> hot = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Exchange> pinned = new HashMap<>();
+    private final Map<String, AggregationSpillStore.Slot> cold = new HashMap<>();
+    private final Map<String, Object> completed = new HashMap<>();
+    private AggregationSpillStore store;
+    private int maximumHotSize = 1000;
+    private long maximumOffHeapSize = 64 * 1024 * 1024;
+    private String spillDirectory;
+    private boolean useRecovery;
+    private long recoveryInterval = 5000;
+    private int maximumRedeliveries;
+    private String deadLetterUri;
+
+    public OffHeapAggregationRepository() {
+        this(false);
+    }
+
+    public OffHeapAggregationRepository(boolean optimisticLocking) {
+        this.optimisticLocking = optimisticLocking;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange) {
+        if (!optimisticLocking) {
+            throw new UnsupportedOperationException();
+        }
+        synchronized (lock) {
+            Exchange current = getOnHeap(key);
+            if (oldExchange == null) {
+                if (current != null || cold.containsKey(key)) {
+                    throw new OptimisticLockingException();
+                }
+            } else if (current != oldExchange) {
+                // also when the exchange has been moved off the heap since it was read
+                throw new OptimisticLockingException();
+            }
+            pinned.remove(key);
+            putHot(camelContext, key, newExchange);
+            return oldExchange;
+        }
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        if (optimisticLocking) {
+            throw new UnsupportedOperationException();
+        }
+        synchronized (lock) {
+            Exchange answer = removeEntry(camelContext, key);
+            putHot(camelContext, key, exchange);
+            return answer;
+        }
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        synchronized (lock) {
+            Exchange answer = getOnHeap(key);
+            if (answer == null && cold.containsKey(key)) {
+                // move the exchange back on the heap, where it is used
+                answer = removeEntry(camelContext, key);
+                putHot(camelContext, key, answer);
+            }
+            return answer;
+        }
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        synchronized (lock) {
+            if (optimisticLocking) {
+                Exchange current = getOnHeap(key);
+                if (current != exchange) {
+                    throw new OptimisticLockingException();
+                }
+            }
+            discard(cold.remove(key));
+            hot.remove(key);
+            pinned.remove(key);
+
+            if (useRecovery) {
+                Object value;
+                try {
+                    value = store.put(AggregationExchangeCodec.encode(exchange));
+                } catch (IOException e) {
+                    LOG.debug("Cannot encode exchange {}, keeping a copy on the heap for recovery", exchange, e);
+                    value = exchange.copy();
+                }
+                completed.put(exchange.getExchangeId(), value);
+            }
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        confirmWithResult(camelContext, exchangeId);
+    }
+
+    @Override
+    public boolean confirmWithResult(CamelContext camelContext, String exchangeId) {
+        synchronized (lock) {
+            Object value = completed.remove(exchangeId);
+            if (value instanceof AggregationSpillStore.Slot) {
+                discard((AggregationSpillStore.Slot) value);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        synchronized (lock) {
+            Set<String> answer = new HashSet<>(hot.keySet());
+            answer.addAll(pinned.keySet());
+            answer.addAll(cold.keySet());
+            // do not allow edits to the set
+            return Collections.unmodifiableSet(answer);
+        }
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        synchronized (lock) {
+            return Collections.unmodifiableSet(new HashSet<>(completed.keySet()));
+        }
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        synchronized (lock) {
+            Object value = completed.get(exchangeId);
+            if (value instanceof AggregationSpillStore.Slot) {
+                return decode(camelContext, (AggregationSpillStore.Slot) value);
+            }
+            return value != null ? ((Exchange) value).copy() : null;
+        }
+    }
+
+    /**
+     * Puts the exchange on the heap, and moves the least recently used exchanges off the heap when there are more than
+     * the maximum
+     */
+    private void putHot(CamelContext camelContext, String key, Exchange exchange) {
+        hot.put(key, exchange);
+        for (Iterator<Map.Entry<String, Exchange>> it = hot.entrySet().iterator();
+             hot.size() > maximumHotSize && it.hasNext();) {
+            Map.Entry<String, Exchange> eldest = it.next();
+            it.remove();
+            try {
+                cold.put(eldest.getKey(), store.put(AggregationExchangeCodec.encode(eldest.getValue())));
+            } catch (IOException e) {
+                LOG.debug("Cannot encode exchange {}, keeping it on the heap", eldest.getValue(), e);
+                pinned.put(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    private Exchange removeEntry(CamelContext camelContext, String key) {
+        Exchange answer = hot.remove(key);
+        if (answer == null) {
+            answer = pinned.remove(key);
+        }
+        AggregationSpillStore.Slot slot = cold.remove(key);
+        if (slot != null) {
+            answer = decode(camelContext, slot);
+            discard(slot);
+        }
+        return answer;
+    }
+
+    private Exchange getOnHeap(String key) {
+        Exchange answer = hot.get(key);
+        return answer != null ? answer : pinned.get(key);
+    }
+
+    private Exchange decode(CamelContext camelContext, AggregationSpillStore.Slot slot) {
+        try {
+            return AggregationExchangeCodec.decode(camelContext, store.get(slot));
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error decoding aggregated exchange", e);
+        }
+    }
+
+    private void discard(AggregationSpillStore.Slot slot) {
+        if (slot != null) {
+            try {
+                store.free(slot);
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Error releasing aggregated exchange", e);
+            }
+        }
+    }
+
+    /**
+     * Number of exchanges kept on the heap
+     */
+    public int getHotSize() {
+        synchronized (lock) {
+            return hot.size() + pinned.size();
+        }
+    }
+
+    /**
+     * Number of exchanges moved off the heap
+     */
+    public int getColdSize() {
+        synchronized (lock) {
+            return cold.size();
+        }
+    }
+
+    /**
+     * Number of bytes used by the exchanges in direct memory
+     */
+    public long getOffHeapSize() {
+        synchronized (lock) {
+            return store != null ? store.getOffHeapSize() : 0;
+        }
+    }
+
+    /**
+     * Number of bytes used by the exchanges in the spill file
+     */
+    public long getSpilledSize() {
+        synchronized (lock) {
+            return store != null ? store.getSpilledSize() : 0;
+        }
+    }
+
+    public int getMaximumHotSize() {
+        return maximumHotSize;
+    }
+
+    /**
+     * The maximum number of exchanges kept on the heap, the least recently used are moved off the heap when there are
+     * more. The default is 1000.
+     */
+    public void setMaximumHotSize(int maximumHotSize) {
+        this.maximumHotSize = maximumHotSize;
+    }
+
+    public long getMaximumOffHeapSize() {
+        return maximumOffHeapSize;
+    }
+
+    /**
+     * The maximum number of bytes of direct memory used for the exchanges moved off the heap, beyond which they are
+     * written to a spill file. The direct memory is allocated at once, when the first exchange is moved off the heap.
+     * The default is 64 MB.
+     */
+    public void setMaximumOffHeapSize(long maximumOffHeapSize) {
+        this.maximumOffHeapSize = maximumOffHeapSize;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * The directory of the spill file, the default is the temporary directory of the JVM.
+     */
+    public void setSpillDirectory(String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryIntervalInMillis() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        Path directory = spillDirectory != null ? Paths.get(spillDirectory) : null;
+        store = new AggregationSpillStore(maximumOffHeapSize, directory);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        synchronized (lock) {
+            hot.clear();
+            pinned.clear();
+            cold.clear();
+            completed.clear();
+            if (store != null) {
+                store.clear();
+            }
+        }
+    }
+
+}
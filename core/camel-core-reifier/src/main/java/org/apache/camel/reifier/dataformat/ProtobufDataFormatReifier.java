@@ -43,6 +43,7 @@ public class ProtobufDataFormatReifier extends DataFormatReifier<ProtobufDataFor
             }
             properties.put("contentTypeFormat", definition.getContentTypeFormat());
             properties.put("defaultInstance", definition.getDefaultInstance());
+            properties.put("useList", definition.getUseList());
         } else if (definition.getLibrary() == ProtobufLibrary.Jackson) {
             properties.put("objectMapper", asRef(definition.getObjectMapper()));
             if (definition.getUseDefaultObjectMapper() == null) {
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.transform.URIResolver;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the compiled stylesheets shared by the endpoints of the component
+ */
+public class XsltTemplatesCacheTest extends ContextTestSupport {
+
+    private static final String STYLESHEET = "<xsl:stylesheet version=\"1.0\" "
+                                             + "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">"
+                                             + "<xsl:output omit-xml-declaration=\"yes\"/>"
+                                             + "<xsl:template match=\"/\"><%s><xsl:value-of select=\"/hello\"/></%s>"
+                                             + "</xsl:template></xsl:stylesheet>";
+
+    @Test
+    public void testSharedBetweenEndpoints() throws Exception {
+        String uri = "org/apache/camel/component/xslt/example.xsl";
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>",
+                template.requestBodyAndHeader("direct:dynamic", "<hello>world!</hello>", "options", "", String.class));
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>",
+                template.requestBodyAndHeader("direct:dynamic", "<hello>world!</hello>", "options",
+                        "?transformerCacheSize=2", String.class));
+
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        assertNotNull(cache);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+
+        XsltEndpoint first = context.getEndpoint("xslt:" + uri, XsltEndpoint.class);
+        XsltEndpoint second = context.getEndpoint("xslt:" + uri + "?transformerCacheSize=2", XsltEndpoint.class);
+        assertSame(first.getXslt().getTemplate(), second.getXslt().getTemplate());
+        assertEquals(1, context.getComponent("xslt", XsltComponent.class).getTemplatesCacheHits());
+    }
+
+    @Test
+    public void testCustomUriResolverNotShared() throws Exception {
+        URIResolver resolver = new XsltUriResolver(context, "org/apache/camel/component/xslt/example.xsl");
+        context.getRegistry().bind("myResolver", (URIResolver) resolver::resolve);
+        context.getRegistry().bind("myListener", new XsltErrorListener());
+
+        String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>";
+        assertEquals(expected, template.requestBodyAndHeader("direct:dynamic", "<hello>world!</hello>", "options",
+                "?uriResolver=#myResolver", String.class));
+        assertEquals(expected, template.requestBodyAndHeader("direct:dynamic", "<hello>world!</hello>", "options",
+                "?errorListener=#myListener", String.class));
+
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testChangedStylesheetIsCompiledAgain() throws Exception {
+        Path file = testFile("tenant.xsl");
+        Files.writeString(file, String.format(STYLESHEET, "first", "first"));
+        String uri = "xslt:file:" + file + "?contentCache=false";
+
+        assertEquals("<first>world!</first>", template.requestBody(uri, "<hello>world!</hello>", String.class));
+        assertEquals("<first>world!</first>", template.requestBody(uri, "<hello>world!</hello>", String.class));
+
+        Files.writeString(file, String.format(STYLESHEET, "second", "second"));
+        assertEquals("<second>world!</second>", template.requestBody(uri, "<hello>world!</hello>", String.class));
+
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        assertEquals(2, cache.getMisses());
+        // the endpoint loads the stylesheet when started and on each message
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        testDirectory(true);
+        CamelContext context = super.createCamelContext();
+        XsltComponent xslt = new XsltComponent();
+        xslt.setTemplatesCacheSize(10);
+        context.addComponent("xslt", xslt);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:dynamic").toD("xslt:org/apache/camel/component/xslt/example.xsl${header.options}");
+            }
+        };
+    }
+}
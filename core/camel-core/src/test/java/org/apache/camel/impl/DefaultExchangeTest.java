@@ -18,17 +18,21 @@ package org.apache.camel.impl;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.SafeCopyProperty;
 import org.apache.camel.TypeConversionException;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
@@ -300,6 +304,48 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals(sourceIn.getClass(), destIn.getClass(), "Dest message should be of the same type as source message");
     }
 
+    @Test
+    public void testCopyHeadersOnWrite() {
+        AtomicInteger copies = new AtomicInteger();
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new DefaultHeadersMapFactory() {
+            @Override
+            public Map<String, Object> newMap(Map<String, Object> map) {
+                copies.incrementAndGet();
+                return super.newMap(map);
+            }
+        });
+
+        DefaultExchange sourceExchange = new DefaultExchange(camelContext);
+        sourceExchange.getIn().setHeader("foo", 123);
+        sourceExchange.getIn().setHeader("bar", "abc");
+
+        Exchange destExchange = sourceExchange.copy();
+        Message destIn = destExchange.getIn();
+
+        // the headers are shared with the copy until one of the messages changes them
+        assertEquals(0, copies.get());
+        assertEquals(123, destIn.getHeader("FOO"));
+        assertEquals("abc", destIn.getHeader("bar"));
+        assertTrue(destIn.hasHeaders());
+        assertEquals(0, copies.get());
+
+        // the headers of the copy are independent of the source
+        destIn.setHeader("foo", 456);
+        destIn.removeHeader("bar");
+        assertEquals(1, copies.get());
+        assertEquals(123, sourceExchange.getIn().getHeader("foo"));
+        assertEquals("abc", sourceExchange.getIn().getHeader("bar"));
+
+        // and the headers of the source are independent of the copy
+        Exchange otherExchange = sourceExchange.copy();
+        sourceExchange.getIn().setHeader("foo", 789);
+        assertEquals(2, copies.get());
+        assertEquals(123, otherExchange.getIn().getHeader("foo"));
+        assertEquals(2, otherExchange.getIn().getHeaders().size());
+        assertNotSame(sourceExchange.getIn().getHeaders(), otherExchange.getIn().getHeaders());
+    }
+
     @Test
     public void testExchangeSafeCopy() {
         DefaultExchange exchange = new DefaultExchange(context);
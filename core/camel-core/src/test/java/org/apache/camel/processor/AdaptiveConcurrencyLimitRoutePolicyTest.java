@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveConcurrencyLimitRoutePolicy;
+import org.apache.camel.throttling.AdaptiveConcurrencyLimitRoutePolicy.LimitAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimitRoutePolicyTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private AdaptiveConcurrencyLimitRoutePolicy blocking;
+    private AdaptiveConcurrencyLimitRoutePolicy aimd;
+    private AdaptiveConcurrencyLimitRoutePolicy gradient;
+    private AdaptiveConcurrencyLimitRoutePolicy shared;
+
+    @Test
+    public void testRejectWhenLimitReached() throws Exception {
+        getMockEndpoint("mock:blocking").expectedMessageCount(1);
+
+        Future<Object> first = template.asyncRequestBody("direct:blocking", "Hello");
+        // wait for the first exchange to take the only permit
+        assertTrue(waitForInflight(blocking, 1));
+
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:blocking", "World"));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(1, blocking.getRejectedExchanges());
+
+        latch.countDown();
+        first.get(10, TimeUnit.SECONDS);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, blocking.getInflight());
+    }
+
+    @Test
+    public void testResetWhileInflight() throws Exception {
+        getMockEndpoint("mock:blocking").expectedMessageCount(2);
+
+        Future<Object> first = template.asyncRequestBody("direct:blocking", "Hello");
+        assertTrue(waitForInflight(blocking, 1));
+
+        // the inflight exchange keeps its permit after the reset
+        blocking.reset();
+        assertEquals(1, blocking.getInflight());
+        assertThrows(CamelExecutionException.class, () -> template.requestBody("direct:blocking", "World"));
+
+        latch.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        assertEquals(0, blocking.getInflight());
+
+        template.requestBody("direct:blocking", "Bye");
+        assertEquals(0, blocking.getInflight());
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAimdIncreaseAndDecrease() throws Exception {
+        // the first exchange uses half of the limit, so the limit grows
+        template.sendBody("direct:aimd", "Hello");
+        assertEquals(3, aimd.getCurrentLimit());
+
+        // the route does not use the capacity it has, so the limit does not grow anymore
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:aimd", "Hello " + i);
+        }
+        assertEquals(3, aimd.getCurrentLimit());
+
+        assertThrows(CamelExecutionException.class,
+                () -> template.sendBodyAndHeader("direct:aimd", "Bye", "fail", true));
+        assertEquals(2, aimd.getCurrentLimit());
+    }
+
+    @Test
+    public void testGradientDecreasesWhenLatencyGrows() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:gradient", "Hello " + i);
+        }
+        // the route only uses one permit at a time so the limit cannot grow
+        assertTrue(gradient.getCurrentLimit() <= 10);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader("direct:gradient", "Slow " + i, "delay", 50);
+        }
+        assertTrue(gradient.getCurrentLimit() < 10, "The limit should decrease, was: " + gradient.getCurrentLimit());
+        assertTrue(gradient.getCurrentLimit() >= gradient.getMinLimit());
+    }
+
+    @Test
+    public void testSharedPolicyAcrossRoutes() throws Exception {
+        getMockEndpoint("mock:b").expectedMessageCount(3);
+
+        // each route releases its own permit, so the permit of route a is not lost when the exchange goes to route b
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("direct:a", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, shared.getInflight());
+        assertEquals(0, shared.getRejectedExchanges());
+    }
+
+    @Test
+    public void testInvalidLimitsAfterStart() {
+        assertThrows(IllegalArgumentException.class, () -> gradient.setMinLimit(gradient.getMaxLimit() + 1));
+        assertThrows(IllegalArgumentException.class, () -> gradient.setMaxLimit(gradient.getMinLimit() - 1));
+        assertThrows(IllegalArgumentException.class, () -> gradient.setMaxLimit(0));
+
+        // the current limit is adjusted to the new bounds
+        gradient.setMaxLimit(5);
+        assertTrue(gradient.getCurrentLimit() <= 5);
+    }
+
+    private static boolean waitForInflight(AdaptiveConcurrencyLimitRoutePolicy policy, int expected)
+            throws InterruptedException {
+        for (int i = 0; i < 100 && policy.getInflight() != expected; i++) {
+            Thread.sleep(50);
+        }
+        return policy.getInflight() == expected;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                blocking = new AdaptiveConcurrencyLimitRoutePolicy();
+                blocking.setInitialLimit(1);
+                blocking.setMaxLimit(1);
+
+                aimd = new AdaptiveConcurrencyLimitRoutePolicy();
+                aimd.setAlgorithm(LimitAlgorithm.Aimd);
+                aimd.setInitialLimit(2);
+                aimd.setBackoffRatio(0.9);
+
+                gradient = new AdaptiveConcurrencyLimitRoutePolicy();
+                gradient.setInitialLimit(10);
+                gradient.setMinLimit(2);
+
+                shared = new AdaptiveConcurrencyLimitRoutePolicy();
+                shared.setInitialLimit(1);
+                shared.setMaxLimit(1);
+
+                from("direct:blocking").routePolicy(blocking)
+                        .process(e -> latch.await(10, TimeUnit.SECONDS))
+                        .to("mock:blocking");
+
+                from("direct:aimd").routePolicy(aimd)
+                        .filter(header("fail"))
+                        .throwException(new IllegalArgumentException("Forced"))
+                        .end()
+                        .to("mock:aimd");
+
+                from("direct:a").routePolicy(shared)
+                        .to("direct:b");
+
+                from("direct:b").routePolicy(shared)
+                        .to("mock:b");
+
+                from("direct:gradient").routePolicy(gradient)
+                        .process(e -> Thread.sleep(e.getMessage().getHeader("delay", 0, Integer.class)))
+                        .to("mock:gradient");
+            }
+        };
+    }
+}
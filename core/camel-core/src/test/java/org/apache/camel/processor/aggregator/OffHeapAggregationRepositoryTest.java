@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.OffHeapAggregationRepository;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository.OptimisticLockingException;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapAggregationRepositoryTest extends ContextTestSupport {
+
+    @Test
+    public void testMovedOffHeapAndBack() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setMaximumHotSize(2);
+        repo.setMaximumOffHeapSize(1000);
+        repo.setSpillDirectory(testDirectory().toString());
+        repo.start();
+        try {
+            for (int i = 0; i < 10; i++) {
+                repo.add(context, "key" + i, createExchange(i));
+            }
+            assertEquals(2, repo.getHotSize());
+            assertEquals(8, repo.getColdSize());
+            assertTrue(repo.getOffHeapSize() > 0);
+            assertTrue(repo.getSpilledSize() > 0);
+            assertEquals(10, repo.getKeys().size());
+
+            for (int i = 0; i < 10; i++) {
+                Exchange exchange = repo.get(context, "key" + i);
+                assertEquals("id" + i, exchange.getExchangeId());
+                assertEquals("Hello " + i, exchange.getMessage().getBody());
+                assertEquals(i, exchange.getMessage().getHeader("counter"));
+                assertArrayEquals(new byte[] { (byte) i }, exchange.getMessage().getHeader("bytes", byte[].class));
+                assertEquals(i + 1, exchange.getProperty(Exchange.AGGREGATED_SIZE));
+                assertEquals("key" + i, exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY));
+            }
+            assertEquals(2, repo.getHotSize());
+
+            for (int i = 0; i < 10; i++) {
+                repo.remove(context, "key" + i, repo.get(context, "key" + i));
+            }
+            assertEquals(0, repo.getKeys().size());
+            assertEquals(0, repo.getOffHeapSize());
+            assertEquals(0, repo.getSpilledSize());
+        } finally {
+            repo.stop();
+        }
+        try (Stream<Path> files = Files.list(testDirectory())) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testOffHeapSpaceReused() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setMaximumHotSize(1);
+        repo.setMaximumOffHeapSize(1000);
+        repo.setSpillDirectory(testDirectory().toString());
+        repo.start();
+        try {
+            // each exchange is moved off the heap in the space released by the previous one
+            repo.add(context, "key0", createExchange(0));
+            for (int i = 1; i < 100; i++) {
+                repo.add(context, "key" + i, createExchange(i));
+                Exchange previous = repo.get(context, "key" + (i - 1));
+                assertEquals("Hello " + (i - 1), previous.getMessage().getBody());
+                repo.remove(context, "key" + (i - 1), previous);
+                assertEquals(1, repo.getColdSize());
+                assertEquals(0, repo.getSpilledSize());
+            }
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testNotSerializableKeptOnHeap() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setMaximumHotSize(1);
+        repo.start();
+        try {
+            Object body = new Object();
+            Exchange exchange = createExchange(0);
+            exchange.getMessage().setBody(body);
+            repo.add(context, "key0", exchange);
+            repo.add(context, "key1", createExchange(1));
+
+            assertEquals(2, repo.getHotSize());
+            assertEquals(0, repo.getColdSize());
+            assertSame(exchange, repo.get(context, "key0"));
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testOptimisticLocking() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository(true);
+        repo.setMaximumHotSize(1);
+        repo.start();
+        try {
+            Exchange first = createExchange(0);
+            Exchange second = createExchange(0);
+            repo.add(context, "key0", null, first);
+            assertThrows(OptimisticLockingException.class, () -> repo.add(context, "key0", null, second));
+            assertSame(first, repo.get(context, "key0"));
+            repo.add(context, "key0", first, second);
+
+            // moves key0 off the heap
+            repo.add(context, "key1", null, createExchange(1));
+            Exchange third = createExchange(0);
+            assertThrows(OptimisticLockingException.class, () -> repo.add(context, "key0", second, third));
+
+            Exchange current = repo.get(context, "key0");
+            assertNotSame(second, current);
+            repo.add(context, "key0", current, third);
+            assertThrows(OptimisticLockingException.class, () -> repo.remove(context, "key0", current));
+            repo.remove(context, "key0", third);
+            assertEquals(1, repo.getKeys().size());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testRecovery() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setUseRecovery(true);
+        repo.start();
+        try {
+            Exchange exchange = createExchange(0);
+            repo.add(context, "key0", exchange);
+            repo.remove(context, "key0", exchange);
+
+            assertEquals(0, repo.getKeys().size());
+            assertTrue(repo.scan(context).contains("id0"));
+            assertEquals("Hello 0", repo.recover(context, "id0").getMessage().getBody());
+
+            repo.confirm(context, "id0");
+            assertTrue(repo.scan(context).isEmpty());
+            assertEquals(0, repo.getOffHeapSize());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            mock.message(i).body().isEqualTo("A" + i + "+B" + i + "+C" + i);
+        }
+
+        for (String prefix : new String[] { "A", "B", "C" }) {
+            for (int i = 0; i < 10; i++) {
+                template.sendBodyAndHeader("direct:start", prefix + i, "id", i);
+            }
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private Exchange createExchange(int counter) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setExchangeId("id" + counter);
+        exchange.getMessage().setBody("Hello " + counter);
+        exchange.getMessage().setHeader("counter", counter);
+        exchange.getMessage().setHeader("bytes", new byte[] { (byte) counter });
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, counter + 1);
+        exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "key" + counter);
+        return exchange;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setMaximumHotSize(2);
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(repo)
+                        .completionSize(3).to("mock:aggregated");
+            }
+        };
+    }
+}
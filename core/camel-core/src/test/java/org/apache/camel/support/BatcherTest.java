@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatcherTest {
+
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private CamelContext context;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+        context.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    private void process(String key, List<Integer> items) {
+        processed.add(key + items);
+    }
+
+    @Test
+    public void testFullBatch() {
+        Batcher<String, Integer> batcher = new Batcher<>(context, "Test", 3, 60000, this::process);
+        batcher.start();
+
+        batcher.add("a", 1);
+        batcher.add("b", 2);
+        batcher.add("a", 3);
+        assertTrue(processed.isEmpty());
+
+        // the batches are grouped by key
+        batcher.add("a", 4);
+        assertEquals(List.of("a[1, 3, 4]"), processed);
+
+        // the pending batches are processed when stopped
+        batcher.stop();
+        assertEquals(List.of("a[1, 3, 4]", "b[2]"), processed);
+
+        // and the items added once stopped are processed right away
+        batcher.add("c", 5);
+        assertEquals(List.of("a[1, 3, 4]", "b[2]", "c[5]"), processed);
+    }
+
+    @Test
+    public void testMaxWeight() {
+        Batcher<String, Integer> batcher = new Batcher<>(context, "Test", 100, 10, 60000, this::process);
+        batcher.start();
+
+        batcher.add("a", 1, 6);
+        assertTrue(processed.isEmpty());
+        batcher.add("a", 2, 6);
+        assertEquals(List.of("a[1, 2]"), processed);
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testBatchTimeout() {
+        Batcher<String, Integer> batcher = new Batcher<>(context, "Test", 100, 100, this::process);
+        batcher.start();
+
+        batcher.add("a", 1);
+        batcher.add("a", 2);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertEquals(List.of("a[1, 2]"), processed));
+
+        batcher.stop();
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParsedDocumentCacheTest extends ContextTestSupport {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @Test
+    public void testParseOnce() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        String body = "Hello World";
+        exchange.getIn().setBody(body);
+
+        Object doc = ParsedDocumentCache.getOrParse(exchange, exchange.getIn().getBody(), "upper", this::parse);
+        assertEquals("HELLO WORLD", doc);
+        assertSame(doc, ParsedDocumentCache.getOrParse(exchange, exchange.getIn().getBody(), "upper", this::parse));
+        assertEquals(1, parsed.get());
+
+        // another kind of document is parsed separately
+        ParsedDocumentCache.getOrParse(exchange, exchange.getIn().getBody(), "lower", s -> s.toString().toLowerCase());
+        assertEquals(1, parsed.get());
+
+        // the cache is invalidated when the body is changed
+        exchange.getIn().setBody("Bye World");
+        assertEquals("BYE WORLD", ParsedDocumentCache.getOrParse(exchange, exchange.getIn().getBody(), "upper", this::parse));
+        assertEquals(2, parsed.get());
+
+        ParsedDocumentCache.clear(exchange);
+        assertNull(exchange.getProperty(ParsedDocumentCache.PROPERTY));
+    }
+
+    @Test
+    public void testNotCacheable() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        Map<String, Object> body = new HashMap<>();
+        body.put("foo", "bar");
+        exchange.getIn().setBody(body);
+
+        ParsedDocumentCache.getOrParse(exchange, body, "upper", this::parse);
+        ParsedDocumentCache.getOrParse(exchange, body, "upper", this::parse);
+        assertEquals(2, parsed.get());
+        assertNull(exchange.getProperty(ParsedDocumentCache.PROPERTY));
+    }
+
+    @Test
+    public void testCopiedExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        ParsedDocumentCache.getOrParse(exchange, exchange.getIn().getBody(), "upper", this::parse);
+        Object cache = exchange.getProperty(ParsedDocumentCache.PROPERTY);
+
+        Exchange copy = exchange.copy();
+        copy.getIn().setBody("Bye World");
+        assertEquals("BYE WORLD", ParsedDocumentCache.getOrParse(copy, copy.getIn().getBody(), "upper", this::parse));
+
+        // the cache of the original exchange is not affected
+        assertSame(cache, exchange.getProperty(ParsedDocumentCache.PROPERTY));
+        assertEquals("HELLO WORLD", ParsedDocumentCache.getOrParse(exchange, exchange.getIn().getBody(), "upper", this::parse));
+        assertEquals(2, parsed.get());
+    }
+
+    private Object parse(Object source) {
+        parsed.incrementAndGet();
+        return source.toString().toUpperCase();
+    }
+}
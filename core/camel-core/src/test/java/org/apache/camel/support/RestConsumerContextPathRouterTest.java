@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.support.RestConsumerContextPathMatcher.ConsumerPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RestConsumerContextPathRouterTest {
+
+    private final RestConsumerContextPathRouter<String> router = new RestConsumerContextPathRouter<>();
+    private final List<ConsumerPath> paths = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        add("GET", "/users", false);
+        add("GET", "/users/{id}", false);
+        add("PUT", "/users/{id}", false);
+        add("GET", "/users/{id}/orders/{orderId}", false);
+        add("GET", "/users/me", false);
+        add(null, "/static", true);
+        add("POST", "/orders", false);
+    }
+
+    @Test
+    public void testMatchSameAsMatcher() {
+        String[][] requests = {
+                { "GET", "/users" }, { "GET", "/users/123" }, { "GET", "/USERS/me" }, { "PUT", "/users/123" },
+                { "DELETE", "/users/123" }, { "GET", "/users/123/orders/456" }, { "GET", "/users/123/orders" },
+                { "GET", "/static/css/site.css" }, { "POST", "/orders" }, { "GET", "/orders" }, { "OPTIONS", "/orders" },
+                { "OPTIONS", "/users/123" }, { "GET", "/unknown" }, { "GET", "" }, { "GET", "/" } };
+
+        for (String[] request : requests) {
+            ConsumerPath expected = RestConsumerContextPathMatcher.matchBestPath(request[0], request[1], paths);
+            RestConsumerContextPathRouter.Match<String> match = router.matchBestPath(request[0], request[1]);
+            if (expected == null) {
+                assertNull(match, "Should not match " + request[0] + " " + request[1]);
+            } else {
+                assertSame(expected, match.getConsumerPath(), "Wrong match for " + request[0] + " " + request[1]);
+            }
+        }
+    }
+
+    @Test
+    public void testPathParameters() {
+        RestConsumerContextPathRouter.Match<String> match = router.matchBestPath("GET", "/users/123/orders/456");
+        assertEquals("GET:/users/{id}/orders/{orderId}", match.getConsumer());
+
+        Map<String, String> params = match.getPathParameters();
+        assertEquals(2, params.size());
+        assertEquals("123", params.get("id"));
+        assertEquals("456", params.get("orderId"));
+
+        match = router.matchBestPath("GET", "/users/me");
+        assertEquals("GET:/users/me", match.getConsumer());
+        assertTrue(match.getPathParameters().isEmpty());
+    }
+
+    @Test
+    public void testAddRemoveConsumer() {
+        assertEquals(7, router.size());
+        assertEquals("GET:/users/me", router.matchBestPath("GET", "/users/me").getConsumer());
+
+        assertTrue(router.removeConsumer("GET:/users/me"));
+        assertFalse(router.removeConsumer("GET:/users/me"));
+        assertEquals(6, router.size());
+        assertEquals("GET:/users/{id}", router.matchBestPath("GET", "/users/me").getConsumer());
+
+        assertTrue(router.removeConsumer("GET:/users/{id}"));
+        assertTrue(router.removeConsumer("GET:/users/{id}/orders/{orderId}"));
+        assertNull(router.matchBestPath("GET", "/users/me"));
+
+        add("GET", "/users/{name}", false);
+        RestConsumerContextPathRouter.Match<String> match = router.matchBestPath("GET", "/users/me");
+        assertEquals("GET:/users/{name}", match.getConsumer());
+        assertEquals("me", match.getPathParameters().get("name"));
+    }
+
+    @Test
+    public void testManyConsumers() {
+        for (int i = 0; i < 2000; i++) {
+            add("GET", "/api/resource" + i + "/{id}", false);
+        }
+
+        RestConsumerContextPathRouter.Match<String> match = router.matchBestPath("GET", "/api/resource1234/abc");
+        assertEquals("GET:/api/resource1234/{id}", match.getConsumer());
+        assertEquals("abc", match.getPathParameters().get("id"));
+        assertSame(RestConsumerContextPathMatcher.matchBestPath("GET", "/api/resource1234/abc", paths),
+                match.getConsumerPath());
+    }
+
+    private void add(String method, String path, boolean matchOnUriPrefix) {
+        ConsumerPath<String> consumerPath = new ConsumerPath<String>() {
+            private final String consumer = method + ":" + path;
+
+            @Override
+            public String getRestrictMethod() {
+                return method;
+            }
+
+            @Override
+            public String getConsumerPath() {
+                return path;
+            }
+
+            @Override
+            public String getConsumer() {
+                return consumer;
+            }
+
+            @Override
+            public boolean isMatchOnUriPrefix() {
+                return matchOnUriPrefix;
+            }
+        };
+        paths.add(consumerPath);
+        router.addConsumerPath(consumerPath);
+    }
+
+}
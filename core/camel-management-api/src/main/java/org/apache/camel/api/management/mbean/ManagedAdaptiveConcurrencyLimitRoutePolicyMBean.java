@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedAdaptiveConcurrencyLimitRoutePolicyMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Algorithm used to adapt the limit")
+    String getAlgorithm();
+
+    @ManagedAttribute(description = "Scope")
+    String getScope();
+
+    @ManagedAttribute(description = "Current concurrency limit (sum of all the routes if route scoped)")
+    int getCurrentLimit();
+
+    @ManagedOperation(description = "Current concurrency limit of the given route")
+    int currentLimit(String routeId);
+
+    @ManagedAttribute(description = "Number of inflight exchanges admitted by the policy")
+    int getInflight();
+
+    @ManagedAttribute(description = "Number of exchanges rejected because the limit was reached")
+    long getRejectedExchanges();
+
+    @ManagedAttribute(description = "Initial concurrency limit")
+    int getInitialLimit();
+
+    @ManagedAttribute(description = "Minimum concurrency limit")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "Minimum concurrency limit")
+    void setMinLimit(int minLimit);
+
+    @ManagedAttribute(description = "Maximum concurrency limit")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Maximum concurrency limit")
+    void setMaxLimit(int maxLimit);
+
+    @ManagedAttribute(description = "Maximum time in millis to wait for capacity before rejecting an exchange")
+    long getMaxWaitTime();
+
+    @ManagedAttribute(description = "Maximum time in millis to wait for capacity before rejecting an exchange")
+    void setMaxWaitTime(long maxWaitTime);
+
+    @ManagedAttribute(description = "Logging Level")
+    String getLoggingLevel();
+
+    @ManagedAttribute(description = "Logging Level")
+    void setLoggingLevel(String loggingLevel);
+
+    @ManagedOperation(description = "Resets the limits and statistics")
+    void reset();
+
+}
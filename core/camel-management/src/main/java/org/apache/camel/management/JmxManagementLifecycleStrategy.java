@@ -52,6 +52,7 @@ import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.impl.debugger.BacklogDebugger;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.management.mbean.ManagedAdaptiveConcurrencyLimitRoutePolicy;
 import org.apache.camel.management.mbean.ManagedAsyncProcessorAwaitManager;
 import org.apache.camel.management.mbean.ManagedBacklogDebugger;
 import org.apache.camel.management.mbean.ManagedBacklogTracer;
@@ -107,6 +108,7 @@ import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.ValidatorRegistry;
 import org.apache.camel.support.TimerListenerManager;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.throttling.AdaptiveConcurrencyLimitRoutePolicy;
 import org.apache.camel.throttling.ThrottlingExceptionRoutePolicy;
 import org.apache.camel.throttling.ThrottlingInflightRoutePolicy;
 import org.apache.camel.util.KeyValueHolder;
@@ -535,6 +537,9 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
             answer = new ManagedThrottlingInflightRoutePolicy(context, (ThrottlingInflightRoutePolicy) service);
         } else if (service instanceof ThrottlingExceptionRoutePolicy) {
             answer = new ManagedThrottlingExceptionRoutePolicy(context, (ThrottlingExceptionRoutePolicy) service);
+        } else if (service instanceof AdaptiveConcurrencyLimitRoutePolicy) {
+            answer = new ManagedAdaptiveConcurrencyLimitRoutePolicy(
+                    context, (AdaptiveConcurrencyLimitRoutePolicy) service);
         } else if (service instanceof ConsumerCache) {
             answer = new ManagedConsumerCache(context, (ConsumerCache) service);
         } else if (service instanceof ProducerCache) {
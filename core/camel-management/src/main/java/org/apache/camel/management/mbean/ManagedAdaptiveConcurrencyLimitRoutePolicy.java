@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedAdaptiveConcurrencyLimitRoutePolicyMBean;
+import org.apache.camel.throttling.AdaptiveConcurrencyLimitRoutePolicy;
+
+@ManagedResource(description = "Managed AdaptiveConcurrencyLimitRoutePolicy")
+public class ManagedAdaptiveConcurrencyLimitRoutePolicy extends ManagedService
+        implements ManagedAdaptiveConcurrencyLimitRoutePolicyMBean {
+    private final AdaptiveConcurrencyLimitRoutePolicy policy;
+
+    public ManagedAdaptiveConcurrencyLimitRoutePolicy(CamelContext context, AdaptiveConcurrencyLimitRoutePolicy policy) {
+        super(context, policy);
+        this.policy = policy;
+    }
+
+    public AdaptiveConcurrencyLimitRoutePolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return getPolicy().getAlgorithm().name();
+    }
+
+    @Override
+    public String getScope() {
+        return getPolicy().getScope().name();
+    }
+
+    @Override
+    public int getCurrentLimit() {
+        return getPolicy().getCurrentLimit();
+    }
+
+    @Override
+    public int currentLimit(String routeId) {
+        return getPolicy().getCurrentLimit(routeId);
+    }
+
+    @Override
+    public int getInflight() {
+        return getPolicy().getInflight();
+    }
+
+    @Override
+    public long getRejectedExchanges() {
+        return getPolicy().getRejectedExchanges();
+    }
+
+    @Override
+    public int getInitialLimit() {
+        return getPolicy().getInitialLimit();
+    }
+
+    @Override
+    public int getMinLimit() {
+        return getPolicy().getMinLimit();
+    }
+
+    @Override
+    public void setMinLimit(int minLimit) {
+        getPolicy().setMinLimit(minLimit);
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return getPolicy().getMaxLimit();
+    }
+
+    @Override
+    public void setMaxLimit(int maxLimit) {
+        getPolicy().setMaxLimit(maxLimit);
+    }
+
+    @Override
+    public long getMaxWaitTime() {
+        return getPolicy().getMaxWaitTime();
+    }
+
+    @Override
+    public void setMaxWaitTime(long maxWaitTime) {
+        getPolicy().setMaxWaitTime(maxWaitTime);
+    }
+
+    @Override
+    public String getLoggingLevel() {
+        return getPolicy().getLoggingLevel().name();
+    }
+
+    @Override
+    public void setLoggingLevel(String loggingLevel) {
+        LoggingLevel level = LoggingLevel.valueOf(loggingLevel);
+        getPolicy().setLoggingLevel(level);
+        getPolicy().getLogger().setLevel(level);
+    }
+
+    @Override
+    public void reset() {
+        getPolicy().reset();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.api.management.mbean.ManagedAdaptiveConcurrencyLimitRoutePolicyMBean;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveConcurrencyLimitRoutePolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedAdaptiveConcurrencyLimitRoutePolicyTest extends ManagementTestSupport {
+
+    @Test
+    public void testManagedPolicy() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        String policy = (String) mbeanServer.getAttribute(on, "RoutePolicyList");
+        assertNotNull(policy);
+        assertTrue(policy.startsWith("AdaptiveConcurrencyLimitRoutePolicy"));
+
+        String mbeanName
+                = String.format("org.apache.camel:context=" + context.getManagementName() + ",name=%s,type=services", policy);
+        set = mbeanServer.queryNames(new ObjectName(mbeanName), null);
+        assertEquals(1, set.size());
+        on = set.iterator().next();
+        assertTrue(mbeanServer.isRegistered(on));
+
+        ManagedAdaptiveConcurrencyLimitRoutePolicyMBean proxy
+                = JMX.newMBeanProxy(mbeanServer, on, ManagedAdaptiveConcurrencyLimitRoutePolicyMBean.class);
+        assertNotNull(proxy);
+
+        assertEquals("Aimd", proxy.getAlgorithm());
+        assertEquals("Route", proxy.getScope());
+        assertEquals(5, proxy.getInitialLimit());
+        assertEquals(5, proxy.getCurrentLimit());
+
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        // the route only uses one permit at a time, so the limit does not grow beyond the initial limit
+        assertEquals(5, proxy.getCurrentLimit());
+        assertEquals(5, proxy.currentLimit("foo"));
+        assertEquals(0, proxy.getInflight());
+        assertEquals(0, proxy.getRejectedExchanges());
+
+        proxy.setMaxLimit(50);
+        assertEquals(50, proxy.getMaxLimit());
+
+        // the limits are validated when changed at runtime
+        assertThrows(IllegalArgumentException.class, () -> proxy.setMinLimit(60));
+        assertThrows(IllegalArgumentException.class, () -> proxy.setMaxLimit(0));
+        assertEquals(1, proxy.getMinLimit());
+        assertEquals(50, proxy.getMaxLimit());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AdaptiveConcurrencyLimitRoutePolicy policy = new AdaptiveConcurrencyLimitRoutePolicy();
+                policy.setAlgorithm(AdaptiveConcurrencyLimitRoutePolicy.LimitAlgorithm.Aimd);
+                policy.setInitialLimit(5);
+
+                from("direct:start").routeId("foo").routePolicy(policy)
+                        .to("log:foo").to("mock:result");
+            }
+        };
+    }
+
+}
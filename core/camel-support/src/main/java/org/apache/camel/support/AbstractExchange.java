@@ -137,15 +137,11 @@ class AbstractExchange implements ExtendedExchange {
 
         exchange.setIn(getIn().copy());
         copyBody(getIn(), exchange.getIn());
-        if (getIn().hasHeaders()) {
-            exchange.getIn().setHeaders(safeCopyHeaders(getIn().getHeaders()));
-        }
+        copyHeaders(getIn(), exchange.getIn());
         if (hasOut()) {
             exchange.setOut(getOut().copy());
             copyBody(getOut(), exchange.getOut());
-            if (getOut().hasHeaders()) {
-                exchange.getOut().setHeaders(safeCopyHeaders(getOut().getHeaders()));
-            }
+            copyHeaders(getOut(), exchange.getOut());
         }
 
         exchange.setException(exception);
@@ -182,6 +178,20 @@ class AbstractExchange implements ExtendedExchange {
         return exchange;
     }
 
+    private void copyHeaders(Message source, Message target) {
+        if (!source.hasHeaders()) {
+            return;
+        }
+
+        // DefaultMessage.copy() shares the headers with the copy, and each message copies them on its first change,
+        // so avoid copying them here as exchanges are copied very often (multicast, recipient list etc.)
+        // other message implementations may share the headers on copy, so they are copied here
+        if (source.getClass() == DefaultMessage.class && target.getClass() == DefaultMessage.class) {
+            return;
+        }
+        target.setHeaders(safeCopyHeaders(source.getHeaders()));
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
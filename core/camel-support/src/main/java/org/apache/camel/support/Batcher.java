@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups items by key into batches, which are processed when they are full, or when the batch timeout has elapsed.
+ * <p/>
+ * A batch is full when it holds the batch size number of items, or when the total weight of its items (such as their
+ * size in bytes) reaches the max weight, if any. A full batch is processed by the thread adding the last item, and the
+ * expired batches are processed by a background thread, which checks for them every half of the batch timeout. The
+ * batches are processed on their own, outside the lock protecting the batches.
+ * <p/>
+ * You must invoke {@link #start()} before adding items. When stopped, all the pending batches are processed, and the
+ * items added while stopping are processed right away.
+ *
+ * @param <K> the type of the keys the items are grouped by
+ * @param <T> the type of the items
+ */
+public class Batcher<K, T> extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Batcher.class);
+
+    private final CamelContext camelContext;
+    private final String name;
+    private final int batchSize;
+    private final long maxWeight;
+    private final long batchTimeout;
+    private final BiConsumer<K, List<T>> processor;
+    private final Map<K, Batch<K, T>> batches = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a batcher
+     *
+     * @param camelContext the camel context, which creates the background thread
+     * @param name         the name of the background thread
+     * @param batchSize    the maximum number of items of a batch
+     * @param batchTimeout the maximum time in millis a batch waits for more items
+     * @param processor    processes a batch with its key and items
+     */
+    public Batcher(CamelContext camelContext, String name, int batchSize, long batchTimeout,
+                   BiConsumer<K, List<T>> processor) {
+        this(camelContext, name, batchSize, 0, batchTimeout, processor);
+    }
+
+    /**
+     * Creates a batcher
+     *
+     * @param camelContext the camel context, which creates the background thread
+     * @param name         the name of the background thread
+     * @param batchSize    the maximum number of items of a batch
+     * @param maxWeight    the maximum total weight of the items of a batch, or 0 for no maximum
+     * @param batchTimeout the maximum time in millis a batch waits for more items
+     * @param processor    processes a batch with its key and items
+     */
+    public Batcher(CamelContext camelContext, String name, int batchSize, long maxWeight, long batchTimeout,
+                   BiConsumer<K, List<T>> processor) {
+        ObjectHelper.notNull(camelContext, "camelContext");
+        ObjectHelper.notNull(processor, "processor");
+        this.camelContext = camelContext;
+        this.name = name;
+        this.batchSize = batchSize;
+        this.maxWeight = maxWeight;
+        this.batchTimeout = batchTimeout;
+        this.processor = processor;
+    }
+
+    /**
+     * Adds the item to the batch of its key, and processes the batch if it is full
+     */
+    public void add(K key, T item) {
+        add(key, item, 0);
+    }
+
+    /**
+     * Adds the item with its weight to the batch of its key, and processes the batch if it is full
+     */
+    public void add(K key, T item, long weight) {
+        Batch<K, T> full = null;
+        synchronized (batches) {
+            Batch<K, T> batch = batches.computeIfAbsent(key, k -> new Batch<>(k, System.currentTimeMillis()));
+            batch.items.add(item);
+            batch.weight += weight;
+            if (batch.items.size() >= batchSize || maxWeight > 0 && batch.weight >= maxWeight || !isRunAllowed()) {
+                batches.remove(key);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            processor.accept(full.key, full.items);
+        }
+    }
+
+    /**
+     * Processes the batches which have been waiting for the batch timeout, or all batches when force is true
+     */
+    public void flush(boolean force) {
+        List<Batch<K, T>> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (batches) {
+            for (Iterator<Batch<K, T>> it = batches.values().iterator(); it.hasNext();) {
+                Batch<K, T> batch = it.next();
+                if (force || now - batch.created >= batchTimeout) {
+                    it.remove();
+                    expired.add(batch);
+                }
+            }
+        }
+        for (Batch<K, T> batch : expired) {
+            processor.accept(batch.key, batch.items);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, name);
+        long delay = Math.max(1, batchTimeout / 2);
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush(false);
+            } catch (Exception e) {
+                // the next runs must not be cancelled
+                LOG.warn("Error processing the expired batches. This exception is ignored.", e);
+            }
+        }, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        flush(true);
+    }
+
+    private static final class Batch<K, T> {
+        private final K key;
+        private final long created;
+        private final List<T> items = new ArrayList<>();
+        private long weight;
+
+        Batch(K key, long created) {
+            this.key = key;
+            this.created = created;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.function.Supplier;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -38,6 +39,8 @@ import org.apache.camel.spi.HeadersMapFactory;
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // whether the headers map is shared with copies of this message, and must be copied before it is changed
+    private boolean headersShared;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -54,7 +57,10 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
+        if (headersShared) {
+            headers = null;
+            headersShared = false;
+        } else if (headers != null) {
             headers.clear();
         }
     }
@@ -207,6 +213,7 @@ public class DefaultMessage extends MessageSupport {
         if (headers == null) {
             headers = createHeaders();
         }
+        unshareHeaders();
         headers.put(name, value);
     }
 
@@ -219,6 +226,7 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return null;
         }
+        unshareHeaders();
         return headers.remove(name);
     }
 
@@ -236,6 +244,7 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return false;
         }
+        unshareHeaders();
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
@@ -279,11 +288,14 @@ public class DefaultMessage extends MessageSupport {
         if (headers == null) {
             headers = createHeaders();
         }
+        // the caller may change the returned map
+        unshareHeaders();
         return headers;
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        headersShared = false;
         HeadersMapFactory factory = camelContext.getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
@@ -307,6 +319,46 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (getClass() != DefaultMessage.class || that.getClass() != DefaultMessage.class) {
+            // subclasses may create and populate their headers in other ways
+            super.copyHeadersFrom(that);
+            return;
+        }
+
+        // share the headers with the source message, both messages copy them on the first change
+        DefaultMessage source = (DefaultMessage) that;
+        if (source.headers == null || source.headers.isEmpty()) {
+            if (headersShared) {
+                headers = null;
+                headersShared = false;
+            } else if (headers != null) {
+                headers.clear();
+            }
+        } else if (headers != source.headers) {
+            headers = source.headers;
+            headersShared = true;
+            source.headersShared = true;
+        }
+    }
+
+    /**
+     * Copies the headers if they are shared with another message, so they can be changed
+     */
+    private void unshareHeaders() {
+        if (headersShared) {
+            HeadersMapFactory factory = camelContext.getHeadersMapFactory();
+            if (factory != null) {
+                headers = factory.newMap(headers);
+            } else {
+                // should not really happen but some tests rely on using camel context that is not started
+                headers = new HashMap<>(headers);
+            }
+            headersShared = false;
+        }
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -224,6 +224,15 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         // should likely not set DataType as the new body may be a different type than the original body
         setBody(newBody);
 
+        copyHeadersFrom(that);
+    }
+
+    /**
+     * Copies the headers from the given message, replacing the current headers
+     *
+     * @param that the message to copy the headers from
+     */
+    protected void copyHeadersFrom(Message that) {
         // the headers may be the same instance if the end user has made some mistake
         // and set the OUT message with the same header instance of the IN message etc
         boolean sameHeadersInstance = false;
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.util.function.ThrowingFunction;
+
+/**
+ * A per exchange cache of parsed documents, such as JSON trees, which allows languages that evaluate several
+ * expressions on the same message payload to parse the payload only once.
+ * <p/>
+ * The cache is stored as an exchange property, which is private to this class, and holds the documents parsed from a single source object.
+ * The cache is invalidated when a different source object is used, such as when the message body has been changed.
+ * Only payloads in their raw form (text, bytes, streams and files) are cached, as other objects such as a
+ * {@link java.util.Map} may be changed in place, which cannot be detected by the cache.
+ * <p/>
+ * The documents are keyed by their kind, which must identify both the representation and the way it is parsed (such as
+ * the identity of the configured parser), so only documents parsed in the same way are shared. The cached documents
+ * must not be modified, and must not be exposed to the users: any result that may be part of a cached document (such
+ * as a node of a JSON tree) must be copied before being returned.
+ */
+public final class ParsedDocumentCache {
+
+    static final String PROPERTY = "CamelParsedDocumentCache";
+
+    private final Object source;
+    private final Map<String, Object> documents = new ConcurrentHashMap<>();
+
+    private ParsedDocumentCache(Object source) {
+        this.source = source;
+    }
+
+    /**
+     * Whether the given payload is in a raw form which can be cached by its identity.
+     */
+    public static boolean isCacheable(Object source) {
+        return source instanceof String || source instanceof byte[] || source instanceof StreamCache
+                || source instanceof InputStream || source instanceof Reader || source instanceof WrappedFile;
+    }
+
+    /**
+     * Gets the document parsed from the given source, parsing the source if the document is not already cached on the
+     * exchange.
+     *
+     * @param  exchange  the exchange
+     * @param  source    the source of the document such as the message body
+     * @param  kind      the kind of the parsed document, such as the class name of its representation and the
+     *                   identity of the parser
+     * @param  parser    the parser to use when the document is not cached
+     * @return           the parsed document
+     * @throws Exception is thrown if error parsing the document
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrParse(
+            Exchange exchange, Object source, String kind, ThrowingFunction<Object, T, Exception> parser)
+            throws Exception {
+        if (!isCacheable(source)) {
+            return parser.apply(source);
+        }
+
+        ParsedDocumentCache cache = exchange.getProperty(PROPERTY, ParsedDocumentCache.class);
+        if (cache == null || cache.source != source) {
+            // the cache may be shared with copies of the exchange so create a new cache instead of clearing it
+            cache = new ParsedDocumentCache(source);
+            exchange.setProperty(PROPERTY, cache);
+        }
+
+        Object answer = cache.documents.get(kind);
+        if (answer == null) {
+            answer = parser.apply(source);
+            if (answer != null) {
+                cache.documents.put(kind, answer);
+            }
+        }
+        return (T) answer;
+    }
+
+    /**
+     * Removes the cached documents from the exchange
+     */
+    public static void clear(Exchange exchange) {
+        exchange.removeProperty(PROPERTY);
+    }
+
+}
@@ -29,6 +29,9 @@ import java.util.Locale;
  * matcher returns the best matched, or <tt>null</tt> if none could be determined.
  * <p/>
  * The {@link ConsumerPath} is used for the components to provide the details to the matcher.
+ * <p/>
+ * Components with many consumers should use {@link RestConsumerContextPathRouter} which compiles the consumer paths
+ * up front, instead of matching every consumer path on each request.
  */
 public final class RestConsumerContextPathMatcher {
 
@@ -210,7 +213,7 @@ public final class RestConsumerContextPathMatcher {
      * @param  restrict the consumer configured HTTP restrict method
      * @return          <tt>true</tt> if matched, <tt>false</tt> otherwise
      */
-    private static boolean matchRestMethod(String method, String restrict) {
+    static boolean matchRestMethod(String method, String restrict) {
         if (restrict == null) {
             return true;
         }
@@ -291,7 +294,7 @@ public final class RestConsumerContextPathMatcher {
      * @param  consumerPath the consumer path which may use { } tokens
      * @return              number of wildcards, or <tt>0</tt> if no wildcards
      */
-    private static int countWildcards(String consumerPath) {
+    static int countWildcards(String consumerPath) {
         int wildcards = 0;
 
         // remove starting/ending slashes
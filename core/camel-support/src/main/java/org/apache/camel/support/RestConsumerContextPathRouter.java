@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.support.RestConsumerContextPathMatcher.ConsumerPath;
+
+/**
+ * A router for rest-dsl context paths, which allows components to find the consumer to service an incoming request
+ * without matching the request against every registered consumer path.
+ * <p/>
+ * The consumer paths are compiled into a tree of path segments, where <tt>{param}</tt> tokens are stored as wildcard
+ * nodes. Looking up a request path only visits the branches of the tree that can match the request, and the best
+ * consumer among these candidates is selected using the same rules as
+ * {@link RestConsumerContextPathMatcher#matchBestPath(String, String, List)}. The tree is updated incrementally when
+ * consumers are added or removed, and lookups can run concurrently with updates.
+ *
+ * @param <T> the consumer type
+ */
+public final class RestConsumerContextPathRouter<T> {
+
+    private final Node<T> root = new Node<>();
+    private final Map<T, Entry<T>> entries = new LinkedHashMap<>();
+    // consumers that match on uri prefix cannot be found by the tree, so they are always candidates
+    private final List<Entry<T>> prefixEntries = new CopyOnWriteArrayList<>();
+    // consumers with wildcards grouped by their restrict method (null restrict is kept on its own)
+    private final List<Entry<T>> anyMethodWildcardEntries = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Entry<T>>> wildcardEntries = new ConcurrentHashMap<>();
+    private long sequence;
+
+    /**
+     * The result of routing a request path to a consumer.
+     */
+    public static final class Match<T> {
+
+        private final Entry<T> entry;
+        private final String[] requestPaths;
+
+        private Match(Entry<T> entry, String[] requestPaths) {
+            this.entry = entry;
+            this.requestPaths = requestPaths;
+        }
+
+        /**
+         * The matched consumer path
+         */
+        public ConsumerPath<T> getConsumerPath() {
+            return entry.path;
+        }
+
+        /**
+         * The matched consumer
+         */
+        public T getConsumer() {
+            return entry.path.getConsumer();
+        }
+
+        /**
+         * The values of the <tt>{param}</tt> tokens in the consumer path, keyed by the token name.
+         */
+        public Map<String, String> getPathParameters() {
+            if (entry.wildcards == 0 || requestPaths == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> answer = new LinkedHashMap<>();
+            int size = Math.min(entry.segments.length, requestPaths.length);
+            for (int i = 0; i < size; i++) {
+                String segment = entry.segments[i];
+                if (isWildcard(segment)) {
+                    answer.put(segment.substring(1, segment.length() - 1), requestPaths[i]);
+                }
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * Adds the consumer path to the router.
+     *
+     * @param path the consumer path details
+     */
+    public synchronized void addConsumerPath(ConsumerPath<T> path) {
+        T consumer = path.getConsumer();
+        if (entries.containsKey(consumer)) {
+            removeConsumer(consumer);
+        }
+
+        Entry<T> entry = new Entry<>(path, sequence++);
+        entries.put(consumer, entry);
+        if (entry.segments != null) {
+            Node<T> node = root;
+            for (String segment : entry.segments) {
+                node = isWildcard(segment) ? node.getOrCreateWildcard() : node.getOrCreateChild(segment);
+            }
+            node.entries.add(entry);
+        }
+        if (path.isMatchOnUriPrefix()) {
+            prefixEntries.add(entry);
+        }
+        if (entry.wildcards > 0) {
+            String restrict = path.getRestrictMethod();
+            if (restrict == null) {
+                anyMethodWildcardEntries.add(entry);
+            } else {
+                wildcardEntries.computeIfAbsent(restrict, k -> new CopyOnWriteArrayList<>()).add(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes the consumer from the router.
+     *
+     * @param  consumer the consumer
+     * @return          <tt>true</tt> if the consumer was removed, <tt>false</tt> if it was not registered
+     */
+    public synchronized boolean removeConsumer(T consumer) {
+        Entry<T> entry = entries.remove(consumer);
+        if (entry == null) {
+            return false;
+        }
+
+        if (entry.segments != null) {
+            removeFromTree(root, entry, 0);
+        }
+        prefixEntries.remove(entry);
+        if (entry.wildcards > 0) {
+            String restrict = entry.path.getRestrictMethod();
+            if (restrict == null) {
+                anyMethodWildcardEntries.remove(entry);
+            } else {
+                List<Entry<T>> list = wildcardEntries.get(restrict);
+                if (list != null) {
+                    list.remove(entry);
+                    if (list.isEmpty()) {
+                        wildcardEntries.remove(restrict);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of consumers in the router
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Finds the best matching consumer path that should service the incoming request.
+     *
+     * @param  requestMethod the incoming request HTTP method
+     * @param  requestPath   the incoming request context path
+     * @return               the best matched consumer, or <tt>null</tt> if none could be determined.
+     */
+    public Match<T> matchBestPath(String requestMethod, String requestPath) {
+        if (requestPath == null) {
+            // cannot use the tree so match among all the consumers
+            List<Entry<T>> all;
+            synchronized (this) {
+                all = new ArrayList<>(entries.values());
+            }
+            return select(requestMethod, null, null, all);
+        }
+
+        String[] requestPaths = split(requestPath);
+        List<Entry<T>> candidates = new ArrayList<>();
+        collect(root, requestPaths, 0, candidates);
+        addIfAbsent(candidates, prefixEntries);
+
+        // the best path selection only picks the longest path when none of the candidates have wildcards,
+        // so we must include a consumer with wildcards (if any) which would have been a candidate
+        addIfAbsent(candidates, firstWildcardEntry(requestMethod));
+        if ("options".equalsIgnoreCase(requestMethod)) {
+            addIfAbsent(candidates, firstWildcardEntry(null));
+        }
+
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return select(requestMethod, requestPath, requestPaths, candidates);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Match<T> select(
+            String requestMethod, String requestPath, String[] requestPaths, List<Entry<T>> candidates) {
+        // keep the order the consumers were added, as the matcher picks the first direct match
+        candidates.sort(Comparator.comparingLong(e -> e.sequence));
+        List<ConsumerPath> paths = new ArrayList<>(candidates.size());
+        for (Entry<T> entry : candidates) {
+            paths.add(entry.path);
+        }
+
+        ConsumerPath best = RestConsumerContextPathMatcher.matchBestPath(requestMethod, requestPath, paths);
+        if (best != null) {
+            for (Entry<T> entry : candidates) {
+                if (entry.path == best) {
+                    return new Match<>(entry, requestPaths);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Entry<T> firstWildcardEntry(String method) {
+        Entry<T> answer = firstOf(anyMethodWildcardEntries);
+        for (Map.Entry<String, List<Entry<T>>> entry : wildcardEntries.entrySet()) {
+            if (method == null || RestConsumerContextPathMatcher.matchRestMethod(method, entry.getKey())) {
+                Entry<T> first = firstOf(entry.getValue());
+                if (first != null && (answer == null || first.sequence < answer.sequence)) {
+                    answer = first;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static <T> Entry<T> firstOf(List<Entry<T>> list) {
+        // the list may be updated concurrently
+        for (Entry<T> entry : list) {
+            return entry;
+        }
+        return null;
+    }
+
+    private static <T> void collect(Node<T> node, String[] requestPaths, int index, List<Entry<T>> answer) {
+        if (index == requestPaths.length) {
+            answer.addAll(node.entries);
+            return;
+        }
+        Node<T> child = node.children.get(requestPaths[index].toLowerCase(Locale.ENGLISH));
+        if (child != null) {
+            collect(child, requestPaths, index + 1, answer);
+        }
+        child = node.wildcard;
+        if (child != null) {
+            collect(child, requestPaths, index + 1, answer);
+        }
+    }
+
+    private static <T> void addIfAbsent(List<Entry<T>> candidates, List<Entry<T>> entries) {
+        for (Entry<T> entry : entries) {
+            addIfAbsent(candidates, entry);
+        }
+    }
+
+    private static <T> void addIfAbsent(List<Entry<T>> candidates, Entry<T> entry) {
+        if (entry != null && !candidates.contains(entry)) {
+            candidates.add(entry);
+        }
+    }
+
+    private static <T> boolean removeFromTree(Node<T> node, Entry<T> entry, int index) {
+        if (index == entry.segments.length) {
+            node.entries.remove(entry);
+        } else {
+            String segment = entry.segments[index];
+            if (isWildcard(segment)) {
+                Node<T> child = node.wildcard;
+                if (child != null && removeFromTree(child, entry, index + 1)) {
+                    node.wildcard = null;
+                }
+            } else {
+                String key = segment.toLowerCase(Locale.ENGLISH);
+                Node<T> child = node.children.get(key);
+                if (child != null && removeFromTree(child, entry, index + 1)) {
+                    node.children.remove(key);
+                }
+            }
+        }
+        // whether the node is no longer in use and can be pruned
+        return node.entries.isEmpty() && node.children.isEmpty() && node.wildcard == null;
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    /**
+     * Splits the path into its segments the same way as the {@link RestConsumerContextPathMatcher} does.
+     */
+    private static String[] split(String path) {
+        // remove starting/ending slashes
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path.split("/");
+    }
+
+    private static final class Entry<T> {
+        private final ConsumerPath<T> path;
+        private final long sequence;
+        private final String[] segments;
+        private final int wildcards;
+
+        Entry(ConsumerPath<T> path, long sequence) {
+            this.path = path;
+            this.sequence = sequence;
+            String consumerPath = path.getConsumerPath();
+            this.segments = consumerPath != null ? split(consumerPath) : null;
+            this.wildcards = consumerPath != null ? RestConsumerContextPathMatcher.countWildcards(consumerPath) : 0;
+        }
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private final List<Entry<T>> entries = new CopyOnWriteArrayList<>();
+        private volatile Node<T> wildcard;
+
+        Node<T> getOrCreateChild(String segment) {
+            return children.computeIfAbsent(segment.toLowerCase(Locale.ENGLISH), k -> new Node<>());
+        }
+
+        Node<T> getOrCreateWildcard() {
+            if (wildcard == null) {
+                wildcard = new Node<>();
+            }
+            return wildcard;
+        }
+    }
+
+}
@@ -17,12 +17,12 @@
 package org.apache.camel.support.processor;
 
 import java.io.InputStream;
-import java.util.Iterator;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.Traceable;
@@ -31,7 +31,6 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.service.ServiceHelper;
-import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -58,22 +57,25 @@ public class UnmarshalProcessor extends AsyncProcessorSupport implements Traceab
     public boolean process(Exchange exchange, AsyncCallback callback) {
         ObjectHelper.notNull(dataFormat, "dataFormat");
 
-        InputStream stream = null;
         Object result = null;
         try {
             final Message in = exchange.getIn();
             final Message out;
-            if (allowNullBody && in.getBody() == null) {
+            final Object body = in.getBody();
+            if (allowNullBody && body == null) {
                 // The body is null, and it is an allowed value so let's skip the unmarshalling
                 out = exchange.getOut();
             } else {
-                stream = in.getMandatoryBody(InputStream.class);
+                if (body == null) {
+                    throw new InvalidPayloadException(exchange, InputStream.class, in);
+                }
 
                 // lets set up the out message before we invoke the dataFormat so that it can mutate it if necessary
                 out = exchange.getOut();
                 out.copyFrom(in);
 
-                result = dataFormat.unmarshal(exchange, stream);
+                // the data format converts the body to a stream, unless it can read the body as is
+                result = dataFormat.unmarshal(exchange, body);
             }
             if (result instanceof Exchange) {
                 if (result != exchange) {
@@ -92,11 +94,6 @@ public class UnmarshalProcessor extends AsyncProcessorSupport implements Traceab
             // remove OUT message, as an exception occurred
             exchange.setOut(null);
             exchange.setException(e);
-        } finally {
-            // The Iterator will close the stream itself
-            if (!(result instanceof Iterator)) {
-                IOHelper.close(stream, "input stream");
-            }
         }
         callback.done(true);
         return true;
@@ -0,0 +1,563 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.throttling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.Route;
+import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.support.RoutePolicySupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.apache.camel.spi.RoutePolicy} which limits the number of concurrent inflight exchanges of a route, and
+ * adapts the limit automatically by measuring the latency of the exchanges.
+ * <p/>
+ * Unlike {@link ThrottlingInflightRoutePolicy}, which suspends the consumer at a fixed threshold, this policy starts
+ * with an initial limit and then:
+ * <ul>
+ * <li>{@link LimitAlgorithm#Aimd}: increases the limit by one for every exchange that completes successfully while the
+ * route is using at least half of the limit, and decreases it by the backoff ratio when an exchange fails or takes
+ * longer than the latency threshold (additive increase, multiplicative decrease).</li>
+ * <li>{@link LimitAlgorithm#Gradient}: compares the latency of every exchange with a long term average of the latency,
+ * decreasing the limit when the latency grows (i.e.: the downstream systems are queueing requests) and increasing it
+ * when the latency stays low.</li>
+ * </ul>
+ * When the limit is reached, new exchanges either wait (up to the configured maximum wait time) for an inflight exchange
+ * to complete, or are rejected with a {@link RejectedExecutionException}.
+ * <p/>
+ * This implementation supports two scopes {@link LimitScope#Context} and {@link LimitScope#Route} (is default). If
+ * context scope is selected then all the routes using this policy share a single limit.
+ */
+public class AdaptiveConcurrencyLimitRoutePolicy extends RoutePolicySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrencyLimitRoutePolicy.class);
+    private static final String START_TIME = "CamelAdaptiveConcurrencyLimitStartTime";
+    private static final String CONTEXT_KEY = "";
+
+    public enum LimitAlgorithm {
+        Aimd,
+        Gradient
+    }
+
+    public enum LimitScope {
+        Context,
+        Route
+    }
+
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+    // the exchange property holding the start time is unique per policy and route, so an exchange routed from one route
+    // to another using the same policy (i.e.: via direct) keeps the start time of each route
+    private final Map<String, String> startTimeKeys = new ConcurrentHashMap<>();
+    private final String startTimePrefix = START_TIME + "-" + Integer.toHexString(System.identityHashCode(this)) + "-";
+    private final AtomicLong rejectedExchanges = new AtomicLong();
+    private LimitAlgorithm algorithm = LimitAlgorithm.Gradient;
+    private LimitScope scope = LimitScope.Route;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private double backoffRatio = 0.9;
+    private long latencyThreshold = 5000;
+    private double smoothing = 0.2;
+    private long maxWaitTime;
+    private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private CamelLogger logger;
+
+    public AdaptiveConcurrencyLimitRoutePolicy() {
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimitRoutePolicy[" + algorithm + " " + minLimit + ".." + maxLimit + " using scope "
+               + scope + "]";
+    }
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        Limiter limiter = getLimiter(route);
+
+        boolean acquired;
+        try {
+            acquired = limiter.acquire(maxWaitTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (acquired) {
+            exchange.setProperty(getStartTimeKey(route), System.nanoTime());
+        } else {
+            rejectedExchanges.incrementAndGet();
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Rejecting exchange {} as the concurrency limit {} has been reached", exchange.getExchangeId(),
+                        limiter.getLimit());
+            }
+
+            // stop routing the exchange as there is no capacity left
+            exchange.setException(new RejectedExecutionException(
+                    "Exceeded the concurrency limit of " + limiter.getLimit() + " inflight exchanges for route: "
+                                                                  + route.getRouteId()));
+            exchange.setRouteStop(true);
+        }
+    }
+
+    @Override
+    public void onExchangeDone(Route route, Exchange exchange) {
+        Object start = exchange.removeProperty(getStartTimeKey(route));
+        if (start == null) {
+            // the exchange was rejected so it did not take a permit
+            return;
+        }
+
+        long latency = System.nanoTime() - (long) start;
+        boolean failed = exchange.getException() != null;
+
+        Limiter limiter = getLimiter(route);
+        int oldLimit = limiter.getLimit();
+        limiter.release(latency, failed);
+
+        int newLimit = limiter.getLimit();
+        if (oldLimit != newLimit) {
+            getLogger().log("Concurrency limit of " + limiter.name + " changed from " + oldLimit + " to " + newLimit);
+        }
+    }
+
+    private String getStartTimeKey(Route route) {
+        return startTimeKeys.computeIfAbsent(route.getRouteId(), startTimePrefix::concat);
+    }
+
+    private Limiter getLimiter(Route route) {
+        String key = scope == LimitScope.Context ? CONTEXT_KEY : route.getRouteId();
+        return limiters.computeIfAbsent(key, k -> new Limiter(scope == LimitScope.Context ? "context" : "route " + k));
+    }
+
+    /**
+     * Gets the current concurrency limit. If the scope is route and this policy is used by more than one route, then
+     * the sum of the limits of all the routes is returned.
+     *
+     * @return the current limit
+     */
+    public int getCurrentLimit() {
+        if (limiters.isEmpty()) {
+            return getStartingLimit();
+        }
+
+        int total = 0;
+        for (Limiter limiter : limiters.values()) {
+            total += limiter.getLimit();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the current concurrency limit of the given route
+     *
+     * @param  routeId the route id (ignored if the scope is context)
+     * @return         the current limit
+     */
+    public int getCurrentLimit(String routeId) {
+        Limiter limiter = limiters.get(scope == LimitScope.Context ? CONTEXT_KEY : routeId);
+        return limiter != null ? limiter.getLimit() : getStartingLimit();
+    }
+
+    private int getStartingLimit() {
+        return Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Gets the number of inflight exchanges that were admitted by this policy
+     *
+     * @return the number of inflight exchanges
+     */
+    public int getInflight() {
+        int total = 0;
+        for (Limiter limiter : limiters.values()) {
+            total += limiter.getInflight();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of exchanges rejected because the limit was reached
+     *
+     * @return the number of rejected exchanges
+     */
+    public long getRejectedExchanges() {
+        return rejectedExchanges.get();
+    }
+
+    /**
+     * Resets the limits to the initial limit, and the statistics. The inflight exchanges are kept, as they release their
+     * permit when they complete.
+     */
+    public void reset() {
+        for (Limiter limiter : limiters.values()) {
+            limiter.reset();
+        }
+        rejectedExchanges.set(0);
+    }
+
+    public LimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sets the algorithm used to adapt the limit.
+     * <p/>
+     * Is default <tt>Gradient</tt>.
+     *
+     * @param algorithm the algorithm
+     */
+    public void setAlgorithm(LimitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public LimitScope getScope() {
+        return scope;
+    }
+
+    /**
+     * Sets whether each route has its own limit, or all the routes using this policy share the same limit.
+     *
+     * @param scope the scope
+     */
+    public void setScope(LimitScope scope) {
+        this.scope = scope;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the limit to use before any latency has been measured.
+     * <p/>
+     * Is default 20.
+     *
+     * @param initialLimit the initial limit
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the lower bound of the limit. When the policy is already started (i.e.: when changed via JMX), it cannot be
+     * greater than the maximum limit, and the current limits are adjusted to the new bound.
+     * <p/>
+     * Is default 1.
+     *
+     * @param minLimit the minimum limit
+     */
+    public void setMinLimit(int minLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("The minimum limit must be at least 1, was: " + minLimit);
+        }
+        if (isStarted()) {
+            checkLimits(minLimit, maxLimit);
+        }
+        this.minLimit = minLimit;
+        clampLimits();
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the upper bound of the limit. When the policy is already started (i.e.: when changed via JMX), it cannot be
+     * lower than the minimum limit, and the current limits are adjusted to the new bound.
+     * <p/>
+     * Is default 1000.
+     *
+     * @param maxLimit the maximum limit
+     */
+    public void setMaxLimit(int maxLimit) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("The maximum limit must be at least 1, was: " + maxLimit);
+        }
+        if (isStarted()) {
+            checkLimits(minLimit, maxLimit);
+        }
+        this.maxLimit = maxLimit;
+        clampLimits();
+    }
+
+    private static void checkLimits(int minLimit, int maxLimit) {
+        if (minLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "The minimum limit " + minLimit + " cannot be greater than the maximum limit " + maxLimit);
+        }
+    }
+
+    private void clampLimits() {
+        for (Limiter limiter : limiters.values()) {
+            limiter.clamp();
+        }
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the ratio used by the AIMD algorithm to decrease the limit when an exchange fails or is too slow.
+     * <p/>
+     * Is default 0.9.
+     *
+     * @param backoffRatio the ratio, must be between 0.5 and 1 (exclusive)
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        if (backoffRatio < 0.5 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("The backoff ratio must be between 0.5 and 1, was: " + backoffRatio);
+        }
+        this.backoffRatio = backoffRatio;
+    }
+
+    public long getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    /**
+     * Sets the latency (in millis) above which the AIMD algorithm considers an exchange as too slow, and decreases the
+     * limit.
+     * <p/>
+     * Is default 5000.
+     *
+     * @param latencyThreshold the latency threshold in millis
+     */
+    public void setLatencyThreshold(long latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * Sets how fast the gradient algorithm moves towards a new limit. Lower values make it more stable, but slower to
+     * react.
+     * <p/>
+     * Is default 0.2.
+     *
+     * @param smoothing the smoothing factor, must be between 0 (exclusive) and 1
+     */
+    public void setSmoothing(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("The smoothing factor must be between 0 and 1, was: " + smoothing);
+        }
+        this.smoothing = smoothing;
+    }
+
+    public long getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * Sets the maximum time (in millis) an exchange waits for an inflight exchange to complete when the limit is
+     * reached. The exchange is rejected if the limit is still reached after waiting.
+     * <p/>
+     * Is default 0, which rejects the exchange right away.
+     *
+     * @param maxWaitTime the maximum time to wait in millis
+     */
+    public void setMaxWaitTime(long maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    public LoggingLevel getLoggingLevel() {
+        return loggingLevel;
+    }
+
+    /**
+     * Sets the logging level to report the changes of the limit.
+     * <p/>
+     * Is default <tt>DEBUG</tt> level.
+     *
+     * @param loggingLevel the logging level
+     */
+    public void setLoggingLevel(LoggingLevel loggingLevel) {
+        this.loggingLevel = loggingLevel;
+    }
+
+    public CamelLogger getLogger() {
+        if (logger == null) {
+            logger = createLogger();
+        }
+        return logger;
+    }
+
+    /**
+     * Sets the logger to use for logging the changes of the limit.
+     *
+     * @param logger the logger
+     */
+    public void setLogger(CamelLogger logger) {
+        this.logger = logger;
+    }
+
+    protected CamelLogger createLogger() {
+        return new CamelLogger(LOG, getLoggingLevel());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        checkLimits(minLimit, maxLimit);
+    }
+
+    /**
+     * Keeps the limit and the inflight exchanges for a route (or for all the routes, if context scoped)
+     */
+    private final class Limiter {
+        private final String name;
+        private final Lock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private volatile double limit;
+        private int inflight;
+        // the long term latency (exponential moving average) used by the gradient algorithm
+        private double longLatency;
+
+        private Limiter(String name) {
+            this.name = name;
+            this.limit = getStartingLimit();
+        }
+
+        int getLimit() {
+            return (int) limit;
+        }
+
+        void clamp() {
+            lock.lock();
+            try {
+                limit = Math.max(minLimit, Math.min(maxLimit, limit));
+                // the limit may have grown
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void reset() {
+            lock.lock();
+            try {
+                limit = getStartingLimit();
+                longLatency = 0;
+                // the limit may have grown
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int getInflight() {
+            lock.lock();
+            try {
+                return inflight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean acquire(long timeout) throws InterruptedException {
+            lock.lock();
+            try {
+                if (inflight < (int) limit) {
+                    inflight++;
+                    return true;
+                }
+
+                long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+                while (inflight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+
+                inflight++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release(long latency, boolean failed) {
+            lock.lock();
+            try {
+                // the number of inflight exchanges when this exchange was running (used to tell whether the
+                // route is actually using the capacity it has)
+                int used = inflight;
+                inflight--;
+
+                if (algorithm == LimitAlgorithm.Aimd) {
+                    updateAimd(latency, failed, used);
+                } else {
+                    updateGradient(latency, used);
+                }
+
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void updateAimd(long latency, boolean failed, int used) {
+            if (failed || latency > TimeUnit.MILLISECONDS.toNanos(latencyThreshold)) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (used * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+
+        private void updateGradient(long latency, int used) {
+            if (longLatency == 0) {
+                longLatency = latency;
+                return;
+            }
+
+            // track the long term latency slowly, so it represents the latency without queueing
+            longLatency = longLatency * 0.95 + latency * 0.05;
+
+            // if the latency grows then the gradient is below 1 and the limit shrinks
+            double gradient = Math.max(0.5, Math.min(1.0, longLatency / latency));
+            double queueSize = Math.sqrt(limit);
+            double newLimit = limit * gradient + queueSize;
+
+            // do not grow the limit if the route is not using it
+            if (newLimit > limit && used * 2 < limit) {
+                return;
+            }
+
+            newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+
+}
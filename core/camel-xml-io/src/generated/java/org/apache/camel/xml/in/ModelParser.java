@@ -2114,11 +2114,12 @@ public class ModelParser extends BaseParser {
     }
     protected HL7DataFormat doParseHL7DataFormat() throws IOException, XmlPullParserException {
         return doParse(new HL7DataFormat(), (def, key, val) -> {
-            if ("validate".equals(key)) {
-                def.setValidate(val);
-                return true;
+            switch (key) {
+                case "lazyParsing": def.setLazyParsing(val); break;
+                case "validate": def.setValidate(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
             }
-            return identifiedTypeAttributeHandler().accept(def, key, val);
+            return true;
         }, noElementHandler(), noValueHandler());
     }
     protected IcalDataFormat doParseIcalDataFormat() throws IOException, XmlPullParserException {
@@ -5909,6 +5909,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
             properties = {
                     @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "lazy-parsing", type = "boolean"),
                     @YamlProperty(name = "validate", type = "boolean")
             }
     )
@@ -5931,6 +5932,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setId(val);
                     break;
                 }
+                case "lazy-parsing": {
+                    String val = asText(node);
+                    target.setLazyParsing(val);
+                    break;
+                }
                 case "validate": {
                     String val = asText(node);
                     target.setValidate(val);